@@ -0,0 +1,148 @@
+package com.project.myacademy.domain.enrollment;
+
+import com.project.myacademy.domain.academy.Academy;
+import com.project.myacademy.domain.academy.AcademyRepository;
+import com.project.myacademy.domain.employee.Employee;
+import com.project.myacademy.domain.employee.EmployeeRepository;
+import com.project.myacademy.domain.employee.EmployeeRole;
+import com.project.myacademy.domain.lecture.Lecture;
+import com.project.myacademy.domain.lecture.LectureRepository;
+import com.project.myacademy.domain.notification.NotificationRepository;
+import com.project.myacademy.domain.notification.NotificationService;
+import com.project.myacademy.domain.student.Student;
+import com.project.myacademy.domain.student.StudentRepository;
+import com.project.myacademy.domain.waitinglist.WaitinglistIndex;
+import com.project.myacademy.domain.waitinglist.WaitinglistRepository;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+import java.util.stream.StreamSupport;
+
+/**
+ * 한 강좌에 학생 N명 수강 등록 비용 비교
+ * - perStudent : 기존 방식 (학생마다 createEnrollment 호출, 매번 학원 · 직원 · 학생 · 강좌 조회 + 중복 확인 + 좌석 확보 + insert + 알림 저장)
+ * - bulk       : createEnrollments 한 번 (IN 쿼리로 학생 · 중복 확인, 좌석 UPDATE 한 번, batch insert)
+ *
+ * DB 없이 측정하기 위해 리포지토리 호출 1회(= DB 왕복 1회)마다 roundTripMicros 만큼 대기하고,
+ * batch insert 는 EnrollmentJdbcRepository 의 batch 크기(500건)마다 한 번 대기한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Fork(1)
+public class EnrollmentBulkBenchmark {
+
+    @Param({"50", "500", "5000"})
+    private int students;
+
+    @Param({"200"})
+    private long roundTripMicros;
+
+    private EnrollmentService enrollmentService;
+    private List<Long> studentIds;
+
+    @Setup
+    public void setUp() {
+        Academy academy = Academy.builder().id(1L).name("academy").build();
+        Employee employee = Employee.builder().id(1L).name("staff").account("staff").academy(academy).employeeRole(EmployeeRole.ROLE_STAFF).build();
+        Lecture lecture = Lecture.builder().id(1L).name("lecture").maximumCapacity(Integer.MAX_VALUE).currentEnrollmentNumber(0).build();
+        studentIds = LongStream.rangeClosed(1, students).boxed().collect(Collectors.toList());
+
+        AcademyRepository academyRepository = repository(AcademyRepository.class, (method, args) -> Optional.of(academy));
+        EmployeeRepository employeeRepository = repository(EmployeeRepository.class, (method, args) -> Optional.of(employee));
+        LectureRepository lectureRepository = repository(LectureRepository.class, (method, args) ->
+                method.equals("findById") ? Optional.of(lecture) : 1);
+        StudentRepository studentRepository = repository(StudentRepository.class, (method, args) -> {
+            if (method.equals("findAllById")) {
+                return StreamSupport.stream(((Iterable<?>) args[0]).spliterator(), false)
+                        .map(id -> student((Long) id))
+                        .collect(Collectors.toList());
+            }
+            return Optional.of(student((Long) args[0]));
+        });
+        EnrollmentRepository enrollmentRepository = repository(EnrollmentRepository.class, (method, args) -> {
+            switch (method) {
+                case "findByStudentAndLecture":
+                    return Optional.empty();
+                case "save":
+                    return args[0];
+                default:
+                    return List.of();
+            }
+        });
+        WaitinglistRepository waitinglistRepository = repository(WaitinglistRepository.class, (method, args) -> null);
+        NotificationRepository notificationRepository = repository(NotificationRepository.class, (method, args) -> args[0]);
+
+        EnrollmentJdbcRepository enrollmentJdbcRepository = new EnrollmentJdbcRepository(new LatencyJdbcTemplate());
+
+        enrollmentService = new EnrollmentService(academyRepository, enrollmentRepository, enrollmentJdbcRepository, employeeRepository, studentRepository, lectureRepository,
+                new WaitinglistPromotionService(lectureRepository, enrollmentRepository, enrollmentJdbcRepository, waitinglistRepository,
+                        new WaitinglistIndex(null, waitinglistRepository, false, false, 0)),
+                new NotificationService(notificationRepository, 5, 10000, 3600000));
+    }
+
+    @Benchmark
+    public void perStudent(Blackhole blackhole) {
+        for (Long studentId : studentIds) {
+            blackhole.consume(enrollmentService.createEnrollment(1L, studentId, 1L, "staff"));
+        }
+    }
+
+    @Benchmark
+    public void bulk(Blackhole blackhole) {
+        blackhole.consume(enrollmentService.createEnrollments(1L, 1L, studentIds, "staff"));
+    }
+
+    private Student student(Long id) {
+        return Student.builder().id(id).name("student" + id).email("student" + id + "@gmail.com").academyId(1L).build();
+    }
+
+    private void roundTrip() {
+        LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(roundTripMicros));
+    }
+
+    private interface Answer {
+        Object answer(String method, Object[] args);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T repository(Class<T> type, Answer answer) {
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> {
+            if (method.getDeclaringClass() == Object.class) {
+                return method.getName().equals("equals") ? proxy == args[0] : method.invoke(this, args);
+            }
+            roundTrip();
+            return answer.answer(method.getName(), args);
+        });
+    }
+
+    // batchSize 건마다 DB 왕복 1회
+    private class LatencyJdbcTemplate extends JdbcTemplate {
+
+        @Override
+        public <T> int[][] batchUpdate(String sql, Collection<T> batchArgs, int batchSize, ParameterizedPreparedStatementSetter<T> pss) {
+            List<int[]> results = new ArrayList<>();
+            for (int from = 0; from < batchArgs.size(); from += batchSize) {
+                roundTrip();
+                int[] rows = new int[Math.min(batchSize, batchArgs.size() - from)];
+                Arrays.fill(rows, 1);
+                results.add(rows);
+            }
+            return results.toArray(new int[0][]);
+        }
+    }
+}
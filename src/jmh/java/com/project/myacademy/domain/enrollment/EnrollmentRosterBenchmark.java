@@ -0,0 +1,139 @@
+package com.project.myacademy.domain.enrollment;
+
+import com.project.myacademy.domain.academy.Academy;
+import com.project.myacademy.domain.employee.Employee;
+import com.project.myacademy.domain.employee.EmployeeRole;
+import com.project.myacademy.domain.enrollment.dto.FindStudentInfoFromEnrollmentByLectureResponse;
+import com.project.myacademy.domain.lecture.Lecture;
+import com.project.myacademy.domain.student.Student;
+import org.hibernate.SessionFactory;
+import org.hibernate.boot.model.naming.CamelCaseToUnderscoresNamingStrategy;
+import org.hibernate.stat.Statistics;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.orm.jpa.hibernate.SpringImplicitNamingStrategy;
+import org.springframework.data.jpa.repository.support.JpaRepositoryFactory;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * 강좌 하나(수강생 N명)의 수강 신청자 명단 조회 비용 비교 (H2 인메모리 + Hibernate)
+ * - entity     : 기존 방식 (수강 내역 엔티티 조회 후 DTO 변환 중 학생을 지연 로딩 -> 학생마다 SELECT 1회)
+ * - fetchJoin  : 수강 내역 + 학생 fetch join (SELECT 1회, 엔티티 N * 2개를 영속성 컨텍스트에 올림)
+ * - projection : EnrollmentRepository.findRosterByLectureIdIn (SELECT 1회, 필요한 컬럼만 DTO 로 조회)
+ *
+ * 실행한 SQL 수는 setUp 에서 방식마다 한 번씩 측정해 출력하고, 할당량은 -prof gc 의 gc.alloc.rate.norm 으로 본다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class EnrollmentRosterBenchmark {
+
+    private static final String ENTITY_QUERY = "select e from Enrollment e where e.lecture.id = :lectureId";
+    private static final String FETCH_JOIN_QUERY = "select e from Enrollment e join fetch e.student where e.lecture.id = :lectureId";
+
+    @Param({"200"})
+    private int students;
+
+    private LocalContainerEntityManagerFactoryBean factoryBean;
+    private EntityManager entityManager;
+    private EnrollmentRepository enrollmentRepository;
+    private TransactionTemplate readOnly;
+    private Statistics statistics;
+    private Long lectureId;
+
+    @Setup
+    public void setUp() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource("jdbc:h2:mem:roster;MODE=MySQL;DB_CLOSE_DELAY=-1", "sa", "");
+
+        factoryBean = new LocalContainerEntityManagerFactoryBean();
+        factoryBean.setDataSource(dataSource);
+        factoryBean.setPackagesToScan("com.project.myacademy.domain");
+        factoryBean.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+        factoryBean.setJpaPropertyMap(Map.of(
+                "hibernate.hbm2ddl.auto", "create-drop",
+                "hibernate.generate_statistics", "true",
+                "hibernate.physical_naming_strategy", CamelCaseToUnderscoresNamingStrategy.class.getName(),
+                "hibernate.implicit_naming_strategy", SpringImplicitNamingStrategy.class.getName()));
+        factoryBean.afterPropertiesSet();
+
+        EntityManagerFactory entityManagerFactory = factoryBean.getObject();
+        entityManager = SharedEntityManagerCreator.createSharedEntityManager(entityManagerFactory);
+        enrollmentRepository = new JpaRepositoryFactory(entityManager).getRepository(EnrollmentRepository.class);
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        JpaTransactionManager transactionManager = new JpaTransactionManager(entityManagerFactory);
+        TransactionTemplate write = new TransactionTemplate(transactionManager);
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+
+        lectureId = write.execute(status -> {
+            Academy academy = Academy.builder().name("academy").build();
+            entityManager.persist(academy);
+            Employee teacher = Employee.builder().name("teacher").email("teacher@gmail.com").account("teacher").academy(academy).employeeRole(EmployeeRole.ROLE_USER).build();
+            entityManager.persist(teacher);
+            Lecture lecture = Lecture.builder().name("lecture").price(10000).employee(teacher).academyId(academy.getId())
+                    .maximumCapacity(students).currentEnrollmentNumber(students).build();
+            entityManager.persist(lecture);
+            for (int i = 1; i <= students; i++) {
+                Student student = Student.builder().name("student" + i).phoneNum("010-0000-" + i).email("student" + i + "@gmail.com").academyId(academy.getId()).build();
+                entityManager.persist(student);
+                entityManager.persist(Enrollment.createEnrollment(student, lecture, teacher, academy.getId()));
+            }
+            return lecture.getId();
+        });
+
+        System.out.printf("%n[roster %d명] SQL 실행 수 - entity: %d, fetchJoin: %d, projection: %d%n", students,
+                countStatements(this::entity), countStatements(this::fetchJoin), countStatements(this::projection));
+    }
+
+    @TearDown
+    public void tearDown() {
+        factoryBean.destroy();
+    }
+
+    @Benchmark
+    public List<FindStudentInfoFromEnrollmentByLectureResponse> entity() {
+        return readOnly.execute(status -> entityManager.createQuery(ENTITY_QUERY, Enrollment.class)
+                .setParameter("lectureId", lectureId)
+                .getResultStream()
+                .map(FindStudentInfoFromEnrollmentByLectureResponse::new)
+                .collect(Collectors.toList()));
+    }
+
+    @Benchmark
+    public List<FindStudentInfoFromEnrollmentByLectureResponse> fetchJoin() {
+        return readOnly.execute(status -> entityManager.createQuery(FETCH_JOIN_QUERY, Enrollment.class)
+                .setParameter("lectureId", lectureId)
+                .getResultStream()
+                .map(FindStudentInfoFromEnrollmentByLectureResponse::new)
+                .collect(Collectors.toList()));
+    }
+
+    @Benchmark
+    public List<FindStudentInfoFromEnrollmentByLectureResponse> projection() {
+        return readOnly.execute(status -> enrollmentRepository.findRosterByLectureIdIn(List.of(lectureId)));
+    }
+
+    private long countStatements(Supplier<List<FindStudentInfoFromEnrollmentByLectureResponse>> roster) {
+        statistics.clear();
+        if (roster.get().size() != students) {
+            throw new IllegalStateException("명단 인원 불일치");
+        }
+        return statistics.getPrepareStatementCount();
+    }
+}
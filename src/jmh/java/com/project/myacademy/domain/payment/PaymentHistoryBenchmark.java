@@ -0,0 +1,176 @@
+package com.project.myacademy.domain.payment;
+
+import com.project.myacademy.domain.academy.Academy;
+import com.project.myacademy.domain.discount.Discount;
+import com.project.myacademy.domain.discount.DiscountRepository;
+import com.project.myacademy.domain.employee.Employee;
+import com.project.myacademy.domain.employee.EmployeeRole;
+import com.project.myacademy.domain.lecture.Lecture;
+import com.project.myacademy.domain.payment.dto.CompletePaymentResponse;
+import com.project.myacademy.domain.payment.entity.CancelPayment;
+import com.project.myacademy.domain.payment.entity.Payment;
+import com.project.myacademy.domain.payment.repository.CancelPaymentRepository;
+import com.project.myacademy.domain.payment.repository.PaymentRepository;
+import com.project.myacademy.domain.student.Student;
+import org.hibernate.SessionFactory;
+import org.hibernate.boot.model.naming.CamelCaseToUnderscoresNamingStrategy;
+import org.hibernate.stat.Statistics;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.orm.jpa.hibernate.SpringImplicitNamingStrategy;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.support.JpaRepositoryFactory;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 학원 결제 완료 내역 한 페이지 조회 비용 비교 (H2 인메모리 + Hibernate)
+ * - perRow     : 기존 방식 (결제 엔티티 페이징 조회 후 결제마다 학생 지연 로딩 + 할인 정책 findById + 결제 취소 findByPayment)
+ * - projection : PaymentRepository.findCompleteByAcademyId (할인 정책 · 결제 취소를 left join 한 DTO 조회 + COUNT)
+ *
+ * 실행한 SQL 수는 setUp 에서 방식마다 한 번씩 측정해 출력하고, 할당량은 -prof gc 의 gc.alloc.rate.norm 으로 본다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class PaymentHistoryBenchmark {
+
+    private static final String ENTITY_QUERY = "select p from Payment p where p.academy.id = :academyId and p.paymentKey is not null order by p.createdAt desc";
+    private static final String COUNT_QUERY = "select count(p) from Payment p where p.academy.id = :academyId and p.paymentKey is not null";
+
+    @Param({"200"})
+    private int payments;
+
+    @Param({"20"})
+    private int pageSize;
+
+    private LocalContainerEntityManagerFactoryBean factoryBean;
+    private EntityManager entityManager;
+    private PaymentRepository paymentRepository;
+    private DiscountRepository discountRepository;
+    private CancelPaymentRepository cancelPaymentRepository;
+    private TransactionTemplate readOnly;
+    private Statistics statistics;
+    private Long academyId;
+    private Pageable pageable;
+
+    @Setup
+    public void setUp() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource("jdbc:h2:mem:payment-history;MODE=MySQL;DB_CLOSE_DELAY=-1", "sa", "");
+
+        factoryBean = new LocalContainerEntityManagerFactoryBean();
+        factoryBean.setDataSource(dataSource);
+        factoryBean.setPackagesToScan("com.project.myacademy.domain");
+        factoryBean.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+        factoryBean.setJpaPropertyMap(Map.of(
+                "hibernate.hbm2ddl.auto", "create-drop",
+                "hibernate.generate_statistics", "true",
+                "hibernate.physical_naming_strategy", CamelCaseToUnderscoresNamingStrategy.class.getName(),
+                "hibernate.implicit_naming_strategy", SpringImplicitNamingStrategy.class.getName()));
+        factoryBean.afterPropertiesSet();
+
+        EntityManagerFactory entityManagerFactory = factoryBean.getObject();
+        entityManager = SharedEntityManagerCreator.createSharedEntityManager(entityManagerFactory);
+        JpaRepositoryFactory repositoryFactory = new JpaRepositoryFactory(entityManager);
+        paymentRepository = repositoryFactory.getRepository(PaymentRepository.class);
+        discountRepository = repositoryFactory.getRepository(DiscountRepository.class);
+        cancelPaymentRepository = repositoryFactory.getRepository(CancelPaymentRepository.class);
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        JpaTransactionManager transactionManager = new JpaTransactionManager(entityManagerFactory);
+        TransactionTemplate write = new TransactionTemplate(transactionManager);
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        pageable = PageRequest.of(0, pageSize);
+
+        academyId = write.execute(status -> {
+            Academy academy = Academy.builder().name("academy").build();
+            entityManager.persist(academy);
+            Employee employee = Employee.builder().name("employee").email("employee@gmail.com").account("employee").academy(academy).employeeRole(EmployeeRole.ROLE_ADMIN).build();
+            entityManager.persist(employee);
+            Lecture lecture = Lecture.builder().name("lecture").price(10000).employee(employee).academyId(academy.getId()).build();
+            entityManager.persist(lecture);
+            Discount discount = Discount.builder().discountName("형제 할인").discountRate(10).academy(academy).build();
+            entityManager.persist(discount);
+            for (int i = 1; i <= payments; i++) {
+                Student student = Student.builder().name("student" + i).phoneNum("010-0000-" + i).email("student" + i + "@gmail.com").academyId(academy.getId()).build();
+                entityManager.persist(student);
+                // 절반은 할인 정책 적용, 10건 중 1건은 결제 취소
+                Payment payment = Payment.builder().orderId(UUID.randomUUID().toString()).orderName("lecture").payType(PayType.CARD).amount(10000)
+                        .paymentKey("paymentKey" + i).discountId(i % 2 == 0 ? discount.getId() : 0L).status(PaymentStatus.CONFIRMED)
+                        .employee(employee).student(student).lecture(lecture).academy(academy).build();
+                entityManager.persist(payment);
+                if (i % 10 == 0) {
+                    entityManager.persist(CancelPayment.builder().orderId(payment.getOrderId()).paymentKey(payment.getPaymentKey()).cancelReason("취소")
+                            .amount(payment.getAmount()).orderName(payment.getOrderName()).payment(payment).employee(employee).build());
+                }
+            }
+            return academy.getId();
+        });
+        // 생성 시각은 JPA Auditing 이 채우는 값이라 (Spring 컨텍스트 없이 저장하면 null) 직접 채운다.
+        write.executeWithoutResult(status -> {
+            entityManager.createNativeQuery("update payment_tb set created_at = dateadd('SECOND', payment_id, timestamp '2023-03-01 00:00:00')").executeUpdate();
+            entityManager.createNativeQuery("update cancel_payment_tb set created_at = timestamp '2023-04-01 00:00:00'").executeUpdate();
+        });
+
+        System.out.printf("%n[결제 완료 내역 %d건 중 %d건 페이지] SQL 실행 수 - perRow: %d, projection: %d%n", payments, pageSize,
+                countStatements(this::perRow), countStatements(this::projection));
+    }
+
+    @TearDown
+    public void tearDown() {
+        factoryBean.destroy();
+    }
+
+    @Benchmark
+    public Page<CompletePaymentResponse> perRow() {
+        return readOnly.execute(status -> {
+            List<Payment> content = entityManager.createQuery(ENTITY_QUERY, Payment.class)
+                    .setParameter("academyId", academyId)
+                    .setFirstResult((int) pageable.getOffset())
+                    .setMaxResults(pageable.getPageSize())
+                    .getResultList();
+            Long total = entityManager.createQuery(COUNT_QUERY, Long.class)
+                    .setParameter("academyId", academyId)
+                    .getSingleResult();
+            return new PageImpl<>(content, pageable, total).map(this::toCompletePaymentResponse);
+        });
+    }
+
+    @Benchmark
+    public Page<CompletePaymentResponse> projection() {
+        return readOnly.execute(status -> paymentRepository.findCompleteByAcademyId(academyId, pageable));
+    }
+
+    private CompletePaymentResponse toCompletePaymentResponse(Payment payment) {
+        CompletePaymentResponse completePayment = new CompletePaymentResponse(payment);
+        discountRepository.findById(payment.getDiscountId()).ifPresent(discount -> completePayment.setDiscountName(discount.getDiscountName()));
+        cancelPaymentRepository.findByPayment(payment).ifPresent(completePayment::setDeletedAt);
+        return completePayment;
+    }
+
+    private long countStatements(Supplier<Page<CompletePaymentResponse>> page) {
+        statistics.clear();
+        if (page.get().getContent().size() != pageSize) {
+            throw new IllegalStateException("페이지 크기 불일치");
+        }
+        return statistics.getPrepareStatementCount();
+    }
+}
@@ -0,0 +1,149 @@
+package com.project.myacademy.domain.payment;
+
+import com.project.myacademy.domain.academy.Academy;
+import com.project.myacademy.domain.employee.Employee;
+import com.project.myacademy.domain.employee.EmployeeRole;
+import com.project.myacademy.domain.lecture.Lecture;
+import com.project.myacademy.domain.payment.repository.PaymentRepository;
+import com.project.myacademy.domain.student.Student;
+import com.zaxxer.hikari.HikariDataSource;
+import org.hibernate.boot.model.naming.CamelCaseToUnderscoresNamingStrategy;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.orm.jpa.hibernate.SpringImplicitNamingStrategy;
+import org.springframework.data.jpa.repository.support.JpaRepositoryFactory;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * 결제 대사 처리량 측정 (H2 파일 DB + 토스 대역 서버, 결제 N건)
+ * 결제 N건(하루 동안 고르게 분포)과 같은 수의 토스 승인 거래, 100건 중 1건의 취소를 만들고 PaymentReconciliationJob.reconcile 을 한 번 실행한다.
+ * - 1000건 중 1건은 토스 승인 금액이 다름 (AMOUNT_MISMATCH)
+ * - 1000건 중 1건은 토스 승인 거래가 없음 (MISSING_AT_GATEWAY)
+ * - 결제 내역에 없는 토스 승인 거래 10건 (MISSING_PAYMENT)
+ *
+ * 힙 상한(-Xmx1g)에서 실행해 결제 내역 · 거래 내역을 한 번에 올리지 않는지 함께 확인한다. (대역 서버의 거래 내역 N건도 같은 힙에 있음)
+ * 실행 : -prof gc 없이 SingleShotTime, 결과는 건/초 = N / 실행 시간
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx1g", "-Dsun.net.httpserver.nodelay=true"})
+public class PaymentReconciliationBenchmark {
+
+    private static final LocalDateTime DAY = LocalDateTime.of(2023, 3, 1, 0, 0);
+
+    @Param({"1000000"})
+    private int payments;
+
+    @Param({"1000"})
+    private int pageSize;
+
+    private Path dir;
+    private HikariDataSource dataSource;
+    private LocalContainerEntityManagerFactoryBean factoryBean;
+    private TossStubServer stub;
+    private TossPaymentsClient client;
+    private PaymentReconciliationJob job;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        dir = Files.createTempDirectory("payment-reconciliation");
+        // 운영과 같이 커넥션 풀 사용 (청크마다 H2 파일 DB 연결을 새로 열지 않도록)
+        dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl("jdbc:h2:file:" + dir.resolve("db") + ";MODE=MySQL");
+        dataSource.setUsername("sa");
+        dataSource.setMaximumPoolSize(2);
+
+        factoryBean = new LocalContainerEntityManagerFactoryBean();
+        factoryBean.setDataSource(dataSource);
+        factoryBean.setPackagesToScan("com.project.myacademy.domain");
+        factoryBean.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+        factoryBean.setJpaPropertyMap(Map.of(
+                "hibernate.hbm2ddl.auto", "create-drop",
+                "hibernate.physical_naming_strategy", CamelCaseToUnderscoresNamingStrategy.class.getName(),
+                "hibernate.implicit_naming_strategy", SpringImplicitNamingStrategy.class.getName()));
+        factoryBean.afterPropertiesSet();
+
+        EntityManagerFactory entityManagerFactory = factoryBean.getObject();
+        EntityManager entityManager = SharedEntityManagerCreator.createSharedEntityManager(entityManagerFactory);
+        PaymentRepository paymentRepository = new JpaRepositoryFactory(entityManager).getRepository(PaymentRepository.class);
+        TransactionTemplate write = new TransactionTemplate(new JpaTransactionManager(entityManagerFactory));
+
+        // 결제 N건은 INSERT ... SELECT 한 번으로 (승인 요청 시각은 하루 안에 고르게)
+        long intervalMillis = TimeUnit.DAYS.toMillis(1) / payments;
+        write.executeWithoutResult(status -> {
+            Academy academy = Academy.builder().name("academy").build();
+            entityManager.persist(academy);
+            Employee employee = Employee.builder().name("employee").email("employee@gmail.com").account("employee").academy(academy).employeeRole(EmployeeRole.ROLE_ADMIN).build();
+            entityManager.persist(employee);
+            Lecture lecture = Lecture.builder().name("lecture").price(10000).employee(employee).academyId(academy.getId()).build();
+            entityManager.persist(lecture);
+            Student student = Student.builder().name("student").phoneNum("010-0000-0000").email("student@gmail.com").academyId(academy.getId()).build();
+            entityManager.persist(student);
+            entityManager.flush();
+
+            entityManager.createNativeQuery("insert into payment_tb (academy_id, employee_id, student_id, lecture_id, order_id, order_name, pay_type, amount, payment_key, discount_id, status, confirm_requested_at, created_at) " +
+                            "select ?1, ?2, ?3, ?4, 'order' || x, 'lecture', 'CARD', 10000, 'paymentKey' || x, 0, 'CONFIRMED', " +
+                            "dateadd('MILLISECOND', (x - 1) * ?5, timestamp '2023-03-01 00:00:00'), dateadd('MILLISECOND', (x - 1) * ?5, timestamp '2023-03-01 00:00:00') " +
+                            "from system_range(1, ?6)")
+                    .setParameter(1, academy.getId()).setParameter(2, employee.getId()).setParameter(3, student.getId()).setParameter(4, lecture.getId())
+                    .setParameter(5, intervalMillis).setParameter(6, payments)
+                    .executeUpdate();
+            entityManager.createNativeQuery("insert into cancel_payment_tb (payment_id, order_id, payment_key, amount, cancel_reason, order_name, created_at) " +
+                            "select payment_id, order_id, payment_key, amount, '취소', order_name, created_at from payment_tb where mod(payment_id, 100) = 0")
+                    .executeUpdate();
+        });
+
+        stub = new TossStubServer(0, 0, 4);
+        stub.start();
+        for (int i = 1; i <= payments; i++) {
+            LocalDateTime transactionAt = DAY.plusNanos(TimeUnit.MILLISECONDS.toNanos((i - 1) * intervalMillis) + 500_000_000L);
+            if (i % 1000 != 1) {
+                stub.addTransaction("paymentKey" + i, "order" + i, "DONE", i % 1000 == 0 ? 9000L : 10000L, transactionAt);
+            }
+            if (i % 100 == 0) {
+                stub.addTransaction("paymentKey" + i, "order" + i, "CANCELED", 10000L, transactionAt.plusSeconds(1));
+            }
+        }
+        for (int i = 1; i <= 10; i++) {
+            stub.addTransaction("unknownKey" + i, "unknown" + i, "DONE", 10000L, DAY.plusHours(12));
+        }
+
+        client = new TossPaymentsClient("test_sk", stub.getBaseUrl(), 4, 1000, 60000, 1000);
+        job = new PaymentReconciliationJob(client, paymentRepository, pageSize, 1000, 60, dir.resolve("report").toString());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        client.close();
+        stub.stop();
+        factoryBean.destroy();
+        dataSource.close();
+        try (Stream<Path> files = Files.walk(dir)) {
+            files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    @Benchmark
+    public PaymentReconciliationReport reconcile() {
+        PaymentReconciliationReport report = job.reconcile(DAY, DAY.plusDays(1));
+        System.out.printf("%n[결제 대사 %d건] 토스 거래 %d건, 결제 %d건, 불일치 %s%n", payments, report.getTransactions(), report.getPayments(), report.getCounts());
+        return report;
+    }
+}
@@ -0,0 +1,73 @@
+package com.project.myacademy.domain.payment;
+
+import com.project.myacademy.domain.payment.dto.ApprovePaymentResponse;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 결제 승인 요청 1건 비용 비교 (로컬 TossStubServer 대상, 8 스레드 동시 호출)
+ * - perCall : 기존 방식 (요청마다 RestTemplate 생성, 인증 헤더 인코딩)
+ * - pooled  : TossPaymentsClient (커넥션 풀 재사용, 인증 헤더 미리 생성)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Threads(8)
+@Fork(value = 1, jvmArgsAppend = "-Dsun.net.httpserver.nodelay=true")
+public class TossPaymentsClientBenchmark {
+
+    private static final String SECRET_KEY = "test_sk";
+
+    private final AtomicLong sequence = new AtomicLong();
+
+    private TossStubServer server;
+    private TossPaymentsClient client;
+
+    @Setup
+    public void setUp() throws IOException {
+        server = new TossStubServer(0, 0, 16);
+        server.start();
+        client = new TossPaymentsClient(SECRET_KEY, server.getBaseUrl(), 50, 3000, 10000, 1000);
+    }
+
+    @TearDown
+    public void tearDown() {
+        client.close();
+        server.stop();
+    }
+
+    @Benchmark
+    public ApprovePaymentResponse perCall() {
+        long id = sequence.incrementAndGet();
+
+        RestTemplate rest = new RestTemplate();
+        HttpHeaders headers = new HttpHeaders();
+        headers.setBasicAuth(new String(Base64.getEncoder().encode((SECRET_KEY + ":").getBytes(StandardCharsets.UTF_8))));
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        headers.setAccept(Collections.singletonList(MediaType.APPLICATION_JSON));
+
+        return rest.postForEntity(server.getBaseUrl() + "confirm",
+                        new HttpEntity<>(Map.of("paymentKey", "key" + id, "orderId", "order" + id, "amount", 10000), headers),
+                        ApprovePaymentResponse.class)
+                .getBody();
+    }
+
+    @Benchmark
+    public ApprovePaymentResponse pooled() {
+        long id = sequence.incrementAndGet();
+        return client.confirm("key" + id, "order" + id, 10000);
+    }
+}
@@ -0,0 +1,76 @@
+package com.project.myacademy.global.configuration;
+
+import com.project.myacademy.global.configuration.security.RouteAuthorizationMetadataSource;
+import com.project.myacademy.global.configuration.security.RouteAuthorizationTable;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.security.web.FilterInvocation;
+import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * URL 권한 판정 비용 비교
+ * - antMatchers : 기존 방식 (AntPathRequestMatcher 를 등록 순서대로 비교)
+ * - table       : RouteAuthorizationTable 트라이 한 번 탐색
+ * 앞쪽 규칙, 뒤쪽 규칙, 일치하는 규칙이 없는 요청을 번갈아 판정한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class RouteAuthorizationBenchmark {
+
+    private static final String[][] REQUESTS = {
+            {"GET", "/academy/main"},
+            {"GET", "/api/v1/academies/1/students/2"},
+            {"POST", "/api/v1/academies/1/students/2/lectures/3/enrollments/4"},
+            {"DELETE", "/api/v1/academies/1/employees/2"},
+            {"GET", "/api/v1/academies/1/employees"},
+            {"PATCH", "/api/v1/academies/1/lectures/2"}
+    };
+
+    private List<AntPathRequestMatcher> antMatchers;
+    private RouteAuthorizationMetadataSource metadataSource;
+    private FilterInvocation[] invocations;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        RouteAuthorizationTable table = SecurityConfig.routeAuthorizationTable();
+        metadataSource = new RouteAuthorizationMetadataSource(table);
+
+        antMatchers = new ArrayList<>();
+        for (RouteAuthorizationTable.Rule rule : table.getRules()) {
+            antMatchers.add(new AntPathRequestMatcher(rule.getPattern(), rule.getMethod() == null ? null : rule.getMethod().name()));
+        }
+
+        invocations = new FilterInvocation[REQUESTS.length];
+        for (int i = 0; i < REQUESTS.length; i++) {
+            invocations[i] = new FilterInvocation("", REQUESTS[i][1], REQUESTS[i][0]);
+        }
+    }
+
+    @Benchmark
+    public void antMatchers(Blackhole blackhole) {
+        FilterInvocation invocation = nextInvocation();
+        for (AntPathRequestMatcher matcher : antMatchers) {
+            if (matcher.matches(invocation.getRequest())) {
+                blackhole.consume(matcher);
+                return;
+            }
+        }
+        blackhole.consume(null);
+    }
+
+    @Benchmark
+    public void table(Blackhole blackhole) {
+        blackhole.consume(metadataSource.getAttributes(nextInvocation()));
+    }
+
+    private FilterInvocation nextInvocation() {
+        next = (next + 1) % invocations.length;
+        return invocations[next];
+    }
+}
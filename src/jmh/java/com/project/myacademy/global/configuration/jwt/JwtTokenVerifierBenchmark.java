@@ -0,0 +1,54 @@
+package com.project.myacademy.global.configuration.jwt;
+
+import com.project.myacademy.domain.academy.Academy;
+import com.project.myacademy.domain.employee.Employee;
+import com.project.myacademy.domain.employee.EmployeeRole;
+import com.project.myacademy.global.util.JwtTokenUtil;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JwtTokenFilter 의 토큰 검증 비용 비교
+ * - staticUtil : 기존 방식 (JwtTokenUtil.isExpired + JwtTokenUtil.getEmail, 요청당 2회 파싱 & 서명 검증)
+ * - parseOnce  : 캐시 없이 요청당 1회 파싱 & 서명 검증
+ * - cached     : 검증된 Claims 캐시 적중
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class JwtTokenVerifierBenchmark {
+
+    private static final String SECRET_KEY = "benchmark-secret-key-benchmark-secret-key";
+
+    private String token;
+    private JwtTokenVerifier cachedVerifier;
+    private JwtTokenVerifier noCacheVerifier;
+
+    @Setup
+    public void setUp() {
+        Academy academy = Academy.builder().id(1L).name("학원").build();
+        Employee employee = Employee.builder().id(1L).account("admin").email("admin@gmail.com").academy(academy).employeeRole(EmployeeRole.ROLE_ADMIN).build();
+        token = JwtTokenUtil.createToken(employee, SECRET_KEY);
+        cachedVerifier = new JwtTokenVerifier(SECRET_KEY, 10000);
+        noCacheVerifier = new JwtTokenVerifier(SECRET_KEY, 0);
+        cachedVerifier.verify(token);
+    }
+
+    @Benchmark
+    public void staticUtil(Blackhole blackhole) {
+        blackhole.consume(JwtTokenUtil.isExpired(token, SECRET_KEY));
+        blackhole.consume(JwtTokenUtil.getEmail(token, SECRET_KEY));
+    }
+
+    @Benchmark
+    public void parseOnce(Blackhole blackhole) {
+        blackhole.consume(noCacheVerifier.verify(token).get("email", String.class));
+    }
+
+    @Benchmark
+    public void cached(Blackhole blackhole) {
+        blackhole.consume(cachedVerifier.verify(token).get("email", String.class));
+    }
+}
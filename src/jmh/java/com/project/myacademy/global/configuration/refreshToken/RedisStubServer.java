@@ -0,0 +1,318 @@
+package com.project.myacademy.global.configuration.refreshToken;
+
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * RefreshTokenBenchmark 용 인메모리 Redis (RESP2, 단일 스레드 처리)
+ * 토큰 저장소가 사용하는 String · Hash · Set 명령만 지원하고, 처리한 명령 수를 센다. (만료 시간은 무시)
+ * Lua 는 실행하지 않으므로, 스크립트(EVALSHA · EVAL)는 script 로 등록한 같은 동작의 Java 구현으로 처리한다.
+ * HELLO 에는 오류로 응답해 Lettuce 가 RESP2 로 연결하게 한다.
+ */
+class RedisStubServer implements Closeable {
+
+    private final ServerSocket serverSocket;
+    private final Map<String, Object> data = new HashMap<>();
+    private final AtomicLong commands = new AtomicLong();
+    private final Map<String, Script> scripts = new HashMap<>();
+
+    RedisStubServer() throws IOException {
+        serverSocket = new ServerSocket(0, 50, InetAddress.getLoopbackAddress());
+        Thread acceptor = new Thread(this::accept, "redis-stub");
+        acceptor.setDaemon(true);
+        acceptor.start();
+    }
+
+    int getPort() {
+        return serverSocket.getLocalPort();
+    }
+
+    long getCommands() {
+        return commands.get();
+    }
+
+    void script(RedisScript<?> script, Script handler) {
+        synchronized (data) {
+            scripts.put(script.getSha1(), handler);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        serverSocket.close();
+    }
+
+    private void accept() {
+        while (!serverSocket.isClosed()) {
+            try {
+                Socket socket = serverSocket.accept();
+                socket.setTcpNoDelay(true);
+                Thread client = new Thread(() -> serve(socket), "redis-stub-client");
+                client.setDaemon(true);
+                client.start();
+            } catch (IOException e) {
+                return;
+            }
+        }
+    }
+
+    private void serve(Socket socket) {
+        try (socket) {
+            InputStream in = new BufferedInputStream(socket.getInputStream());
+            OutputStream out = socket.getOutputStream();
+            while (true) {
+                List<String> command = readCommand(in);
+                if (command == null) {
+                    return;
+                }
+                ByteArrayOutputStream reply = new ByteArrayOutputStream();
+                synchronized (data) {
+                    handle(command, reply);
+                }
+                out.write(reply.toByteArray());
+                out.flush();
+            }
+        } catch (IOException e) {
+            // 클라이언트 연결 종료
+        }
+    }
+
+    // 키 · 값은 바이트를 그대로 보존하도록 ISO-8859-1 문자열로 다룬다.
+    private void handle(List<String> command, ByteArrayOutputStream reply) {
+
+        String name = command.get(0).toUpperCase();
+        List<String> args = command.subList(1, command.size());
+
+        switch (name) {
+            case "HELLO":
+                error(reply, "unknown command 'HELLO'");
+                return;
+            case "PING":
+                simple(reply, "PONG");
+                return;
+            case "SELECT":
+            case "CLIENT":
+                simple(reply, "OK");
+                return;
+            default:
+                commands.incrementAndGet();
+        }
+
+        switch (name) {
+            case "SET":
+                data.put(args.get(0), args.get(1));
+                simple(reply, "OK");
+                break;
+            case "SETEX":
+                data.put(args.get(0), args.get(2));
+                simple(reply, "OK");
+                break;
+            case "GET": {
+                Object value = data.get(args.get(0));
+                bulk(reply, value instanceof String ? (String) value : null);
+                break;
+            }
+            case "DEL": {
+                long deleted = args.stream().filter(key -> data.remove(key) != null).count();
+                integer(reply, deleted);
+                break;
+            }
+            case "EXISTS":
+                integer(reply, args.stream().filter(data::containsKey).count());
+                break;
+            case "EXPIRE":
+            case "PEXPIRE":
+            case "PERSIST":
+                integer(reply, data.containsKey(args.get(0)) ? 1 : 0);
+                break;
+            case "TTL":
+            case "PTTL":
+                integer(reply, data.containsKey(args.get(0)) ? -1 : -2);
+                break;
+            case "TYPE": {
+                Object value = data.get(args.get(0));
+                simple(reply, value == null ? "none" : value instanceof String ? "string" : value instanceof Map ? "hash" : "set");
+                break;
+            }
+            case "HSET":
+            case "HMSET": {
+                Map<String, String> hash = hash(args.get(0), true);
+                for (int i = 1; i + 1 < args.size(); i += 2) {
+                    hash.put(args.get(i), args.get(i + 1));
+                }
+                if (name.equals("HMSET")) {
+                    simple(reply, "OK");
+                } else {
+                    integer(reply, (args.size() - 1) / 2);
+                }
+                break;
+            }
+            case "HGET": {
+                Map<String, String> hash = hash(args.get(0), false);
+                bulk(reply, hash == null ? null : hash.get(args.get(1)));
+                break;
+            }
+            case "HMGET": {
+                Map<String, String> hash = hash(args.get(0), false);
+                List<String> values = new ArrayList<>();
+                for (String field : args.subList(1, args.size())) {
+                    values.add(hash == null ? null : hash.get(field));
+                }
+                array(reply, values);
+                break;
+            }
+            case "HGETALL": {
+                Map<String, String> hash = hash(args.get(0), false);
+                List<String> values = new ArrayList<>();
+                if (hash != null) {
+                    hash.forEach((field, value) -> {
+                        values.add(field);
+                        values.add(value);
+                    });
+                }
+                array(reply, values);
+                break;
+            }
+            case "SADD": {
+                Set<String> set = set(args.get(0), true);
+                integer(reply, args.subList(1, args.size()).stream().filter(set::add).count());
+                break;
+            }
+            case "SREM": {
+                Set<String> set = set(args.get(0), false);
+                integer(reply, set == null ? 0 : args.subList(1, args.size()).stream().filter(set::remove).count());
+                if (set != null && set.isEmpty()) {
+                    data.remove(args.get(0));
+                }
+                break;
+            }
+            case "SMEMBERS": {
+                Set<String> set = set(args.get(0), false);
+                array(reply, set == null ? List.of() : new ArrayList<>(set));
+                break;
+            }
+            case "SISMEMBER": {
+                Set<String> set = set(args.get(0), false);
+                integer(reply, set != null && set.contains(args.get(1)) ? 1 : 0);
+                break;
+            }
+            case "SINTER": {
+                Set<String> result = null;
+                for (String key : args) {
+                    Set<String> set = set(key, false);
+                    if (result == null) {
+                        result = set == null ? new HashSet<>() : new HashSet<>(set);
+                    } else {
+                        result.retainAll(set == null ? Set.of() : set);
+                    }
+                }
+                array(reply, result == null ? List.of() : new ArrayList<>(result));
+                break;
+            }
+            case "EVALSHA":
+            case "EVAL": {
+                String sha1 = name.equals("EVAL") ? new DefaultRedisScript<>(args.get(0)).getSha1() : args.get(0);
+                Script script = scripts.get(sha1);
+                if (script == null) {
+                    write(reply, "-NOSCRIPT No matching script\r\n");
+                    break;
+                }
+                int numKeys = Integer.parseInt(args.get(1));
+                integer(reply, script.run(data, args.subList(2, 2 + numKeys), args.subList(2 + numKeys, args.size())));
+                break;
+            }
+            default:
+                error(reply, "unsupported command '" + name + "'");
+        }
+    }
+
+    // 스크립트와 같은 동작의 Java 구현 (KEYS, ARGV 를 받아 정수 응답)
+    interface Script {
+        long run(Map<String, Object> data, List<String> keys, List<String> args);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, String> hash(String key, boolean create) {
+        return (Map<String, String>) (create ? data.computeIfAbsent(key, k -> new LinkedHashMap<String, String>()) : data.get(key));
+    }
+
+    @SuppressWarnings("unchecked")
+    private Set<String> set(String key, boolean create) {
+        return (Set<String>) (create ? data.computeIfAbsent(key, k -> new HashSet<String>()) : data.get(key));
+    }
+
+    private List<String> readCommand(InputStream in) throws IOException {
+        String header = readLine(in);
+        if (header == null) {
+            return null;
+        }
+        if (header.charAt(0) != '*') {
+            throw new IOException("RESP 배열이 아닌 요청 : " + header);
+        }
+        int count = Integer.parseInt(header.substring(1));
+        List<String> command = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            int length = Integer.parseInt(readLine(in).substring(1));
+            byte[] bytes = in.readNBytes(length + 2);
+            command.add(new String(bytes, 0, length, StandardCharsets.ISO_8859_1));
+        }
+        return command;
+    }
+
+    private String readLine(InputStream in) throws IOException {
+        StringBuilder line = new StringBuilder();
+        int read;
+        while ((read = in.read()) != -1) {
+            if (read == '\r') {
+                in.read();
+                return line.toString();
+            }
+            line.append((char) read);
+        }
+        return null;
+    }
+
+    private void simple(ByteArrayOutputStream reply, String value) {
+        write(reply, "+" + value + "\r\n");
+    }
+
+    private void error(ByteArrayOutputStream reply, String message) {
+        write(reply, "-ERR " + message + "\r\n");
+    }
+
+    private void integer(ByteArrayOutputStream reply, long value) {
+        write(reply, ":" + value + "\r\n");
+    }
+
+    private void bulk(ByteArrayOutputStream reply, String value) {
+        write(reply, value == null ? "$-1\r\n" : "$" + value.length() + "\r\n" + value + "\r\n");
+    }
+
+    private void array(ByteArrayOutputStream reply, List<String> values) {
+        write(reply, "*" + values.size() + "\r\n");
+        values.forEach(value -> bulk(reply, value));
+    }
+
+    private void write(ByteArrayOutputStream reply, String value) {
+        reply.writeBytes(value.getBytes(StandardCharsets.ISO_8859_1));
+    }
+}
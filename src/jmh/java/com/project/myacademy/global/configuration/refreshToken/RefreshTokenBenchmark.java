@@ -0,0 +1,281 @@
+package com.project.myacademy.global.configuration.refreshToken;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.redis.connection.RedisClusterConnection;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.RedisSentinelConnection;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisHash;
+import org.springframework.data.redis.core.RedisKeyValueAdapter;
+import org.springframework.data.redis.core.RedisKeyValueTemplate;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.index.Indexed;
+import org.springframework.data.redis.core.mapping.RedisMappingContext;
+import org.springframework.data.redis.repository.support.RedisRepositoryFactory;
+import org.springframework.data.repository.CrudRepository;
+
+import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 로그인 · Access Token 재발급 · 로그아웃 한 번에 드는 Redis 명령 수와 왕복 수 비교 (인메모리 Redis stub + Lettuce)
+ * - legacy : 이전 방식 (@RedisHash + @Indexed accessToken 저장소, Spring Data Redis 리포지토리)
+ * - store  : RefreshTokenStore (Access Token digest 키 + 직원 키, 저장 · 재발급은 스크립트 1회)
+ *
+ * 명령 수는 RedisStubServer 가 처리한 명령 수, 왕복 수는 응답을 기다린 횟수(파이프라인은 1회)로 setUp 에서 출력한다.
+ * 이전 형식으로 저장된 토큰을 RefreshTokenStore 가 찾아 새 형식으로 옮기는지, 다시 로그인하면 이전 세션이 지워지는지도 setUp 에서 확인한다.
+ * stub 은 Lua 를 실행하지 않으므로 RefreshTokenStore 의 스크립트는 같은 동작의 Java 구현으로 등록한다.
+ * 벤치마크 시간은 같은 서버의 stub 기준이므로 실제 Redis 와의 네트워크 지연은 왕복 수로 판단한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class RefreshTokenBenchmark {
+
+    private RedisStubServer server;
+    private LettuceConnectionFactory connectionFactory;
+    private CountingConnectionFactory countingConnectionFactory;
+    private LegacyRefreshTokenRepository legacyRepository;
+    private RefreshTokenStore refreshTokenStore;
+
+    private final AtomicLong sequence = new AtomicLong();
+
+    @Setup
+    public void setUp() throws IOException {
+        server = new RedisStubServer();
+        server.script(RefreshTokenStore.SAVE, RefreshTokenBenchmark::save);
+        server.script(RefreshTokenStore.REPLACE, RefreshTokenBenchmark::replace);
+        connectionFactory = new LettuceConnectionFactory("127.0.0.1", server.getPort());
+        connectionFactory.afterPropertiesSet();
+        countingConnectionFactory = new CountingConnectionFactory(connectionFactory);
+
+        RedisTemplate<byte[], byte[]> redisTemplate = new RedisTemplate<>();
+        redisTemplate.setConnectionFactory(countingConnectionFactory);
+        redisTemplate.afterPropertiesSet();
+        RedisMappingContext mappingContext = new RedisMappingContext();
+        RedisKeyValueAdapter keyValueAdapter = new RedisKeyValueAdapter(redisTemplate, mappingContext);
+        legacyRepository = new RedisRepositoryFactory(new RedisKeyValueTemplate(keyValueAdapter, mappingContext))
+                .getRepository(LegacyRefreshTokenRepository.class);
+
+        StringRedisTemplate stringRedisTemplate = new StringRedisTemplate(countingConnectionFactory);
+        refreshTokenStore = new RefreshTokenStore(stringRedisTemplate, true);
+
+        // 로그인 시 RefreshTokenStore 가 같은 직원의 이전 형식 해시를 지우므로 서로 다른 직원으로 센다.
+        long id = sequence.incrementAndGet();
+        long storeId = sequence.incrementAndGet();
+        System.out.printf("%n[refresh token] 명령 수 / 왕복 수%n");
+        System.out.printf("login   - legacy: %s, store: %s%n",
+                count(() -> legacyLogin(id)), count(() -> storeLogin(storeId)));
+        System.out.printf("refresh - legacy: %s, store: %s%n",
+                count(() -> legacyRefresh(id)), count(() -> storeRefresh(storeId)));
+        System.out.printf("logout  - legacy: %s, store: %s%n",
+                count(() -> legacyLogout(id, 1)), count(() -> storeLogout(storeId, 1)));
+
+        // 배포 이전(이전 형식)에 로그인한 세션의 재발급 : 이전 형식에서 찾아 새 형식으로 옮긴 뒤로는 새 형식으로 조회
+        long legacyId = sequence.incrementAndGet();
+        legacyLogin(legacyId);
+        System.out.printf("legacy session - first refresh: %s, next refresh: %s%n",
+                count(() -> storeRefresh(legacyId)), count(() -> storeRefresh(legacyId)));
+        if (legacyRepository.findById(String.valueOf(legacyId)).isPresent()) {
+            throw new IllegalStateException("이전 형식 토큰 정보가 삭제되지 않음");
+        }
+
+        // 같은 직원이 다시 로그인하면 이전 세션은 재발급받지 못함
+        long reloginId = sequence.incrementAndGet();
+        storeLogin(reloginId);
+        refreshTokenStore.save(new RefreshToken(String.valueOf(reloginId), "refresh" + reloginId, accessToken(reloginId, 2)));
+        if (refreshTokenStore.findByAccessToken(accessToken(reloginId, 0)).isPresent()
+                || refreshTokenStore.findByAccessToken(accessToken(reloginId, 2)).isEmpty()) {
+            throw new IllegalStateException("다시 로그인한 직원의 이전 세션이 삭제되지 않음");
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        connectionFactory.destroy();
+        server.close();
+    }
+
+    @Benchmark
+    public void legacy() {
+        long id = sequence.incrementAndGet();
+        legacyLogin(id);
+        legacyRefresh(id);
+        legacyLogout(id, 1);
+    }
+
+    @Benchmark
+    public void store() {
+        long id = sequence.incrementAndGet();
+        storeLogin(id);
+        storeRefresh(id);
+        storeLogout(id, 1);
+    }
+
+    // 이전 EmployeeService.login, JwtTokenFilter 재발급, RefreshTokenService.removeRefreshToken 과 같은 호출
+    private void legacyLogin(long id) {
+        legacyRepository.save(new LegacyRefreshToken(String.valueOf(id), "refresh" + id, accessToken(id, 0)));
+    }
+
+    private void legacyRefresh(long id) {
+        LegacyRefreshToken found = legacyRepository.findByAccessToken(accessToken(id, 0)).orElseThrow();
+        legacyRepository.save(new LegacyRefreshToken(found.getId(), found.getRefreshToken(), accessToken(id, 1)));
+    }
+
+    private void legacyLogout(long id, int generation) {
+        legacyRepository.findByAccessToken(accessToken(id, generation)).ifPresent(legacyRepository::delete);
+    }
+
+    // EmployeeService.login, AccessTokenRefresher.reissue, RefreshTokenService.removeRefreshToken 과 같은 호출
+    private void storeLogin(long id) {
+        refreshTokenStore.save(new RefreshToken(String.valueOf(id), "refresh" + id, accessToken(id, 0)));
+    }
+
+    private void storeRefresh(long id) {
+        RefreshToken found = refreshTokenStore.findByAccessToken(accessToken(id, 0)).orElseThrow();
+        refreshTokenStore.replace(accessToken(id, 0), new RefreshToken(found.getId(), found.getRefreshToken(), accessToken(id, 1)), 30);
+    }
+
+    private void storeLogout(long id, int generation) {
+        refreshTokenStore.delete(accessToken(id, generation));
+    }
+
+    // RefreshTokenStore.SAVE 와 같은 동작 (만료 시간 제외)
+    private static long save(Map<String, Object> data, List<String> keys, List<String> args) {
+        Object previous = data.get(keys.get(1));
+        if (previous != null && !previous.equals(args.get(2))) {
+            data.remove("jwtToken:" + previous);
+        }
+        data.put(keys.get(0), args.get(0));
+        data.put(keys.get(1), args.get(2));
+        if (keys.size() > 2) {
+            data.remove(keys.get(2));
+        }
+        return 1;
+    }
+
+    // RefreshTokenStore.REPLACE 와 같은 동작 (만료 시간 제외)
+    private static long replace(Map<String, Object> data, List<String> keys, List<String> args) {
+        data.put(keys.get(0), args.get(0));
+        data.put(keys.get(2), args.get(3));
+        return 1;
+    }
+
+    private String accessToken(long id, int generation) {
+        return "accessToken-" + id + "-" + generation;
+    }
+
+    private String count(Runnable operation) {
+        long commands = server.getCommands();
+        long roundTrips = countingConnectionFactory.roundTrips.get();
+        operation.run();
+        return (server.getCommands() - commands) + " / " + (countingConnectionFactory.roundTrips.get() - roundTrips);
+    }
+
+    @RedisHash(value = "jwtToken", timeToLive = 60 * 60 * 24 * 3)
+    @AllArgsConstructor
+    @Getter
+    public static class LegacyRefreshToken {
+
+        @Id
+        private String id;
+
+        private String refreshToken;
+
+        @Indexed
+        private String accessToken;
+    }
+
+    public interface LegacyRefreshTokenRepository extends CrudRepository<LegacyRefreshToken, String> {
+        Optional<LegacyRefreshToken> findByAccessToken(String accessToken);
+    }
+
+    /**
+     * 응답을 기다린 횟수를 세는 커넥션 팩토리
+     * 파이프라인 밖의 명령은 1회씩, 파이프라인은 closePipeline 에서 1회로 센다.
+     */
+    private static class CountingConnectionFactory implements RedisConnectionFactory {
+
+        private static final Set<String> NOT_COMMANDS = Set.of("close", "isClosed", "getNativeConnection", "isQueueing",
+                "isPipelined", "openPipeline", "getSentinelConnection", "isSubscribed", "getSubscription");
+
+        private final RedisConnectionFactory delegate;
+        private final AtomicLong roundTrips = new AtomicLong();
+
+        private CountingConnectionFactory(RedisConnectionFactory delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public RedisConnection getConnection() {
+            RedisConnection connection = delegate.getConnection();
+            return (RedisConnection) counting(connection, connection, RedisConnection.class);
+        }
+
+        // xxxCommands() 로 꺼낸 명령 인터페이스도 같은 방식으로 센다.
+        private Object counting(Object target, RedisConnection connection, Class<?> type) {
+            return Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> {
+                String name = method.getName();
+                if (name.equals("closePipeline")) {
+                    roundTrips.incrementAndGet();
+                } else if (isCommand(method) && !connection.isPipelined()) {
+                    roundTrips.incrementAndGet();
+                }
+                Object result;
+                try {
+                    result = method.invoke(target, args);
+                } catch (InvocationTargetException e) {
+                    throw e.getCause();
+                }
+                Class<?> returnType = method.getReturnType();
+                if (result != null && returnType.isInterface() && returnType.getSimpleName().endsWith("Commands")) {
+                    return counting(result, connection, returnType);
+                }
+                return result;
+            });
+        }
+
+        private boolean isCommand(Method method) {
+            return method.getDeclaringClass() != Object.class
+                    && !NOT_COMMANDS.contains(method.getName())
+                    && !method.getReturnType().getSimpleName().endsWith("Commands");
+        }
+
+        @Override
+        public RedisClusterConnection getClusterConnection() {
+            return delegate.getClusterConnection();
+        }
+
+        @Override
+        public boolean getConvertPipelineAndTxResults() {
+            return delegate.getConvertPipelineAndTxResults();
+        }
+
+        @Override
+        public RedisSentinelConnection getSentinelConnection() {
+            return delegate.getSentinelConnection();
+        }
+
+        @Override
+        public DataAccessException translateExceptionIfPossible(RuntimeException ex) {
+            return delegate.translateExceptionIfPossible(ex);
+        }
+    }
+}
@@ -10,13 +10,13 @@ import com.project.myacademy.domain.employee.dto.ReadEmployeeResponse;
 import com.project.myacademy.domain.file.announcementfile.AnnouncementFileS3UploadService;
 import com.project.myacademy.domain.file.announcementfile.dto.ReadAnnouncementFilesResponse;
 import com.project.myacademy.domain.file.employeeprofile.EmployeeProfileS3UploadService;
-import com.project.myacademy.global.util.AuthenticationUtil;
+import com.project.myacademy.global.CursorPage;
+import com.project.myacademy.global.configuration.jwt.EmployeePrincipal;
 import com.project.myacademy.global.util.SessionUtil;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
-import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -38,12 +38,12 @@ public class AnnouncementController {
     private final AnnouncementFileS3UploadService announcementFileS3UploadService;
 
     @GetMapping("/academy/announcements")
-    public String announcement(@RequestParam(required = false) String title, HttpServletRequest request, Authentication authentication, Model model, Pageable pageable) {
+    public String announcement(@RequestParam(required = false) String title, @RequestParam(required = false) String cursor, HttpServletRequest request, EmployeePrincipal principal, Model model, Pageable pageable) {
 
-        Long academyId = AuthenticationUtil.getAcademyIdFromAuth(authentication);
+        Long academyId = principal.getAcademyId();
 
         // 직원 정보, 학원 정보 세션에 저장 및 model로 넘기는 메서드
-        ReadEmployeeResponse requestEmployee = setSessionEmployeeInfo(request, model, authentication, academyId);
+        ReadEmployeeResponse requestEmployee = setSessionEmployeeInfo(request, model, principal, academyId);
         setSessionAcademyInfo(request, model, academyId);
 
         String requestAccount = requestEmployee.getAccount();
@@ -53,6 +53,13 @@ public class AnnouncementController {
             Page<ReadAllAnnouncementResponse> announcements = announcementService.searchAnnouncement(academyId, title, pageable, requestAccount);
             model.addAttribute("announcements", announcements);
 
+        } else if (cursor != null) {
+            // 커서 페이징 - COUNT 쿼리 없이 다음 페이지 커서만 넘겨준다.
+            CursorPage<ReadAllAnnouncementResponse> announcements = announcementService.readAllAnnouncementByCursor(academyId, cursor, pageable.getPageSize(), requestAccount);
+            model.addAttribute("announcements", announcements.getContent());
+            model.addAttribute("cursorPage", true);
+            model.addAttribute("nextCursor", announcements.getNextCursor());
+
         } else {
             Page<ReadAllAnnouncementResponse> announcements = announcementService.readAllAnnouncement(academyId, pageable, requestAccount);
             model.addAttribute("announcements", announcements);
@@ -63,24 +70,24 @@ public class AnnouncementController {
     }
 
     @GetMapping("/academy/announcements/write")
-    public String announcementWrite(HttpServletRequest request, Authentication authentication, Model model) {
+    public String announcementWrite(HttpServletRequest request, EmployeePrincipal principal, Model model) {
 
-        Long academyId = AuthenticationUtil.getAcademyIdFromAuth(authentication);
+        Long academyId = principal.getAcademyId();
 
         // 직원 정보, 학원 정보 세션에 저장 및 model로 넘기는 메서드
-        setSessionEmployeeInfo(request, model, authentication, academyId);
+        setSessionEmployeeInfo(request, model, principal, academyId);
         setSessionAcademyInfo(request, model, academyId);
 
         return "announcement/write";
     }
 
     @GetMapping("/academy/announcements/detail")
-    public String announcementWrite(@RequestParam(required = false) Long announcementNum, HttpServletRequest request, Authentication authentication, Model model) {
+    public String announcementWrite(@RequestParam(required = false) Long announcementNum, HttpServletRequest request, EmployeePrincipal principal, Model model) {
 
-        Long academyId = AuthenticationUtil.getAcademyIdFromAuth(authentication);
+        Long academyId = principal.getAcademyId();
 
         // 직원 정보, 학원 정보 세션에 저장 및 model로 넘기는 메서드
-        ReadEmployeeResponse requestEmployee = setSessionEmployeeInfo(request, model, authentication, academyId);
+        ReadEmployeeResponse requestEmployee = setSessionEmployeeInfo(request, model, principal, academyId);
         setSessionAcademyInfo(request, model, academyId);
         String requestAccount = requestEmployee.getAccount();
 
@@ -102,12 +109,12 @@ public class AnnouncementController {
     }
 
     @GetMapping("/academy/announcements/edit")
-    public String announcementEdit(@RequestParam(required = false) Long announcementNum, HttpServletRequest request, Authentication authentication, Model model) {
+    public String announcementEdit(@RequestParam(required = false) Long announcementNum, HttpServletRequest request, EmployeePrincipal principal, Model model) {
 
-        Long academyId = AuthenticationUtil.getAcademyIdFromAuth(authentication);
+        Long academyId = principal.getAcademyId();
 
         // 직원 정보, 학원 정보 세션에 저장 및 model로 넘기는 메서드
-        ReadEmployeeResponse requestEmployee = setSessionEmployeeInfo(request, model, authentication, academyId);
+        ReadEmployeeResponse requestEmployee = setSessionEmployeeInfo(request, model, principal, academyId);
         setSessionAcademyInfo(request, model, academyId);
         String requestAccount = requestEmployee.getAccount();
 
@@ -128,8 +135,8 @@ public class AnnouncementController {
         return academy;
     }
 
-    private ReadEmployeeResponse setSessionEmployeeInfo(HttpServletRequest request, Model model, Authentication authentication, Long academyId) {
-        String requestAccount = AuthenticationUtil.getAccountFromAuth(authentication);
+    private ReadEmployeeResponse setSessionEmployeeInfo(HttpServletRequest request, Model model, EmployeePrincipal principal, Long academyId) {
+        String requestAccount = principal.getAccount();
 
         //view 에 회원 계정, 회원 직책 세션에 저장
         ReadEmployeeResponse employee = employeeService.readEmployee(academyId, requestAccount);
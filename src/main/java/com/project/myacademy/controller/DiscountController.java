@@ -6,13 +6,12 @@ import com.project.myacademy.domain.discount.DiscountService;
 import com.project.myacademy.domain.discount.dto.GetDiscountResponse;
 import com.project.myacademy.domain.employee.EmployeeService;
 import com.project.myacademy.domain.employee.dto.ReadEmployeeResponse;
-import com.project.myacademy.global.util.AuthenticationUtil;
+import com.project.myacademy.global.configuration.jwt.EmployeePrincipal;
 import com.project.myacademy.global.util.SessionUtil;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
-import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -30,12 +29,12 @@ public class DiscountController {
     private final EmployeeService employeeService;
 
     @GetMapping("academy/discount")
-    public String discount(HttpServletRequest request,Authentication authentication, Model model, Pageable pageable) {
+    public String discount(HttpServletRequest request,EmployeePrincipal principal, Model model, Pageable pageable) {
 
-        Long academyId = AuthenticationUtil.getAcademyIdFromAuth(authentication);
+        Long academyId = principal.getAcademyId();
 
         // 직원 정보, 학원 정보 세션에 저장 및 model로 넘기는 메서드
-        ReadEmployeeResponse requestEmployee = setSessionEmployeeInfo(request, model, authentication, academyId);
+        ReadEmployeeResponse requestEmployee = setSessionEmployeeInfo(request, model, principal, academyId);
         setSessionAcademyInfo(request, model, academyId);
         String requestAccount = requestEmployee.getAccount();
 
@@ -57,8 +56,8 @@ public class DiscountController {
         return academy;
     }
 
-    private ReadEmployeeResponse setSessionEmployeeInfo(HttpServletRequest request, Model model, Authentication authentication, Long academyId) {
-        String requestAccount = AuthenticationUtil.getAccountFromAuth(authentication);
+    private ReadEmployeeResponse setSessionEmployeeInfo(HttpServletRequest request, Model model, EmployeePrincipal principal, Long academyId) {
+        String requestAccount = principal.getAccount();
 
         //view 에 회원 계정, 회원 직책 세션에 저장
         ReadEmployeeResponse employee = employeeService.readEmployee(academyId, requestAccount);
@@ -11,14 +11,13 @@ import com.project.myacademy.domain.enrollment.dto.FindStudentInfoFromEnrollment
 import com.project.myacademy.domain.file.employeeprofile.EmployeeProfileS3UploadService;
 import com.project.myacademy.domain.lecture.LectureService;
 import com.project.myacademy.domain.lecture.dto.ReadAllLectureResponse;
+import com.project.myacademy.global.configuration.jwt.EmployeePrincipal;
 import com.project.myacademy.global.configuration.refreshToken.RefreshTokenService;
-import com.project.myacademy.global.util.AuthenticationUtil;
 import com.project.myacademy.global.util.SessionUtil;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
-import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -73,12 +72,12 @@ public class EmployeeController {
     }
 
     @GetMapping("/academy/mypage")
-    public String mypage(HttpServletRequest request, Model model, Authentication authentication, Pageable pageable) {
+    public String mypage(HttpServletRequest request, Model model, EmployeePrincipal principal, Pageable pageable) {
 
-        Long academyId = AuthenticationUtil.getAcademyIdFromAuth(authentication);
+        Long academyId = principal.getAcademyId();
 
         // 직원 정보, 학원 정보 세션에 저장 및 model로 넘기는 메서드
-        ReadEmployeeResponse requestEmployee = setSessionEmployeeInfo(request, model, authentication, academyId);
+        ReadEmployeeResponse requestEmployee = setSessionEmployeeInfo(request, model, principal, academyId);
         setSessionAcademyInfo(request, model, academyId);
         String requestAccount = requestEmployee.getAccount();
 
@@ -115,12 +114,12 @@ public class EmployeeController {
      * 원장만 가능
      */
     @GetMapping("/academy/employees")
-    public String manageEmployee(HttpServletRequest request, Model model, Authentication authentication, Pageable pageable) {
+    public String manageEmployee(HttpServletRequest request, Model model, EmployeePrincipal principal, Pageable pageable) {
 
-        Long academyId = AuthenticationUtil.getAcademyIdFromAuth(authentication);
+        Long academyId = principal.getAcademyId();
 
         // 직원 정보, 학원 정보 세션에 저장 및 model로 넘기는 메서드
-        ReadEmployeeResponse requestEmployee = setSessionEmployeeInfo(request, model, authentication, academyId);
+        ReadEmployeeResponse requestEmployee = setSessionEmployeeInfo(request, model, principal, academyId);
         setSessionAcademyInfo(request, model, academyId);
         String requestAccount = requestEmployee.getAccount();
 
@@ -141,12 +140,12 @@ public class EmployeeController {
     }
 
     @GetMapping("/academy/mypage/attendance")
-    public String attendance(@RequestParam Long lectureId, HttpServletRequest request, Model model, Authentication authentication, Pageable pageable) {
+    public String attendance(@RequestParam Long lectureId, HttpServletRequest request, Model model, EmployeePrincipal principal, Pageable pageable) {
 
-        Long academyId = AuthenticationUtil.getAcademyIdFromAuth(authentication);
+        Long academyId = principal.getAcademyId();
 
         // 직원 정보, 학원 정보 세션에 저장 및 model로 넘기는 메서드
-        ReadEmployeeResponse requestEmployee = setSessionEmployeeInfo(request, model, authentication, academyId);
+        ReadEmployeeResponse requestEmployee = setSessionEmployeeInfo(request, model, principal, academyId);
         setSessionAcademyInfo(request, model, academyId);
         String requestAccount = requestEmployee.getAccount();
 
@@ -221,8 +220,8 @@ public class EmployeeController {
         return academy;
     }
 
-    private ReadEmployeeResponse setSessionEmployeeInfo(HttpServletRequest request, Model model, Authentication authentication, Long academyId) {
-        String requestAccount = AuthenticationUtil.getAccountFromAuth(authentication);
+    private ReadEmployeeResponse setSessionEmployeeInfo(HttpServletRequest request, Model model, EmployeePrincipal principal, Long academyId) {
+        String requestAccount = principal.getAccount();
 
         //view 에 회원 계정, 회원 직책 세션에 저장
         ReadEmployeeResponse employee = employeeService.readEmployee(academyId, requestAccount);
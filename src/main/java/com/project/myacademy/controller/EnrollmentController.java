@@ -5,19 +5,19 @@ import com.project.myacademy.domain.academy.dto.FindAcademyResponse;
 import com.project.myacademy.domain.employee.EmployeeService;
 import com.project.myacademy.domain.employee.dto.ReadEmployeeResponse;
 import com.project.myacademy.domain.enrollment.EnrollmentService;
+import com.project.myacademy.domain.enrollment.dto.FindStudentInfoFromEnrollmentByLectureResponse;
 import com.project.myacademy.domain.lecture.LectureService;
 import com.project.myacademy.domain.lecture.dto.ReadAllLectureResponse;
 import com.project.myacademy.domain.student.StudentService;
 import com.project.myacademy.domain.student.dto.ReadAllStudentResponse;
 import com.project.myacademy.domain.student.dto.ReadStudentResponse;
 import com.project.myacademy.domain.waitinglist.WaitinglistService;
-import com.project.myacademy.global.util.AuthenticationUtil;
+import com.project.myacademy.global.configuration.jwt.EmployeePrincipal;
 import com.project.myacademy.global.util.SessionUtil;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
-import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -25,6 +25,8 @@ import org.springframework.web.bind.annotation.RequestParam;
 
 import javax.servlet.http.HttpServletRequest;
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
 
 @Controller
 @Slf4j
@@ -40,12 +42,12 @@ public class EnrollmentController {
     private final EnrollmentService enrollmentService;
 
     @GetMapping("/academy/enrollment")
-    public String studentListForEnrollment(@RequestParam(required = false) String studentName, HttpServletRequest request, Model model, Pageable pageable, Authentication authentication) {
+    public String studentListForEnrollment(@RequestParam(required = false) String studentName, HttpServletRequest request, Model model, Pageable pageable, EmployeePrincipal principal) {
 
-        Long academyId = AuthenticationUtil.getAcademyIdFromAuth(authentication);
+        Long academyId = principal.getAcademyId();
 
         // 직원 정보, 학원 정보 세션에 저장 및 model로 넘기는 메서드
-        ReadEmployeeResponse requestEmployee = setSessionEmployeeInfo(request, model, authentication, academyId);
+        ReadEmployeeResponse requestEmployee = setSessionEmployeeInfo(request, model, principal, academyId);
         setSessionAcademyInfo(request, model, academyId);
         String requestAccount = requestEmployee.getAccount();
 
@@ -68,12 +70,12 @@ public class EnrollmentController {
     }
 
     @GetMapping("/academy/enrollment/register")
-    public String lectureRegister(@RequestParam(required = false) Long studentId,HttpServletRequest request ,Model model, Pageable pageable, Authentication authentication) {
+    public String lectureRegister(@RequestParam(required = false) Long studentId,HttpServletRequest request ,Model model, Pageable pageable, EmployeePrincipal principal) {
 
-        Long academyId = AuthenticationUtil.getAcademyIdFromAuth(authentication);
+        Long academyId = principal.getAcademyId();
 
         // 직원 정보, 학원 정보 세션에 저장 및 model로 넘기는 메서드
-        ReadEmployeeResponse requestEmployee = setSessionEmployeeInfo(request, model, authentication, academyId);
+        ReadEmployeeResponse requestEmployee = setSessionEmployeeInfo(request, model, principal, academyId);
         setSessionAcademyInfo(request, model, academyId);
         String requestAccount = requestEmployee.getAccount();
 
@@ -89,10 +91,18 @@ public class EnrollmentController {
         Page<ReadAllLectureResponse> lectures = lectureService.readAllLecturesForEnrollment(academyId, requestAccount, pageable);
 
         // 해당 강의의 대기 인원이 나오고, 어떤 학생이 대기중인지, 어떤 학생이 등록했는지 보여주기 위함
-        for (ReadAllLectureResponse lecture : lectures) {
-            lecture.setWaitingNum(waitinglistService.countWaitingListByLecture(academyId, lecture.getLectureId(), requestAccount));
-            lecture.setRegisteredStudent(enrollmentService.findAllStudentInfoFromEnrollmentByLecture(academyId, requestAccount, lecture.getLectureId()));
-            lecture.setWaitingStudent(waitinglistService.findWaitingStudentByLecture(academyId, lecture.getLectureId(), requestAccount));
+        // 대기 인원, 수강 신청자 명단, 대기자 명단은 페이지의 모든 강의를 한 번에 조회한다.
+        List<Long> lectureIds = lectures.map(ReadAllLectureResponse::getLectureId).getContent();
+        if (!lectureIds.isEmpty()) {
+            Map<Long, Long> waitingNums = waitinglistService.countWaitingListByLectures(academyId, lectureIds, requestAccount);
+            Map<Long, List<FindStudentInfoFromEnrollmentByLectureResponse>> registeredStudents = enrollmentService.findAllStudentInfoFromEnrollmentByLectures(academyId, requestAccount, lectureIds);
+            Map<Long, List<FindStudentInfoFromEnrollmentByLectureResponse>> waitingStudents = waitinglistService.findWaitingStudentByLectures(academyId, lectureIds, requestAccount);
+
+            for (ReadAllLectureResponse lecture : lectures) {
+                lecture.setWaitingNum(waitingNums.get(lecture.getLectureId()));
+                lecture.setRegisteredStudent(registeredStudents.get(lecture.getLectureId()));
+                lecture.setWaitingStudent(waitingStudents.get(lecture.getLectureId()));
+            }
         }
         model.addAttribute("lectures", lectures);
 
@@ -108,8 +118,8 @@ public class EnrollmentController {
         return academy;
     }
 
-    private ReadEmployeeResponse setSessionEmployeeInfo(HttpServletRequest request, Model model, Authentication authentication, Long academyId) {
-        String requestAccount = AuthenticationUtil.getAccountFromAuth(authentication);
+    private ReadEmployeeResponse setSessionEmployeeInfo(HttpServletRequest request, Model model, EmployeePrincipal principal, Long academyId) {
+        String requestAccount = principal.getAccount();
 
         //view 에 회원 계정, 회원 직책 세션에 저장
         ReadEmployeeResponse employee = employeeService.readEmployee(academyId, requestAccount);
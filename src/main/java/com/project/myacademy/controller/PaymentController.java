@@ -4,7 +4,6 @@ import com.project.myacademy.domain.academy.AcademyService;
 import com.project.myacademy.domain.academy.dto.FindAcademyResponse;
 import com.project.myacademy.domain.discount.DiscountService;
 import com.project.myacademy.domain.discount.dto.GetDiscountResponse;
-import com.project.myacademy.domain.email.EmailService;
 import com.project.myacademy.domain.employee.EmployeeService;
 import com.project.myacademy.domain.employee.dto.ReadEmployeeResponse;
 
@@ -14,20 +13,19 @@ import com.project.myacademy.domain.payment.PaymentService;
 import com.project.myacademy.domain.payment.dto.CompletePaymentResponse;
 import com.project.myacademy.domain.payment.dto.SuccessPaymentResponse;
 import com.project.myacademy.domain.student.StudentService;
-import com.project.myacademy.global.util.AuthenticationUtil;
+import com.project.myacademy.global.CursorPage;
+import com.project.myacademy.global.configuration.jwt.EmployeePrincipal;
 import com.project.myacademy.global.util.SessionUtil;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
-import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 
-import javax.mail.MessagingException;
 import javax.servlet.http.HttpServletRequest;
 import java.time.LocalDateTime;
 
@@ -42,7 +40,6 @@ public class PaymentController {
     private final DiscountService discountService;
     private final PaymentService paymentService;
     private final StudentService studentService;
-    private final EmailService emailService;
     @Value("${payment.toss.testClientApiKey}")
     private String key;
     @Value("${payment.toss.successCallbackUrl}")
@@ -55,12 +52,12 @@ public class PaymentController {
     private static final String NEXT = "next";
 
     @GetMapping("/academy/payment/register")
-    public String main(@RequestParam(required = false) String studentName, HttpServletRequest request, Model model, Authentication authentication, Pageable pageable) {
+    public String main(@RequestParam(required = false) String studentName, HttpServletRequest request, Model model, EmployeePrincipal principal, Pageable pageable) {
 
-        Long academyId = AuthenticationUtil.getAcademyIdFromAuth(authentication);
+        Long academyId = principal.getAcademyId();
 
         // 직원 정보, 학원 정보 세션에 저장 및 model로 넘기는 메서드
-        ReadEmployeeResponse requestEmployee = setSessionEmployeeInfo(request, model, authentication, academyId);
+        ReadEmployeeResponse requestEmployee = setSessionEmployeeInfo(request, model, principal, academyId);
         setSessionAcademyInfo(request, model, academyId);
         String requestAccount = requestEmployee.getAccount();
 
@@ -91,13 +88,12 @@ public class PaymentController {
     }
 
     @GetMapping("/academy/payment/success")
-    public String paySuccess(@RequestParam String orderId, @RequestParam String paymentKey, @RequestParam Integer amount, HttpServletRequest request, Model model, Authentication authentication, Pageable pageable) throws MessagingException {
+    public String paySuccess(@RequestParam String orderId, @RequestParam String paymentKey, @RequestParam Integer amount, HttpServletRequest request, Model model, EmployeePrincipal principal, Pageable pageable) {
 
-        Long academyId = AuthenticationUtil.getAcademyIdFromAuth(authentication);
-        String requestAccount = AuthenticationUtil.getAccountFromAuth(authentication);
+        Long academyId = principal.getAcademyId();
 
         // 직원 정보, 학원 정보 세션에 저장 및 model로 넘기는 메서드
-        setSessionEmployeeInfo(request, model, authentication, academyId);
+        setSessionEmployeeInfo(request, model, principal, academyId);
         setSessionAcademyInfo(request, model, academyId);
 
         // 결제 성공 시, payment key 저장
@@ -117,18 +113,14 @@ public class PaymentController {
         SuccessPaymentResponse payment = paymentService.findPayment(orderId);
         model.addAttribute("payment", payment);
 
-        String title = String.format("%s님의 %s 강좌 결제 완료 메일입니다.",enrollment.getStudentName(),enrollment.getLectureName());
-        String body = String.format("%s님의 %s 강좌 %d원 결제 완료되었습니다. \n \n감사합니다.",enrollment.getStudentName(),enrollment.getLectureName(),amount);
-        emailService.sendEmail(academyId, enrollment.getStudentEmail(), title, body, requestAccount);
-
         return "payment/success";
     }
     @GetMapping("/academy/payment")
-    public String paySuccess(HttpServletRequest request,Authentication authentication,Model model) {
-        Long academyId = AuthenticationUtil.getAcademyIdFromAuth(authentication);
+    public String paySuccess(HttpServletRequest request,EmployeePrincipal principal,Model model) {
+        Long academyId = principal.getAcademyId();
 
         // 직원 정보, 학원 정보 세션에 저장 및 model로 넘기는 메서드
-        setSessionEmployeeInfo(request, model, authentication, academyId);
+        setSessionEmployeeInfo(request, model, principal, academyId);
         setSessionAcademyInfo(request, model, academyId);
 
 
@@ -136,12 +128,12 @@ public class PaymentController {
     }
 
     @GetMapping("/academy/payment/list")
-    public String paymentList(@RequestParam(required = false) String studentName, HttpServletRequest request, Model model, Pageable pageable, Authentication authentication) {
+    public String paymentList(@RequestParam(required = false) String studentName, @RequestParam(required = false) String cursor, HttpServletRequest request, Model model, Pageable pageable, EmployeePrincipal principal) {
 
-        Long academyId = AuthenticationUtil.getAcademyIdFromAuth(authentication);
+        Long academyId = principal.getAcademyId();
 
         // 직원 정보, 학원 정보 세션에 저장 및 model로 넘기는 메서드
-        ReadEmployeeResponse requestEmployee = setSessionEmployeeInfo(request, model, authentication, academyId);
+        ReadEmployeeResponse requestEmployee = setSessionEmployeeInfo(request, model, principal, academyId);
         setSessionAcademyInfo(request, model, academyId);
         String requestAccount = requestEmployee.getAccount();
 
@@ -151,6 +143,13 @@ public class PaymentController {
             Page<CompletePaymentResponse> payments = paymentService.findAllCompletePaymentByStudent(academyId, requestAccount, studentName, pageable);
             model.addAttribute("payments", payments);
 
+        } else if (cursor != null) {
+            // 커서 페이징 - COUNT 쿼리 없이 다음 페이지 커서만 넘겨준다.
+            CursorPage<CompletePaymentResponse> payments = paymentService.findAllCompletePaymentByCursor(academyId, requestAccount, cursor, pageable.getPageSize());
+            model.addAttribute("payments", payments.getContent());
+            model.addAttribute("cursorPage", true);
+            model.addAttribute("nextCursor", payments.getNextCursor());
+
         } else {
             Page<CompletePaymentResponse> payments = paymentService.findAllCompletePayment(academyId, requestAccount, pageable);
             model.addAttribute("payments", payments);
@@ -172,8 +171,8 @@ public class PaymentController {
         return academy;
     }
 
-    private ReadEmployeeResponse setSessionEmployeeInfo(HttpServletRequest request, Model model, Authentication authentication, Long academyId) {
-        String requestAccount = AuthenticationUtil.getAccountFromAuth(authentication);
+    private ReadEmployeeResponse setSessionEmployeeInfo(HttpServletRequest request, Model model, EmployeePrincipal principal, Long academyId) {
+        String requestAccount = principal.getAccount();
 
         //view 에 회원 계정, 회원 직책 세션에 저장
         ReadEmployeeResponse employee = employeeService.readEmployee(academyId, requestAccount);
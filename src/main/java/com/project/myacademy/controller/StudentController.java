@@ -17,13 +17,13 @@ import com.project.myacademy.domain.student.dto.ReadAllStudentResponse;
 import com.project.myacademy.domain.student.dto.ReadStudentResponse;
 import com.project.myacademy.domain.uniqueness.UniquenessService;
 import com.project.myacademy.domain.uniqueness.dto.ReadAllUniquenessResponse;
-import com.project.myacademy.global.util.AuthenticationUtil;
+import com.project.myacademy.global.CursorPage;
+import com.project.myacademy.global.configuration.jwt.EmployeePrincipal;
 import com.project.myacademy.global.util.SessionUtil;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
-import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.*;
@@ -47,23 +47,23 @@ public class StudentController {
     private final EmployeeService employeeService;
 
     @GetMapping("/academy/student")
-    public String student(HttpServletRequest request, Authentication authentication, Model model, Pageable pageable) {
-        Long academyId = AuthenticationUtil.getAcademyIdFromAuth(authentication);
+    public String student(HttpServletRequest request, EmployeePrincipal principal, Model model, Pageable pageable) {
+        Long academyId = principal.getAcademyId();
 
         // 직원 정보, 학원 정보 세션에 저장 및 model로 넘기는 메서드
-        setSessionEmployeeInfo(request, model, authentication, academyId);
+        setSessionEmployeeInfo(request, model, principal, academyId);
         setSessionAcademyInfo(request, model, academyId);
 
         return "pages/student";
     }
 
     @GetMapping("/academy/student/register")
-    public String studentRegister(HttpServletRequest request, Model model, Authentication authentication) {
+    public String studentRegister(HttpServletRequest request, Model model, EmployeePrincipal principal) {
 
-        Long academyId = AuthenticationUtil.getAcademyIdFromAuth(authentication);
+        Long academyId = principal.getAcademyId();
 
         // 직원 정보, 학원 정보 세션에 저장 및 model로 넘기는 메서드
-        setSessionEmployeeInfo(request, model, authentication, academyId);
+        setSessionEmployeeInfo(request, model, principal, academyId);
         setSessionAcademyInfo(request, model, academyId);
 
         return "student/register";
@@ -71,9 +71,9 @@ public class StudentController {
 
     @ResponseBody
     @PostMapping("/academy/student/parentCheck")
-    public FindParentForUIResponse parentCheckBeforeRegister(@RequestBody FindParentRequest request, Authentication authentication) {
+    public FindParentForUIResponse parentCheckBeforeRegister(@RequestBody FindParentRequest request, EmployeePrincipal principal) {
         String parentPhoneNum = request.getPhoneNum();
-        Long academyId = AuthenticationUtil.getAcademyIdFromAuth(authentication);
+        Long academyId = principal.getAcademyId();
         FindParentForUIResponse response = new FindParentForUIResponse(false, 0L);
 
         boolean isExist = parentService.checkExistByPhoneAndAcademy(parentPhoneNum);
@@ -85,12 +85,12 @@ public class StudentController {
     }
 
     @GetMapping("/academy/students/list")
-    public String studentList(@RequestParam(required = false) String studentName, HttpServletRequest request, Model model, Pageable pageable, Authentication authentication) {
+    public String studentList(@RequestParam(required = false) String studentName, @RequestParam(required = false) String cursor, HttpServletRequest request, Model model, Pageable pageable, EmployeePrincipal principal) {
 
-        Long academyId = AuthenticationUtil.getAcademyIdFromAuth(authentication);
+        Long academyId = principal.getAcademyId();
 
         // 직원 정보, 학원 정보 세션에 저장 및 model로 넘기는 메서드
-        ReadEmployeeResponse requestEmployee = setSessionEmployeeInfo(request, model, authentication, academyId);
+        ReadEmployeeResponse requestEmployee = setSessionEmployeeInfo(request, model, principal, academyId);
         setSessionAcademyInfo(request, model, academyId);
         String requestAccount = requestEmployee.getAccount();
 
@@ -98,6 +98,13 @@ public class StudentController {
             Page<ReadAllStudentResponse> searchStudents = studentService.findStudentForStudentList(academyId, studentName, pageable);
             model.addAttribute("students", searchStudents);
 
+        } else if (cursor != null) {
+            // 커서 페이징 - COUNT 쿼리 없이 다음 페이지 커서만 넘겨준다.
+            CursorPage<ReadAllStudentResponse> studentList = studentService.readAllStudentByCursor(academyId, cursor, pageable.getPageSize(), requestAccount);
+            model.addAttribute("students", studentList.getContent());
+            model.addAttribute("cursorPage", true);
+            model.addAttribute("nextCursor", studentList.getNextCursor());
+
         } else {
             Page<ReadAllStudentResponse> studentList = studentService.readAllStudent(academyId, pageable, requestAccount);
             model.addAttribute("students", studentList);
@@ -111,12 +118,12 @@ public class StudentController {
     }
 
     @GetMapping("/academy/student/info")
-    public String lectureRegister(@RequestParam Long studentId, HttpServletRequest request, Model model, Pageable pageable, Authentication authentication) {
+    public String lectureRegister(@RequestParam Long studentId, HttpServletRequest request, Model model, Pageable pageable, EmployeePrincipal principal) {
 
-        Long academyId = AuthenticationUtil.getAcademyIdFromAuth(authentication);
+        Long academyId = principal.getAcademyId();
 
         // 직원 정보, 학원 정보 세션에 저장 및 model로 넘기는 메서드
-        ReadEmployeeResponse requestEmployee = setSessionEmployeeInfo(request, model, authentication, academyId);
+        ReadEmployeeResponse requestEmployee = setSessionEmployeeInfo(request, model, principal, academyId);
         setSessionAcademyInfo(request, model, academyId);
         String requestAccount = requestEmployee.getAccount();
 
@@ -130,7 +137,7 @@ public class StudentController {
 
 
         // 학생의 결제 완료된 내역 보여주기
-        Page<CompletePaymentResponse> payments = paymentService.findAllCompletePaymentByStudent(academyId, requestAccount, studentId);
+        Page<CompletePaymentResponse> payments = paymentService.findAllCompletePaymentByStudent(academyId, requestAccount, studentId, pageable);
         model.addAttribute("payments", payments);
 
 
@@ -152,8 +159,8 @@ public class StudentController {
         return academy;
     }
 
-    private ReadEmployeeResponse setSessionEmployeeInfo(HttpServletRequest request, Model model, Authentication authentication, Long academyId) {
-        String requestAccount = AuthenticationUtil.getAccountFromAuth(authentication);
+    private ReadEmployeeResponse setSessionEmployeeInfo(HttpServletRequest request, Model model, EmployeePrincipal principal, Long academyId) {
+        String requestAccount = principal.getAccount();
 
         //view 에 회원 계정, 회원 직책 세션에 저장
         ReadEmployeeResponse employee = employeeService.readEmployee(academyId, requestAccount);
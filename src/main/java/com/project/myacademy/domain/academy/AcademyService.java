@@ -3,6 +3,7 @@ package com.project.myacademy.domain.academy;
 import com.project.myacademy.domain.academy.dto.*;
 import com.project.myacademy.global.exception.AppException;
 import com.project.myacademy.global.exception.ErrorCode;
+import com.project.myacademy.global.util.TenantContext;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
@@ -102,8 +103,8 @@ public class AcademyService {
 
     //학원 Id로 학원을 조회 - 없을시 ACADEMY_NOT_FOUND 에러발생
     private Academy validateAcademyById(Long academyId) {
-        return academyRepository.findById(academyId)
-                .orElseThrow(() -> new AppException(ErrorCode.ACADEMY_NOT_FOUND));
+        return TenantContext.academy(academyId, () -> academyRepository.findById(academyId)
+                .orElseThrow(() -> new AppException(ErrorCode.ACADEMY_NOT_FOUND)));
     }
 
     //학원 Id로 학원을 조회 - 없을시 ACADEMY_NOT_FOUND 에러발생
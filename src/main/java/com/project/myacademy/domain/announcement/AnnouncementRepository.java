@@ -4,7 +4,10 @@ import com.project.myacademy.domain.academy.Academy;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface AnnouncementRepository extends JpaRepository<Announcement, Long> {
@@ -16,4 +19,9 @@ public interface AnnouncementRepository extends JpaRepository<Announcement, Long
     List<Announcement> findTop5ByTypeAndAcademyOrderByCreatedAtDesc(AnnouncementType type, Academy academy);
     Page<Announcement> findAllByAcademyAndTitleContainingOrderByCreatedAtDesc(Academy academy, String title,Pageable pageable);
 
+    // 커서 페이징 - 학원의 공지사항을 커서 (생성 시각, id) 이전부터 최신순으로 조회 (COUNT 없음)
+    @Query("select a from Announcement a where a.academy = :academy " +
+            "and (a.createdAt < :createdAt or (a.createdAt = :createdAt and a.id < :id)) " +
+            "order by a.createdAt desc, a.id desc")
+    List<Announcement> findByAcademyBeforeCursor(@Param("academy") Academy academy, @Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Pageable pageable);
 }
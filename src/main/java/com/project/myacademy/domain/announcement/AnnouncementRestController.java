@@ -1,10 +1,11 @@
 package com.project.myacademy.domain.announcement;
 
 import com.project.myacademy.domain.announcement.dto.*;
+import com.project.myacademy.global.CursorPage;
 import com.project.myacademy.global.Response;
+import com.project.myacademy.global.configuration.jwt.EmployeePrincipal;
 import com.project.myacademy.global.exception.BindingException;
 import com.project.myacademy.global.exception.ErrorCode;
-import com.project.myacademy.global.util.AuthenticationUtil;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
@@ -13,7 +14,6 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.Authentication;
 import org.springframework.validation.BindingResult;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
@@ -32,13 +32,13 @@ public class AnnouncementRestController {
      */
     @Operation(summary = "공지사항 작성", description = "ADMIN,STAFF 회원만 작성이 가능합니다. \n\n TYPE 종류, 1. 일반 공지사항 = ANNOUNCEMENT, 2. 입시 정보 = ADMISSION")
     @PostMapping("/{academyId}/announcements")
-    public ResponseEntity<Response<CreateAnnouncementResponse>> create(@PathVariable Long academyId, @Validated @RequestBody CreateAnnouncementRequest request, BindingResult bindingResult, Authentication authentication) {
+    public ResponseEntity<Response<CreateAnnouncementResponse>> create(@PathVariable Long academyId, @Validated @RequestBody CreateAnnouncementRequest request, BindingResult bindingResult, EmployeePrincipal principal) {
 
         if (bindingResult.hasFieldErrors()) {
             throw new BindingException(ErrorCode.BINDING_ERROR, bindingResult.getFieldError().getDefaultMessage());
         }
 
-        String requestAccount = AuthenticationUtil.getAccountFromAuth(authentication);
+        String requestAccount = principal.getAccount();
         CreateAnnouncementResponse response = announcementService.createAnnouncement(academyId, requestAccount, request);
         return ResponseEntity.ok().body(Response.success(response));
     }
@@ -48,20 +48,32 @@ public class AnnouncementRestController {
      */
     @Operation(summary = "모든 공지사항 전체 조회", description = "모든 공지사항을 전체 조회합니다.")
     @GetMapping("/{academyId}/announcements")
-    public ResponseEntity<Response<Page<ReadAllAnnouncementResponse>>> readAll(@PathVariable Long academyId, Authentication authentication) {
-        String requestAccount = AuthenticationUtil.getAccountFromAuth(authentication);
+    public ResponseEntity<Response<Page<ReadAllAnnouncementResponse>>> readAll(@PathVariable Long academyId, EmployeePrincipal principal) {
+        String requestAccount = principal.getAccount();
         PageRequest pageable = PageRequest.of(0, 20, Sort.by("id").descending());
         Page<ReadAllAnnouncementResponse> responses = announcementService.readAllAnnouncement(academyId, pageable, requestAccount);
         return ResponseEntity.ok().body(Response.success(responses));
     }
 
+    /**
+     * 특정 학원 공지사항 전체 조회 - 커서 페이징
+     */
+    @Operation(summary = "모든 공지사항 전체 조회 (커서)", description = "모든 공지사항을 최신순으로 조회합니다. \n\n 첫 페이지는 cursor 를 비워서 요청하고, 다음 페이지는 응답의 nextCursor 로 요청합니다.")
+    @GetMapping(value = "/{academyId}/announcements", params = "cursor")
+    public ResponseEntity<Response<CursorPage<ReadAllAnnouncementResponse>>> readAllByCursor(@PathVariable Long academyId, @RequestParam String cursor,
+                                                                                            @RequestParam(defaultValue = "20") int size, EmployeePrincipal principal) {
+        String requestAccount = principal.getAccount();
+        CursorPage<ReadAllAnnouncementResponse> responses = announcementService.readAllAnnouncementByCursor(academyId, cursor, size, requestAccount);
+        return ResponseEntity.ok().body(Response.success(responses));
+    }
+
     /**
      * 특정 학원 type = 공지사항 타입에 따른 조회
      */
     @Operation(summary = "공지사항 타입별 전체 조회", description = "TYPE 별로 공지사항을 전체 조회합니다. \n\n TYPE 종류, 1. 일반 공지사항 = ANNOUNCEMENT, 2. 입시 정보 = ADMISSION")
     @GetMapping("/{academyId}/announcements/type/{announcementType}")
-    public ResponseEntity<Response<Page<ReadAllAnnouncementResponse>>> readAllByType(@PathVariable Long academyId, @PathVariable String announcementType, Authentication authentication) {
-        String requestAccount = AuthenticationUtil.getAccountFromAuth(authentication);
+    public ResponseEntity<Response<Page<ReadAllAnnouncementResponse>>> readAllByType(@PathVariable Long academyId, @PathVariable String announcementType, EmployeePrincipal principal) {
+        String requestAccount = principal.getAccount();
         PageRequest pageable = PageRequest.of(0, 20, Sort.by("id").descending());
         Page<ReadAllAnnouncementResponse> responses = announcementService.readTypeAnnouncement(academyId, pageable, requestAccount, announcementType);
         return ResponseEntity.ok().body(Response.success(responses));
@@ -72,8 +84,8 @@ public class AnnouncementRestController {
      */
     @Operation(summary = "공지사항 단건 조회", description = "공지사항을 단건 조회합니다.")
     @GetMapping("/{academyId}/announcements/{announcementId}")
-    public ResponseEntity<Response<ReadAnnouncementResponse>> read(@PathVariable Long academyId, @PathVariable Long announcementId, Authentication authentication) {
-        String requestAccount = AuthenticationUtil.getAccountFromAuth(authentication);
+    public ResponseEntity<Response<ReadAnnouncementResponse>> read(@PathVariable Long academyId, @PathVariable Long announcementId, EmployeePrincipal principal) {
+        String requestAccount = principal.getAccount();
         ReadAnnouncementResponse response = announcementService.readAnnouncement(academyId, announcementId, requestAccount);
         return ResponseEntity.ok().body(Response.success(response));
     }
@@ -83,13 +95,13 @@ public class AnnouncementRestController {
      */
     @Operation(summary = "공지사항 수정", description = "ADMIN,STAFF 회원만 수정이 가능합니다.")
     @PutMapping("/{academyId}/announcements/{announcementId}")
-    public ResponseEntity<Response<UpdateAnnouncementResponse>> update(@PathVariable Long academyId, @PathVariable Long announcementId, @Validated @RequestBody UpdateAnnouncementRequest request, BindingResult bindingResult, Authentication authentication) {
+    public ResponseEntity<Response<UpdateAnnouncementResponse>> update(@PathVariable Long academyId, @PathVariable Long announcementId, @Validated @RequestBody UpdateAnnouncementRequest request, BindingResult bindingResult, EmployeePrincipal principal) {
 
         if (bindingResult.hasFieldErrors()) {
             throw new BindingException(ErrorCode.BINDING_ERROR, bindingResult.getFieldError().getDefaultMessage());
         }
 
-        String requestAccount = AuthenticationUtil.getAccountFromAuth(authentication);
+        String requestAccount = principal.getAccount();
         UpdateAnnouncementResponse response = announcementService.updateAnnouncement(academyId, announcementId, request, requestAccount);
         return ResponseEntity.ok().body(Response.success(response));
     }
@@ -99,8 +111,8 @@ public class AnnouncementRestController {
      */
     @Operation(summary = "공지사항 삭제", description = "ADMIN,STAFF 회원만 삭제가 가능합니다.")
     @DeleteMapping("/{academyId}/announcements/{announcementId}")
-    public ResponseEntity<Response<DeleteAnnouncementResponse>> delete(@PathVariable Long academyId, @PathVariable Long announcementId, Authentication authentication) {
-        String requestAccount = AuthenticationUtil.getAccountFromAuth(authentication);
+    public ResponseEntity<Response<DeleteAnnouncementResponse>> delete(@PathVariable Long academyId, @PathVariable Long announcementId, EmployeePrincipal principal) {
+        String requestAccount = principal.getAccount();
         DeleteAnnouncementResponse response = announcementService.deleteAnnouncement(academyId, announcementId, requestAccount);
         return ResponseEntity.ok().body(Response.success(response));
     }
@@ -6,8 +6,10 @@ import com.project.myacademy.domain.announcement.dto.*;
 import com.project.myacademy.domain.employee.Employee;
 import com.project.myacademy.domain.employee.EmployeeRepository;
 import com.project.myacademy.domain.employee.EmployeeRole;
+import com.project.myacademy.global.CursorPage;
 import com.project.myacademy.global.exception.AppException;
 import com.project.myacademy.global.exception.ErrorCode;
+import com.project.myacademy.global.util.TenantContext;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
@@ -68,6 +70,29 @@ public class AnnouncementService {
         return announcementRepository.findAllByAcademyOrderByCreatedAtDesc(academy, pageable).map(ReadAllAnnouncementResponse::of);
     }
 
+    /**
+     * 공지사항 전체 조회 - 커서 페이징 (최신순, COUNT 없음)
+     *
+     * @param academyId 학원 id
+     * @param cursor    이전 페이지 응답의 nextCursor (첫 페이지는 빈 값)
+     * @param size      페이지 크기
+     * @param account   직원 계정
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<ReadAllAnnouncementResponse> readAllAnnouncementByCursor(Long academyId, String cursor, int size, String account) {
+
+        // 학원 Id로 학원을 조회 - 없을시 ACADEMY_NOT_FOUND 에러발생
+        Academy academy = validateAcademyById(academyId);
+        // 요청하는 계정과 학원으로 직원을 조회 - 없을시 REQUEST_EMPLOYEE_NOT_FOUND 에러발생
+        validateRequestEmployeeByAcademy(account, academy);
+
+        CursorPage.Key key = CursorPage.decode(cursor);
+        int pageSize = CursorPage.clamp(size);
+        List<Announcement> announcements = announcementRepository.findByAcademyBeforeCursor(academy, key.getCreatedAt(), key.getId(), CursorPage.limit(pageSize));
+
+        return CursorPage.of(announcements, pageSize, Announcement::getCreatedAt, Announcement::getId, ReadAllAnnouncementResponse::of);
+    }
+
     /**
      * 공지사항 타입별 조회
      *
@@ -173,6 +198,15 @@ public class AnnouncementService {
         // 요청하는 계정과 학원으로 직원을 조회 - 없을시 REQUEST_EMPLOYEE_NOT_FOUND 에러발생
         validateRequestEmployeeByAcademy(account, academy);
 
+        return readAnnouncementForMain(academy);
+    }
+
+    /**
+     * 메인에 공지사항 5개 보여주기 위한 메서드 - 학원 · 요청 직원 확인을 마친 경우 (DashboardService)
+     */
+    @Transactional(readOnly = true)
+    public List<ReadAnnouncementResponse> readAnnouncementForMain(Academy academy) {
+
         List<Announcement> announcements = announcementRepository.findTop5ByTypeAndAcademyOrderByCreatedAtDesc(AnnouncementType.ANNOUNCEMENT, academy);
 
         return announcements.stream().map(ReadAnnouncementResponse::of).collect(Collectors.toList());
@@ -189,6 +223,14 @@ public class AnnouncementService {
         // 요청하는 계정과 학원으로 직원을 조회 - 없을시 REQUEST_EMPLOYEE_NOT_FOUND 에러발생
         validateRequestEmployeeByAcademy(account, academy);
 
+        return readAdmissionForMain(academy);
+    }
+
+    /**
+     * 메인에 입시정보 5개 보여주기 위한 메서드 - 학원 · 요청 직원 확인을 마친 경우 (DashboardService)
+     */
+    @Transactional(readOnly = true)
+    public List<ReadAnnouncementResponse> readAdmissionForMain(Academy academy) {
         return announcementRepository.findTop5ByTypeAndAcademyOrderByCreatedAtDesc(AnnouncementType.ADMISSION, academy).stream().map(ReadAnnouncementResponse::of).collect(Collectors.toList());
     }
 
@@ -206,14 +248,14 @@ public class AnnouncementService {
 
     // 학원 Id로 학원을 조회 - 없을시 ACADEMY_NOT_FOUND 에러발생
     public Academy validateAcademyById(Long academyId) {
-        return academyRepository.findById(academyId)
-                .orElseThrow(() -> new AppException(ErrorCode.ACADEMY_NOT_FOUND));
+        return TenantContext.academy(academyId, () -> academyRepository.findById(academyId)
+                .orElseThrow(() -> new AppException(ErrorCode.ACADEMY_NOT_FOUND)));
     }
 
     // 요청하는 계정과 학원으로 직원을 조회 - 없을시 REQUEST_EMPLOYEE_NOT_FOUND 에러발생
     public Employee validateRequestEmployeeByAcademy(String account, Academy academy) {
-        return employeeRepository.findByAccountAndAcademy(account, academy)
-                .orElseThrow(() -> new AppException(ErrorCode.REQUEST_EMPLOYEE_NOT_FOUND));
+        return TenantContext.requestEmployee(account, academy, () -> employeeRepository.findByAccountAndAcademy(account, academy)
+                .orElseThrow(() -> new AppException(ErrorCode.REQUEST_EMPLOYEE_NOT_FOUND)));
     }
 
     // 해당 직원의 권한 체크 - USER 이면 INVALID_PERMISSION 에러발생
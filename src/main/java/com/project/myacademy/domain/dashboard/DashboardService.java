@@ -0,0 +1,272 @@
+package com.project.myacademy.domain.dashboard;
+
+import com.project.myacademy.domain.academy.Academy;
+import com.project.myacademy.domain.academy.AcademyRepository;
+import com.project.myacademy.domain.announcement.AnnouncementService;
+import com.project.myacademy.domain.announcement.dto.ReadAnnouncementResponse;
+import com.project.myacademy.domain.dashboard.dto.ReadDashboardResponse;
+import com.project.myacademy.domain.employee.Employee;
+import com.project.myacademy.domain.employee.EmployeeRepository;
+import com.project.myacademy.domain.employee.EmployeeService;
+import com.project.myacademy.domain.enrollment.EnrollmentService;
+import com.project.myacademy.domain.enrollment.dto.FindStudentInfoFromEnrollmentByLectureResponse;
+import com.project.myacademy.domain.file.academyprofile.AcademyProfileS3UploadService;
+import com.project.myacademy.domain.lecture.LectureService;
+import com.project.myacademy.domain.lecture.dto.ReadAllLectureResponse;
+import com.project.myacademy.domain.student.StudentService;
+import com.project.myacademy.global.exception.AppException;
+import com.project.myacademy.global.exception.ErrorCode;
+import com.project.myacademy.global.util.TenantContext;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * 메인 화면(/academy/main) 조회 서비스
+ * 서로 의존하지 않는 구성 요소(공지사항, 입시정보, 직원 수, 학생 수, 오늘의 강의, 학원 프로필)를 dashboardExecutor 에서 동시에 조회한다.
+ * 응답 시간은 각 조회 시간의 합이 아니라 가장 느린 조회 시간이 된다.
+ *
+ * - 학원 · 요청 직원 확인은 요청 스레드에서 한 번만 한다. (TenantContext 로 같은 요청의 다른 조회와 결과를 공유)
+ *   dashboardExecutor 스레드에는 요청 정보가 없어 TenantContext 가 재사용하지 못하므로, 각 요소는 확인을 마친 학원으로 조회만 한다.
+ * - 필수 요소 : 공지사항, 입시정보, 직원 수, 학생 수, 오늘의 강의 - 실패하면 예외를 그대로 던지고, dashboard.timeout-ms 를 넘기면 DASHBOARD_TIMEOUT
+ * - 부가 요소 : 학원 프로필(S3) - 실패하거나 dashboard.optional-timeout-ms 를 넘기면 기본 이미지로 대신한다.
+ * - 각 조회는 별도 스레드의 트랜잭션에서 실행되므로, 결과는 엔티티가 아닌 DTO 만 주고 받는다. (학원은 조회 조건으로만 사용)
+ *
+ * 요청 하나가 커넥션 풀을 독차지하지 않도록 동시에 조회하는 요소 수를 dashboard.max-concurrency 로 제한한다.
+ * 요소들은 요청별 대기열에 필수 요소부터 넣고, max-concurrency 개의 작업이 대기열을 나눠서 차례로 조회한다. (요청당 커넥션도 최대 그 수만큼)
+ * CompletableFuture.cancel 은 실행 중인 조회를 멈추지 못하므로,
+ * - 각 요소는 남은 시간을 트랜잭션 timeout(쿼리 timeout)으로 걸어, 기다리지 않기로 한 조회도 DB 에서 끝나고 커넥션을 돌려주게 한다.
+ * - 기다리지 않기로 한 뒤 아직 시작하지 않은 요소는 시작하지 않는다.
+ */
+@Service
+@Slf4j
+public class DashboardService {
+
+    // 학원 프로필이 없을 때 화면에서 기본 이미지를 보여주는 값 (AcademyProfileS3UploadService.getStoredUrl 과 동일)
+    private static final String NO_IMAGE_URL = "null";
+
+    private final AcademyRepository academyRepository;
+    private final EmployeeRepository employeeRepository;
+    private final AnnouncementService announcementService;
+    private final EmployeeService employeeService;
+    private final StudentService studentService;
+    private final LectureService lectureService;
+    private final EnrollmentService enrollmentService;
+    private final AcademyProfileS3UploadService academyProfileS3UploadService;
+    private final Executor dashboardExecutor;
+    private final PlatformTransactionManager transactionManager;
+    private final long timeoutMillis;
+    private final long optionalTimeoutMillis;
+    private final int maxConcurrency;
+
+    public DashboardService(AcademyRepository academyRepository, EmployeeRepository employeeRepository,
+                            AnnouncementService announcementService, EmployeeService employeeService, StudentService studentService,
+                            LectureService lectureService, EnrollmentService enrollmentService,
+                            AcademyProfileS3UploadService academyProfileS3UploadService,
+                            @Qualifier("dashboardExecutor") Executor dashboardExecutor,
+                            PlatformTransactionManager transactionManager,
+                            @Value("${dashboard.timeout-ms:3000}") long timeoutMillis,
+                            @Value("${dashboard.optional-timeout-ms:500}") long optionalTimeoutMillis,
+                            @Value("${dashboard.max-concurrency:2}") int maxConcurrency) {
+        this.academyRepository = academyRepository;
+        this.employeeRepository = employeeRepository;
+        this.announcementService = announcementService;
+        this.employeeService = employeeService;
+        this.studentService = studentService;
+        this.lectureService = lectureService;
+        this.enrollmentService = enrollmentService;
+        this.academyProfileS3UploadService = academyProfileS3UploadService;
+        this.dashboardExecutor = dashboardExecutor;
+        this.transactionManager = transactionManager;
+        this.timeoutMillis = timeoutMillis;
+        this.optionalTimeoutMillis = optionalTimeoutMillis;
+        this.maxConcurrency = Math.max(maxConcurrency, 1);
+    }
+
+    /**
+     * 메인 화면 정보 조회
+     *
+     * @param academyId 학원 id
+     * @param account   요청한 직원 계정
+     * @param pageable  오늘의 강의 페이징
+     */
+    public ReadDashboardResponse readDashboard(Long academyId, String account, Pageable pageable) {
+
+        // 학원 Id로 학원을 조회 - 없을시 ACADEMY_NOT_FOUND 에러발생
+        Academy academy = validateAcademyById(academyId);
+        // 요청하는 계정과 학원으로 직원을 조회 - 없을시 REQUEST_EMPLOYEE_NOT_FOUND 에러발생
+        validateRequestEmployeeByAcademy(account, academy);
+
+        long startedAt = System.currentTimeMillis();
+        Parts parts = new Parts(startedAt);
+
+        // 필수 요소를 먼저 대기열에 넣는다.
+        CompletableFuture<Long> numberOfEmployees = parts.add(() -> employeeService.countEmployeesByAcademy(academy), timeoutMillis);
+        CompletableFuture<Long> numberOfStudents = parts.add(() -> studentService.countStudentByAcademy(academy), timeoutMillis);
+        CompletableFuture<List<ReadAllLectureResponse>> lectures = parts.add(() -> readTodayLecturesWithStudents(academy, pageable), timeoutMillis);
+        CompletableFuture<List<ReadAnnouncementResponse>> announcements = parts.add(() -> announcementService.readAnnouncementForMain(academy), timeoutMillis);
+        CompletableFuture<List<ReadAnnouncementResponse>> admissions = parts.add(() -> announcementService.readAdmissionForMain(academy), timeoutMillis);
+        CompletableFuture<String> imageUrl = parts.add(() -> academyProfileS3UploadService.getStoredUrl(academyId), optionalTimeoutMillis);
+        parts.start();
+
+        try {
+            return ReadDashboardResponse.builder()
+                    .numberOfEmployees(essential("직원 수", numberOfEmployees, startedAt))
+                    .numberOfStudents(essential("학생 수", numberOfStudents, startedAt))
+                    .lectures(essential("오늘의 강의", lectures, startedAt))
+                    .announcements(essential("공지사항", announcements, startedAt))
+                    .admissions(essential("입시정보", admissions, startedAt))
+                    .imageUrl(optional("학원 프로필", imageUrl, startedAt, NO_IMAGE_URL))
+                    .build();
+        } catch (RuntimeException e) {
+            // 필수 요소를 못 가져왔다면 아직 시작하지 않은 요소는 시작하지 않는다. (실행 중인 조회는 트랜잭션 timeout 으로 끝난다.)
+            parts.abandon();
+            throw e;
+        }
+    }
+
+    // 오늘의 강의와 강의별 수강 신청자 명단 (명단은 한 번에 조회)
+    private List<ReadAllLectureResponse> readTodayLecturesWithStudents(Academy academy, Pageable pageable) {
+        List<ReadAllLectureResponse> lectures = lectureService.readAllTodayLectures(academy, pageable);
+        if (lectures.isEmpty()) {
+            return lectures;
+        }
+
+        List<Long> lectureIds = lectures.stream().map(ReadAllLectureResponse::getLectureId).collect(Collectors.toList());
+        Map<Long, List<FindStudentInfoFromEnrollmentByLectureResponse>> rosters = enrollmentService.findAllStudentInfoFromEnrollmentByLectures(lectureIds);
+        for (ReadAllLectureResponse lecture : lectures) {
+            lecture.setRegisteredStudent(rosters.get(lecture.getLectureId()));
+        }
+        return lectures;
+    }
+
+    // 학원 Id로 학원을 조회 - 없을시 ACADEMY_NOT_FOUND 에러발생
+    private Academy validateAcademyById(Long academyId) {
+        return TenantContext.academy(academyId, () -> academyRepository.findById(academyId)
+                .orElseThrow(() -> new AppException(ErrorCode.ACADEMY_NOT_FOUND)));
+    }
+
+    // 요청하는 계정과 학원으로 직원을 조회 - 없을시 REQUEST_EMPLOYEE_NOT_FOUND 에러발생
+    private Employee validateRequestEmployeeByAcademy(String account, Academy academy) {
+        return TenantContext.requestEmployee(account, academy, () -> employeeRepository.findByAccountAndAcademy(account, academy)
+                .orElseThrow(() -> new AppException(ErrorCode.REQUEST_EMPLOYEE_NOT_FOUND)));
+    }
+
+    // 필수 요소 : 실패 시 원래 예외(ex. AppException)를, 시간 초과 시 DASHBOARD_TIMEOUT 을 던진다.
+    private <T> T essential(String partName, CompletableFuture<T> future, long startedAt) {
+        try {
+            return future.get(remaining(startedAt, timeoutMillis), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException | CancellationException e) {
+            log.error("🏠 메인 화면 [{}] 조회 시간 초과 ({}ms)", partName, timeoutMillis);
+            throw new AppException(ErrorCode.DASHBOARD_TIMEOUT);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new AppException(ErrorCode.DASHBOARD_TIMEOUT);
+        }
+    }
+
+    // 부가 요소 : 실패하거나 시간을 넘기면 fallback 으로 대신하고 화면은 그대로 보여준다.
+    private <T> T optional(String partName, CompletableFuture<T> future, long startedAt, T fallback) {
+        try {
+            return future.get(remaining(startedAt, optionalTimeoutMillis), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException | CancellationException e) {
+            // 아직 시작하지 않았다면 시작하지 않게 한다.
+            future.cancel(false);
+            log.warn("🏠 메인 화면 [{}] 조회 시간 초과 ({}ms) - 기본값으로 대신합니다.", partName, optionalTimeoutMillis);
+            return fallback;
+        } catch (ExecutionException e) {
+            log.warn("🏠 메인 화면 [{}] 조회 실패 - 기본값으로 대신합니다. : {}", partName, e.getCause().getMessage());
+            return fallback;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return fallback;
+        }
+    }
+
+    // 모든 요소는 요청 시작 시각 기준으로 같은 마감 시각을 가지므로 남은 시간만 기다린다.
+    private long remaining(long startedAt, long timeoutMillis) {
+        return Math.max(timeoutMillis - (System.currentTimeMillis() - startedAt), 0);
+    }
+
+    /**
+     * 요청 하나의 구성 요소 대기열
+     * max-concurrency 개의 작업이 대기열에서 요소를 하나씩 꺼내 조회한다.
+     * 풀이 가득 차 CallerRunsPolicy 로 요청 스레드에서 실행되면 대기열을 순차 조회한다.
+     */
+    private class Parts {
+
+        private final long startedAt;
+        private final Queue<Runnable> queue = new ConcurrentLinkedQueue<>();
+        private volatile boolean abandoned;
+
+        private Parts(long startedAt) {
+            this.startedAt = startedAt;
+        }
+
+        private <T> CompletableFuture<T> add(Supplier<T> part, long partTimeoutMillis) {
+            CompletableFuture<T> future = new CompletableFuture<>();
+            queue.add(() -> {
+                // 이미 기다리지 않기로 했거나 시간을 다 썼다면 조회하지 않는다.
+                long remaining = remaining(startedAt, partTimeoutMillis);
+                if (abandoned || future.isDone() || remaining <= 0) {
+                    future.cancel(false);
+                    return;
+                }
+                try {
+                    future.complete(inTransaction(part, remaining));
+                } catch (RuntimeException | Error e) {
+                    future.completeExceptionally(e);
+                }
+            });
+            return future;
+        }
+
+        private void start() {
+            int workers = Math.min(maxConcurrency, queue.size());
+            for (int i = 0; i < workers; i++) {
+                dashboardExecutor.execute(this::drain);
+            }
+        }
+
+        private void drain() {
+            Runnable part;
+            while ((part = queue.poll()) != null) {
+                part.run();
+            }
+        }
+
+        private void abandon() {
+            abandoned = true;
+        }
+    }
+
+    // 남은 시간을 트랜잭션 timeout 으로 걸어 조회 안의 모든 쿼리가 DB 에서 시간 제한을 받게 한다. (초 단위, 올림)
+    private <T> T inTransaction(Supplier<T> part, long remainingMillis) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(true);
+        transactionTemplate.setTimeout((int) Math.max(TimeUnit.MILLISECONDS.toSeconds(remainingMillis + 999), 1));
+        return transactionTemplate.execute(status -> part.get());
+    }
+}
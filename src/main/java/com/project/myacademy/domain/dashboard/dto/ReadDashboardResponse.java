@@ -0,0 +1,25 @@
+package com.project.myacademy.domain.dashboard.dto;
+
+import com.project.myacademy.domain.announcement.dto.ReadAnnouncementResponse;
+import com.project.myacademy.domain.lecture.dto.ReadAllLectureResponse;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 메인 화면(/academy/main) 에 보여줄 정보
+ */
+@AllArgsConstructor
+@Getter
+@Builder
+public class ReadDashboardResponse {
+
+    private List<ReadAnnouncementResponse> announcements;
+    private List<ReadAnnouncementResponse> admissions;
+    private Long numberOfEmployees;
+    private Long numberOfStudents;
+    private List<ReadAllLectureResponse> lectures;
+    private String imageUrl;
+}
@@ -2,9 +2,9 @@ package com.project.myacademy.domain.discount;
 
 import com.project.myacademy.domain.discount.dto.*;
 import com.project.myacademy.global.Response;
+import com.project.myacademy.global.configuration.jwt.EmployeePrincipal;
 import com.project.myacademy.global.exception.BindingException;
 import com.project.myacademy.global.exception.ErrorCode;
-import com.project.myacademy.global.util.AuthenticationUtil;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
@@ -14,7 +14,6 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.Authentication;
 import org.springframework.validation.BindingResult;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
@@ -33,8 +32,8 @@ public class DiscountRestController {
     @PostMapping("/{academyId}/discounts/check")
     public ResponseEntity<Response<CheckDiscountResponse>> check(@PathVariable("academyId") Long academyId,
                                                                  @RequestBody CheckDiscountRequest checkDiscountRequest,
-                                                                 Authentication authentication) {
-        String account = AuthenticationUtil.getAccountFromAuth(authentication);
+                                                                 EmployeePrincipal principal) {
+        String account = principal.getAccount();
         CheckDiscountResponse response = discountService.checkDiscount(academyId, checkDiscountRequest, account);
         return ResponseEntity.ok().body(Response.success(response));
     }
@@ -45,13 +44,13 @@ public class DiscountRestController {
     public ResponseEntity<Response<CreateDiscountResponse>> create(@PathVariable("academyId") Long academyId,
                                                                    @Validated @RequestBody CreateDiscountRequest createDiscountRequest,
                                                                    BindingResult bindingResult,
-                                                                   Authentication authentication) {
+                                                                   EmployeePrincipal principal) {
 
         if (bindingResult.hasFieldErrors()) {
             throw new BindingException(ErrorCode.BINDING_ERROR, bindingResult.getFieldError().getDefaultMessage());
         }
 
-        String account = AuthenticationUtil.getAccountFromAuth(authentication);
+        String account = principal.getAccount();
         CreateDiscountResponse response = discountService.createDiscount(academyId, createDiscountRequest, account);
         return ResponseEntity.ok().body(Response.success(response));
     }
@@ -60,9 +59,9 @@ public class DiscountRestController {
     @Operation(summary = "모든 할인정책 조회", description = "해당학원의 모든 할인정책을 조회합니다.")
     @GetMapping("/{academyId}/discounts")
     public ResponseEntity<Response<Page<GetDiscountResponse>>> getAll(@PathVariable("academyId") Long academyId,
-                                                                      Authentication authentication,
+                                                                      EmployeePrincipal principal,
                                                                       @PageableDefault(size = 20, sort = {"createdAt"}, direction = Sort.Direction.DESC) Pageable pageable) {
-        String account = AuthenticationUtil.getAccountFromAuth(authentication);
+        String account = principal.getAccount();
         Page<GetDiscountResponse> response = discountService.getAllDiscounts(academyId, account, pageable);
         return ResponseEntity.ok().body(Response.success(response));
     }
@@ -72,8 +71,8 @@ public class DiscountRestController {
     @GetMapping("/{academyId}/enrollments/{enrollmentId}/discounts")
     public ResponseEntity<Response<GetAppliedDiscountResponse>> getAppliedOne(@PathVariable("academyId") Long academyId,
                                                                  @PathVariable("enrollmentId") Long enrollmentId,
-                                                                 Authentication authentication) {
-        String account = AuthenticationUtil.getAccountFromAuth(authentication);
+                                                                 EmployeePrincipal principal) {
+        String account = principal.getAccount();
         GetAppliedDiscountResponse response = discountService.getAppliedDiscount(academyId, enrollmentId, account);
         return ResponseEntity.ok().body(Response.success(response));
     }
@@ -83,8 +82,8 @@ public class DiscountRestController {
     @DeleteMapping("/{academyId}/discounts/{discountId}")
     public ResponseEntity<Response<DeleteDiscountResponse>> delete(@PathVariable("academyId") Long academyId,
                                                                    @PathVariable("discountId") Long discountId,
-                                                                   Authentication authentication) {
-        String account = AuthenticationUtil.getAccountFromAuth(authentication);
+                                                                   EmployeePrincipal principal) {
+        String account = principal.getAccount();
         DeleteDiscountResponse response = discountService.deleteDiscount(academyId, discountId, account);
         return ResponseEntity.ok().body(Response.success(response));
     }
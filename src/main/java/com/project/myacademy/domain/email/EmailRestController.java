@@ -1,15 +1,14 @@
 package com.project.myacademy.domain.email;
 
 import com.project.myacademy.global.Response;
+import com.project.myacademy.global.configuration.jwt.EmployeePrincipal;
 import com.project.myacademy.global.exception.BindingException;
 import com.project.myacademy.global.exception.ErrorCode;
-import com.project.myacademy.global.util.AuthenticationUtil;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.Authentication;
 import org.springframework.validation.BindingResult;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
@@ -30,13 +29,13 @@ public class EmailRestController {
     public ResponseEntity<Response<String>> create(@PathVariable("academyId") Long academyId,
                                                    @Validated @RequestBody CreateEmailRequest request,
                                                    BindingResult bindingResult,
-                                                   Authentication authentication) throws MessagingException {
+                                                   EmployeePrincipal principal) throws MessagingException {
 
         if (bindingResult.hasFieldErrors()) {
             throw new BindingException(ErrorCode.BINDING_ERROR, bindingResult.getFieldError().getDefaultMessage());
         }
 
-        String requestAccount = AuthenticationUtil.getAccountFromAuth(authentication);
+        String requestAccount = principal.getAccount();
         emailService.sendEmail(academyId, request.getEmail(), request.getTitle(), request.getBody(), requestAccount);
 
         return ResponseEntity.ok().body(Response.success("이메일 전송 성공"));
@@ -5,6 +5,8 @@ import com.project.myacademy.domain.academy.Academy;
 import com.project.myacademy.domain.employee.dto.CreateEmployeeRequest;
 import com.project.myacademy.domain.employee.dto.UpdateEmployeeRequest;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.SQLDelete;
 import org.hibernate.annotations.Where;
 
@@ -14,6 +16,8 @@ import javax.validation.constraints.NotBlank;
 import static com.project.myacademy.domain.employee.EmployeeRole.ROLE_USER;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.NONSTRICT_READ_WRITE)
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
 @Builder
@@ -5,8 +5,11 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
+import javax.persistence.QueryHint;
+
 import java.util.Optional;
 
 public interface EmployeeRepository extends JpaRepository<Employee, Long> {
@@ -14,6 +17,8 @@ public interface EmployeeRepository extends JpaRepository<Employee, Long> {
     Optional<Employee> findByName(String name);
     Optional<Employee> findByAccount(String account);
     Optional<Employee> findByAccountAndEmail(String account, String email);
+    // 요청마다 호출되므로 쿼리 결과를 2차 캐시에 저장 (employee_tb 변경 시 무효화)
+    @QueryHints(@QueryHint(name = org.hibernate.annotations.QueryHints.CACHEABLE, value = "true"))
     Optional<Employee> findByAccountAndAcademy(String account, Academy academy);
     Optional<Employee> findByIdAndAcademy(Long employeeId, Academy academy);
     @Query("select e from Employee e where e.academy = :academy and not e.account = 'admin'")
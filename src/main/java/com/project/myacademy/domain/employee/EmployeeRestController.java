@@ -2,10 +2,10 @@ package com.project.myacademy.domain.employee;
 
 import com.project.myacademy.domain.employee.dto.*;
 import com.project.myacademy.global.Response;
+import com.project.myacademy.global.configuration.jwt.EmployeePrincipal;
 import com.project.myacademy.global.exception.BindingException;
 import com.project.myacademy.global.exception.ErrorCode;
 import com.project.myacademy.global.exception.ErrorDto;
-import com.project.myacademy.global.util.AuthenticationUtil;
 import io.swagger.v3.oas.annotations.Hidden;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -15,7 +15,6 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.Authentication;
 import org.springframework.validation.BindingResult;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
@@ -73,9 +72,9 @@ public class EmployeeRestController {
     @Tag(name = "0. 로그아웃", description = "스웨거용 API")
     @Operation(summary = "직원 로그아웃", description = "스웨거용 ENDPOINT. \n\n 로그아웃시 쿠키가 삭제됩니다.")
     @PostMapping("/employees/logout")
-    public ResponseEntity<Response<String>> logout(Authentication authentication, HttpServletResponse httpServletResponse) {
+    public ResponseEntity<Response<String>> logout(EmployeePrincipal principal, HttpServletResponse httpServletResponse) {
 
-        String requestAccount = AuthenticationUtil.getAccountFromAuth(authentication);
+        String requestAccount = principal.getAccount();
         log.info("🔑 로그아웃을 요청한 계정 [{}]", requestAccount);
         CookieGenerator cookieGenerator = new CookieGenerator();
         cookieGenerator.setCookieName("token");
@@ -89,12 +88,12 @@ public class EmployeeRestController {
     @Tag(name = "02-1. 직원", description = "직원 회원 가입 및 정보 수정,조회")
     @Operation(summary = "직원 수정", description = "ADMIN 회원 및 본인 만 수정이 가능합니다.")
     @PutMapping("/{academyId}")
-    public ResponseEntity<Response<UpdateEmployeeResponse>> update(Authentication authentication, @PathVariable Long academyId, @Validated @RequestBody UpdateEmployeeRequest request,BindingResult bindingResult) {
+    public ResponseEntity<Response<UpdateEmployeeResponse>> update(EmployeePrincipal principal, @PathVariable Long academyId, @Validated @RequestBody UpdateEmployeeRequest request,BindingResult bindingResult) {
 
         if (bindingResult.hasFieldErrors()) {
             throw new BindingException(ErrorCode.BINDING_ERROR, bindingResult.getFieldError().getDefaultMessage());
         }
-        String requestAccount = AuthenticationUtil.getAccountFromAuth(authentication);
+        String requestAccount = principal.getAccount();
         log.info(" 🛠 본인 정보 수정을 요청한 사용자 계정 [{}] || 학원 아이디 [{}] ", requestAccount, academyId);
 
         UpdateEmployeeResponse response = employeeService.updateEmployee(request, requestAccount, academyId);
@@ -104,9 +103,9 @@ public class EmployeeRestController {
 
     @Hidden
     @DeleteMapping("/{academyId}")
-    public ResponseEntity<Response<DeleteEmployeeResponse>> selfDelete(Authentication authentication, @PathVariable Long academyId) {
+    public ResponseEntity<Response<DeleteEmployeeResponse>> selfDelete(EmployeePrincipal principal, @PathVariable Long academyId) {
 
-        String requestAccount = AuthenticationUtil.getAccountFromAuth(authentication);
+        String requestAccount = principal.getAccount();
         log.info(" ❌ 본인 탈퇴를 요청한 사용자 계정 [{}] || 학원 아이디 [{}] ", requestAccount, academyId);
 
         DeleteEmployeeResponse response = employeeService.selfDeleteEmployee(requestAccount, academyId);
@@ -132,13 +131,13 @@ public class EmployeeRestController {
     @Tag(name = "02-2. 직원", description = "직원 로그인,계정 및 비밀번호 찾기, 변경")
     @Operation(summary = "직원 계정 비밀번호 변경", description = "비밀번호를 변경합니다.")
     @PostMapping("{academyId}/employee/changePassword")
-    public ResponseEntity<Response<ChangePasswordEmployeeResponse>> changePassword(@PathVariable Long academyId, @Validated @RequestBody ChangePasswordEmployeeRequest request, BindingResult bindingResult, Authentication authentication) {
+    public ResponseEntity<Response<ChangePasswordEmployeeResponse>> changePassword(@PathVariable Long academyId, @Validated @RequestBody ChangePasswordEmployeeRequest request, BindingResult bindingResult, EmployeePrincipal principal) {
 
         if (bindingResult.hasFieldErrors()) {
             throw new BindingException(ErrorCode.BINDING_ERROR, bindingResult.getFieldError().getDefaultMessage());
         }
 
-        String requestAccount = AuthenticationUtil.getAccountFromAuth(authentication);
+        String requestAccount = principal.getAccount();
         ChangePasswordEmployeeResponse response = employeeService.changePasswordEmployee(request, academyId, requestAccount);
 
         return ResponseEntity.ok(Response.success(response));
@@ -159,9 +158,9 @@ public class EmployeeRestController {
     @Tag(name = "02-1. 직원", description = "직원 회원 가입 및 정보 수정,조회")
     @Operation(summary = "직원 삭제", description = "ADMIN 회원만 삭제가 가능합니다.")
     @DeleteMapping("/{academyId}/employees/{employeeId}")
-    public ResponseEntity<Response<DeleteEmployeeResponse>> delete(Authentication authentication, @PathVariable Long academyId, @PathVariable Long employeeId) {
+    public ResponseEntity<Response<DeleteEmployeeResponse>> delete(EmployeePrincipal principal, @PathVariable Long academyId, @PathVariable Long employeeId) {
 
-        String requestAccount = AuthenticationUtil.getAccountFromAuth(authentication);
+        String requestAccount = principal.getAccount();
         log.info(" ❌ 삭제를 요청한 사용자 계정 [{}] || 학원 아이디 [{}] ", requestAccount, academyId);
 
         DeleteEmployeeResponse response = employeeService.deleteEmployee(requestAccount, academyId, employeeId);
@@ -172,9 +171,9 @@ public class EmployeeRestController {
     @Tag(name = "02-1. 직원", description = "직원 회원 가입 및 정보 수정,조회")
     @Operation(summary = "직원 마이페이지 조회", description = "마이페이지를 조회합니다.")
     @GetMapping("/{academyId}/my")
-    public ResponseEntity<Response<ReadEmployeeResponse>> read(HttpServletRequest request, Authentication authentication, @PathVariable Long academyId) {
+    public ResponseEntity<Response<ReadEmployeeResponse>> read(HttpServletRequest request, EmployeePrincipal principal, @PathVariable Long academyId) {
 
-        String requestAccount = AuthenticationUtil.getAccountFromAuth(authentication);
+        String requestAccount = principal.getAccount();
         log.info(" 🔎 마이페이지 조회를 요청한 사용자 계정 [{}] || 학원 아이디 [{}] ", requestAccount, academyId);
 
         ReadEmployeeResponse response = employeeService.readEmployee(academyId, requestAccount);
@@ -184,10 +183,10 @@ public class EmployeeRestController {
     @Tag(name = "02-1. 직원", description = "직원 회원 가입 및 정보 수정,조회")
     @Operation(summary = "직원 조회", description = "ADMIN 회원만 조회가 가능합니다.")
     @GetMapping("/{academyId}/employees")
-    public ResponseEntity<Response<Page<ReadAllEmployeeResponse>>> readAll(@PathVariable Long academyId, Authentication authentication) {
+    public ResponseEntity<Response<Page<ReadAllEmployeeResponse>>> readAll(@PathVariable Long academyId, EmployeePrincipal principal) {
         PageRequest pageable = PageRequest.of(0, 20, Sort.by("id").descending());
 
-        String requestAccount = AuthenticationUtil.getAccountFromAuth(authentication);
+        String requestAccount = principal.getAccount();
         log.info("🔎 조회를 요청한 사용자 계정 [{}] || 접근하려는 학원 id [{}] ", requestAccount, academyId);
 
         Page<ReadAllEmployeeResponse> response = employeeService.readAllEmployees(requestAccount, academyId, pageable);
@@ -197,9 +196,9 @@ public class EmployeeRestController {
 
     @Hidden
     @PutMapping("/{academyId}/changeRole/{employeeId}")
-    public ResponseEntity<Response<ChangeRoleEmployeeResponse>> changeRole(Authentication authentication, @PathVariable Long academyId, @PathVariable Long employeeId) {
+    public ResponseEntity<Response<ChangeRoleEmployeeResponse>> changeRole(EmployeePrincipal principal, @PathVariable Long academyId, @PathVariable Long employeeId) {
 
-        String requestAccount = AuthenticationUtil.getAccountFromAuth(authentication);
+        String requestAccount = principal.getAccount();
         log.info("🛠 등급 변경를 요청한 사용자 계정 [{}] || 접근하려는 학원 id [{}]", requestAccount, academyId);
 
         ChangeRoleEmployeeResponse response = employeeService.changeRoleEmployee(requestAccount, academyId, employeeId);
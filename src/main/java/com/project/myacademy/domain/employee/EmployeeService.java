@@ -3,12 +3,14 @@ package com.project.myacademy.domain.employee;
 import com.project.myacademy.domain.academy.Academy;
 import com.project.myacademy.domain.academy.AcademyRepository;
 import com.project.myacademy.domain.employee.dto.*;
+import com.project.myacademy.global.configuration.jwt.EmployeePrincipalCache;
 import com.project.myacademy.global.configuration.refreshToken.RefreshToken;
-import com.project.myacademy.global.configuration.refreshToken.RefreshTokenRepository;
+import com.project.myacademy.global.configuration.refreshToken.RefreshTokenStore;
 import com.project.myacademy.global.exception.AppException;
 import com.project.myacademy.global.exception.ErrorCode;
 import com.project.myacademy.domain.email.EmailService;
 import com.project.myacademy.global.util.JwtTokenUtil;
+import com.project.myacademy.global.util.TenantContext;
 import com.querydsl.core.util.StringUtils;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -33,7 +35,8 @@ public class EmployeeService {
     private final AcademyRepository academyRepository;
     private final BCryptPasswordEncoder bCryptPasswordEncoder;
     private final EmailService emailService;
-    private final RefreshTokenRepository refreshTokenRepository;
+    private final RefreshTokenStore refreshTokenStore;
+    private final EmployeePrincipalCache employeePrincipalCache;
     @Value("${jwt.token.secret}")
     private String secretKey;
 
@@ -138,11 +141,11 @@ public class EmployeeService {
         }
 
         //리프레시 토큰은 난수로 생성, access 토큰은, 사용자 정보로 생성
-        String accessToken = JwtTokenUtil.createToken(requestAccount, requestEmployee.getEmail(), secretKey);
+        String accessToken = JwtTokenUtil.createToken(requestEmployee, secretKey);
         String refreshToken = JwtTokenUtil.createRefreshToken(secretKey);
 
         //레디스에 저장 Refresh 토큰을 저장한다. (사용자 기본키 Id, refresh 토큰, access 토큰 저장)
-        refreshTokenRepository.save(new RefreshToken(String.valueOf(requestEmployee.getId()), refreshToken, accessToken));
+        refreshTokenStore.save(new RefreshToken(String.valueOf(requestEmployee.getId()), refreshToken, accessToken));
 
         return new LoginEmployeeResponse(accessToken, requestEmployee.getName());
     }
@@ -257,6 +260,8 @@ public class EmployeeService {
         log.info(" ❌ 삭제가 될 사용자 계정 [{}] || 삭제가 될 사용자 등급 [{}]", foundEmployee.getAccount(), foundEmployeeRole);
 
         employeeRepository.delete(foundEmployee);
+        // 삭제된 직원의 토큰으로 더 이상 인증되지 않도록 캐시를 비운다.
+        employeePrincipalCache.invalidate(foundEmployee.getId());
 
         return new DeleteEmployeeResponse(employeeId, foundEmployee.getAccount() + " 계정이 삭제되었습니다. ");
     }
@@ -327,6 +332,8 @@ public class EmployeeService {
         }
 
         employeeRepository.delete(requestEmployee);
+        // 탈퇴한 직원의 토큰으로 더 이상 인증되지 않도록 캐시를 비운다.
+        employeePrincipalCache.invalidate(requestEmployee.getId());
 
         return new DeleteEmployeeResponse(requestEmployee.getId(), requestAccount + " 계정이 삭제되었습니다. ");
 
@@ -437,6 +444,9 @@ public class EmployeeService {
             throw new AppException(ErrorCode.NOT_ALLOWED_CHANGE);
         }
 
+        // 변경 전 권한이 담긴 토큰으로 인증되지 않도록 캐시를 비운다.
+        employeePrincipalCache.invalidate(foundEmployee.getId());
+
         return new ChangeRoleEmployeeResponse(employeeId, foundEmployee.getAccount() + " 계정의 권한을 " + changedRole + "로 변경했습니다");
 
     }
@@ -446,6 +456,13 @@ public class EmployeeService {
      */
     public Long countEmployeesByAcademy(Long academyId) {
         Academy academy = validateAcademyById(academyId);
+        return countEmployeesByAcademy(academy);
+    }
+
+    /**
+     * 학원 별, 직원 수 구하는 메서드 (UI 용) - 학원 확인을 마친 경우 (DashboardService)
+     */
+    public Long countEmployeesByAcademy(Academy academy) {
         return employeeRepository.countByAcademy(academy);
     }
 
@@ -462,14 +479,14 @@ public class EmployeeService {
 
     // 학원 Id로 학원을 조회 - 없을시 ACADEMY_NOT_FOUND 에러발생
     private Academy validateAcademyById(Long academyId) {
-        return academyRepository.findById(academyId)
-                .orElseThrow(() -> new AppException(ErrorCode.ACADEMY_NOT_FOUND));
+        return TenantContext.academy(academyId, () -> academyRepository.findById(academyId)
+                .orElseThrow(() -> new AppException(ErrorCode.ACADEMY_NOT_FOUND)));
     }
 
     // 요청하는 계정과 학원으로 직원을 조회 - 없을시 REQUEST_EMPLOYEE_NOT_FOUND 에러발생
     private Employee validateRequestEmployeeByAccount(String requestAccount, Academy academy) {
-        return employeeRepository.findByAccountAndAcademy(requestAccount, academy)
-                .orElseThrow(() -> new AppException(ErrorCode.REQUEST_EMPLOYEE_NOT_FOUND));
+        return TenantContext.requestEmployee(requestAccount, academy, () -> employeeRepository.findByAccountAndAcademy(requestAccount, academy)
+                .orElseThrow(() -> new AppException(ErrorCode.REQUEST_EMPLOYEE_NOT_FOUND)));
     }
 
     // 특정 요청이 적용될 Id와 학원으로 직원을 조회 - 없을시 EMPLOYEE_NOT_FOUND 에러발생
@@ -16,7 +16,8 @@ import javax.persistence.*;
 @AllArgsConstructor
 @Builder
 @Getter
-@Table(name = "enrollment_tb")
+@Table(name = "enrollment_tb", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_enrollment_student_lecture_active", columnNames = {"student_id", "lecture_id", "active"})})
 @Where(clause = "deleted_at is NULL")
 @SQLDelete(sql = "UPDATE enrollment_tb SET deleted_at = current_timestamp WHERE enrollment_id = ?")
 public class Enrollment extends BaseEntity {
@@ -49,6 +50,13 @@ public class Enrollment extends BaseEntity {
 
     private Long academyId;
 
+    // 삭제되지 않은 수강 내역은 1, 삭제된 수강 내역은 NULL (DB 가 deleted_at 으로 계산)
+    // 유니크 제약(학생, 강좌, active)으로 여러 서버가 동시에 등록해도 삭제되지 않은 수강 내역은 학생 · 강좌마다 하나만 남는다.
+    // deleted_at 을 그대로 넣으면 NULL 끼리는 중복으로 보지 않아(MySQL, H2) 삭제되지 않은 수강 내역의 중복을 막지 못한다.
+    @Column(name = "active", insertable = false, updatable = false,
+            columnDefinition = "tinyint generated always as (case when deleted_at is null then 1 end)")
+    private Integer active;
+
     // 수강 생성 메서드
     public static Enrollment createEnrollment(Student student, Lecture lecture, Employee employee,Long academyId) {
         StringBuilder sb = new StringBuilder();
@@ -0,0 +1,47 @@
+package com.project.myacademy.domain.enrollment;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 수강 내역 JDBC batch insert
+ * Enrollment 는 IDENTITY 전략이라 Hibernate 가 insert 를 묶어 보내지 않으므로, 일괄 등록은 JdbcTemplate 으로 저장한다.
+ * (MySQL 은 접속 URL 에 rewriteBatchedStatements=true 가 있으면 여러 행을 insert 한 문장으로 보낸다.)
+ * JPA Auditing 을 거치지 않으므로 생성 · 수정 시각을 직접 넣는다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class EnrollmentJdbcRepository {
+
+    // 한 번에 보내는 insert 개수
+    private static final int BATCH_SIZE = 500;
+
+    private static final String INSERT_SQL = "insert into enrollment_tb "
+            + "(student_id, lecture_id, memo, payment_yn, first_register_employee, last_modified_employee, discount_id, academy_id, created_at, last_modified_at) "
+            + "values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void batchInsert(List<Enrollment> enrollments) {
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        jdbcTemplate.batchUpdate(INSERT_SQL, enrollments, BATCH_SIZE, (ps, enrollment) -> {
+            ps.setLong(1, enrollment.getStudent().getId());
+            ps.setLong(2, enrollment.getLecture().getId());
+            ps.setString(3, enrollment.getMemo());
+            ps.setBoolean(4, enrollment.getPaymentYN());
+            ps.setString(5, enrollment.getRegisterEmployee());
+            ps.setString(6, enrollment.getModifiedEmployee());
+            ps.setLong(7, enrollment.getDiscountId());
+            ps.setLong(8, enrollment.getAcademyId());
+            ps.setTimestamp(9, now);
+            ps.setTimestamp(10, now);
+        });
+    }
+}
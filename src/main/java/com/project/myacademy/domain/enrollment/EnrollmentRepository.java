@@ -1,11 +1,19 @@
 package com.project.myacademy.domain.enrollment;
 
+import com.project.myacademy.domain.enrollment.dto.FindEnrollmentResponse;
+import com.project.myacademy.domain.enrollment.dto.FindStudentInfoFromEnrollmentByLectureResponse;
+import com.project.myacademy.domain.enrollment.dto.ReadAllEnrollmentResponse;
 import com.project.myacademy.domain.lecture.Lecture;
 import com.project.myacademy.domain.student.Student;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -18,12 +26,76 @@ public interface EnrollmentRepository extends JpaRepository<Enrollment, Long> {
 
     List<Enrollment> findByStudentOrderByCreatedAtDesc(Student student);
 
-    Page<Enrollment> findByStudentAndPaymentYNIsTrue(Student student, Pageable pageable);
+    Optional<Enrollment> findByLecture_IdAndStudent_Id(Long lectureId, Long studentId);
 
-    Page<Enrollment> findAllByAcademyIdAndPaymentYNIsFalseOrderByCreatedAtDesc(Long academyId, Pageable pageable);
 
-    Optional<Enrollment> findByLecture_IdAndStudent_Id(Long lectureId, Long studentId);
+    // 여러 강좌의 수강 신청자 명단을 한 번에 조회 (명단에 필요한 컬럼만 응답 DTO 로 바로 조회)
+    // 조인한 엔티티에는 @Where 가 적용되지 않으므로 삭제된 학생은 조건으로 제외
+    @Query("select new com.project.myacademy.domain.enrollment.dto.FindStudentInfoFromEnrollmentByLectureResponse(" +
+            "e.id, e.lecture.id, s.id, s.name, s.phoneNum, s.email, e.paymentYN) " +
+            "from Enrollment e join e.student s where e.lecture.id in :lectureIds and s.deletedAt is null order by e.id")
+    List<FindStudentInfoFromEnrollmentByLectureResponse> findRosterByLectureIdIn(@Param("lectureIds") Collection<Long> lectureIds);
+
+    // 출석부 - 강좌의 결제 완료 수강생 명단을 페이징 조회 (응답 DTO 로 바로 조회)
+    @Query(value = "select new com.project.myacademy.domain.enrollment.dto.FindStudentInfoFromEnrollmentByLectureResponse(" +
+            "e.id, e.lecture.id, s.id, s.name, s.phoneNum, s.email, e.paymentYN) " +
+            "from Enrollment e join e.student s where e.lecture.id = :lectureId and e.paymentYN = true and s.deletedAt is null",
+            countQuery = "select count(e) from Enrollment e join e.student s where e.lecture.id = :lectureId and e.paymentYN = true and s.deletedAt is null")
+    Page<FindStudentInfoFromEnrollmentByLectureResponse> findPaidRosterByLectureId(@Param("lectureId") Long lectureId, Pageable pageable);
+
+    // 수강 이력 전체 조회 - 학원의 수강 이력을 학생 · 강좌와 조인해 응답 DTO 로 바로 조회 (정렬은 pageable)
+    @Query(value = "select new com.project.myacademy.domain.enrollment.dto.ReadAllEnrollmentResponse(" +
+            "e.id, l.name, l.price, s.name, e.memo, e.createdAt) " +
+            "from Enrollment e join e.student s join e.lecture l where e.academyId = :academyId",
+            countQuery = "select count(e) from Enrollment e where e.academyId = :academyId")
+    Page<ReadAllEnrollmentResponse> findReadAllByAcademyId(@Param("academyId") Long academyId, Pageable pageable);
+
+    // 강좌에 이미 수강 등록된 학생 id (등록 요청 여러 건의 중복 확인을 한 번에)
+    @Query("select e.student.id from Enrollment e where e.lecture.id = :lectureId and e.student.id in :studentIds")
+    List<Long> findStudentIdsByLectureIdAndStudentIdIn(@Param("lectureId") Long lectureId, @Param("studentIds") Collection<Long> studentIds);
+
+    // 결제 화면 - 학원의 학생 이름으로 수강 신청 내역을 최신순으로 페이징 조회 (학생 · 강좌 · 강사를 조인해 응답 DTO 로 바로 조회)
+    // 조인한 엔티티에는 @Where 가 적용되지 않으므로 삭제된 학생은 조건으로 제외
+    @Query(value = "select new com.project.myacademy.domain.enrollment.dto.FindEnrollmentResponse(" +
+            "e.id, s.id, l.id, s.name, s.email, s.phoneNum, l.name, t.name, l.price, e.paymentYN, e.createdAt, l.lectureDay, l.lectureTime, l.startDate, l.finishDate) " +
+            "from Enrollment e join e.student s join e.lecture l left join l.employee t " +
+            "where s.academyId = :academyId and s.name = :studentName and s.deletedAt is null order by e.createdAt desc, e.id desc",
+            countQuery = "select count(e) from Enrollment e join e.student s where s.academyId = :academyId and s.name = :studentName and s.deletedAt is null")
+    Page<FindEnrollmentResponse> findForPayByAcademyIdAndStudentName(@Param("academyId") Long academyId, @Param("studentName") String studentName, Pageable pageable);
+
+    // 결제 화면 - 학원의 결제 전 수강 신청 내역을 최신순으로 페이징 조회 (응답 DTO 로 바로 조회)
+    @Query(value = "select new com.project.myacademy.domain.enrollment.dto.FindEnrollmentResponse(" +
+            "e.id, s.id, l.id, s.name, s.email, s.phoneNum, l.name, t.name, l.price, e.paymentYN, e.createdAt, l.lectureDay, l.lectureTime, l.startDate, l.finishDate) " +
+            "from Enrollment e join e.student s join e.lecture l left join l.employee t " +
+            "where e.academyId = :academyId and e.paymentYN = false order by e.createdAt desc, e.id desc",
+            countQuery = "select count(e) from Enrollment e where e.academyId = :academyId and e.paymentYN = false")
+    Page<FindEnrollmentResponse> findForPayByAcademyId(@Param("academyId") Long academyId, Pageable pageable);
+
+    // 학생 상세 - 학생의 결제 완료 수강 내역 페이징 조회 (응답 DTO 로 바로 조회, 정렬은 pageable)
+    @Query(value = "select new com.project.myacademy.domain.enrollment.dto.FindEnrollmentResponse(" +
+            "e.id, s.id, l.id, s.name, s.email, s.phoneNum, l.name, t.name, l.price, e.paymentYN, e.createdAt, l.lectureDay, l.lectureTime, l.startDate, l.finishDate) " +
+            "from Enrollment e join e.student s join e.lecture l left join l.employee t " +
+            "where s.id = :studentId and e.paymentYN = true",
+            countQuery = "select count(e) from Enrollment e where e.student.id = :studentId and e.paymentYN = true")
+    Page<FindEnrollmentResponse> findPaidByStudentId(@Param("studentId") Long studentId, Pageable pageable);
+
+    // 결제 완료 화면 - 학생의 강좌 수강 신청 내역 단건 조회 (응답 DTO 로 바로 조회)
+    @Query("select new com.project.myacademy.domain.enrollment.dto.FindEnrollmentResponse(" +
+            "e.id, s.id, l.id, s.name, s.email, s.phoneNum, l.name, t.name, l.price, e.paymentYN, e.createdAt, l.lectureDay, l.lectureTime, l.startDate, l.finishDate) " +
+            "from Enrollment e join e.student s join e.lecture l left join l.employee t " +
+            "where l.id = :lectureId and s.id = :studentId")
+    Optional<FindEnrollmentResponse> findForPayByLectureIdAndStudentId(@Param("lectureId") Long lectureId, @Param("studentId") Long studentId);
+
+    // 수강 내역 여러 건 삭제 처리를 UPDATE 한 번으로 (soft delete, 마지막 수정 직원 -> 삭제 직원)
+    @Modifying
+    @Query("update Enrollment e set e.modifiedEmployee = :modifiedEmployee, e.deletedAt = :deletedAt where e.id in :ids")
+    int markDeletedByIdIn(@Param("ids") Collection<Long> ids, @Param("modifiedEmployee") String modifiedEmployee, @Param("deletedAt") LocalDateTime deletedAt);
 
-    Page<Enrollment> findByLectureAndPaymentYNIsTrue(Lecture lecture, Pageable pageable);
-    List<Enrollment> findByLecture(Lecture lecture);
+    // 커서 페이징 - 학원의 수강 이력을 커서 (생성 시각, id) 이전부터 최신순으로 조회 (COUNT 없음)
+    @Query("select new com.project.myacademy.domain.enrollment.dto.ReadAllEnrollmentResponse(" +
+            "e.id, l.name, l.price, s.name, e.memo, e.createdAt) " +
+            "from Enrollment e join e.student s join e.lecture l where e.academyId = :academyId " +
+            "and (e.createdAt < :createdAt or (e.createdAt = :createdAt and e.id < :id)) " +
+            "order by e.createdAt desc, e.id desc")
+    List<ReadAllEnrollmentResponse> findByAcademyIdBeforeCursor(@Param("academyId") Long academyId, @Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Pageable pageable);
 }
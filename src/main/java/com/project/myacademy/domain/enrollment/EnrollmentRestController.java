@@ -1,8 +1,11 @@
 package com.project.myacademy.domain.enrollment;
 
 import com.project.myacademy.domain.enrollment.dto.*;
+import com.project.myacademy.global.CursorPage;
 import com.project.myacademy.global.Response;
-import com.project.myacademy.global.util.AuthenticationUtil;
+import com.project.myacademy.global.configuration.jwt.EmployeePrincipal;
+import com.project.myacademy.global.exception.BindingException;
+import com.project.myacademy.global.exception.ErrorCode;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
@@ -12,7 +15,8 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.Authentication;
+import org.springframework.validation.BindingResult;
+import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 
 @Tag(name = "08. 수강신청", description = "수강 등록,수정,조회")
@@ -30,24 +34,54 @@ public class EnrollmentRestController {
     public ResponseEntity<Response<CreateEnrollmentResponse>> create(@PathVariable("academyId") Long academyId,
                                                                      @PathVariable("studentId") Long studentId,
                                                                      @PathVariable("lectureId") Long lectureId,
-                                                                     Authentication authentication) {
-        String account = AuthenticationUtil.getAccountFromAuth(authentication);
+                                                                     EmployeePrincipal principal) {
+        String account = principal.getAccount();
         CreateEnrollmentResponse createdEnrollment = enrollmentService.createEnrollment(academyId, studentId, lectureId, account);
         log.info("수강 등록 성공");
         return ResponseEntity.ok().body(Response.success(createdEnrollment));
     }
 
+    // 수강 일괄 등록
+    @Operation(summary = "수강 일괄 등록", description = "ADMIN,STAFF 회원만 등록이 가능합니다. \n\n 한 강좌에 여러 학생을 한 번에 등록하며, 한 명이라도 등록할 수 없으면 전체가 등록되지 않습니다.")
+    @PostMapping("/{academyId}/lectures/{lectureId}/enrollments")
+    public ResponseEntity<Response<CreateEnrollmentsResponse>> createAll(@PathVariable("academyId") Long academyId,
+                                                                         @PathVariable("lectureId") Long lectureId,
+                                                                         @Validated @RequestBody CreateEnrollmentsRequest request,
+                                                                         BindingResult bindingResult,
+                                                                         EmployeePrincipal principal) {
+
+        if (bindingResult.hasFieldErrors()) {
+            throw new BindingException(ErrorCode.BINDING_ERROR, bindingResult.getFieldError().getDefaultMessage());
+        }
+
+        String account = principal.getAccount();
+        CreateEnrollmentsResponse createdEnrollments = enrollmentService.createEnrollments(academyId, lectureId, request.getStudentIds(), account);
+        log.info("수강 일괄 등록 성공 - 강좌 [{}] [{}]명", lectureId, createdEnrollments.getEnrolledCount());
+        return ResponseEntity.ok().body(Response.success(createdEnrollments));
+    }
+
     // 수강 전체 리스트 조회
     @Operation(summary = "수강 전체 조회", description = "수강 리스트를 조회합니다.")
     @GetMapping("/{academyId}/enrollments")
-    public ResponseEntity<Response<Page<ReadAllEnrollmentResponse>>> readAll(@PathVariable("academyId") Long academyId, Authentication authentication,
+    public ResponseEntity<Response<Page<ReadAllEnrollmentResponse>>> readAll(@PathVariable("academyId") Long academyId, EmployeePrincipal principal,
              @PageableDefault(size = 20, sort = {"createdAt"}, direction = Sort.Direction.DESC) Pageable pageable) {
-        String account = AuthenticationUtil.getAccountFromAuth(authentication);
+        String account = principal.getAccount();
         Page<ReadAllEnrollmentResponse> enrollments = enrollmentService.readAllEnrollments(academyId, account, pageable);
         log.info("수강 리스트 조회");
         return ResponseEntity.ok().body(Response.success(enrollments));
     }
 
+    // 수강 전체 리스트 조회 - 커서 페이징
+    @Operation(summary = "수강 전체 조회 (커서)", description = "수강 리스트를 최신순으로 조회합니다. \n\n 첫 페이지는 cursor 를 비워서 요청하고, 다음 페이지는 응답의 nextCursor 로 요청합니다.")
+    @GetMapping(value = "/{academyId}/enrollments", params = "cursor")
+    public ResponseEntity<Response<CursorPage<ReadAllEnrollmentResponse>>> readAllByCursor(@PathVariable("academyId") Long academyId, EmployeePrincipal principal,
+             @RequestParam("cursor") String cursor, @RequestParam(value = "size", defaultValue = "20") int size) {
+        String account = principal.getAccount();
+        CursorPage<ReadAllEnrollmentResponse> enrollments = enrollmentService.readAllEnrollmentsByCursor(academyId, account, cursor, size);
+        log.info("수강 리스트 조회");
+        return ResponseEntity.ok().body(Response.success(enrollments));
+    }
+
     // 수강 메모
     @Operation(summary = "수강 메모", description = "수강 신청에 대한 메모를 작성합니다.")
     @PutMapping("/{academyId}/students/{studentId}/lectures/{lectureId}/enrollments/{enrollmentId}")
@@ -56,25 +90,44 @@ public class EnrollmentRestController {
                                                                      @PathVariable("lectureId") Long lectureId,
                                                                      @PathVariable("enrollmentId") Long enrollmentId,
                                                                      @RequestBody UpdateEnrollmentRequest request,
-                                                                     Authentication authentication) {
-        String account = AuthenticationUtil.getAccountFromAuth(authentication);
+                                                                     EmployeePrincipal principal) {
+        String account = principal.getAccount();
         UpdateEnrollmentResponse updatedEnrollment = enrollmentService.updateEnrollment(academyId, studentId, lectureId, enrollmentId, request, account);
         log.info("수강 이력 수정 성공");
         return ResponseEntity.ok().body(Response.success(updatedEnrollment));
     }
 
     // 수강 삭제
-    @Operation(summary = "수강 삭제", description = "ADMIN,STAFF 회원만 삭제가 가능합니다. \n\n 수강이력이 삭제되고, 다음 대기번호를 확인한 후, 수강 등록이 되면 기존 대기번호가 삭제됩니다.")
+    @Operation(summary = "수강 삭제", description = "ADMIN,STAFF 회원만 삭제가 가능합니다. \n\n 수강이력이 삭제되고, 반납된 좌석만큼 먼저 등록된 대기번호부터 수강 등록되며 기존 대기번호는 삭제됩니다.")
     @PostMapping("/{academyId}/students/{studentId}/lectures/{lectureId}/enrollments/{enrollmentId}")
     public ResponseEntity<Response<DeleteEnrollmentResponse>> delete(@PathVariable("academyId") Long academyId,
                                                                      @PathVariable("studentId") Long studentId,
                                                                      @PathVariable("lectureId") Long lectureId,
                                                                      @PathVariable("enrollmentId") Long enrollmentId,
                                                                      @RequestBody CreateEnrollmentRequest request,
-                                                                     Authentication authentication) {
-        String account = AuthenticationUtil.getAccountFromAuth(authentication);
+                                                                     EmployeePrincipal principal) {
+        String account = principal.getAccount();
         DeleteEnrollmentResponse deletedEnrollment = enrollmentService.deleteEnrollment(academyId, studentId, lectureId, enrollmentId, account);
         log.info("수강 이력 삭제 성공");
         return ResponseEntity.ok().body(Response.success(deletedEnrollment));
     }
-}
\ No newline at end of file
+
+    // 수강 일괄 취소
+    @Operation(summary = "수강 일괄 취소", description = "ADMIN,STAFF 회원만 취소가 가능합니다. \n\n 한 강좌의 여러 수강이력을 한 번에 삭제하고, 반납된 좌석만큼 먼저 등록된 대기번호부터 수강 등록됩니다.")
+    @PostMapping("/{academyId}/lectures/{lectureId}/enrollments/delete")
+    public ResponseEntity<Response<DeleteEnrollmentsResponse>> deleteAll(@PathVariable("academyId") Long academyId,
+                                                                         @PathVariable("lectureId") Long lectureId,
+                                                                         @Validated @RequestBody DeleteEnrollmentsRequest request,
+                                                                         BindingResult bindingResult,
+                                                                         EmployeePrincipal principal) {
+
+        if (bindingResult.hasFieldErrors()) {
+            throw new BindingException(ErrorCode.BINDING_ERROR, bindingResult.getFieldError().getDefaultMessage());
+        }
+
+        String account = principal.getAccount();
+        DeleteEnrollmentsResponse deletedEnrollments = enrollmentService.deleteEnrollments(academyId, lectureId, request.getEnrollmentIds(), account);
+        log.info("수강 일괄 취소 성공 - 강좌 [{}] 취소 [{}]명, 대기번호 수강등록 [{}]명", lectureId, deletedEnrollments.getDeletedCount(), deletedEnrollments.getPromotedCount());
+        return ResponseEntity.ok().body(Response.success(deletedEnrollments));
+    }
+}
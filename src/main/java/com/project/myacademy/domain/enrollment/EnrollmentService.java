@@ -7,24 +7,32 @@ import com.project.myacademy.domain.employee.EmployeeRepository;
 import com.project.myacademy.domain.enrollment.dto.*;
 import com.project.myacademy.domain.lecture.Lecture;
 import com.project.myacademy.domain.lecture.LectureRepository;
+import com.project.myacademy.domain.notification.NotificationService;
+import com.project.myacademy.domain.notification.NotificationType;
 import com.project.myacademy.domain.student.Student;
 import com.project.myacademy.domain.student.StudentRepository;
-import com.project.myacademy.domain.waitinglist.WaitinglistRepository;
+import com.project.myacademy.global.CursorPage;
 import com.project.myacademy.global.exception.AppException;
 import com.project.myacademy.global.exception.ErrorCode;
-import com.project.myacademy.domain.email.EmailService;
+import com.project.myacademy.global.util.InClauseUtil;
+import com.project.myacademy.global.util.TenantContext;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-import org.springframework.mail.MailException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import javax.mail.MessagingException;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -35,11 +43,12 @@ public class EnrollmentService {
 
     private final AcademyRepository academyRepository;
     private final EnrollmentRepository enrollmentRepository;
+    private final EnrollmentJdbcRepository enrollmentJdbcRepository;
     private final EmployeeRepository employeeRepository;
     private final StudentRepository studentRepository;
     private final LectureRepository lectureRepository;
-    private final WaitinglistRepository waitinglistRepository;
-    private final EmailService emailService;
+    private final WaitinglistPromotionService waitinglistPromotionService;
+    private final NotificationService notificationService;
 
     /**
      * 수강 이력 등록
@@ -70,34 +79,79 @@ public class EnrollmentService {
                     throw new AppException(ErrorCode.DUPLICATED_ENROLLMENT);
                 }));
 
-        // 수강 내역 생성
-        Enrollment savedEnrollment;
+        // 좌석 확보 - 현재 등록인원이 최대 수강정원 미만일 때만 +1 (동시 요청이 몰려도 정원을 넘지 않음)
+        // 확보하지 못하면 수강정원 초과 에러처리
+        if (lectureRepository.reserveSeat(lecture.getId()) == 0) {
+            throw new AppException(ErrorCode.OVER_REGISTRATION_NUMBER);
+        }
+
+        // 수강 내역 저장 (이후 실패하면 트랜잭션 롤백으로 확보한 좌석도 되돌아감)
+        Enrollment savedEnrollment = enrollmentRepository.save(Enrollment.createEnrollment(student, lecture, employee, academyId));
+
+        // 학생의 이메일로 메시지 전송 (발송함에 저장, NotificationDispatcher 가 트랜잭션 커밋 후 발송)
+        String email = student.getEmail();
+        String subject = "MyAcademy 수강 등록 안내 메일";
+        String body = String.format("%s님의 %s 수강 등록이 정상적으로 완료되었습니다.%n%n감사합니다.", student.getName(), lecture.getName());
+        notificationService.enqueue(NotificationType.ENROLLMENT_CREATED, academyId, email, subject, body);
+
+        return CreateEnrollmentResponse.of(savedEnrollment.getId());
+    }
 
-        // 현재까지 강좌에 등록된 인원수 가져오기
-        Long currentEnrollmentNumber = enrollmentRepository.countByLecture_Id(lecture.getId());
+    /**
+     * 수강 일괄 등록 (한 강좌에 여러 학생)
+     * 한 트랜잭션에서 처리하며, 한 명이라도 등록할 수 없으면 전체를 등록하지 않는다.
+     *
+     * - 학생 존재 유무, 수강 이력 중복은 IN 쿼리로 InClauseUtil.CHUNK_SIZE 명씩 한 번에 확인
+     * - 좌석은 UPDATE 한 번으로 학생 수만큼 확보
+     * - 수강 내역은 JDBC batch insert 로 저장 (IDENTITY 전략이라 JPA 로는 한 건씩 insert 된다.)
+     *
+     * @param academyId  직원의 소속 학원 id
+     * @param lectureId  강좌 id
+     * @param studentIds 등록할 학생 id 목록 (중복은 한 번만 등록)
+     * @param account    직원 계정
+     */
+    public CreateEnrollmentsResponse createEnrollments(Long academyId, Long lectureId, List<Long> studentIds, String account) {
 
-        // (해당 강좌에 등록할 인원 + 이미 등록되어 있는 인원)이 최대 수강정원을 넘지 않으면 수강 내역 저장
-        if (currentEnrollmentNumber + 1 <= lecture.getMaximumCapacity()) {
-            lecture.plusCurrentEnrollmentNumber();
-            savedEnrollment = enrollmentRepository.save(Enrollment.createEnrollment(student, lecture, employee, academyId));
+        // 등록하는 직원 존재 유무 확인(학원 존재 유무, 해당 학원 직원인지 확인)
+        Academy academy = validateAcademyById(academyId);
+        Employee employee = validateRequestEmployeeByAcademy(account, academy);
+
+        // 강좌 존재 유무 확인
+        Lecture lecture = validateLectureById(lectureId);
+
+        // 직원이 수강을 개설할 권한이 있는지 확인(강사만 불가능)
+        if (Employee.isTeacherAuthority(employee)) {
+            throw new AppException(ErrorCode.INVALID_PERMISSION);
         }
-        // 그렇지 않으면 수강정원 초과 에러처리
-        else {
+
+        List<Long> distinctStudentIds = new ArrayList<>(new LinkedHashSet<>(studentIds));
+        Map<Long, Student> students = new HashMap<>();
+
+        for (List<Long> chunk : InClauseUtil.chunks(distinctStudentIds)) {
+
+            // 학생 존재 유무 확인
+            studentRepository.findAllById(chunk).forEach(student -> students.put(student.getId(), student));
+
+            // 수강 이력 중복 확인
+            if (!enrollmentRepository.findStudentIdsByLectureIdAndStudentIdIn(lectureId, chunk).isEmpty()) {
+                throw new AppException(ErrorCode.DUPLICATED_ENROLLMENT);
+            }
+        }
+        if (students.size() != distinctStudentIds.size()) {
+            throw new AppException(ErrorCode.STUDENT_NOT_FOUND);
+        }
+
+        // 좌석 확보 - 학생 수만큼 남아있지 않으면 수강정원 초과 에러처리
+        if (lectureRepository.reserveSeats(lectureId, distinctStudentIds.size()) == 0) {
             throw new AppException(ErrorCode.OVER_REGISTRATION_NUMBER);
         }
 
-        // 학생의 이메일로 메시지 전송
-//        String email = student.getEmail();
-//        String subject = "MyAcademy 수강 등록 안내 메일";
-//        String body = String.format("%s님의 %s 수강 등록이 정상적으로 완료되었습니다.%n%n감사합니다.", student.getName(), lecture.getName());
-//
-//        try {
-//            emailService.sendEmail(email, subject, body);
-//        } catch (MailException | MessagingException e){
-//            log.info("이메일 전송 에러 발생 [{}]", e.getMessage());
-//        }
+        // 수강 내역 저장
+        enrollmentJdbcRepository.batchInsert(distinctStudentIds.stream()
+                .map(studentId -> Enrollment.createEnrollment(students.get(studentId), lecture, employee, academyId))
+                .collect(Collectors.toList()));
 
-        return CreateEnrollmentResponse.of(savedEnrollment.getId());
+        return CreateEnrollmentsResponse.of(lectureId, distinctStudentIds);
     }
 
     /**
@@ -113,9 +167,30 @@ public class EnrollmentService {
         Academy academy = validateAcademyById(academyId);
         validateRequestEmployeeByAcademy(account, academy);
 
-        Page<Enrollment> enrollments = enrollmentRepository.findAll(pageable);
+        // 학생 · 강좌를 조인해 응답 DTO 로 바로 조회
+        return enrollmentRepository.findReadAllByAcademyId(academyId, pageable);
+    }
+
+    /**
+     * 수강이력 전체 조회 - 커서 페이징 (최신 등록순, COUNT 없음)
+     *
+     * @param academyId 직원의 소속 학원 id
+     * @param account   직원 계정
+     * @param cursor    이전 페이지 응답의 nextCursor (첫 페이지는 빈 값)
+     * @param size      페이지 크기
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<ReadAllEnrollmentResponse> readAllEnrollmentsByCursor(Long academyId, String account, String cursor, int size) {
+
+        // 조회 주체 권한 확인(학원 존재 유무, 해당 학원 직원인지 확인)
+        Academy academy = validateAcademyById(academyId);
+        validateRequestEmployeeByAcademy(account, academy);
+
+        CursorPage.Key key = CursorPage.decode(cursor);
+        int pageSize = CursorPage.clamp(size);
+        List<ReadAllEnrollmentResponse> enrollments = enrollmentRepository.findByAcademyIdBeforeCursor(academyId, key.getCreatedAt(), key.getId(), CursorPage.limit(pageSize));
 
-        return enrollments.map(ReadAllEnrollmentResponse::of);
+        return CursorPage.of(enrollments, pageSize, ReadAllEnrollmentResponse::getCreatedAt, ReadAllEnrollmentResponse::getEnrollmentId, Function.identity());
     }
 
     /**
@@ -183,75 +258,80 @@ public class EnrollmentService {
         // 다음 대기번호 존재하든 안하든 수강 이력 먼저 삭제
         enrollmentRepository.delete(enrollment);
 
-        // 학생의 이메일로 메시지 전송
-//        String email = student.getEmail();
-//        String subject = "MyAcademy 수강 취소 안내 메일";
-//        String body = String.format("%s님의 %s 수강 취소 신청이 정상적으로 처리되었습니다.%n%n감사합니다.", student.getName(), lecture.getName());
-//        try {
-//            emailService.sendEmail(email, subject, body);
-//        } catch (MailException e2){
-//            log.info("이메일 전송 에러 발생 [{}]", e2.getMessage());
-//        } catch (MessagingException e) {
-//            log.info("이메일 전송 에러 발생 [{}]", e.getMessage());
-//        }
+        // 학생의 이메일로 메시지 전송 (발송함에 저장, NotificationDispatcher 가 트랜잭션 커밋 후 발송)
+        String email = student.getEmail();
+        String subject = "MyAcademy 수강 취소 안내 메일";
+        String body = String.format("%s님의 %s 수강 취소 신청이 정상적으로 처리되었습니다.%n%n감사합니다.", student.getName(), lecture.getName());
+        notificationService.enqueue(NotificationType.ENROLLMENT_CANCELED, academyId, email, subject, body);
 
         // 현재 등록인원 -1
-        lecture.minusCurrentEnrollmentNumber();
+        lectureRepository.releaseSeat(lecture.getId());
 
-        // 다음 대기번호가 존재하면 추가적으로 대기번호 -> 수강등록으로 정보 변경 후 기존 대기번호 삭제
-        waitinglistRepository.findTopByLectureOrderByCreatedAtAsc(lecture)
-                .ifPresent(waitinglist -> {
-                    createEnrollmentFromWaitinglist(academy.getId(), waitinglist.getStudent().getId(), waitinglist.getLecture().getId(), account);
-                    waitinglistRepository.delete(waitinglist);
-                });
+        // 반납된 좌석만큼 대기자를 먼저 등록된 순서대로 수강 등록
+        waitinglistPromotionService.promote(academy.getId(), lecture, employee);
 
         return DeleteEnrollmentResponse.of(enrollmentId);
     }
 
-    // 대기번호 -> 수강등록으로 이동하게 하는 메서드
-    private void createEnrollmentFromWaitinglist(Long academyId, Long studentId, Long lectureId, String account) {
+    /**
+     * 수강 일괄 취소 (한 강좌의 여러 수강 이력)
+     * 한 트랜잭션에서 처리하며, 한 건이라도 취소할 수 없으면 전체를 취소하지 않는다.
+     * 수강 이력 삭제와 좌석 반납은 각각 UPDATE 한 번으로 처리하고, 반납된 좌석만큼 대기자를 수강 등록한다.
+     *
+     * @param academyId     직원의 소속 학원 id
+     * @param lectureId     강좌 id
+     * @param enrollmentIds 취소할 수강 id 목록 (중복은 한 번만 취소)
+     * @param account       직원 계정
+     */
+    public DeleteEnrollmentsResponse deleteEnrollments(Long academyId, Long lectureId, List<Long> enrollmentIds, String account) {
 
-        // 등록 주체 권한 확인(학원 존재 유무, 해당 학원 직원인지 확인)
+        // 취소 진행하는 직원 권한 확인(학원 존재 유무, 해당 학원 직원인지 확인)
         Academy academy = validateAcademyById(academyId);
         Employee employee = validateRequestEmployeeByAcademy(account, academy);
 
-        // 학생, 강좌 존재 유무 확인
-        Student student = validateStudentById(studentId);
+        // 강좌 존재 유무 확인
         Lecture lecture = validateLectureById(lectureId);
 
-        // 수강 이력 중복 확인
-        enrollmentRepository.findByStudentAndLecture(student, lecture)
-                .ifPresent((enrollment -> {
-                    throw new AppException(ErrorCode.DUPLICATED_ENROLLMENT);
-                }));
+        // 직원이 수강 취소를 진행할 권한이 있는지 확인(강사만 불가능)
+        if (Employee.isTeacherAuthority(employee)) {
+            throw new AppException(ErrorCode.INVALID_PERMISSION);
+        }
+
+        // 수강 이력 존재 유무 확인 - 해당 강좌의 수강 이력이 아니면 ENROLLMENT_NOT_FOUND
+        List<Long> distinctEnrollmentIds = new ArrayList<>(new LinkedHashSet<>(enrollmentIds));
+        List<List<Long>> chunks = InClauseUtil.chunks(distinctEnrollmentIds);
+        for (List<Long> chunk : chunks) {
+            List<Enrollment> enrollments = enrollmentRepository.findAllById(chunk);
+            if (enrollments.size() != chunk.size() || enrollments.stream().anyMatch(enrollment -> !lectureId.equals(enrollment.getLecture().getId()))) {
+                throw new AppException(ErrorCode.ENROLLMENT_NOT_FOUND);
+            }
+        }
 
-        // 수강 내역 생성
-        lecture.plusCurrentEnrollmentNumber();
-        Enrollment enrollment = Enrollment.createEnrollment(student, lecture, employee, academyId);
+        // 수강 이력 삭제 (마지막 수정 직원 -> 취소 직원)
+        String deleteEmployee = employee.getId() + " (" + employee.getName() + ")";
+        LocalDateTime now = LocalDateTime.now();
+        for (List<Long> chunk : chunks) {
+            enrollmentRepository.markDeletedByIdIn(chunk, deleteEmployee, now);
+        }
 
-        // 수강 내역 저장
-        enrollmentRepository.save(enrollment);
+        // 현재 등록인원 -취소 인원
+        lectureRepository.releaseSeats(lectureId, distinctEnrollmentIds.size());
+
+        // 반납된 좌석만큼 대기자를 먼저 등록된 순서대로 수강 등록
+        int promotedCount = waitinglistPromotionService.promote(academy.getId(), lecture, employee);
+
+        return DeleteEnrollmentsResponse.of(lectureId, distinctEnrollmentIds.size(), promotedCount);
     }
 
     /**
      * 결제 UI용 메서드
+     * 학원의 학생 이름으로 수강 신청 내역을 최신순으로 페이징 조회한다. (조인 쿼리 한 번 + count 쿼리 한 번)
+     * 정렬은 쿼리에 고정되어 있으므로 pageable 의 정렬 조건은 사용하지 않는다.
      */
     public Page<FindEnrollmentResponse> findEnrollmentForPay(Long academyId, String studentName, Pageable pageable) {
 
-        // 학원과 학생 이름으로 student 객체를 찾아온다.
-        Page<Student> foundStudents = studentRepository.findByAcademyIdAndName(academyId, studentName, pageable);
-
-        // 모두 이 컬렉션에 저장할 것이다.
-        List<FindEnrollmentResponse> finalEnrollments = new ArrayList<>();
-
-        // student 객체로 수강등록 데이터를 찾아온다 ( 근데 여러개일 수 있다.)
-        for (Student foundStudent : foundStudents) {
-            List<Enrollment> founds = enrollmentRepository.findByStudentOrderByCreatedAtDesc(foundStudent);
-            for (Enrollment found : founds) {
-                finalEnrollments.add(new FindEnrollmentResponse(found));
-            }
-        }
-        return new PageImpl<>(finalEnrollments);
+        return enrollmentRepository.findForPayByAcademyIdAndStudentName(academyId, studentName,
+                PageRequest.of(pageable.getPageNumber(), pageable.getPageSize()));
     }
 
     /**
@@ -266,7 +346,7 @@ public class EnrollmentService {
         // 학생 존재 유무 확인
         Student foundStudent = validateStudentById(studentId);
 
-        return enrollmentRepository.findByStudentAndPaymentYNIsTrue(foundStudent, pageable).map(FindEnrollmentResponse::new);
+        return enrollmentRepository.findPaidByStudentId(foundStudent.getId(), pageable);
     }
 
     /**
@@ -274,10 +354,8 @@ public class EnrollmentService {
      */
     public Page<FindEnrollmentResponse> findAllEnrollmentForPay(Long academyId, Pageable pageable) {
 
-        //해당 학원의 모든 수강 신청 내역을 page 로 가져온다.
-        Page<Enrollment> foundAllEnrollments = enrollmentRepository.findAllByAcademyIdAndPaymentYNIsFalseOrderByCreatedAtDesc(academyId, pageable);
-
-        return foundAllEnrollments.map(FindEnrollmentResponse::new);
+        //해당 학원의 모든 수강 신청 내역을 page 로 가져온다. (정렬은 쿼리에 고정)
+        return enrollmentRepository.findForPayByAcademyId(academyId, PageRequest.of(pageable.getPageNumber(), pageable.getPageSize()));
     }
 
     /**
@@ -287,10 +365,8 @@ public class EnrollmentService {
     public FindEnrollmentResponse findEnrollmentForPaySuccess(Long studentId, Long lectureId) {
 
         //해당 학원의 특정 학생의 특정 과목 수강신청 내역을 가져온다.
-        Enrollment foundEnrollment = enrollmentRepository.findByLecture_IdAndStudent_Id(lectureId, studentId)
+        return enrollmentRepository.findForPayByLectureIdAndStudentId(lectureId, studentId)
                 .orElseThrow(() -> new AppException(ErrorCode.ENROLLMENT_NOT_FOUND));
-
-        return new FindEnrollmentResponse(foundEnrollment);
     }
 
     /**
@@ -305,7 +381,7 @@ public class EnrollmentService {
         // 강좌 존재 유무 확인
         Lecture foundLecture = validateLectureById(lectureId);
 
-        return enrollmentRepository.findByLectureAndPaymentYNIsTrue(foundLecture, pageable).map(FindStudentInfoFromEnrollmentByLectureResponse::new);
+        return enrollmentRepository.findPaidRosterByLectureId(foundLecture.getId(), pageable);
     }
 
     /**
@@ -320,19 +396,58 @@ public class EnrollmentService {
         // 강좌 존재 유무 확인
         Lecture foundLecture = validateLectureById(lectureId);
 
-        return enrollmentRepository.findByLecture(foundLecture).stream().map(FindStudentInfoFromEnrollmentByLectureResponse::new).collect(Collectors.toList());
+        return enrollmentRepository.findRosterByLectureIdIn(List.of(foundLecture.getId()));
+    }
+
+    /**
+     * 여러 강좌의 수강 신청자 명단을 한 번에 조회하는 메서드 UI용
+     * 강좌마다 findAllStudentInfoFromEnrollmentByLecture 를 호출하던 화면(메인, 수강 등록)에서 사용한다.
+     * 명단에 필요한 컬럼만 응답 DTO 로 바로 조회하고(엔티티를 만들지 않음), 강좌 id 는 InClauseUtil.CHUNK_SIZE 개씩 나누어 IN 절로 조회한다.
+     * 강좌 id 는 직전에 조회한 강좌 목록에서 꺼낸 값이므로, 강좌 존재 유무는 따로 확인하지 않는다.
+     *
+     * @param academyId      직원의 소속 학원 id
+     * @param requestAccount 조회 진행하는 직원 계정
+     * @param lectureIds     명단을 조회할 강좌 id 목록
+     * @return 강좌 id 별 수강 신청자 명단 (수강신청내역이 없는 강좌는 빈 목록)
+     */
+    public Map<Long, List<FindStudentInfoFromEnrollmentByLectureResponse>> findAllStudentInfoFromEnrollmentByLectures(Long academyId, String requestAccount, Collection<Long> lectureIds) {
+
+        // 조회 진행하는 직원 권한 확인(학원 존재 유무, 해당 학원 직원인지 확인)
+        Academy academy = validateAcademyById(academyId);
+        validateRequestEmployeeByAcademy(requestAccount, academy);
+
+        return findAllStudentInfoFromEnrollmentByLectures(lectureIds);
+    }
+
+    /**
+     * 여러 강좌의 수강 신청자 명단을 한 번에 조회 - 학원 · 요청 직원 확인을 마친 경우 (DashboardService)
+     *
+     * @param lectureIds 명단을 조회할 강좌 id 목록 (확인한 학원의 강좌 목록에서 꺼낸 값)
+     * @return 강좌 id 별 수강 신청자 명단 (수강신청내역이 없는 강좌는 빈 목록)
+     */
+    public Map<Long, List<FindStudentInfoFromEnrollmentByLectureResponse>> findAllStudentInfoFromEnrollmentByLectures(Collection<Long> lectureIds) {
+
+        Map<Long, List<FindStudentInfoFromEnrollmentByLectureResponse>> rosters = new LinkedHashMap<>();
+        lectureIds.forEach(lectureId -> rosters.put(lectureId, new ArrayList<>()));
+
+        for (List<Long> chunk : InClauseUtil.chunks(rosters.keySet())) {
+            for (FindStudentInfoFromEnrollmentByLectureResponse student : enrollmentRepository.findRosterByLectureIdIn(chunk)) {
+                rosters.get(student.getLectureId()).add(student);
+            }
+        }
+        return rosters;
     }
 
     // 학원 Id로 학원을 조회 - 없을시 ACADEMY_NOT_FOUND 에러발생
     private Academy validateAcademyById(Long academyId) {
-        return academyRepository.findById(academyId)
-                .orElseThrow(() -> new AppException(ErrorCode.ACADEMY_NOT_FOUND));
+        return TenantContext.academy(academyId, () -> academyRepository.findById(academyId)
+                .orElseThrow(() -> new AppException(ErrorCode.ACADEMY_NOT_FOUND)));
     }
 
     // 요청하는 계정과 학원으로 직원을 조회 - 없을시 REQUEST_EMPLOYEE_NOT_FOUND 에러발생
     public Employee validateRequestEmployeeByAcademy(String account, Academy academy) {
-        return employeeRepository.findByAccountAndAcademy(account, academy)
-                .orElseThrow(() -> new AppException(ErrorCode.REQUEST_EMPLOYEE_NOT_FOUND));
+        return TenantContext.requestEmployee(account, academy, () -> employeeRepository.findByAccountAndAcademy(account, academy)
+                .orElseThrow(() -> new AppException(ErrorCode.REQUEST_EMPLOYEE_NOT_FOUND)));
     }
 
     // 학생 Id로 학생을 조회 - 없을시 STUDENT_NOT_FOUND 에러발생
@@ -0,0 +1,117 @@
+package com.project.myacademy.domain.enrollment;
+
+import com.project.myacademy.domain.employee.Employee;
+import com.project.myacademy.domain.lecture.Lecture;
+import com.project.myacademy.domain.lecture.LectureRepository;
+import com.project.myacademy.domain.waitinglist.Waitinglist;
+import com.project.myacademy.domain.waitinglist.WaitinglistIndex;
+import com.project.myacademy.domain.waitinglist.WaitinglistRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 대기번호 -> 수강등록 승급
+ * 강좌의 남은 좌석 수만큼 먼저 등록된 대기자부터(FIFO) 한 번에 수강 등록한다.
+ * 수강 삭제, 수강 일괄 취소, 강좌 수정(최대 수강정원 변경)에서 호출하며, 호출한 쪽의 트랜잭션에 참여한다.
+ *
+ * - 대기자는 행 잠금으로 조회하므로 동시에 승급하는 요청이 같은 대기자를 두 번 등록하지 않는다.
+ * - 좌석은 UPDATE 한 번으로 승급 인원만큼 확보하고, 수강 내역은 JDBC batch insert 로 저장한다.
+ * - 이미 수강 등록된 대기자는 좌석 없이 대기번호만 삭제한다.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional
+@Slf4j
+public class WaitinglistPromotionService {
+
+    // 남은 좌석을 읽은 뒤 다른 요청이 좌석을 가져간 경우 다시 읽고 확보하는 최대 횟수
+    private static final int MAX_RESERVE_ATTEMPTS = 3;
+
+    private final LectureRepository lectureRepository;
+    private final EnrollmentRepository enrollmentRepository;
+    private final EnrollmentJdbcRepository enrollmentJdbcRepository;
+    private final WaitinglistRepository waitinglistRepository;
+    private final WaitinglistIndex waitinglistIndex;
+
+    /**
+     * 남은 좌석만큼 대기자를 수강 등록
+     *
+     * @param academyId 학원 id
+     * @param lecture   강좌
+     * @param employee  승급을 일으킨 직원 (수강 내역의 등록 직원으로 기록)
+     * @return 수강 등록된 대기자 수
+     */
+    public int promote(Long academyId, Lecture lecture, Employee employee) {
+
+        Long lectureId = lecture.getId();
+        int promoted = 0;
+        int failedAttempts = 0;
+
+        while (failedAttempts < MAX_RESERVE_ATTEMPTS) {
+
+            // 남은 좌석이 없거나 강좌가 삭제되었으면 종료
+            Integer remainingSeats = lectureRepository.findRemainingSeats(lectureId);
+            if (remainingSeats == null || remainingSeats <= 0) {
+                break;
+            }
+
+            // 남은 좌석 수만큼 먼저 등록된 대기자 조회 - 없으면 종료
+            List<Waitinglist> waiters = waitinglistRepository.findFirstWaitersForUpdate(lectureId, PageRequest.of(0, remainingSeats));
+            if (waiters.isEmpty()) {
+                break;
+            }
+
+            // 이미 수강 등록된 대기자는 좌석 없이 대기번호만 삭제
+            List<Long> studentIds = waiters.stream().map(waitinglist -> waitinglist.getStudent().getId()).collect(Collectors.toList());
+            Set<Long> enrolledStudentIds = new HashSet<>(enrollmentRepository.findStudentIdsByLectureIdAndStudentIdIn(lectureId, studentIds));
+            List<Waitinglist> promotions = new ArrayList<>();
+            for (Waitinglist waitinglist : waiters) {
+                if (!enrolledStudentIds.contains(waitinglist.getStudent().getId())) {
+                    promotions.add(waitinglist);
+                }
+            }
+
+            if (!promotions.isEmpty()) {
+
+                // 좌석 확보 - 실패하면 남은 좌석을 다시 읽는다.
+                if (lectureRepository.reserveSeats(lectureId, promotions.size()) == 0) {
+                    failedAttempts++;
+                    continue;
+                }
+
+                // 수강 내역 저장
+                enrollmentJdbcRepository.batchInsert(promotions.stream()
+                        .map(waitinglist -> Enrollment.createEnrollment(waitinglist.getStudent(), lecture, employee, academyId))
+                        .collect(Collectors.toList()));
+            }
+
+            // 대기번호 삭제 (대기자 색인은 커밋 후 반영)
+            waitinglistRepository.markDeletedByIdIn(waiters.stream().map(Waitinglist::getId).collect(Collectors.toList()), LocalDateTime.now());
+            waitinglistIndex.remove(lectureId, studentIds);
+            promoted += promotions.size();
+
+            // 대기자를 모두 등록했으면 종료
+            if (waiters.size() < remainingSeats) {
+                break;
+            }
+        }
+
+        if (failedAttempts == MAX_RESERVE_ATTEMPTS) {
+            log.info("대기번호 수강등록 중단 - 강좌 [{}] 좌석 확보 실패, 등록 [{}]명", lectureId, promoted);
+        }
+        if (promoted > 0) {
+            log.info("대기번호 수강등록 - 강좌 [{}] [{}]명", lectureId, promoted);
+        }
+        return promoted;
+    }
+}
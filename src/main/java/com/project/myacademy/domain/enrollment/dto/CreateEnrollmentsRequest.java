@@ -0,0 +1,21 @@
+package com.project.myacademy.domain.enrollment.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.validation.constraints.NotEmpty;
+import javax.validation.constraints.Size;
+import java.util.List;
+
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+@Builder
+public class CreateEnrollmentsRequest {
+
+    @NotEmpty(message = "등록할 학생을 선택해주세요.")
+    @Size(max = 5000, message = "한 번에 등록할 수 있는 학생은 최대 5000명입니다.")
+    private List<Long> studentIds;
+}
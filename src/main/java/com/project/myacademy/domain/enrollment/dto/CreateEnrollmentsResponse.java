@@ -0,0 +1,22 @@
+package com.project.myacademy.domain.enrollment.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@AllArgsConstructor
+@Getter
+@Builder
+public class CreateEnrollmentsResponse {
+
+    private Long lectureId;
+    private Integer enrolledCount;
+    private List<Long> studentIds;
+    private String message;
+
+    public static CreateEnrollmentsResponse of(Long lectureId, List<Long> studentIds) {
+        return new CreateEnrollmentsResponse(lectureId, studentIds.size(), studentIds, "수강 일괄 등록 완료");
+    }
+}
@@ -0,0 +1,20 @@
+package com.project.myacademy.domain.enrollment.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+@AllArgsConstructor
+@Getter
+@Builder
+public class DeleteEnrollmentsResponse {
+
+    private Long lectureId;
+    private Integer deletedCount;
+    private Integer promotedCount;
+    private String message;
+
+    public static DeleteEnrollmentsResponse of(Long lectureId, int deletedCount, int promotedCount) {
+        return new DeleteEnrollmentsResponse(lectureId, deletedCount, promotedCount, "수강 일괄 취소 완료");
+    }
+}
@@ -9,6 +9,7 @@ import lombok.NoArgsConstructor;
 import java.sql.Timestamp;
 import java.text.SimpleDateFormat;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 
 @AllArgsConstructor
 @NoArgsConstructor
@@ -32,6 +33,28 @@ public class FindEnrollmentResponse {
     private String lectureTime;
     private LocalDate startDate;
     private LocalDate finishDate;
+
+    // 조회 쿼리에서 바로 만드는 생성자 (EnrollmentRepository.findForPayByAcademyIdAndStudentName 등)
+    public FindEnrollmentResponse(Long enrollmentId, Long studentId, Long lectureId, String studentName, String studentEmail, String studentPhoneNum,
+                                  String lectureName, String teacherName, Integer price, Boolean paymentYN, LocalDateTime createdAt,
+                                  String lectureDay, String lectureTime, LocalDate startDate, LocalDate finishDate) {
+        this.enrollmentId = enrollmentId;
+        this.studentId = studentId;
+        this.lectureId = lectureId;
+        this.studentName = studentName;
+        this.studentEmail = studentEmail;
+        this.studentPhoneNum = studentPhoneNum;
+        this.lectureName = lectureName;
+        this.price = price;
+        this.discount = price;
+        this.lectureTime = lectureDay + " // " + lectureTime;
+        this.paymentYN = paymentYN;
+        this.teacherName = teacherName;
+        this.createdAt = new SimpleDateFormat("yyyy/MM/dd HH:mm:ss").format(Timestamp.valueOf(createdAt));
+        this.startDate = startDate;
+        this.finishDate = finishDate;
+    }
+
     public FindEnrollmentResponse(Enrollment enrollment) {
         this.enrollmentId = enrollment.getId();
         this.studentId = enrollment.getStudent().getId();
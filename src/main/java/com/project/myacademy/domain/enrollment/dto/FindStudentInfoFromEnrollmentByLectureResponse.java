@@ -29,6 +29,18 @@ public class FindStudentInfoFromEnrollmentByLectureResponse {
         this.lectureId = lectureId;
     }
 
+    // 조회 쿼리에서 바로 만드는 생성자 (EnrollmentRepository.findRosterByLectureIdIn, findPaidRosterByLectureId)
+    public FindStudentInfoFromEnrollmentByLectureResponse(Long enrollmentId, Long lectureId, Long studentId, String studentName,
+                                                          String studentPhoneNum, String studentEmail, Boolean paymentYn) {
+        this.enrollmentId = enrollmentId;
+        this.lectureId = lectureId;
+        this.studentId = studentId;
+        this.studentName = studentName;
+        this.studentPhoneNum = studentPhoneNum;
+        this.studentEmail = studentEmail;
+        this.paymentYn = paymentYn;
+    }
+
     public FindStudentInfoFromEnrollmentByLectureResponse(Enrollment enrollment) {
         this.studentName = enrollment.getStudent().getName();
         this.studentPhoneNum = enrollment.getStudent().getPhoneNum();
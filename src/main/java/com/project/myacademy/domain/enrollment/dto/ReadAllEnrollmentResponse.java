@@ -6,6 +6,9 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+import java.time.LocalDateTime;
+
+// 필드 순서 = 조회 쿼리의 생성자 인자 순서 (EnrollmentRepository.findReadAllByAcademyId)
 @AllArgsConstructor
 @NoArgsConstructor
 @Getter
@@ -17,6 +20,7 @@ public class ReadAllEnrollmentResponse {
     private Integer lecturePrice;
     private String studentName;
     private String memo;
+    private LocalDateTime createdAt;
 
     public static ReadAllEnrollmentResponse of(Enrollment enrollment) {
         return ReadAllEnrollmentResponse.builder()
@@ -25,6 +29,7 @@ public class ReadAllEnrollmentResponse {
                 .lecturePrice(enrollment.getLecture().getPrice())
                 .studentName(enrollment.getStudent().getName())
                 .memo(enrollment.getMemo())
+                .createdAt(enrollment.getCreatedAt())
                 .build();
     }
 }
\ No newline at end of file
@@ -6,13 +6,12 @@ import com.project.myacademy.domain.file.employeeprofile.EmployeeProfileS3Upload
 import com.project.myacademy.domain.file.employeeprofile.dto.CreateEmployeeProfileResponse;
 import com.project.myacademy.domain.file.employeeprofile.dto.DeleteEmployeeProfileResponse;
 import com.project.myacademy.global.Response;
-import com.project.myacademy.global.util.AuthenticationUtil;
+import com.project.myacademy.global.configuration.jwt.EmployeePrincipal;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
@@ -32,8 +31,8 @@ public class AcademyProfileController {
     @PostMapping("/{academyId}/files/upload")
     public ResponseEntity<Response<CreateAcademyProfileResponse>> upload(@PathVariable("academyId") Long academyId,
                                                                          @RequestPart MultipartFile multipartFile,
-                                                                         Authentication authentication) {
-        String requestAccount = AuthenticationUtil.getAccountFromAuth(authentication);
+                                                                         EmployeePrincipal principal) {
+        String requestAccount = principal.getAccount();
         CreateAcademyProfileResponse profileResponse = academyProfileS3UploadService.uploadAcademyProfile(academyId, multipartFile, requestAccount);
         return ResponseEntity.ok().body(Response.success(profileResponse));
     }
@@ -45,8 +44,8 @@ public class AcademyProfileController {
     public ResponseEntity<Response<DeleteAcademyProfileResponse>> delete(@PathVariable("academyId") Long academyId,
                                                                          @PathVariable("academyProfileId") Long academyProfileId,
                                                                          @RequestParam String filePath,
-                                                                         Authentication authentication) {
-        String requestAccount = AuthenticationUtil.getAccountFromAuth(authentication);
+                                                                         EmployeePrincipal principal) {
+        String requestAccount = principal.getAccount();
         DeleteAcademyProfileResponse response = academyProfileS3UploadService.deleteAcademyProfile(academyId, academyProfileId, filePath, requestAccount);
         return ResponseEntity.ok().body(Response.success(response));
     }
@@ -56,8 +55,8 @@ public class AcademyProfileController {
     @GetMapping("/{academyId}/files/download")
     public ResponseEntity<byte[]> download(@PathVariable("academyId") Long academyId,
                                            @RequestParam String fileUrl,
-                                           Authentication authentication) throws IOException {
-        String requestAccount = AuthenticationUtil.getAccountFromAuth(authentication);
+                                           EmployeePrincipal principal) throws IOException {
+        String requestAccount = principal.getAccount();
         // 버킷 폴더 이하 경로
         String filePath = fileUrl.substring(56);
         log.info("filePath : {}", filePath);
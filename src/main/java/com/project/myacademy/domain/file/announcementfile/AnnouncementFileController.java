@@ -3,13 +3,12 @@ package com.project.myacademy.domain.file.announcementfile;
 import com.project.myacademy.domain.file.announcementfile.dto.CreateAnnouncementFileResponse;
 import com.project.myacademy.domain.file.announcementfile.dto.DeleteAnnoucementFileResponse;
 import com.project.myacademy.global.Response;
-import com.project.myacademy.global.util.AuthenticationUtil;
+import com.project.myacademy.global.configuration.jwt.EmployeePrincipal;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
@@ -31,8 +30,8 @@ public class AnnouncementFileController {
     public ResponseEntity<Response<CreateAnnouncementFileResponse>> upload(@PathVariable("academyId") Long academyId,
                                                                            @PathVariable("announcementId") Long announcementId,
                                                                            @RequestPart List<MultipartFile> multipartFile,
-                                                                           Authentication authentication) {
-        String requestAccount = AuthenticationUtil.getAccountFromAuth(authentication);
+                                                                           EmployeePrincipal principal) {
+        String requestAccount = principal.getAccount();
         CreateAnnouncementFileResponse fileResponse = announcementFileS3UploadService.uploadAnnouncementFile(academyId, announcementId, multipartFile, requestAccount);
         return ResponseEntity.ok().body(Response.success(fileResponse));
     }
@@ -45,8 +44,8 @@ public class AnnouncementFileController {
                                                                           @PathVariable("announcementId") Long announcementId,
                                                                           @PathVariable("announcementFileId") Long announcementFileId,
                                                                           @RequestParam String filePath,
-                                                                          Authentication authentication) {
-        String requestAccount = AuthenticationUtil.getAccountFromAuth(authentication);
+                                                                          EmployeePrincipal principal) {
+        String requestAccount = principal.getAccount();
         DeleteAnnoucementFileResponse fileResponse = announcementFileS3UploadService.deleteAnnouncementFile(academyId, announcementId, announcementFileId, filePath, requestAccount);
         return ResponseEntity.ok().body(Response.success(fileResponse));
     }
@@ -57,9 +56,9 @@ public class AnnouncementFileController {
     public ResponseEntity<byte[]> download(@PathVariable("academyId") Long academyId,
                                            @PathVariable("announcementId") Long announcementId,
                                            @RequestParam String fileUrl,
-                                           Authentication authentication) throws IOException {
+                                           EmployeePrincipal principal) throws IOException {
 
-        String requestAccount = AuthenticationUtil.getAccountFromAuth(authentication);
+        String requestAccount = principal.getAccount();
         // 버킷 폴더 이하 경로
         String filePath = fileUrl.substring(56);
         log.info("filePath : {}", filePath);
@@ -3,13 +3,12 @@ package com.project.myacademy.domain.file.employeeprofile;
 import com.project.myacademy.domain.file.employeeprofile.dto.CreateEmployeeProfileResponse;
 import com.project.myacademy.domain.file.employeeprofile.dto.DeleteEmployeeProfileResponse;
 import com.project.myacademy.global.Response;
-import com.project.myacademy.global.util.AuthenticationUtil;
+import com.project.myacademy.global.configuration.jwt.EmployeePrincipal;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
@@ -30,8 +29,8 @@ public class EmployeeProfileController {
     public ResponseEntity<Response<CreateEmployeeProfileResponse>> upload(@PathVariable("academyId") Long academyId,
                                                                           @PathVariable("employeeId") Long employeeId,
                                                                           @RequestPart MultipartFile multipartFile,
-                                                                          Authentication authentication) {
-        String requestAccount = AuthenticationUtil.getAccountFromAuth(authentication);
+                                                                          EmployeePrincipal principal) {
+        String requestAccount = principal.getAccount();
         CreateEmployeeProfileResponse profileResponse = employeeProfileS3UploadService.uploadEmployeeProfile(academyId, employeeId, multipartFile, requestAccount);
         return ResponseEntity.ok().body(Response.success(profileResponse));
     }
@@ -44,8 +43,8 @@ public class EmployeeProfileController {
                                                                           @PathVariable("employeeId") Long employeeId,
                                                                           @PathVariable("employeeProfileId") Long employeeProfileId,
                                                                           @RequestParam String filePath,
-                                                                          Authentication authentication) {
-        String requestAccount = AuthenticationUtil.getAccountFromAuth(authentication);
+                                                                          EmployeePrincipal principal) {
+        String requestAccount = principal.getAccount();
         DeleteEmployeeProfileResponse profileResponse = employeeProfileS3UploadService.deleteEmployeeProfile(academyId, employeeId, employeeProfileId, filePath, requestAccount);
         return ResponseEntity.ok().body(Response.success(profileResponse));
     }
@@ -56,8 +55,8 @@ public class EmployeeProfileController {
     public ResponseEntity<byte[]> download(@PathVariable("academyId") Long academyId,
                                            @PathVariable("employeeId") Long employeeId,
                                            @RequestParam String fileUrl,
-                                           Authentication authentication) throws IOException {
-        String requestAccount = AuthenticationUtil.getAccountFromAuth(authentication);
+                                           EmployeePrincipal principal) throws IOException {
+        String requestAccount = principal.getAccount();
         // 버킷 폴더 이하 경로
         String filePath = fileUrl.substring(56);
         log.info("filePath : {}", filePath);
@@ -5,6 +5,8 @@ import com.project.myacademy.domain.employee.Employee;
 import com.project.myacademy.domain.lecture.dto.CreateLectureRequest;
 import com.project.myacademy.domain.lecture.dto.UpdateLectureRequest;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.SQLDelete;
 import org.hibernate.annotations.Where;
 
@@ -12,6 +14,8 @@ import javax.persistence.*;
 import java.time.LocalDate;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.NONSTRICT_READ_WRITE)
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
 @Builder
@@ -53,7 +57,8 @@ public class Lecture extends BaseEntity {
     @Column(name = "last_modified_employee")
     private String modifiedEmployee;
 
-    @Column(name = "current_enrollment_number")
+    // 현재 등록인원은 LectureRepository.reserveSeat / releaseSeat 로만 변경 (엔티티 수정 시 이전 값으로 덮어쓰지 않도록 updatable = false)
+    @Column(name = "current_enrollment_number", updatable = false)
     private Integer currentEnrollmentNumber;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -103,14 +108,4 @@ public class Lecture extends BaseEntity {
         StringBuilder sb = new StringBuilder();
         this.modifiedEmployee = sb.append(employee.getId()).append(" (").append(employee.getName()).append(")").toString();
     }
-
-    // 현재 등록인원 +
-    public void plusCurrentEnrollmentNumber() {
-        this.currentEnrollmentNumber += 1;
-    }
-
-    // 현재 등록인원 -
-    public void minusCurrentEnrollmentNumber() {
-        this.currentEnrollmentNumber -= 1;
-    }
 }
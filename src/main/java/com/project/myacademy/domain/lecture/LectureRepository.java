@@ -4,11 +4,16 @@ import com.project.myacademy.domain.employee.Employee;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
-public interface LectureRepository extends JpaRepository<Lecture, Long> {
+// 좌석 변경(reserveSeat, releaseSeat, reserveSeats, releaseSeats)은 LectureSeatRepository
+public interface LectureRepository extends JpaRepository<Lecture, Long>, LectureSeatRepository {
 
     Optional<Lecture> findByName(String lectureName);
 
@@ -23,5 +28,13 @@ public interface LectureRepository extends JpaRepository<Lecture, Long> {
 
     Page<Lecture> findByAcademyIdAndFinishDateGreaterThanOrderByCreatedAtDesc(Long academyId, LocalDate finishDate, Pageable pageable);
 
+    // 남은 좌석 수 (2차 캐시를 거치지 않고 DB 의 현재 값을 읽는다. 강좌가 없으면 null)
+    @Query("select l.maximumCapacity - l.currentEnrollmentNumber from Lecture l where l.id = :lectureId")
+    Integer findRemainingSeats(@Param("lectureId") Long lectureId);
 
+    // 커서 페이징 - 학원의 강좌를 커서 (생성 시각, id) 이전부터 최신순으로 조회 (COUNT 없음)
+    @Query("select l from Lecture l where l.academyId = :academyId " +
+            "and (l.createdAt < :createdAt or (l.createdAt = :createdAt and l.id < :id)) " +
+            "order by l.createdAt desc, l.id desc")
+    List<Lecture> findByAcademyIdBeforeCursor(@Param("academyId") Long academyId, @Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Pageable pageable);
 }
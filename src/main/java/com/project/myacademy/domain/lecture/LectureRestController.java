@@ -1,10 +1,11 @@
 package com.project.myacademy.domain.lecture;
 
 import com.project.myacademy.domain.lecture.dto.*;
+import com.project.myacademy.global.CursorPage;
 import com.project.myacademy.global.Response;
+import com.project.myacademy.global.configuration.jwt.EmployeePrincipal;
 import com.project.myacademy.global.exception.BindingException;
 import com.project.myacademy.global.exception.ErrorCode;
-import com.project.myacademy.global.util.AuthenticationUtil;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
@@ -15,7 +16,6 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.Authentication;
 import org.springframework.validation.BindingResult;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
@@ -32,14 +32,25 @@ public class LectureRestController {
     // 강좌 전체 조회
     @Operation(summary = "강좌 전체 조회", description = "모든 강좌를 조회합니다.")
     @GetMapping("/{academyId}/lectures")
-    public ResponseEntity<Response<Page<ReadAllLectureResponse>>> readAll(@PathVariable("academyId") Long academyId, Authentication authentication,
+    public ResponseEntity<Response<Page<ReadAllLectureResponse>>> readAll(@PathVariable("academyId") Long academyId, EmployeePrincipal principal,
               @PageableDefault(size = 20, sort = {"createdAt"}, direction = Sort.Direction.DESC) Pageable pageable) {
-       String account = AuthenticationUtil.getAccountFromAuth(authentication);
+       String account = principal.getAccount();
        Page<ReadAllLectureResponse> lectures = lectureService.readAllLectures(academyId, account, pageable);
         log.info("강좌 리스트 조회 성공");
         return ResponseEntity.ok().body(Response.success(lectures));
     }
 
+    // 강좌 전체 조회 - 커서 페이징
+    @Operation(summary = "강좌 전체 조회 (커서)", description = "모든 강좌를 최신순으로 조회합니다. \n\n 첫 페이지는 cursor 를 비워서 요청하고, 다음 페이지는 응답의 nextCursor 로 요청합니다.")
+    @GetMapping(value = "/{academyId}/lectures", params = "cursor")
+    public ResponseEntity<Response<CursorPage<ReadAllLectureResponse>>> readAllByCursor(@PathVariable("academyId") Long academyId, EmployeePrincipal principal,
+              @RequestParam("cursor") String cursor, @RequestParam(value = "size", defaultValue = "20") int size) {
+        String account = principal.getAccount();
+        CursorPage<ReadAllLectureResponse> lectures = lectureService.readAllLecturesByCursor(academyId, account, cursor, size);
+        log.info("강좌 리스트 조회 성공");
+        return ResponseEntity.ok().body(Response.success(lectures));
+    }
+
     // 강좌 등록
     @Operation(summary = "강좌 등록", description = "ADMIN,STAFF 회원만 등록이 가능합니다.")
     @PostMapping("/{academyId}/employees/{employeeId}/lectures")
@@ -47,13 +58,13 @@ public class LectureRestController {
                                                                   @PathVariable("employeeId") Long employeeId,
                                                                   @Validated @RequestBody CreateLectureRequest request,
                                                                   BindingResult bindingResult,
-                                                                  Authentication authentication) {
+                                                                  EmployeePrincipal principal) {
 
         if (bindingResult.hasFieldErrors()) {
             throw new BindingException(ErrorCode.BINDING_ERROR, bindingResult.getFieldError().getDefaultMessage());
         }
 
-        String account = AuthenticationUtil.getAccountFromAuth(authentication);
+        String account = principal.getAccount();
         CreateLectureResponse createdLecture = lectureService.createLecture(academyId, employeeId, request, account);
         log.info("강좌 정보 생성 성공");
         return ResponseEntity.ok().body(Response.success(createdLecture));
@@ -65,8 +76,8 @@ public class LectureRestController {
     public ResponseEntity<Response<UpdateLectureResponse>> update(@PathVariable("academyId") Long academyId,
                                                                   @PathVariable("lectureId") Long lectureId,
                                                                   @RequestBody UpdateLectureRequest request,
-                                                                  Authentication authentication) {
-        String account = AuthenticationUtil.getAccountFromAuth(authentication);
+                                                                  EmployeePrincipal principal) {
+        String account = principal.getAccount();
         UpdateLectureResponse updatedLecture = lectureService.updateLecture(academyId, lectureId, request, account);
         log.info("강좌 정보 수정 성공");
         return ResponseEntity.ok().body(Response.success(updatedLecture));
@@ -77,8 +88,8 @@ public class LectureRestController {
     @DeleteMapping("/{academyId}/lectures/{lectureId}")
     public ResponseEntity<Response<DeleteLectureResponse>> delete(@PathVariable("academyId") Long academyId,
                                                                   @PathVariable("lectureId") Long lectureId,
-                                                                  Authentication authentication) {
-        String account = AuthenticationUtil.getAccountFromAuth(authentication);
+                                                                  EmployeePrincipal principal) {
+        String account = principal.getAccount();
         DeleteLectureResponse deletedLecture = lectureService.deleteLecture(academyId, lectureId, account);
         log.info("강좌 정보 삭제 성공");
         return ResponseEntity.ok(Response.success(deletedLecture));
@@ -0,0 +1,20 @@
+package com.project.myacademy.domain.lecture;
+
+/**
+ * 강좌 좌석(현재 등록인원) 변경
+ * 조건 확인과 변경을 UPDATE 한 번으로 처리하고, 수정된 행 수를 반환한다.
+ */
+public interface LectureSeatRepository {
+
+    // 현재 등록인원 +1 (최대 수강정원 미만일 때만) - 수정된 행 수(0 이면 정원 초과) 반환
+    int reserveSeat(Long lectureId);
+
+    // 현재 등록인원 -1 (0 미만으로 내려가지 않음)
+    int releaseSeat(Long lectureId);
+
+    // 현재 등록인원 +count (최대 수강정원을 넘지 않을 때만) - 등록 요청 여러 건의 좌석을 UPDATE 한 번으로 확보
+    int reserveSeats(Long lectureId, int count);
+
+    // 현재 등록인원 -count (0 미만으로 내려가지 않음) - 수강 일괄 취소 시 좌석을 UPDATE 한 번으로 반납
+    int releaseSeats(Long lectureId, int count);
+}
@@ -0,0 +1,74 @@
+package com.project.myacademy.domain.lecture;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.persistence.EntityManager;
+
+/**
+ * 강좌 좌석 변경 구현
+ *
+ * JPQL 벌크 UPDATE 는 Hibernate 가 Lecture 2차 캐시 리전 전체를 비우므로(Redis 세대 키 증가 + 무효화 메시지 발행),
+ * 수강 등록 · 취소마다 모든 강좌의 캐시가 사라진다. 그래서 UPDATE 는 JdbcTemplate 으로 같은 트랜잭션 커넥션에서 실행하고,
+ * 2차 캐시에서는 변경한 강좌 하나만 지운다.
+ * - 실행 전 : 영속성 컨텍스트의 변경 내용을 먼저 반영한다. (@Modifying 의 flushAutomatically)
+ * - 실행 후 : 이전 등록인원을 가진 Lecture 를 다시 읽지 않도록 영속성 컨텍스트를 비운다. (@Modifying 의 clearAutomatically)
+ */
+@RequiredArgsConstructor
+public class LectureSeatRepositoryImpl implements LectureSeatRepository {
+
+    private static final String RESERVE_SEATS_SQL = "update lecture_tb set current_enrollment_number = current_enrollment_number + ? "
+            + "where lecture_id = ? and current_enrollment_number + ? <= maximum_capacity";
+    private static final String RELEASE_SEAT_SQL = "update lecture_tb set current_enrollment_number = current_enrollment_number - 1 "
+            + "where lecture_id = ? and current_enrollment_number > 0";
+    private static final String RELEASE_SEATS_SQL = "update lecture_tb set current_enrollment_number = "
+            + "case when current_enrollment_number > ? then current_enrollment_number - ? else 0 end "
+            + "where lecture_id = ?";
+
+    private final EntityManager entityManager;
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public int reserveSeat(Long lectureId) {
+        return reserveSeats(lectureId, 1);
+    }
+
+    @Override
+    public int releaseSeat(Long lectureId) {
+        return update(lectureId, RELEASE_SEAT_SQL, lectureId);
+    }
+
+    @Override
+    public int reserveSeats(Long lectureId, int count) {
+        return update(lectureId, RESERVE_SEATS_SQL, count, lectureId, count);
+    }
+
+    @Override
+    public int releaseSeats(Long lectureId, int count) {
+        return update(lectureId, RELEASE_SEATS_SQL, count, count, lectureId);
+    }
+
+    private int update(Long lectureId, String sql, Object... args) {
+        entityManager.flush();
+        int updated = jdbcTemplate.update(sql, args);
+        entityManager.clear();
+
+        // 커밋 전에 다른 트랜잭션이 이전 값을 다시 캐시할 수 있으므로 커밋 이후에 한 번 더 지운다.
+        evict(lectureId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evict(lectureId);
+                }
+            });
+        }
+        return updated;
+    }
+
+    private void evict(Long lectureId) {
+        entityManager.getEntityManagerFactory().getCache().evict(Lecture.class, lectureId);
+    }
+}
@@ -5,9 +5,12 @@ import com.project.myacademy.domain.academy.AcademyRepository;
 import com.project.myacademy.domain.employee.Employee;
 import com.project.myacademy.domain.employee.EmployeeRepository;
 import com.project.myacademy.domain.employee.EmployeeRole;
+import com.project.myacademy.domain.enrollment.WaitinglistPromotionService;
 import com.project.myacademy.domain.lecture.dto.*;
+import com.project.myacademy.global.CursorPage;
 import com.project.myacademy.global.exception.AppException;
 import com.project.myacademy.global.exception.ErrorCode;
+import com.project.myacademy.global.util.TenantContext;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
@@ -32,6 +35,7 @@ public class LectureService {
     private final AcademyRepository academyRepository;
     private final EmployeeRepository employeeRepository;
     private final LectureRepository lectureRepository;
+    private final WaitinglistPromotionService waitinglistPromotionService;
 
     /**
      * 모든 강좌 조회
@@ -53,6 +57,30 @@ public class LectureService {
         return lectures.map(ReadAllLectureResponse::of);
     }
 
+    /**
+     * 모든 강좌 조회 - 커서 페이징 (최신 등록순, COUNT 없음)
+     *
+     * @param academyId 직원의 소속 학원 id
+     * @param account   jwt로 받아온 사용자(Employee) 계정
+     * @param cursor    이전 페이지 응답의 nextCursor (첫 페이지는 빈 값)
+     * @param size      페이지 크기
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<ReadAllLectureResponse> readAllLecturesByCursor(Long academyId, String account, String cursor, int size) {
+
+        // 조회될 학원 존재 유무 확인
+        Academy academy = validateAcademyById(academyId);
+
+        // 조회 작업을 진행하는 직원이 해당 학원 소속 직원인지 확인
+        validateRequestEmployeeByAcademy(account, academy);
+
+        CursorPage.Key key = CursorPage.decode(cursor);
+        int pageSize = CursorPage.clamp(size);
+        List<Lecture> lectures = lectureRepository.findByAcademyIdBeforeCursor(academyId, key.getCreatedAt(), key.getId(), CursorPage.limit(pageSize));
+
+        return CursorPage.of(lectures, pageSize, Lecture::getCreatedAt, Lecture::getId, ReadAllLectureResponse::of);
+    }
+
     /**
      * 강좌 생성
      *
@@ -118,8 +146,14 @@ public class LectureService {
         }
 
         // 강좌 정보 수정
+        Integer previousCapacity = lecture.getMaximumCapacity();
         lecture.updateLecture(employee, request);
 
+        // 최대 수강정원이 늘었으면 늘어난 좌석만큼 대기자를 먼저 등록된 순서대로 수강 등록
+        if (previousCapacity != null && request.getMaximumCapacity() != null && request.getMaximumCapacity() > previousCapacity) {
+            waitinglistPromotionService.promote(academyId, lecture, employee);
+        }
+
         return UpdateLectureResponse.of(lectureId);
     }
 
@@ -209,6 +243,13 @@ public class LectureService {
         // 요청하는 계정과 학원으로 직원을 조회 - 없을시 REQUEST_EMPLOYEE_NOT_FOUND 에러발생
         validateRequestEmployeeByAcademy(account, academy);
 
+        return readAllTodayLectures(academy, pageable);
+    }
+
+    // 오늘의 강의 조회 - 학원 · 요청 직원 확인을 마친 경우 (DashboardService)
+    public List<ReadAllLectureResponse> readAllTodayLectures(Academy academy, Pageable pageable) {
+
+        Long academyId = academy.getId();
         LocalDate today = LocalDate.now();
         DayOfWeek dayOfWeek = today.getDayOfWeek();
         String koreanDay = dayOfWeek.getDisplayName(TextStyle.NARROW, Locale.KOREA);
@@ -233,14 +274,14 @@ public class LectureService {
 
     // 학원 Id로 학원 조회 - 없을시 ACADEMY_NOT_FOUND 에러발생
     private Academy validateAcademyById(Long academyId) {
-        return academyRepository.findById(academyId)
-                .orElseThrow(() -> new AppException(ErrorCode.ACADEMY_NOT_FOUND));
+        return TenantContext.academy(academyId, () -> academyRepository.findById(academyId)
+                .orElseThrow(() -> new AppException(ErrorCode.ACADEMY_NOT_FOUND)));
     }
 
     // 요청하는 계정과 학원으로 직원 조회 - 없을시 REQUEST_EMPLOYEE_NOT_FOUND 에러발생
     public Employee validateRequestEmployeeByAcademy(String account, Academy academy) {
-        return employeeRepository.findByAccountAndAcademy(account, academy)
-                .orElseThrow(() -> new AppException(ErrorCode.REQUEST_EMPLOYEE_NOT_FOUND));
+        return TenantContext.requestEmployee(account, academy, () -> employeeRepository.findByAccountAndAcademy(account, academy)
+                .orElseThrow(() -> new AppException(ErrorCode.REQUEST_EMPLOYEE_NOT_FOUND)));
     }
 
     // 강사 Id와 학원으로 직원 조회 - 없을시 EMPLOYEE_NOT_FOUND 에러발생
@@ -0,0 +1,93 @@
+package com.project.myacademy.domain.notification;
+
+import com.project.myacademy.domain.BaseEntity;
+import lombok.*;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * 알림 발송함(outbox)
+ * 알림을 발생시킨 작업과 같은 트랜잭션에서 저장하고, NotificationDispatcher 가 따로 발송한다.
+ */
+@Entity
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+@Getter
+@Table(name = "notification_tb", indexes = @Index(name = "idx_notification_status_next_attempt", columnList = "status, next_attempt_at"))
+public class Notification extends BaseEntity {
+
+    // 실패 사유 컬럼 길이
+    private static final int ERROR_LENGTH = 500;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "notification_id")
+    private Long id;
+
+    private Long academyId;
+
+    @Enumerated(EnumType.STRING)
+    private NotificationType type;
+
+    @Column(name = "to_address")
+    private String toAddress;
+
+    private String subject;
+
+    @Column(length = 2000)
+    private String body;
+
+    @Enumerated(EnumType.STRING)
+    private NotificationStatus status;
+
+    // 발송 시도 횟수
+    private int attempts;
+
+    // 이 시각 이후에 발송 (재시도 대기, 발송 중 선점)
+    @Column(name = "next_attempt_at")
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "last_error", length = ERROR_LENGTH)
+    private String lastError;
+
+    @Column(name = "sent_at")
+    private LocalDateTime sentAt;
+
+    public static Notification of(NotificationType type, Long academyId, String toAddress, String subject, String body, LocalDateTime now) {
+        return Notification.builder()
+                .type(type)
+                .academyId(academyId)
+                .toAddress(toAddress)
+                .subject(subject)
+                .body(body)
+                .status(NotificationStatus.PENDING)
+                .attempts(0)
+                .nextAttemptAt(now)
+                .build();
+    }
+
+    // 발송 선점 - 선점한 서버가 결과를 기록하지 못하고 종료되면 until 이후 다시 발송 대상이 된다.
+    public void claim(LocalDateTime until) {
+        this.nextAttemptAt = until;
+    }
+
+    public void markSent(LocalDateTime now) {
+        this.status = NotificationStatus.SENT;
+        this.attempts++;
+        this.sentAt = now;
+        this.lastError = null;
+    }
+
+    // 발송 실패 - 최대 시도 횟수에 도달하면 DEAD, 아니면 nextAttemptAt 에 재시도
+    public void markFailed(String error, LocalDateTime nextAttemptAt, int maxAttempts) {
+        this.attempts++;
+        this.lastError = error == null || error.length() <= ERROR_LENGTH ? error : error.substring(0, ERROR_LENGTH);
+        if (this.attempts >= maxAttempts) {
+            this.status = NotificationStatus.DEAD;
+        } else {
+            this.nextAttemptAt = nextAttemptAt;
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package com.project.myacademy.domain.notification;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.MimeMessageHelper;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.mail.MessagingException;
+import javax.mail.internet.MimeMessage;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 알림 발송기
+ * notification.dispatch.interval-ms 마다 발송함에서 발송할 알림을 batch-size 건씩 선점해 메일로 보낸다.
+ *
+ * - 한 배치의 메일은 JavaMailSender.send(MimeMessage...) 한 번으로 보낸다. (SMTP 연결 하나로 여러 건 전송)
+ * - 선점 · 결과 기록은 각각 짧은 트랜잭션이고, SMTP 전송 중에는 DB 트랜잭션 · 행 잠금을 잡지 않는다.
+ * - 배치를 가득 채워 보냈다면 남은 알림이 있을 수 있으므로 다음 주기를 기다리지 않고 이어서 보낸다.
+ *
+ * notification.dispatch.enabled=false 이면 동작하지 않는다. (알림은 발송함에 계속 쌓임)
+ */
+@Component
+@ConditionalOnProperty(name = "notification.dispatch.enabled", havingValue = "true", matchIfMissing = true)
+@Slf4j
+public class NotificationDispatcher {
+
+    private final NotificationService notificationService;
+    private final JavaMailSender sender;
+    private final int batchSize;
+    private final Duration lease;
+
+    public NotificationDispatcher(NotificationService notificationService, JavaMailSender sender,
+                                  @Value("${notification.dispatch.batch-size:50}") int batchSize,
+                                  @Value("${notification.dispatch.lease-ms:300000}") long leaseMillis) {
+        this.notificationService = notificationService;
+        this.sender = sender;
+        this.batchSize = batchSize;
+        this.lease = Duration.ofMillis(leaseMillis);
+    }
+
+    @Scheduled(fixedDelayString = "${notification.dispatch.interval-ms:1000}")
+    public void dispatch() {
+        List<Notification> notifications;
+        do {
+            notifications = notificationService.claimDue(batchSize, lease);
+            if (!notifications.isEmpty()) {
+                send(notifications);
+            }
+        } while (notifications.size() == batchSize);
+    }
+
+    // 한 배치 발송 후 결과 기록
+    void send(List<Notification> notifications) {
+
+        List<Long> sentIds = new ArrayList<>();
+        Map<Long, String> failures = new HashMap<>();
+        Map<MimeMessage, Long> messageIds = new LinkedHashMap<>();
+
+        for (Notification notification : notifications) {
+            try {
+                messageIds.put(toMessage(notification), notification.getId());
+            } catch (MessagingException e) {
+                failures.put(notification.getId(), e.getMessage());
+            }
+        }
+
+        if (!messageIds.isEmpty()) {
+            try {
+                sender.send(messageIds.keySet().toArray(new MimeMessage[0]));
+                sentIds.addAll(messageIds.values());
+            } catch (MailSendException e) {
+                // 일부만 실패 - 실패한 메시지만 재시도 대상 (연결 실패처럼 메시지별 실패가 없으면 전체 실패)
+                Map<Object, Exception> failedMessages = e.getFailedMessages();
+                messageIds.forEach((message, id) -> {
+                    if (failedMessages.isEmpty() || failedMessages.containsKey(message)) {
+                        Exception cause = failedMessages.getOrDefault(message, e);
+                        failures.put(id, cause.getMessage());
+                    } else {
+                        sentIds.add(id);
+                    }
+                });
+            } catch (MailException e) {
+                messageIds.values().forEach(id -> failures.put(id, e.getMessage()));
+            }
+        }
+
+        notificationService.recordResults(sentIds, failures);
+        if (!failures.isEmpty()) {
+            log.info("알림 발송 - 성공 [{}]건, 실패 [{}]건", sentIds.size(), failures.size());
+        }
+    }
+
+    private MimeMessage toMessage(Notification notification) throws MessagingException {
+        MimeMessage message = sender.createMimeMessage();
+        MimeMessageHelper helper = new MimeMessageHelper(message, "UTF-8");
+        helper.setTo(notification.getToAddress());
+        helper.setSubject(notification.getSubject());
+        helper.setText(notification.getBody());
+        return message;
+    }
+}
@@ -0,0 +1,24 @@
+package com.project.myacademy.domain.notification;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import javax.persistence.LockModeType;
+import javax.persistence.QueryHint;
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface NotificationRepository extends JpaRepository<Notification, Long> {
+
+    // 발송할 알림을 오래된 순으로 행 잠금 조회
+    // 다른 서버가 잠근 행은 기다리지 않고 건너뛴다. (lock timeout -2 = SKIP LOCKED)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "javax.persistence.lock.timeout", value = "-2"))
+    @Query("select n from Notification n where n.status = com.project.myacademy.domain.notification.NotificationStatus.PENDING " +
+            "and n.nextAttemptAt <= :now order by n.id")
+    List<Notification> findDueForUpdate(@Param("now") LocalDateTime now, Pageable pageable);
+}
@@ -0,0 +1,98 @@
+package com.project.myacademy.domain.notification;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 알림 발송함(outbox) 관리
+ * - enqueue : 수강 등록 · 취소, 대기 등록 · 취소, 결제 완료 · 취소 시 호출한 쪽의 트랜잭션에서 알림을 저장한다.
+ *             요청 스레드에서는 메일을 보내지 않으므로 응답 시간이 SMTP 에 묶이지 않고, 작업이 롤백되면 알림도 남지 않는다.
+ * - claimDue / recordResults : NotificationDispatcher 가 발송할 알림을 선점하고 발송 결과를 기록할 때 사용한다.
+ *
+ * 실패한 알림은 notification.retry.backoff-ms 부터 두 배씩 늘어나는 간격(최대 max-backoff-ms)으로 재시도하고,
+ * notification.retry.max-attempts 번 실패하면 DEAD 로 남긴다.
+ */
+@Service
+@Transactional
+@Slf4j
+public class NotificationService {
+
+    private final NotificationRepository notificationRepository;
+    private final int maxAttempts;
+    private final Duration backoff;
+    private final Duration maxBackoff;
+
+    public NotificationService(NotificationRepository notificationRepository,
+                               @Value("${notification.retry.max-attempts:5}") int maxAttempts,
+                               @Value("${notification.retry.backoff-ms:10000}") long backoffMillis,
+                               @Value("${notification.retry.max-backoff-ms:3600000}") long maxBackoffMillis) {
+        this.notificationRepository = notificationRepository;
+        this.maxAttempts = maxAttempts;
+        this.backoff = Duration.ofMillis(backoffMillis);
+        this.maxBackoff = Duration.ofMillis(maxBackoffMillis);
+    }
+
+    /**
+     * 알림 발송 요청 (호출한 쪽의 트랜잭션에 참여)
+     *
+     * @param type      알림 종류
+     * @param academyId 학원 id
+     * @param toAddress 받는 사람 이메일 - 없으면 저장하지 않음
+     * @param subject   제목
+     * @param body      본문
+     */
+    public void enqueue(NotificationType type, Long academyId, String toAddress, String subject, String body) {
+
+        if (toAddress == null || toAddress.isBlank()) {
+            log.info("알림 생략 - 받는 사람 이메일 없음 [{}]", type);
+            return;
+        }
+        notificationRepository.save(Notification.of(type, academyId, toAddress, subject, body, LocalDateTime.now()));
+    }
+
+    /**
+     * 발송할 알림을 최대 batchSize 건 선점
+     * 선점한 알림은 lease 동안 다른 서버 · 다음 주기의 발송 대상에서 빠진다.
+     */
+    public List<Notification> claimDue(int batchSize, Duration lease) {
+
+        LocalDateTime now = LocalDateTime.now();
+        List<Notification> notifications = notificationRepository.findDueForUpdate(now, PageRequest.of(0, batchSize));
+        notifications.forEach(notification -> notification.claim(now.plus(lease)));
+        return notifications;
+    }
+
+    /**
+     * 발송 결과 기록
+     *
+     * @param sentIds  발송에 성공한 알림 id
+     * @param failures 발송에 실패한 알림 id -> 실패 사유
+     */
+    public void recordResults(Collection<Long> sentIds, Map<Long, String> failures) {
+
+        LocalDateTime now = LocalDateTime.now();
+        notificationRepository.findAllById(sentIds).forEach(notification -> notification.markSent(now));
+
+        for (Notification notification : notificationRepository.findAllById(failures.keySet())) {
+            notification.markFailed(failures.get(notification.getId()), now.plus(backoff(notification.getAttempts() + 1)), maxAttempts);
+            if (notification.getStatus() == NotificationStatus.DEAD) {
+                log.warn("알림 발송 포기 - [{}] id [{}] 시도 [{}]회, 사유 [{}]", notification.getType(), notification.getId(), notification.getAttempts(), notification.getLastError());
+            }
+        }
+    }
+
+    // attempt 번째 실패 후 재시도까지 대기 시간 - backoff * 2^(attempt - 1), 최대 maxBackoff
+    Duration backoff(int attempt) {
+        Duration delay = backoff.multipliedBy(1L << Math.min(attempt - 1, 30));
+        return delay.compareTo(maxBackoff) > 0 ? maxBackoff : delay;
+    }
+}
@@ -0,0 +1,11 @@
+package com.project.myacademy.domain.notification;
+
+public enum NotificationStatus {
+
+    // 발송 대기 (실패 후 재시도 대기 포함)
+    PENDING,
+    // 발송 완료
+    SENT,
+    // 최대 시도 횟수를 넘겨 더 이상 발송하지 않음 (dead letter)
+    DEAD
+}
@@ -0,0 +1,11 @@
+package com.project.myacademy.domain.notification;
+
+public enum NotificationType {
+
+    ENROLLMENT_CREATED,
+    ENROLLMENT_CANCELED,
+    WAITINGLIST_CREATED,
+    WAITINGLIST_CANCELED,
+    PAYMENT_COMPLETED,
+    PAYMENT_CANCELED
+}
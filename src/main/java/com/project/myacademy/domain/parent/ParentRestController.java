@@ -2,15 +2,14 @@ package com.project.myacademy.domain.parent;
 
 import com.project.myacademy.domain.parent.dto.*;
 import com.project.myacademy.global.Response;
+import com.project.myacademy.global.configuration.jwt.EmployeePrincipal;
 import com.project.myacademy.global.exception.BindingException;
 import com.project.myacademy.global.exception.ErrorCode;
-import com.project.myacademy.global.util.AuthenticationUtil;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.Authentication;
 import org.springframework.validation.BindingResult;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
@@ -29,14 +28,14 @@ public class ParentRestController {
      */
     @Operation(summary = "학부모 등록", description = "ADMIN,STAFF 회원만 등록이 가능합니다.")
     @PostMapping("/{academyId}/parents")
-    public ResponseEntity<Response<CreateParentResponse>> create(@PathVariable Long academyId, @Validated @RequestBody CreateParentRequest request, BindingResult bindingResult, Authentication authentication) {
+    public ResponseEntity<Response<CreateParentResponse>> create(@PathVariable Long academyId, @Validated @RequestBody CreateParentRequest request, BindingResult bindingResult, EmployeePrincipal principal) {
 
         if (bindingResult.hasFieldErrors()) {
             throw new BindingException(ErrorCode.BINDING_ERROR, bindingResult.getFieldError().getDefaultMessage());
         }
 
         log.info("✨ 부모 전화번호 [{}] || 학원 id [{}]", request.getPhoneNum(), academyId);
-        String requestAccount = AuthenticationUtil.getAccountFromAuth(authentication);
+        String requestAccount = principal.getAccount();
         CreateParentResponse response = parentService.createParent(academyId, request, requestAccount);
         return ResponseEntity.ok().body(Response.success(response));
     }
@@ -46,8 +45,8 @@ public class ParentRestController {
      */
     @Operation(summary = "학부모 조회", description = "부모 정보를 조회합니다.")
     @GetMapping("/{academyId}/parents/{parentId}")
-    public ResponseEntity<Response<ReadParentResponse>> read(@PathVariable Long academyId, @PathVariable Long parentId, Authentication authentication) {
-        String requestAccount = AuthenticationUtil.getAccountFromAuth(authentication);
+    public ResponseEntity<Response<ReadParentResponse>> read(@PathVariable Long academyId, @PathVariable Long parentId, EmployeePrincipal principal) {
+        String requestAccount = principal.getAccount();
         ReadParentResponse response = parentService.readParent(academyId, parentId, requestAccount);
         return ResponseEntity.ok().body(Response.success(response));
     }
@@ -57,8 +56,8 @@ public class ParentRestController {
      */
     @Operation(summary = "학부모 수정", description = "ADMIN,STAFF 회원만 수정이 가능합니다.")
     @PutMapping("/{academyId}/parents/{parentId}")
-    public ResponseEntity<Response<UpdateParentResponse>> update(@PathVariable Long academyId, @PathVariable Long parentId, @RequestBody UpdateParentRequest request, Authentication authentication) {
-        String requestAccount = AuthenticationUtil.getAccountFromAuth(authentication);
+    public ResponseEntity<Response<UpdateParentResponse>> update(@PathVariable Long academyId, @PathVariable Long parentId, @RequestBody UpdateParentRequest request, EmployeePrincipal principal) {
+        String requestAccount = principal.getAccount();
         UpdateParentResponse response = parentService.updateParent(academyId, parentId, request, requestAccount);
         return ResponseEntity.ok().body(Response.success(response));
     }
@@ -68,8 +67,8 @@ public class ParentRestController {
      */
     @Operation(summary = "학부모 삭제", description = "ADMIN,STAFF 회원만 삭제가 가능합니다. \n\n soft-delete 됩니다.")
     @DeleteMapping("/{academyId}/parents/{parentId}")
-    public ResponseEntity<Response<DeleteParentResponse>> delete(@PathVariable Long academyId, @PathVariable Long parentId, Authentication authentication) {
-        String requestAccount = AuthenticationUtil.getAccountFromAuth(authentication);
+    public ResponseEntity<Response<DeleteParentResponse>> delete(@PathVariable Long academyId, @PathVariable Long parentId, EmployeePrincipal principal) {
+        String requestAccount = principal.getAccount();
         DeleteParentResponse response = parentService.deleteParent(academyId, parentId, requestAccount);
         return ResponseEntity.ok().body(Response.success(response));
     }
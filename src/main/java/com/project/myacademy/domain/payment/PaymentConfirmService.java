@@ -0,0 +1,141 @@
+package com.project.myacademy.domain.payment;
+
+import com.project.myacademy.domain.enrollment.Enrollment;
+import com.project.myacademy.domain.enrollment.EnrollmentRepository;
+import com.project.myacademy.domain.notification.NotificationService;
+import com.project.myacademy.domain.notification.NotificationType;
+import com.project.myacademy.domain.payment.entity.Payment;
+import com.project.myacademy.domain.payment.repository.PaymentRepository;
+import com.project.myacademy.global.exception.AppException;
+import com.project.myacademy.global.exception.ErrorCode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 결제 승인 상태 변경 (PENDING -> CONFIRMING -> CONFIRMED / FAILED)
+ * 토스 측 승인 요청은 PaymentService 가 트랜잭션 밖에서 보내고, 여기서는 요청 전후의 상태 변경만 각각 짧은 트랜잭션으로 처리
+ * (토스 응답을 기다리는 동안 DB 커넥션과 수강 내역 행 잠금을 잡고 있지 않도록)
+ */
+@Service
+@Slf4j
+public class PaymentConfirmService {
+
+    private final PaymentRepository paymentRepository;
+    private final EnrollmentRepository enrollmentRepository;
+    private final NotificationService notificationService;
+    // CONFIRMING 으로 이 시간 이상 남은 결제는 응답을 받지 못한 요청으로 보고 다시 승인 요청 허용
+    private final Duration staleAfter;
+
+    public PaymentConfirmService(PaymentRepository paymentRepository,
+                                 EnrollmentRepository enrollmentRepository,
+                                 NotificationService notificationService,
+                                 @Value("${payment.confirm.stale-seconds:60}") long staleSeconds) {
+        this.paymentRepository = paymentRepository;
+        this.enrollmentRepository = enrollmentRepository;
+        this.notificationService = notificationService;
+        this.staleAfter = Duration.ofSeconds(staleSeconds);
+    }
+
+    /**
+     * 승인 시작 - CONFIRMING 으로 변경
+     *
+     * @param orderId 주문 Id
+     */
+    @Transactional
+    public void start(String orderId) {
+
+        // 주문Id로 Payment 조회 - 없을시 PAYMENT_NOT_FOUND 에러발생
+        Payment payment = validatePaymentByOrderId(orderId);
+        // 학생과 강좌로 수강이력을 조회 - 없을시 ENROLLMENT_NOT_FOUND 에러발생
+        Enrollment enrollment = validateEnrollmentByPayment(payment);
+
+        // 결제 여부 확인
+        if (enrollment.getPaymentYN()) {
+            throw new AppException(ErrorCode.DUPLICATED_PAYMENT);
+        }
+
+        // 다른 요청이 승인 중이거나 이미 승인된 결제 - DUPLICATED_PAYMENT 에러발생
+        LocalDateTime now = LocalDateTime.now();
+        if (paymentRepository.startConfirm(orderId, now, now.minus(staleAfter)) == 0) {
+            throw new AppException(ErrorCode.DUPLICATED_PAYMENT);
+        }
+    }
+
+    /**
+     * 승인 완료 - CONFIRMED 로 변경, 수강 내역 결제 여부 true 로 변경, 결제 완료 메일을 발송함에 저장
+     *
+     * @param orderId 주문 Id
+     * @param amount  결제된 금액
+     */
+    @Transactional
+    public void complete(String orderId, Integer amount) {
+
+        // 같은 주문의 승인 완료를 이미 반영한 경우 (메일을 두 번 보내지 않도록 여기서 끝냄)
+        if (paymentRepository.completeConfirm(orderId) == 0) {
+            log.warn("이미 승인 완료된 결제 orderId = {}", orderId);
+            return;
+        }
+
+        Payment payment = validatePaymentByOrderId(orderId);
+        Enrollment enrollment = validateEnrollmentByPayment(payment);
+
+        //결제 여부 true로 변경
+        enrollment.updatePaymentTrue();
+
+        // 학생의 이메일로 메시지 전송 (발송함에 저장, NotificationDispatcher 가 트랜잭션 커밋 후 발송)
+        String email = enrollment.getStudent().getEmail();
+        String subject = "MyAcademy 결제 완료 안내 메일";
+        String body = String.format("%s님의 %d원 %s 결제가 정상적으로 완료되었습니다.%n%n감사합니다.", enrollment.getStudent().getName(), amount, enrollment.getLecture().getName());
+        notificationService.enqueue(NotificationType.PAYMENT_COMPLETED, enrollment.getAcademyId(), email, subject, body);
+    }
+
+    /**
+     * 승인 거절 - FAILED 로 변경 (같은 주문으로 다시 승인 요청 가능)
+     *
+     * @param orderId 주문 Id
+     */
+    @Transactional
+    public void fail(String orderId) {
+        paymentRepository.failConfirm(orderId);
+    }
+
+    /**
+     * stale-seconds 이상 CONFIRMING 으로 남은 결제의 주문 Id 조회 (오래된 순)
+     *
+     * @param limit 최대 조회 건수
+     */
+    @Transactional(readOnly = true)
+    public List<String> findStale(int limit) {
+        return paymentRepository.findStaleConfirmingOrderIds(LocalDateTime.now().minus(staleAfter), PageRequest.of(0, limit));
+    }
+
+    /**
+     * 오래된 승인 요청 실패 - 아직 stale-seconds 이상 CONFIRMING 인 경우만 FAILED 로 변경 (같은 주문으로 다시 승인 요청 가능)
+     *
+     * @param orderId 주문 Id
+     * @return 변경 여부 (그 사이 승인이 끝났거나 다시 시작됐다면 false)
+     */
+    @Transactional
+    public boolean failStale(String orderId) {
+        return paymentRepository.failStaleConfirm(orderId, LocalDateTime.now().minus(staleAfter)) > 0;
+    }
+
+    // 주문Id로 Payment 조회 - 없을시 PAYMENT_NOT_FOUND 에러발생
+    private Payment validatePaymentByOrderId(String orderId) {
+        return paymentRepository.findByOrderId(orderId)
+                .orElseThrow(() -> new AppException(ErrorCode.PAYMENT_NOT_FOUND));
+    }
+
+    // 결제의 학생과 강좌로 수강이력을 조회 - 없을시 ENROLLMENT_NOT_FOUND 에러발생
+    private Enrollment validateEnrollmentByPayment(Payment payment) {
+        return enrollmentRepository.findByLecture_IdAndStudent_Id(payment.getLecture().getId(), payment.getStudent().getId())
+                .orElseThrow(() -> new AppException(ErrorCode.ENROLLMENT_NOT_FOUND));
+    }
+}
@@ -0,0 +1,77 @@
+package com.project.myacademy.domain.payment;
+
+import com.project.myacademy.domain.payment.dto.ApprovePaymentResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RestClientException;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 응답을 받지 못한 승인 요청 정리
+ * stale-seconds 이상 CONFIRMING 으로 남은 결제를 토스에서 주문 Id 로 조회해 승인 결과를 반영한다.
+ *
+ * - DONE : 승인 완료 (CONFIRMED, 수강 내역 결제 여부 변경, 결제 완료 메일)
+ * - 승인 진행 중 (READY, IN_PROGRESS, WAITING_FOR_DEPOSIT) 혹은 토스 응답 없음 : 그대로 두고 다음 실행에서 다시 조회
+ * - 그 외 상태, 토스에 없는 주문(404) : FAILED (같은 주문으로 다시 승인 요청 가능)
+ *
+ * 여러 서버에서 같은 결제를 동시에 정리해도 상태 변경은 조건부 UPDATE 라 한 번만 반영된다.
+ */
+@Component
+@Slf4j
+public class PaymentConfirmSweeper {
+
+    private static final Set<String> IN_PROGRESS = Set.of("READY", "IN_PROGRESS", "WAITING_FOR_DEPOSIT");
+
+    private final PaymentConfirmService paymentConfirmService;
+    private final TossPaymentsClient tossPaymentsClient;
+    private final int batchSize;
+
+    public PaymentConfirmSweeper(PaymentConfirmService paymentConfirmService, TossPaymentsClient tossPaymentsClient,
+                                 @Value("${payment.confirm.sweep-batch-size:100}") int batchSize) {
+        this.paymentConfirmService = paymentConfirmService;
+        this.tossPaymentsClient = tossPaymentsClient;
+        this.batchSize = batchSize;
+    }
+
+    // 한 번에 batch-size 건까지만 정리하고, 남은 결제는 다음 실행에서 정리 (진행 중인 결제가 계속 조회되어 반복하지 않도록)
+    @Scheduled(fixedDelayString = "${payment.confirm.sweep-interval-ms:60000}")
+    public void sweep() {
+        List<String> orderIds = paymentConfirmService.findStale(batchSize);
+        for (String orderId : orderIds) {
+            try {
+                resolve(orderId);
+            } catch (RuntimeException e) {
+                log.error("승인 요청 정리 실패 orderId = {}", orderId, e);
+            }
+        }
+    }
+
+    void resolve(String orderId) {
+
+        ApprovePaymentResponse payment;
+        try {
+            payment = tossPaymentsClient.findByOrderId(orderId);
+        } catch (HttpClientErrorException.NotFound e) {
+            // 토스에 승인 요청이 도착하지 않은 주문
+            if (paymentConfirmService.failStale(orderId)) {
+                log.info("토스에 없는 승인 요청 FAILED 처리 orderId = {}", orderId);
+            }
+            return;
+        } catch (RestClientException e) {
+            log.warn("토스 결제 조회 실패 orderId = {} : {}", orderId, e.getMessage());
+            return;
+        }
+
+        if ("DONE".equals(payment.getStatus())) {
+            paymentConfirmService.complete(orderId, Integer.valueOf(payment.getTotalAmount()));
+            log.info("응답을 받지 못한 승인 요청 CONFIRMED 처리 orderId = {}", orderId);
+        } else if (!IN_PROGRESS.contains(payment.getStatus()) && paymentConfirmService.failStale(orderId)) {
+            log.info("승인되지 않은 승인 요청 FAILED 처리 orderId = {} status = {}", orderId, payment.getStatus());
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.project.myacademy.domain.payment;
+
+public enum PaymentDiscrepancyType {
+
+    // 토스에는 승인 · 취소 거래가 있는데 같은 주문 Id 의 결제 내역이 없음
+    MISSING_PAYMENT,
+    // 토스 승인 금액과 결제 금액이 다름
+    AMOUNT_MISMATCH,
+    // 토스에서 승인됐는데 결제 상태가 CONFIRMED 가 아님 (CONFIRMING 으로 남았거나 FAILED 로 기록됨)
+    STATUS_MISMATCH,
+    // 토스에서 취소됐는데 결제 취소 내역이 없음
+    MISSING_CANCEL,
+    // 승인 완료된 결제인데 토스에 승인 거래가 없음
+    MISSING_AT_GATEWAY,
+    // 결제 취소 내역이 있는데 토스에 취소 거래가 없음
+    CANCEL_MISSING_AT_GATEWAY
+}
@@ -0,0 +1,234 @@
+package com.project.myacademy.domain.payment;
+
+import com.project.myacademy.domain.payment.dto.PaymentIdRange;
+import com.project.myacademy.domain.payment.dto.PaymentReconciliationRow;
+import com.project.myacademy.domain.payment.dto.TossTransactionResponse;
+import com.project.myacademy.domain.payment.repository.PaymentRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 결제 대사 (매일 payment.reconciliation.cron 에 전날 결제를 토스 거래 내역과 비교)
+ * 결제 내역 · 토스 거래 내역 모두 정해진 크기로 나눠 읽고, 한 번에 한 청크만 메모리에 둔다.
+ *
+ * 1. 토스 거래 조회 API 를 page-size 건씩 페이징 조회하고, 페이지마다 주문 Id 로 결제 내역을 한 번에 조회해 비교한다.
+ *    (MISSING_PAYMENT, AMOUNT_MISMATCH, STATUS_MISMATCH, MISSING_CANCEL)
+ *    토스 거래 시각과 승인 요청 시각이 기간 경계에서 어긋날 수 있어 앞뒤로 margin-minutes 만큼 넓혀 조회한다.
+ * 2. 기간 안의 결제 내역을 id 순으로 chunk-size 건씩 조회해 1 에서 토스 거래를 찾지 못한 결제 · 취소를 찾는다.
+ *    (MISSING_AT_GATEWAY, CANCEL_MISSING_AT_GATEWAY)
+ *    먼저 기간에 속한 결제의 id 범위를 승인 요청 시각 · 생성 시각 인덱스로 구하고, 그 범위 안에서만 id 순으로 이어서 조회한다.
+ *    1 에서 찾은 결제는 기간의 첫 결제 id 를 0 으로 하는 비트셋으로만 기억한다. (기간에 결제 100만 건이면 약 125KB, 범위 밖의 결제는 2 에서 보지 않으므로 기억하지 않음)
+ *
+ * 불일치 내역은 payment.reconciliation.report-dir 의 CSV 파일로 남긴다. (PaymentReconciliationReport)
+ * payment.reconciliation.enabled=false 이면 동작하지 않는다.
+ */
+@Component
+@ConditionalOnProperty(name = "payment.reconciliation.enabled", havingValue = "true", matchIfMissing = true)
+@Slf4j
+public class PaymentReconciliationJob {
+
+    private final TossPaymentsClient tossPaymentsClient;
+    private final PaymentRepository paymentRepository;
+    private final int pageSize;
+    private final int chunkSize;
+    private final Duration margin;
+    private final Path reportDir;
+
+    public PaymentReconciliationJob(TossPaymentsClient tossPaymentsClient, PaymentRepository paymentRepository,
+                                    @Value("${payment.reconciliation.page-size:1000}") int pageSize,
+                                    @Value("${payment.reconciliation.chunk-size:1000}") int chunkSize,
+                                    @Value("${payment.reconciliation.margin-minutes:60}") long marginMinutes,
+                                    @Value("${payment.reconciliation.report-dir:${java.io.tmpdir}/payment-reconciliation}") String reportDir) {
+        this.tossPaymentsClient = tossPaymentsClient;
+        this.paymentRepository = paymentRepository;
+        this.pageSize = pageSize;
+        this.chunkSize = chunkSize;
+        this.margin = Duration.ofMinutes(marginMinutes);
+        this.reportDir = Paths.get(reportDir);
+    }
+
+    @Scheduled(cron = "${payment.reconciliation.cron:0 0 4 * * *}")
+    public void reconcileYesterday() {
+        LocalDate yesterday = LocalDate.now().minusDays(1);
+        try {
+            reconcile(yesterday.atStartOfDay(), yesterday.plusDays(1).atStartOfDay());
+        } catch (RuntimeException e) {
+            log.error("결제 대사 실패 [{}]", yesterday, e);
+        }
+    }
+
+    /**
+     * [from, to) 기간의 결제 대사
+     *
+     * @param from 시작 시각 (포함)
+     * @param to   종료 시각 (미포함)
+     * @return 유형별 불일치 건수와 보고서 파일 경로 (보고서는 닫힌 상태)
+     */
+    public PaymentReconciliationReport reconcile(LocalDateTime from, LocalDateTime to) {
+
+        long started = System.nanoTime();
+        Long firstId = null;
+        Long lastId = null;
+        for (PaymentIdRange range : List.of(paymentRepository.findConfirmRequestedIdRange(from, to), paymentRepository.findLegacyCreatedIdRange(from, to))) {
+            if (range != null && range.getFirstId() != null) {
+                firstId = firstId == null ? range.getFirstId() : Math.min(firstId, range.getFirstId());
+                lastId = lastId == null ? range.getLastId() : Math.max(lastId, range.getLastId());
+            }
+        }
+        // 토스 거래를 찾은 결제 id
+        PaymentIdBitmap approved = new PaymentIdBitmap(firstId, lastId);
+        PaymentIdBitmap canceled = new PaymentIdBitmap(firstId, lastId);
+
+        try (PaymentReconciliationReport report = PaymentReconciliationReport.create(reportDir, from.toLocalDate())) {
+
+            // 1. 토스 거래 내역 -> 결제 내역
+            String startingAfter = null;
+            List<TossTransactionResponse> transactions;
+            do {
+                transactions = tossPaymentsClient.transactions(from.minus(margin), to.plus(margin), startingAfter, pageSize);
+                if (transactions.isEmpty()) {
+                    break;
+                }
+                compareTransactions(transactions, approved, canceled, report);
+                startingAfter = transactions.get(transactions.size() - 1).getTransactionKey();
+            } while (transactions.size() == pageSize);
+
+            // 2. 결제 내역 -> 토스 거래 내역 (기간에 결제가 없으면 조회하지 않음)
+            if (firstId != null) {
+                long afterId = firstId - 1;
+                List<PaymentReconciliationRow> rows;
+                do {
+                    rows = paymentRepository.findReconciliationRowsAfterId(from, to, afterId, lastId, PageRequest.of(0, chunkSize));
+                    if (rows.isEmpty()) {
+                        break;
+                    }
+                    comparePayments(rows, approved, canceled, report);
+                    afterId = rows.get(rows.size() - 1).getPaymentId();
+                } while (rows.size() == chunkSize);
+            }
+
+            log.info("결제 대사 완료 [{} ~ {}] 토스 거래 {}건, 결제 {}건, 불일치 {}건 {} ({}ms) -> {}", from, to,
+                    report.getTransactions(), report.getPayments(), report.total(), report.getCounts(),
+                    Duration.ofNanos(System.nanoTime() - started).toMillis(), report.getPath());
+            return report;
+        }
+    }
+
+    // 토스 거래 한 페이지를 주문 Id 로 조회한 결제 내역과 비교
+    private void compareTransactions(List<TossTransactionResponse> transactions, PaymentIdBitmap approved, PaymentIdBitmap canceled, PaymentReconciliationReport report) {
+
+        Set<String> distinctOrderIds = new LinkedHashSet<>();
+        for (TossTransactionResponse transaction : transactions) {
+            distinctOrderIds.add(transaction.getOrderId());
+        }
+        // IN 절 파라미터 수를 page-size 로 고정 (마지막 주문 Id 로 채움)
+        // Hibernate 는 IN 절 파라미터 수가 달라질 때마다 JPQL 을 다시 번역하므로, 페이지마다 주문 Id 수가 달라도 같은 쿼리 계획을 쓰도록
+        List<String> orderIds = new ArrayList<>(Math.max(pageSize, distinctOrderIds.size()));
+        orderIds.addAll(distinctOrderIds);
+        String last = orderIds.get(orderIds.size() - 1);
+        while (orderIds.size() < pageSize) {
+            orderIds.add(last);
+        }
+
+        Map<String, PaymentReconciliationRow> rows = new HashMap<>();
+        for (PaymentReconciliationRow row : paymentRepository.findReconciliationRowsByOrderIdIn(orderIds)) {
+            rows.put(row.getOrderId(), row);
+        }
+
+        for (TossTransactionResponse transaction : transactions) {
+            boolean approval = "DONE".equals(transaction.getStatus());
+            boolean cancel = "CANCELED".equals(transaction.getStatus()) || "PARTIAL_CANCELED".equals(transaction.getStatus());
+            // 입금 대기 · 만료 등 승인 · 취소가 아닌 거래는 비교하지 않음
+            if (!approval && !cancel) {
+                continue;
+            }
+
+            PaymentReconciliationRow row = rows.get(transaction.getOrderId());
+            if (row == null) {
+                report.add(PaymentDiscrepancyType.MISSING_PAYMENT, null, transaction);
+                continue;
+            }
+
+            long paymentId = row.getPaymentId();
+            if (approval) {
+                approved.add(paymentId);
+                if (transaction.getAmount() == null || transaction.getAmount().longValue() != row.getAmount().longValue()) {
+                    report.add(PaymentDiscrepancyType.AMOUNT_MISMATCH, row, transaction);
+                }
+                if (row.getStatus() != null && row.getStatus() != PaymentStatus.CONFIRMED) {
+                    report.add(PaymentDiscrepancyType.STATUS_MISMATCH, row, transaction);
+                }
+            } else {
+                canceled.add(paymentId);
+                if (row.getCancelPaymentId() == null) {
+                    report.add(PaymentDiscrepancyType.MISSING_CANCEL, row, transaction);
+                }
+            }
+        }
+        report.addTransactions(transactions.size());
+    }
+
+    // 결제 내역 한 청크에서 토스 거래를 찾지 못한 결제 · 취소 기록
+    private void comparePayments(List<PaymentReconciliationRow> rows, PaymentIdBitmap approved, PaymentIdBitmap canceled, PaymentReconciliationReport report) {
+
+        for (PaymentReconciliationRow row : rows) {
+            long paymentId = row.getPaymentId();
+            // 승인 완료된 결제만 (상태 추가 전 결제는 null) - CONFIRMING · FAILED 는 토스 승인 여부를 모르거나 거절된 결제
+            boolean confirmed = row.getStatus() == null || row.getStatus() == PaymentStatus.CONFIRMED;
+            if (confirmed && !approved.contains(paymentId)) {
+                report.add(PaymentDiscrepancyType.MISSING_AT_GATEWAY, row, null);
+            }
+            if (row.getCancelPaymentId() != null && !canceled.contains(paymentId)) {
+                report.add(PaymentDiscrepancyType.CANCEL_MISSING_AT_GATEWAY, row, null);
+            }
+        }
+        report.addPayments(rows.size());
+    }
+
+    /**
+     * 기간의 결제 id 범위 [firstId, lastId] 에 속한 결제 id 집합 (id - firstId 번째 비트)
+     * 범위 밖의 id 는 기억하지 않는다. 기간에 결제가 없으면(firstId 가 null) 아무것도 기억하지 않는다.
+     */
+    private static final class PaymentIdBitmap {
+
+        private final Long firstId;
+        private final Long lastId;
+        private final BitSet bits = new BitSet();
+
+        private PaymentIdBitmap(Long firstId, Long lastId) {
+            this.firstId = firstId;
+            this.lastId = lastId;
+        }
+
+        private void add(long paymentId) {
+            if (inRange(paymentId)) {
+                bits.set(Math.toIntExact(paymentId - firstId));
+            }
+        }
+
+        private boolean contains(long paymentId) {
+            return inRange(paymentId) && bits.get(Math.toIntExact(paymentId - firstId));
+        }
+
+        private boolean inRange(long paymentId) {
+            return firstId != null && paymentId >= firstId && paymentId <= lastId;
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package com.project.myacademy.domain.payment;
+
+import com.project.myacademy.domain.payment.dto.PaymentReconciliationRow;
+import com.project.myacademy.domain.payment.dto.TossTransactionResponse;
+import lombok.Getter;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * 결제 대사 결과 보고서
+ * 불일치 내역은 메모리에 모으지 않고 CSV 파일({dir}/payment-reconciliation-{날짜}.csv)에 한 줄씩 바로 쓰고, 유형별 건수만 센다.
+ */
+@Getter
+public class PaymentReconciliationReport implements Closeable {
+
+    private static final String HEADER = "type,paymentId,orderId,paymentKey,amount,status,gatewayTransactionKey,gatewayAmount,gatewayStatus";
+
+    private final Path path;
+    private final BufferedWriter writer;
+    private final Map<PaymentDiscrepancyType, Long> counts = new EnumMap<>(PaymentDiscrepancyType.class);
+    // 비교한 토스 거래 수
+    private long transactions;
+    // 비교한 결제 내역 수
+    private long payments;
+
+    private PaymentReconciliationReport(Path path, BufferedWriter writer) {
+        this.path = path;
+        this.writer = writer;
+    }
+
+    public static PaymentReconciliationReport create(Path dir, LocalDate date) {
+        try {
+            Files.createDirectories(dir);
+            Path path = dir.resolve("payment-reconciliation-" + date + ".csv");
+            PaymentReconciliationReport report = new PaymentReconciliationReport(path, Files.newBufferedWriter(path, StandardCharsets.UTF_8));
+            report.writeLine(HEADER);
+            return report;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 불일치 한 건 기록
+     *
+     * @param row         결제 내역 (없으면 null)
+     * @param transaction 토스 거래 (없으면 null)
+     */
+    public void add(PaymentDiscrepancyType type, PaymentReconciliationRow row, TossTransactionResponse transaction) {
+        counts.merge(type, 1L, Long::sum);
+        writeLine(String.join(",", type.name(),
+                row == null ? "" : String.valueOf(row.getPaymentId()),
+                csv(row == null ? transaction.getOrderId() : row.getOrderId()),
+                csv(row == null ? transaction.getPaymentKey() : row.getPaymentKey()),
+                row == null ? "" : String.valueOf(row.getAmount()),
+                row == null || row.getStatus() == null ? "" : row.getStatus().name(),
+                transaction == null ? "" : csv(transaction.getTransactionKey()),
+                transaction == null ? "" : String.valueOf(transaction.getAmount()),
+                transaction == null ? "" : csv(transaction.getStatus())));
+    }
+
+    public long count(PaymentDiscrepancyType type) {
+        return counts.getOrDefault(type, 0L);
+    }
+
+    // 불일치 전체 건수
+    public long total() {
+        return counts.values().stream().mapToLong(Long::longValue).sum();
+    }
+
+    void addTransactions(int count) {
+        transactions += count;
+    }
+
+    void addPayments(int count) {
+        payments += count;
+    }
+
+    @Override
+    public void close() {
+        try {
+            writer.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void writeLine(String line) {
+        try {
+            writer.write(line);
+            writer.newLine();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // 쉼표 · 따옴표가 들어간 값은 따옴표로 감싼다.
+    private String csv(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0) {
+            return value;
+        }
+        return "\"" + value.replace("\"", "\"\"") + "\"";
+    }
+}
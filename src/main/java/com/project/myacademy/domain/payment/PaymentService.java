@@ -11,6 +11,8 @@ import com.project.myacademy.domain.enrollment.Enrollment;
 import com.project.myacademy.domain.enrollment.EnrollmentRepository;
 import com.project.myacademy.domain.lecture.Lecture;
 import com.project.myacademy.domain.lecture.LectureRepository;
+import com.project.myacademy.domain.notification.NotificationService;
+import com.project.myacademy.domain.notification.NotificationType;
 import com.project.myacademy.domain.payment.dto.*;
 import com.project.myacademy.domain.payment.entity.CancelPayment;
 import com.project.myacademy.domain.payment.entity.Payment;
@@ -18,27 +20,21 @@ import com.project.myacademy.domain.payment.repository.CancelPaymentRepository;
 import com.project.myacademy.domain.payment.repository.PaymentRepository;
 import com.project.myacademy.domain.student.Student;
 import com.project.myacademy.domain.student.StudentRepository;
+import com.project.myacademy.global.CursorPage;
 import com.project.myacademy.global.exception.AppException;
 import com.project.myacademy.global.exception.ErrorCode;
-import com.project.myacademy.domain.email.EmailService;
+import com.project.myacademy.global.util.OpenSessionConnection;
+import com.project.myacademy.global.util.TenantContext;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import net.minidev.json.JSONObject;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
-import org.springframework.http.HttpEntity;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.MediaType;
-import org.springframework.mail.MailException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.client.RestTemplate;
+import org.springframework.web.client.HttpStatusCodeException;
+import org.springframework.web.client.RestClientException;
 
-import javax.mail.MessagingException;
-import java.net.URI;
-import java.nio.charset.StandardCharsets;
 import java.util.*;
 
 @Service
@@ -53,13 +49,9 @@ public class PaymentService {
     private final LectureRepository lectureRepository;
     private final CancelPaymentRepository cancelPaymentRepository;
     private final DiscountRepository discountRepository;
-    private final EmailService emailService;
-
-    @Value("${payment.toss.testSecretApiKey}")
-    private String testSecretApiKey;
-
-    @Value("${payment.toss.originUrl}")
-    private String tossOriginUrl;
+    private final NotificationService notificationService;
+    private final TossPaymentsClient tossPaymentsClient;
+    private final PaymentConfirmService paymentConfirmService;
 
     @Value("${payment.toss.successCallbackUrl}")
     private String successCallbackUrl;
@@ -169,58 +161,71 @@ public class PaymentService {
 
     /**
      * 토스 측에 최종 결제 승인 요청
+     * 승인 요청 전후의 상태 변경만 짧은 트랜잭션으로 처리하고 (PaymentConfirmService), 토스 응답은 트랜잭션 밖에서 DB 커넥션 없이 기다림
      *
      * @param paymentKey 결제 키값
      * @param orderId    주문 Id
      * @param amount     결제될 금액
      */
-    @Transactional
     public ApprovePaymentResponse successApprovePayment(String paymentKey, String orderId, Integer amount) {
 
-        // 주문Id로 Payment 조회 - 없을시 PAYMENT_NOT_FOUND 에러발생
-        Payment selcetedPayment = validatePaymentByOrderId(orderId);
-        // 학생과 강좌로 수강이력을 조회 - 없을시 ENROLLMENT_NOT_FOUND 에러발생
-        Enrollment enrollment = validateEnrollmentByStudentAndLecture(selcetedPayment.getStudent(), selcetedPayment.getLecture());
+        // 승인 시작 (CONFIRMING) - 이미 결제됐거나 다른 요청이 승인 중이면 DUPLICATED_PAYMENT 에러발생
+        paymentConfirmService.start(orderId);
+
+        // 토스 응답을 기다리는 동안 OSIV 영속성 컨텍스트가 잡고 있는 DB 커넥션을 풀에 반납 (verifyRequest, start 에서 가져온 커넥션)
+        OpenSessionConnection.release();
+
+        // 토스 측에 결제 승인 요청
+        ApprovePaymentResponse response;
+        try {
+            response = tossPaymentsClient.confirm(paymentKey, orderId, amount);
+        } catch (HttpStatusCodeException e) {
+            if (!TossPaymentsClient.ALREADY_PROCESSED_PAYMENT.equals(TossPaymentsClient.errorCode(e))) {
+                // 토스가 승인을 거절 (FAILED)
+                paymentConfirmService.fail(orderId);
+                throw e;
+            }
+            // 응답을 받지 못한 이전 요청으로 이미 승인된 결제 - 토스에서 결제를 조회해 승인 완료로 처리
+            response = findApprovedPayment(paymentKey, orderId, e);
+        } catch (RestClientException e) {
+            // 타임아웃 등으로 토스 측 승인 여부를 알 수 없음 - CONFIRMING 으로 남겨 두고, stale-seconds 가 지나면 다시 승인 요청 허용
+            // (다시 요청하지 않으면 PaymentConfirmSweeper 가 토스에서 결제를 조회해 정리)
+            log.warn("토스 결제 승인 응답 없음 orderId = {}", orderId, e);
+            throw e;
+        }
 
-        // 결제 여부 확인
-        if (enrollment.getPaymentYN()) {
-            throw new AppException(ErrorCode.DUPLICATED_PAYMENT);
+        // 승인 완료 (CONFIRMED) - 수강 내역 결제 여부 변경, 결제 완료 메일 발송함에 저장
+        paymentConfirmService.complete(orderId, amount);
+
+        return response;
+    }
+
+    /**
+     * 이미 승인됐다는 토스 응답을 받은 주문을 토스에서 조회
+     * 같은 결제 키로 승인된 결제가 아니면 승인 거절과 같이 FAILED 로 변경하고 토스의 거절 응답을 그대로 던진다.
+     *
+     * @param rejected 토스의 ALREADY_PROCESSED_PAYMENT 응답
+     */
+    private ApprovePaymentResponse findApprovedPayment(String paymentKey, String orderId, HttpStatusCodeException rejected) {
+
+        ApprovePaymentResponse payment;
+        try {
+            payment = tossPaymentsClient.findByOrderId(orderId);
+        } catch (HttpStatusCodeException e) {
+            paymentConfirmService.fail(orderId);
+            throw rejected;
+        } catch (RestClientException e) {
+            // 승인 여부를 알 수 없음 - CONFIRMING 유지
+            log.warn("토스 결제 조회 응답 없음 orderId = {}", orderId, e);
+            throw e;
         }
 
-        //결제 여부 false로 변경
-        enrollment.updatePaymentTrue();
-
-        // 학생의 이메일로 메시지 전송
-//        String email = enrollment.getStudent().getEmail();
-//        String subject = "MyAcademy 결제 완료 안내 메일";
-//        String body = String.format("%s님의 %d원 %s 결제가 정상적으로 완료되었습니다.%n%n감사합니다.", enrollment.getStudent().getName(), amount, enrollment.getLecture().getName());
-//        try {
-//            emailService.sendEmail(email, subject, body);
-//        } catch (MailException | MessagingException e){
-//            log.info("결제 완료 이메일 전송 에러 발생 [{}]", e.getMessage());
-//        }
-
-        RestTemplate rest = new RestTemplate();
-        HttpHeaders headers = new HttpHeaders();
-
-        testSecretApiKey = testSecretApiKey + ":";
-        String encodedAuth = new String(Base64.getEncoder().encode(testSecretApiKey.getBytes(StandardCharsets.UTF_8)));
-
-        headers.setBasicAuth(encodedAuth);
-        headers.setContentType(MediaType.APPLICATION_JSON);
-        headers.setAccept(Collections.singletonList(MediaType.APPLICATION_JSON));
-
-        JSONObject param = new JSONObject();
-        param.put("paymentKey", paymentKey);
-        param.put("amount", amount);
-        param.put("orderId", orderId);
-
-        //url로 요청
-        return rest.postForEntity(
-                        tossOriginUrl + "confirm",
-                        new HttpEntity<>(param, headers),
-                        ApprovePaymentResponse.class)
-                .getBody();
+        if (!"DONE".equals(payment.getStatus()) || !paymentKey.equals(payment.getPaymentKey())) {
+            paymentConfirmService.fail(orderId);
+            throw rejected;
+        }
+        log.info("이미 승인된 결제 orderId = {}", orderId);
+        return payment;
     }
 
     /**
@@ -266,21 +271,6 @@ public class PaymentService {
         //결제 여부 false로 변경
         enrollment.updatePaymentFalse();
 
-        RestTemplate rest = new RestTemplate();
-        HttpHeaders headers = new HttpHeaders();
-
-        URI uri = URI.create(tossOriginUrl + paymentKey + "/cancel");
-
-        testSecretApiKey = testSecretApiKey + ":";
-        String encodedAuth = new String(Base64.getEncoder().encode(testSecretApiKey.getBytes(StandardCharsets.UTF_8)));
-
-        headers.setBasicAuth(encodedAuth);
-        headers.setContentType(MediaType.APPLICATION_JSON);
-        headers.setAccept(Collections.singletonList(MediaType.APPLICATION_JSON));
-
-        JSONObject param = new JSONObject();
-        param.put("cancelReason", cancelReason);
-
         //cancelPayment 저장
         cancelPaymentRepository.save(CancelPayment.builder()
                 .orderId(selcetedPayment.getOrderId())
@@ -292,25 +282,18 @@ public class PaymentService {
                 .employee(foundEmployee)
                 .build());
 
-        // 학생의 이메일로 메시지 전송
-//        Student foundStudent = enrollment.getStudent();
-//        Lecture foundLecture = enrollment.getLecture();
-//        String email = foundStudent.getEmail();
-//        String subject = "MyAcademy 결제 취소 안내 메일";
-//        String body = String.format("%s님의 %s 결제 취소가 정상적으로 처리되었습니다.%n%n감사합니다.", foundStudent.getName(), foundLecture.getName());
-//        try {
-//            emailService.sendEmail(email, subject, body);
-//        } catch (MailException e2){
-//            log.info("결제 취소 이메일 전송 에러 발생 [{}]", e2.getMessage());
-//        } catch (MessagingException e) {
-//            log.info("결제 취소 이메일 전송 에러 발생 [{}]", e.getMessage());
-//        }
-
-        return rest.postForEntity(
-                        uri,
-                        new HttpEntity<>(param, headers),
-                        ApprovePaymentResponse.class)
-                .getBody();
+        // 토스 측에 결제 취소 요청
+        ApprovePaymentResponse response = tossPaymentsClient.cancel(paymentKey, cancelReason);
+
+        // 학생의 이메일로 메시지 전송 (토스 측 취소가 끝난 뒤 발송함에 저장)
+        Student foundStudent = enrollment.getStudent();
+        Lecture foundLecture = enrollment.getLecture();
+        String email = foundStudent.getEmail();
+        String subject = "MyAcademy 결제 취소 안내 메일";
+        String body = String.format("%s님의 %s 결제 취소가 정상적으로 처리되었습니다.%n%n감사합니다.", foundStudent.getName(), foundLecture.getName());
+        notificationService.enqueue(NotificationType.PAYMENT_CANCELED, academyId, email, subject, body);
+
+        return response;
     }
 
     /**
@@ -355,25 +338,31 @@ public class PaymentService {
         // 요청하는 계정과 학원으로 직원을 조회 - 없을시 REQUEST_EMPLOYEE_NOT_FOUND 에러발생
         validateRequestEmployeeByAcademy(requestAccount, foundAcademy);
 
-        List<CompletePaymentResponse> foundPayments = new ArrayList<>();
-
-        // paymentkey 값이 존재하는(결제가 완료된것) payment 가져오기
-        Page<Payment> payments = paymentRepository.findByAcademy_IdAndPaymentKeyIsNotNullOrderByCreatedAtDesc(academyId, pageable);
-        for (Payment payment : payments) {
-            CompletePaymentResponse completePayment = new CompletePaymentResponse(payment);
-
-            discountRepository.findById(payment.getDiscountId()).ifPresent(
-                    discount -> completePayment.setDiscountName(discount.getDiscountName())
-            );
+        // paymentkey 값이 존재하는(결제가 완료된것) 결제 내역을 할인 정책 이름 · 결제 취소 시각과 함께 한 번에 조회
+        return paymentRepository.findCompleteByAcademyId(academyId, pageable);
+    }
 
-            Optional<CancelPayment> foundCancelPayment = cancelPaymentRepository.findByPayment(payment);
-            foundCancelPayment.ifPresent(completePayment::setDeletedAt);
+    /**
+     * UI용 메서드
+     * 해당 학원의 결제 완료한 내역들 가져오기 - 커서 페이징 (최신순, COUNT 없음)
+     *
+     * @param academyId      학원 Id
+     * @param requestAccount 요청하는 직원 계정
+     * @param cursor         이전 페이지 응답의 nextCursor (첫 페이지는 빈 값)
+     * @param size           페이지 크기
+     */
+    public CursorPage<CompletePaymentResponse> findAllCompletePaymentByCursor(Long academyId, String requestAccount, String cursor, int size) {
 
-            foundPayments.add(completePayment);
-        }
+        // 학원 Id로 학원을 조회 - 없을시 ACADEMY_NOT_FOUND 에러발생
+        Academy foundAcademy = validateAcademyById(academyId);
+        // 요청하는 계정과 학원으로 직원을 조회 - 없을시 REQUEST_EMPLOYEE_NOT_FOUND 에러발생
+        validateRequestEmployeeByAcademy(requestAccount, foundAcademy);
 
+        CursorPage.Key key = CursorPage.decode(cursor);
+        int pageSize = CursorPage.clamp(size);
+        List<CompletePaymentResponse> payments = paymentRepository.findCompleteByAcademyIdBeforeCursor(academyId, key.getCreatedAt(), key.getId(), CursorPage.limit(pageSize));
 
-        return new PageImpl<>(foundPayments);
+        return CursorPage.of(payments, pageSize, CompletePaymentResponse::getCreatedDateTime, CompletePaymentResponse::getPaymentId, payment -> payment);
     }
 
     /**
@@ -392,30 +381,8 @@ public class PaymentService {
         // 요청하는 계정과 학원으로 직원을 조회 - 없을시 REQUEST_EMPLOYEE_NOT_FOUND 에러발생
         validateRequestEmployeeByAcademy(requestAccount, foundAcademy);
 
-        Page<Student> foundStudents = studentRepository.findByAcademyIdAndName(academyId, studentName, pageable);
-
-        // 아래 컬렉션에 정보를 담을 것임
-        List<CompletePaymentResponse> foundPayments = new ArrayList<>();
-
-        // 동명이인 학생이 있을 수 있어서..
-        for (Student foundStudent : foundStudents) {
-            List<Payment> foundPaymentsByStudent = paymentRepository.findByAcademy_IdAndPaymentKeyIsNotNullAndStudentOrderByCreatedAtDesc(academyId, foundStudent);
-            for (Payment payment : foundPaymentsByStudent) {
-                CompletePaymentResponse completePayment = new CompletePaymentResponse(payment);
-
-                discountRepository.findById(payment.getDiscountId()).ifPresent(
-                        discount -> completePayment.setDiscountName(discount.getDiscountName())
-                );
-
-                Optional<CancelPayment> foundCancelPayment = cancelPaymentRepository.findByPayment(payment);
-                foundCancelPayment.ifPresent(completePayment::setDeletedAt);
-
-                foundPayments.add(completePayment);
-            }
-        }
-
-
-        return new PageImpl<>(foundPayments);
+        // 동명이인 학생의 결제 내역까지 한 번에 조회
+        return paymentRepository.findCompleteByAcademyIdAndStudentName(academyId, studentName, pageable);
     }
 
     /**
@@ -427,7 +394,7 @@ public class PaymentService {
      * @param requestAccount 요청하는 직원 계정
      * @param studentId      학생 Id
      */
-    public Page<CompletePaymentResponse> findAllCompletePaymentByStudent(Long academyId, String requestAccount, Long studentId) {
+    public Page<CompletePaymentResponse> findAllCompletePaymentByStudent(Long academyId, String requestAccount, Long studentId, Pageable pageable) {
 
         // 학원 Id로 학원을 조회 - 없을시 ACADEMY_NOT_FOUND 에러발생
         Academy foundAcademy = validateAcademyById(academyId);
@@ -436,45 +403,21 @@ public class PaymentService {
         // 학생Id와 학원 Id로 학생을 조회 - 없으면 STUDENT_NOT_FOUND 에러발생
         Student foundStudent = validateStudentByIdAndAcademyId(academyId, studentId);
 
-        // 아래 컬렉션에 정보를 담을 것임
-        List<CompletePaymentResponse> foundPayments = new ArrayList<>();
-
-        List<Payment> foundPaymentsByStudent = paymentRepository.findByAcademy_IdAndPaymentKeyIsNotNullAndStudentOrderByCreatedAtDesc(academyId, foundStudent);
-
-        for (Payment payment : foundPaymentsByStudent) {
-            // 결제 완료된거만 추가할 것
-            Enrollment foundEnrollment = enrollmentRepository.findByLecture_IdAndStudent_Id(payment.getLecture().getId(), payment.getStudent().getId())
-                    .orElseThrow(() -> new AppException(ErrorCode.ENROLLMENT_NOT_FOUND));
-
-            if (foundEnrollment.getPaymentYN()) {
-
-                CompletePaymentResponse completePayment = new CompletePaymentResponse(payment);
-
-                discountRepository.findById(payment.getDiscountId()).ifPresent(
-                        discount -> completePayment.setDiscountName(discount.getDiscountName())
-                );
-
-                Optional<CancelPayment> foundCancelPayment = cancelPaymentRepository.findByPayment(payment);
-                foundCancelPayment.ifPresent(completePayment::setDeletedAt);
-
-                foundPayments.add(completePayment);
-            }
-        }
-
-        return new PageImpl<>(foundPayments);
+        // 결제 완료된거만 (수강 내역의 결제 여부가 true 인 것)
+        return paymentRepository.findCompleteByAcademyIdAndStudentId(academyId, foundStudent.getId(), pageable);
     }
 
 
     // 학원 Id로 학원을 조회 - 없을시 ACADEMY_NOT_FOUND 에러발생
     private Academy validateAcademyById(Long academyId) {
-        return academyRepository.findById(academyId)
-                .orElseThrow(() -> new AppException(ErrorCode.ACADEMY_NOT_FOUND));
+        return TenantContext.academy(academyId, () -> academyRepository.findById(academyId)
+                .orElseThrow(() -> new AppException(ErrorCode.ACADEMY_NOT_FOUND)));
     }
 
     // 요청하는 계정과 학원으로 직원을 조회 - 없을시 REQUEST_EMPLOYEE_NOT_FOUND 에러발생
     public Employee validateRequestEmployeeByAcademy(String account, Academy academy) {
-        return employeeRepository.findByAccountAndAcademy(account, academy)
-                .orElseThrow(() -> new AppException(ErrorCode.REQUEST_EMPLOYEE_NOT_FOUND));
+        return TenantContext.requestEmployee(account, academy, () -> employeeRepository.findByAccountAndAcademy(account, academy)
+                .orElseThrow(() -> new AppException(ErrorCode.REQUEST_EMPLOYEE_NOT_FOUND)));
     }
 
     // 학생 Id로 학생을 조회 - 없을시 STUDENT_NOT_FOUND 에러발생
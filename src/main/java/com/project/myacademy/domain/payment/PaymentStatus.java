@@ -0,0 +1,13 @@
+package com.project.myacademy.domain.payment;
+
+public enum PaymentStatus {
+
+    // 결제 요청 저장 (토스 승인 전)
+    PENDING,
+    // 토스 측에 승인 요청 중 (승인 여부를 아직 모름)
+    CONFIRMING,
+    // 토스 승인 완료
+    CONFIRMED,
+    // 토스가 승인을 거절 (같은 주문으로 다시 승인 요청 가능)
+    FAILED
+}
@@ -2,13 +2,12 @@ package com.project.myacademy.domain.payment;
 
 import com.project.myacademy.domain.payment.dto.*;
 import com.project.myacademy.global.Response;
-import com.project.myacademy.global.util.AuthenticationUtil;
+import com.project.myacademy.global.configuration.jwt.EmployeePrincipal;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 
 @Tag(name = "11. 결제", description = "Toss 결제 OpenAPI")
@@ -25,16 +24,16 @@ public class TossPayRestController {
      *
      * @param request
      * @param studentId
-     * @param authentication
+     * @param principal
      * @return
      */
     @Operation(summary = "결제 요청", description = "OpenApi로 보내기 전에 올바른 요청인지 검증합니다.")
     @PostMapping("/students/{studentId}")
     public ResponseEntity<Response<CreatePaymentResponse>> request(@RequestBody CreatePaymentRequest request,
                                                                   @PathVariable Long studentId,
-                                                                  Authentication authentication) {
-        String account = AuthenticationUtil.getAccountFromAuth(authentication);
-        Long academyId = AuthenticationUtil.getAcademyIdFromAuth(authentication);
+                                                                  EmployeePrincipal principal) {
+        String account = principal.getAccount();
+        Long academyId = principal.getAcademyId();
         return ResponseEntity.ok().body(Response.success(paymentService.createPayment(request, academyId, studentId, account)));
     }
 
@@ -72,9 +71,9 @@ public class TossPayRestController {
     @PostMapping("/cancel")
     public ResponseEntity<Response<ApprovePaymentResponse>> cancel(@RequestParam String paymentKey,
                                                                    @RequestParam String cancelReason,
-                                                                   Authentication authentication){
-        String account = AuthenticationUtil.getAccountFromAuth(authentication);
-        Long academyId = AuthenticationUtil.getAcademyIdFromAuth(authentication);
+                                                                   EmployeePrincipal principal){
+        String account = principal.getAccount();
+        Long academyId = principal.getAcademyId();
         return ResponseEntity.ok().body(Response.success(paymentService.cancelPayment(paymentKey,cancelReason,account,academyId)));
     }
 }
\ No newline at end of file
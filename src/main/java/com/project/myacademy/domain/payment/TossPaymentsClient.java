@@ -0,0 +1,159 @@
+package com.project.myacademy.domain.payment;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.myacademy.domain.payment.dto.ApprovePaymentResponse;
+import com.project.myacademy.domain.payment.dto.TossTransactionResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.HttpClients;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpStatusCodeException;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import javax.annotation.PreDestroy;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 토스페이먼츠 결제 승인 · 취소 · 조회 · 거래 조회 API 호출
+ *
+ * - 커넥션 풀(payment.toss.http.max-connections)을 재사용해 요청마다 TCP · TLS 연결을 새로 맺지 않는다.
+ * - 연결(connect-timeout-ms), 응답(read-timeout-ms), 풀에서 연결을 기다리는 시간(pool-timeout-ms)에 상한을 둔다.
+ *   시간이 지나면 ResourceAccessException 이 발생한다.
+ * - Basic 인증 헤더는 시크릿 키로 한 번만 만들어 둔다.
+ *
+ * 테스트 · 벤치마크는 토스 서버 대신 TossStubServer(src/test) 를 대상으로 실행한다.
+ */
+@Component
+@Slf4j
+public class TossPaymentsClient {
+
+    // 이미 승인(처리)된 결제에 다시 승인 요청한 경우의 오류 코드
+    public static final String ALREADY_PROCESSED_PAYMENT = "ALREADY_PROCESSED_PAYMENT";
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private final String originUrl;
+    // 거래 조회 API 주소 (originUrl 이 .../v1/payments/ 이면 .../v1/transactions)
+    private final String transactionsUrl;
+    private final HttpHeaders headers;
+    private final CloseableHttpClient httpClient;
+    private final RestTemplate restTemplate;
+
+    public TossPaymentsClient(@Value("${payment.toss.testSecretApiKey}") String secretKey,
+                              @Value("${payment.toss.originUrl}") String originUrl,
+                              @Value("${payment.toss.http.max-connections:50}") int maxConnections,
+                              @Value("${payment.toss.http.connect-timeout-ms:3000}") int connectTimeoutMillis,
+                              @Value("${payment.toss.http.read-timeout-ms:10000}") int readTimeoutMillis,
+                              @Value("${payment.toss.http.pool-timeout-ms:1000}") int poolTimeoutMillis) {
+        this.originUrl = originUrl;
+        this.transactionsUrl = URI.create(originUrl).resolve("../transactions").toString();
+
+        HttpHeaders authHeaders = new HttpHeaders();
+        authHeaders.setBasicAuth(Base64.getEncoder().encodeToString((secretKey + ":").getBytes(StandardCharsets.UTF_8)));
+        authHeaders.setContentType(MediaType.APPLICATION_JSON);
+        authHeaders.setAccept(List.of(MediaType.APPLICATION_JSON));
+        this.headers = HttpHeaders.readOnlyHttpHeaders(authHeaders);
+
+        // 호출 대상이 토스 한 곳이므로 전체 · 호스트별 최대 연결 수를 같게 둔다.
+        PoolingHttpClientConnectionManager connectionManager = new PoolingHttpClientConnectionManager(60, TimeUnit.SECONDS);
+        connectionManager.setMaxTotal(maxConnections);
+        connectionManager.setDefaultMaxPerRoute(maxConnections);
+        connectionManager.setValidateAfterInactivity(2000);
+
+        this.httpClient = HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectTimeout(connectTimeoutMillis)
+                        .setSocketTimeout(readTimeoutMillis)
+                        .setConnectionRequestTimeout(poolTimeoutMillis)
+                        .build())
+                .evictIdleConnections(30, TimeUnit.SECONDS)
+                .disableAutomaticRetries()
+                .build();
+        this.restTemplate = new RestTemplate(new HttpComponentsClientHttpRequestFactory(httpClient));
+    }
+
+    /**
+     * 결제 승인 - POST {originUrl}confirm
+     */
+    public ApprovePaymentResponse confirm(String paymentKey, String orderId, Integer amount) {
+        Map<String, Object> body = Map.of("paymentKey", paymentKey, "orderId", orderId, "amount", amount);
+        return restTemplate.postForObject(originUrl + "confirm", new HttpEntity<>(body, headers), ApprovePaymentResponse.class);
+    }
+
+    /**
+     * 결제 취소 - POST {originUrl}{paymentKey}/cancel
+     */
+    public ApprovePaymentResponse cancel(String paymentKey, String cancelReason) {
+        Map<String, Object> body = Collections.singletonMap("cancelReason", cancelReason);
+        return restTemplate.postForObject(originUrl + "{paymentKey}/cancel", new HttpEntity<>(body, headers), ApprovePaymentResponse.class, paymentKey);
+    }
+
+    /**
+     * 주문 Id 로 결제 조회 - GET {originUrl}orders/{orderId}
+     * 승인 요청을 받은 적 없는 주문이면 404 (HttpClientErrorException.NotFound)
+     */
+    public ApprovePaymentResponse findByOrderId(String orderId) {
+        return restTemplate.exchange(originUrl + "orders/{orderId}", HttpMethod.GET, new HttpEntity<>(headers), ApprovePaymentResponse.class, orderId).getBody();
+    }
+
+    /**
+     * 거래 조회 - GET {transactionsUrl}?startDate=&endDate=&startingAfter=&limit=
+     * 기간 안의 거래를 거래 시각 순으로 limit 건까지 조회한다. 다음 페이지는 마지막 거래의 transactionKey 를 startingAfter 로 넘겨 조회한다.
+     *
+     * @param startDate     조회 시작 시각
+     * @param endDate       조회 종료 시각
+     * @param startingAfter 이 거래 다음부터 조회 (첫 페이지는 null)
+     * @param limit         최대 조회 건수 (토스 최대 10000)
+     */
+    public List<TossTransactionResponse> transactions(LocalDateTime startDate, LocalDateTime endDate, String startingAfter, int limit) {
+        UriComponentsBuilder uri = UriComponentsBuilder.fromHttpUrl(transactionsUrl)
+                .queryParam("startDate", startDate.format(DateTimeFormatter.ISO_LOCAL_DATE_TIME))
+                .queryParam("endDate", endDate.format(DateTimeFormatter.ISO_LOCAL_DATE_TIME))
+                .queryParam("limit", limit);
+        if (startingAfter != null) {
+            uri.queryParam("startingAfter", startingAfter);
+        }
+        TossTransactionResponse[] transactions = restTemplate.exchange(uri.build().encode().toUri(), HttpMethod.GET, new HttpEntity<>(headers), TossTransactionResponse[].class).getBody();
+        return transactions == null ? List.of() : Arrays.asList(transactions);
+    }
+
+    /**
+     * 토스 오류 응답 본문 {"code": ..., "message": ...} 의 code - 본문을 읽을 수 없으면 null
+     */
+    public static String errorCode(HttpStatusCodeException e) {
+        try {
+            return OBJECT_MAPPER.readTree(e.getResponseBodyAsByteArray()).path("code").asText(null);
+        } catch (IOException ex) {
+            return null;
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        try {
+            httpClient.close();
+        } catch (IOException e) {
+            log.warn("토스 HTTP 클라이언트 종료 실패 : {}", e.getMessage());
+        }
+    }
+}
@@ -10,6 +10,8 @@ import lombok.NoArgsConstructor;
 
 import java.sql.Timestamp;
 import java.text.SimpleDateFormat;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
 
 @AllArgsConstructor
 @NoArgsConstructor
@@ -17,6 +19,8 @@ import java.text.SimpleDateFormat;
 @Data
 public class CompletePaymentResponse {
 
+    private static final DateTimeFormatter DATE_TIME_FORMAT = DateTimeFormatter.ofPattern("yyyy/MM/dd HH:mm:ss");
+
     private PayType payType; //지불방법
 
     private Integer amount; //지불금액
@@ -42,6 +46,8 @@ public class CompletePaymentResponse {
     private Long lectureId; // 결제한 강의 이름
     private String paymentKey; // 결제한 강의 이름
 
+    private LocalDateTime createdDateTime; // 결제 날짜 (커서 페이징용, 화면에는 createdAt 표시)
+
     public CompletePaymentResponse(Payment payment) {
         this.paymentId = payment.getId();
         this.payType = payment.getPayType();
@@ -51,6 +57,7 @@ public class CompletePaymentResponse {
         this.studentEmail = payment.getStudent().getEmail();
         this.studentName = payment.getStudent().getName();
         this.discountName = "할인 정책 선택 안함.";
+        this.createdDateTime = payment.getCreatedAt();
         this.createdAt = new SimpleDateFormat("yyyy/MM/dd HH:mm:ss").format(Timestamp.valueOf(payment.getCreatedAt()));
         this.deletedAt = "";
         this.employeeName = payment.getEmployee().getName();
@@ -60,6 +67,29 @@ public class CompletePaymentResponse {
         this.paymentKey = payment.getPaymentKey();
     }
 
+    // 조회 쿼리에서 바로 만드는 생성자 (PaymentRepository.findComplete*) - 할인 정책, 결제 취소가 없으면 null
+    public CompletePaymentResponse(Long paymentId, PayType payType, Integer amount, String orderId, String orderName,
+                                   Long studentId, String studentName, String studentEmail, String studentPhoneNum,
+                                   String discountName, LocalDateTime createdAt, LocalDateTime canceledAt,
+                                   String employeeName, Long lectureId, String paymentKey) {
+        this.paymentId = paymentId;
+        this.payType = payType;
+        this.amount = amount;
+        this.orderId = orderId;
+        this.orderName = orderName;
+        this.studentId = studentId;
+        this.studentName = studentName;
+        this.studentEmail = studentEmail;
+        this.studentPhoneNum = studentPhoneNum;
+        this.discountName = discountName == null ? "할인 정책 선택 안함." : discountName;
+        this.createdDateTime = createdAt;
+        this.createdAt = createdAt.format(DATE_TIME_FORMAT);
+        this.deletedAt = canceledAt == null ? "" : canceledAt.format(DATE_TIME_FORMAT);
+        this.employeeName = employeeName;
+        this.lectureId = lectureId;
+        this.paymentKey = paymentKey;
+    }
+
     public void setDiscountName(String discountName) {
         this.discountName = discountName;
     }
@@ -5,6 +5,7 @@ import com.project.myacademy.domain.discount.Discount;
 import com.project.myacademy.domain.employee.Employee;
 import com.project.myacademy.domain.enrollment.Enrollment;
 import com.project.myacademy.domain.payment.PayType;
+import com.project.myacademy.domain.payment.PaymentStatus;
 import com.project.myacademy.domain.payment.entity.Payment;
 import com.project.myacademy.domain.student.Student;
 import lombok.*;
@@ -39,6 +40,7 @@ public class CreatePaymentRequest {
                 .lecture(enrollment.getLecture())
                 .discountId(discountId)
                 .academy(academy)
+                .status(PaymentStatus.PENDING)
                 .build();
     }
 }
@@ -0,0 +1,15 @@
+package com.project.myacademy.domain.payment.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 결제 대사 기간에 속한 결제 id 의 범위 (PaymentRepository.find*IdRange 에서 바로 조회)
+ * 기간 안에 결제가 없으면 firstId, lastId 모두 null
+ */
+@Getter
+@AllArgsConstructor
+public class PaymentIdRange {
+    private Long firstId;
+    private Long lastId;
+}
@@ -0,0 +1,20 @@
+package com.project.myacademy.domain.payment.dto;
+
+import com.project.myacademy.domain.payment.PaymentStatus;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 결제 대사용 결제 내역 한 건 (PaymentRepository.findReconciliationRows* 에서 바로 조회)
+ * 결제 취소 내역이 없으면 cancelPaymentId 는 null
+ */
+@Getter
+@AllArgsConstructor
+public class PaymentReconciliationRow {
+    private Long paymentId;
+    private String orderId;
+    private String paymentKey;
+    private Integer amount;
+    private PaymentStatus status;
+    private Long cancelPaymentId;
+}
@@ -0,0 +1,23 @@
+package com.project.myacademy.domain.payment.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 토스페이먼츠 거래 조회 API (GET /v1/transactions) 응답의 거래 한 건
+ * 결제 승인(DONE)과 취소(CANCELED, PARTIAL_CANCELED)가 각각 한 건의 거래로 조회된다.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TossTransactionResponse {
+    String transactionKey;
+    String paymentKey;
+    String orderId;
+    String method;
+    String status;
+    String transactionAt;
+    String currency;
+    Long amount;
+}
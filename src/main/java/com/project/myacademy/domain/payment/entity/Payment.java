@@ -5,19 +5,27 @@ import com.project.myacademy.domain.academy.Academy;
 import com.project.myacademy.domain.employee.Employee;
 import com.project.myacademy.domain.lecture.Lecture;
 import com.project.myacademy.domain.payment.PayType;
+import com.project.myacademy.domain.payment.PaymentStatus;
 import com.project.myacademy.domain.student.Student;
 import lombok.*;
 import org.hibernate.annotations.SQLDelete;
 import org.hibernate.annotations.Where;
 
 import javax.persistence.*;
+import java.time.LocalDateTime;
 
 @Entity
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
 @Builder
 @Getter
-@Table(name = "payment_tb")
+@Table(name = "payment_tb", indexes = {
+        @Index(name = "idx_payment_order_id", columnList = "order_id"),
+        // 결제 대사 기간의 결제 id 범위 조회
+        @Index(name = "idx_payment_confirm_requested_at", columnList = "confirm_requested_at"),
+        @Index(name = "idx_payment_created_at", columnList = "created_at"),
+        // 응답을 받지 못한 승인 요청 정리 (PaymentConfirmSweeper)
+        @Index(name = "idx_payment_status_confirm_requested_at", columnList = "status, confirm_requested_at")})
 @Where(clause = "deleted_at is NULL")
 @SQLDelete(sql = "UPDATE payment_tb SET deleted_at = current_timestamp WHERE payment_id = ?")
 public class Payment extends BaseEntity {
@@ -43,6 +51,7 @@ public class Payment extends BaseEntity {
     @JoinColumn(name = "academy_id")
     private Academy academy;
 
+    @Column(name = "order_id")
     private String orderId;
     private String orderName;
 
@@ -54,6 +63,14 @@ public class Payment extends BaseEntity {
 
     private Long discountId;
 
+    // 승인 상태 (PENDING -> CONFIRMING -> CONFIRMED / FAILED), 상태 추가 전 저장된 결제는 null
+    @Enumerated(EnumType.STRING)
+    private PaymentStatus status;
+
+    // 마지막으로 토스 측에 승인 요청을 시작한 시각
+    @Column(name = "confirm_requested_at")
+    private LocalDateTime confirmRequestedAt;
+
     public void setPaymentKey(String paymentKey) {
         this.paymentKey = paymentKey;
     }
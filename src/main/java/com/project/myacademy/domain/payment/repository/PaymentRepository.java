@@ -1,11 +1,18 @@
 package com.project.myacademy.domain.payment.repository;
 
+import com.project.myacademy.domain.payment.dto.CompletePaymentResponse;
+import com.project.myacademy.domain.payment.dto.PaymentIdRange;
+import com.project.myacademy.domain.payment.dto.PaymentReconciliationRow;
 import com.project.myacademy.domain.payment.entity.Payment;
-import com.project.myacademy.domain.student.Student;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -14,7 +21,122 @@ public interface PaymentRepository extends JpaRepository<Payment, Long> {
 
     Optional<Payment> findByPaymentKey(String paymentKey);
 
-    Page<Payment> findByAcademy_IdAndPaymentKeyIsNotNullOrderByCreatedAtDesc(Long academyId, Pageable pageable);
-    List<Payment> findByAcademy_IdAndPaymentKeyIsNotNullAndStudentOrderByCreatedAtDesc(Long academyId, Student student);
+    // 결제 완료 내역은 토스 승인이 끝난 결제(CONFIRMED, 상태 추가 전 결제는 null)만 - 승인 중(CONFIRMING) · 거절(FAILED)된 결제는 paymentKey 가 있어도 제외
 
+    // 결제 완료 내역 - 학원의 결제 완료 내역을 학생 · 직원 · 할인 정책 · 결제 취소와 조인해 응답 DTO 로 바로 페이징 조회 (최신순)
+    @Query(value = "select new com.project.myacademy.domain.payment.dto.CompletePaymentResponse(" +
+            "p.id, p.payType, p.amount, p.orderId, p.orderName, s.id, s.name, s.email, s.phoneNum, d.discountName, p.createdAt, c.createdAt, em.name, p.lecture.id, p.paymentKey) " +
+            "from Payment p join p.student s left join p.employee em " +
+            "left join Discount d on d.id = p.discountId " +
+            "left join CancelPayment c on c.payment = p and c.deletedAt is null " +
+            "where p.academy.id = :academyId and p.paymentKey is not null " +
+            "and (p.status is null or p.status = com.project.myacademy.domain.payment.PaymentStatus.CONFIRMED) and s.deletedAt is null " +
+            "order by p.createdAt desc, p.id desc",
+            countQuery = "select count(p) from Payment p join p.student s " +
+                    "where p.academy.id = :academyId and p.paymentKey is not null " +
+                    "and (p.status is null or p.status = com.project.myacademy.domain.payment.PaymentStatus.CONFIRMED) and s.deletedAt is null")
+    Page<CompletePaymentResponse> findCompleteByAcademyId(@Param("academyId") Long academyId, Pageable pageable);
+
+    // 결제 완료 내역 - 학생 이름으로 검색 (동명이인 포함, 최신순)
+    @Query(value = "select new com.project.myacademy.domain.payment.dto.CompletePaymentResponse(" +
+            "p.id, p.payType, p.amount, p.orderId, p.orderName, s.id, s.name, s.email, s.phoneNum, d.discountName, p.createdAt, c.createdAt, em.name, p.lecture.id, p.paymentKey) " +
+            "from Payment p join p.student s left join p.employee em " +
+            "left join Discount d on d.id = p.discountId " +
+            "left join CancelPayment c on c.payment = p and c.deletedAt is null " +
+            "where p.academy.id = :academyId and p.paymentKey is not null " +
+            "and (p.status is null or p.status = com.project.myacademy.domain.payment.PaymentStatus.CONFIRMED) and s.academyId = :academyId and s.name = :studentName and s.deletedAt is null " +
+            "order by p.createdAt desc, p.id desc",
+            countQuery = "select count(p) from Payment p join p.student s " +
+                    "where p.academy.id = :academyId and p.paymentKey is not null " +
+                    "and (p.status is null or p.status = com.project.myacademy.domain.payment.PaymentStatus.CONFIRMED) and s.academyId = :academyId and s.name = :studentName and s.deletedAt is null")
+    Page<CompletePaymentResponse> findCompleteByAcademyIdAndStudentName(@Param("academyId") Long academyId, @Param("studentName") String studentName, Pageable pageable);
+
+    // 학생 상세 - 학생의 결제 완료 내역 중 수강 내역이 결제 완료 상태인 것만 (최신순)
+    @Query(value = "select new com.project.myacademy.domain.payment.dto.CompletePaymentResponse(" +
+            "p.id, p.payType, p.amount, p.orderId, p.orderName, s.id, s.name, s.email, s.phoneNum, d.discountName, p.createdAt, c.createdAt, em.name, p.lecture.id, p.paymentKey) " +
+            "from Payment p join p.student s left join p.employee em " +
+            "left join Discount d on d.id = p.discountId " +
+            "left join CancelPayment c on c.payment = p and c.deletedAt is null " +
+            "where p.academy.id = :academyId and p.paymentKey is not null " +
+            "and (p.status is null or p.status = com.project.myacademy.domain.payment.PaymentStatus.CONFIRMED) and s.id = :studentId " +
+            "and exists (select e.id from Enrollment e where e.lecture.id = p.lecture.id and e.student.id = s.id and e.paymentYN = true) " +
+            "order by p.createdAt desc, p.id desc",
+            countQuery = "select count(p) from Payment p " +
+                    "where p.academy.id = :academyId and p.paymentKey is not null " +
+                    "and (p.status is null or p.status = com.project.myacademy.domain.payment.PaymentStatus.CONFIRMED) and p.student.id = :studentId " +
+                    "and exists (select e.id from Enrollment e where e.lecture.id = p.lecture.id and e.student.id = p.student.id and e.paymentYN = true)")
+    Page<CompletePaymentResponse> findCompleteByAcademyIdAndStudentId(@Param("academyId") Long academyId, @Param("studentId") Long studentId, Pageable pageable);
+
+    // 커서 페이징 - 학원의 결제 완료 내역을 커서 (생성 시각, id) 이전부터 최신순으로 조회 (COUNT 없음)
+    @Query("select new com.project.myacademy.domain.payment.dto.CompletePaymentResponse(" +
+            "p.id, p.payType, p.amount, p.orderId, p.orderName, s.id, s.name, s.email, s.phoneNum, d.discountName, p.createdAt, c.createdAt, em.name, p.lecture.id, p.paymentKey) " +
+            "from Payment p join p.student s left join p.employee em " +
+            "left join Discount d on d.id = p.discountId " +
+            "left join CancelPayment c on c.payment = p and c.deletedAt is null " +
+            "where p.academy.id = :academyId and p.paymentKey is not null " +
+            "and (p.status is null or p.status = com.project.myacademy.domain.payment.PaymentStatus.CONFIRMED) and s.deletedAt is null " +
+            "and (p.createdAt < :createdAt or (p.createdAt = :createdAt and p.id < :id)) " +
+            "order by p.createdAt desc, p.id desc")
+    List<CompletePaymentResponse> findCompleteByAcademyIdBeforeCursor(@Param("academyId") Long academyId, @Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Pageable pageable);
+
+    // 토스 승인 시작 - 승인 전(PENDING, 상태 추가 전 결제는 null)이거나 거절(FAILED)된 결제, 또는 staleBefore 이전에 승인 요청을 시작해 결과를 모르는 채 남은 결제만
+    // CONFIRMING 으로 변경 (상태 확인과 변경을 UPDATE 한 번으로 처리, 수정된 행 수(0 이면 다른 요청이 승인 중이거나 승인 완료) 반환)
+    @Modifying
+    @Query("update Payment p set p.status = com.project.myacademy.domain.payment.PaymentStatus.CONFIRMING, p.confirmRequestedAt = :now " +
+            "where p.orderId = :orderId and (p.status is null " +
+            "or p.status in (com.project.myacademy.domain.payment.PaymentStatus.PENDING, com.project.myacademy.domain.payment.PaymentStatus.FAILED) " +
+            "or (p.status = com.project.myacademy.domain.payment.PaymentStatus.CONFIRMING and p.confirmRequestedAt < :staleBefore))")
+    int startConfirm(@Param("orderId") String orderId, @Param("now") LocalDateTime now, @Param("staleBefore") LocalDateTime staleBefore);
+
+    // 토스 승인 완료 - CONFIRMING 인 결제만 CONFIRMED 로 (뒤늦게 도착한 승인 응답이 먼저 끝난 재시도의 거절을 덮어쓸 수 있도록 FAILED 도 포함)
+    @Modifying
+    @Query("update Payment p set p.status = com.project.myacademy.domain.payment.PaymentStatus.CONFIRMED " +
+            "where p.orderId = :orderId " +
+            "and p.status in (com.project.myacademy.domain.payment.PaymentStatus.CONFIRMING, com.project.myacademy.domain.payment.PaymentStatus.FAILED)")
+    int completeConfirm(@Param("orderId") String orderId);
+
+    // 토스 승인 거절 - CONFIRMING 인 결제만 FAILED 로
+    @Modifying
+    @Query("update Payment p set p.status = com.project.myacademy.domain.payment.PaymentStatus.FAILED " +
+            "where p.orderId = :orderId and p.status = com.project.myacademy.domain.payment.PaymentStatus.CONFIRMING")
+    int failConfirm(@Param("orderId") String orderId);
+
+    // 응답을 받지 못한 승인 요청 - staleBefore 이전에 시작해 아직 CONFIRMING 인 결제의 주문 Id (오래된 순, idx_payment_status_confirm_requested_at)
+    @Query("select p.orderId from Payment p " +
+            "where p.status = com.project.myacademy.domain.payment.PaymentStatus.CONFIRMING and p.confirmRequestedAt < :staleBefore " +
+            "order by p.confirmRequestedAt")
+    List<String> findStaleConfirmingOrderIds(@Param("staleBefore") LocalDateTime staleBefore, Pageable pageable);
+
+    // 토스에 승인된 결제가 없는 오래된 승인 요청 - 그 사이 다시 시작된 승인 요청(confirmRequestedAt 갱신)은 그대로 둠
+    @Modifying
+    @Query("update Payment p set p.status = com.project.myacademy.domain.payment.PaymentStatus.FAILED " +
+            "where p.orderId = :orderId and p.status = com.project.myacademy.domain.payment.PaymentStatus.CONFIRMING " +
+            "and p.confirmRequestedAt < :staleBefore")
+    int failStaleConfirm(@Param("orderId") String orderId, @Param("staleBefore") LocalDateTime staleBefore);
+
+    // 대사 - 토스 거래 내역의 주문 Id 로 결제 내역 조회 (결제 취소 내역 id 포함)
+    @Query("select new com.project.myacademy.domain.payment.dto.PaymentReconciliationRow(p.id, p.orderId, p.paymentKey, p.amount, p.status, c.id) " +
+            "from Payment p left join CancelPayment c on c.payment = p and c.deletedAt is null " +
+            "where p.orderId in :orderIds")
+    List<PaymentReconciliationRow> findReconciliationRowsByOrderIdIn(@Param("orderIds") Collection<String> orderIds);
+
+    // 대사 - [from, to) 에 승인 요청한 결제의 id 범위 (idx_payment_confirm_requested_at 범위 조회)
+    @Query("select new com.project.myacademy.domain.payment.dto.PaymentIdRange(min(p.id), max(p.id)) from Payment p " +
+            "where p.confirmRequestedAt >= :from and p.confirmRequestedAt < :to")
+    PaymentIdRange findConfirmRequestedIdRange(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+    // 대사 - 상태 추가 전 결제(승인 요청 시각 없음) 중 [from, to) 에 생성된 결제의 id 범위 (idx_payment_created_at 범위 조회)
+    @Query("select new com.project.myacademy.domain.payment.dto.PaymentIdRange(min(p.id), max(p.id)) from Payment p " +
+            "where p.confirmRequestedAt is null and p.createdAt >= :from and p.createdAt < :to")
+    PaymentIdRange findLegacyCreatedIdRange(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+    // 대사 - [from, to) 에 승인 요청한(상태 추가 전 결제는 생성된) 결제 내역을 id 가 (afterId, lastId] 인 것만 id 순으로 청크 조회
+    // 기간의 id 범위 안에서 마지막 id 로 이어서 조회한다. (PK 범위 조회, OFFSET 없음)
+    @Query("select new com.project.myacademy.domain.payment.dto.PaymentReconciliationRow(p.id, p.orderId, p.paymentKey, p.amount, p.status, c.id) " +
+            "from Payment p left join CancelPayment c on c.payment = p and c.deletedAt is null " +
+            "where p.id > :afterId and p.id <= :lastId and p.paymentKey is not null " +
+            "and coalesce(p.confirmRequestedAt, p.createdAt) >= :from and coalesce(p.confirmRequestedAt, p.createdAt) < :to " +
+            "order by p.id")
+    List<PaymentReconciliationRow> findReconciliationRowsAfterId(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to,
+                                                                 @Param("afterId") Long afterId, @Param("lastId") Long lastId, Pageable pageable);
 }
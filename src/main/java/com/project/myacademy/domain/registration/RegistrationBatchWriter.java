@@ -0,0 +1,150 @@
+package com.project.myacademy.domain.registration;
+
+import com.project.myacademy.domain.enrollment.Enrollment;
+import com.project.myacademy.domain.enrollment.EnrollmentRepository;
+import com.project.myacademy.domain.lecture.Lecture;
+import com.project.myacademy.domain.lecture.LectureRepository;
+import com.project.myacademy.domain.student.StudentRepository;
+import com.project.myacademy.domain.waitinglist.Waitinglist;
+import com.project.myacademy.domain.waitinglist.WaitinglistIndex;
+import com.project.myacademy.domain.waitinglist.WaitinglistRepository;
+import com.project.myacademy.global.exception.ErrorCode;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 한 강좌에 쌓인 등록 요청을 한 트랜잭션으로 저장한다. (RegistrationQueue 의 담당 스레드만 호출)
+ * 한 서버 안에서만 강좌별로 하나씩 호출되므로, 다른 서버와 겹친 중복 등록은 1 의 조회가 아니라
+ * 수강 내역의 유니크 제약(DataIntegrityViolationException, 배치 롤백)으로 걸러진다.
+ *
+ * 1. 남은 좌석 수, 이미 수강 · 대기 등록된 학생을 각각 한 번에 조회
+ * 2. 수강 등록 요청은 도착 순서대로 남은 좌석을 배정하고, 좌석은 UPDATE 한 번으로 확보 (reserveSeats)
+ * 3. 대기 등록 요청은 이 배치를 반영한 뒤에도 정원이 다 찼을 때만 대기번호 생성
+ * 4. 수강 내역, 대기번호를 저장하고 요청별 결과를 반환
+ */
+@Component
+@ConditionalOnProperty(name = "registration.rush.enabled", havingValue = "true")
+@RequiredArgsConstructor
+@Slf4j
+public class RegistrationBatchWriter {
+
+    // 다른 경로(일반 수강 등록 · 삭제)와 좌석 확보가 겹쳤을 때 남은 좌석을 다시 읽고 재시도하는 횟수
+    private static final int MAX_RESERVE_ATTEMPTS = 3;
+
+    private final LectureRepository lectureRepository;
+    private final StudentRepository studentRepository;
+    private final EnrollmentRepository enrollmentRepository;
+    private final WaitinglistRepository waitinglistRepository;
+    private final WaitinglistIndex waitinglistIndex;
+
+    /**
+     * @param lectureId 강좌 id
+     * @param commands  해당 강좌의 등록 요청 (도착 순서)
+     * @return 요청별 처리 결과 (commands 와 같은 순서)
+     */
+    @Transactional
+    public List<RegistrationTicket> write(Long lectureId, List<RegistrationCommand> commands) {
+
+        Map<RegistrationCommand, RegistrationTicket> results = new LinkedHashMap<>();
+        commands.forEach(command -> results.put(command, null));
+
+        // 접수 이후 강좌가 삭제된 경우
+        Integer remainingSeats = lectureRepository.findRemainingSeats(lectureId);
+        if (remainingSeats == null) {
+            commands.forEach(command -> results.put(command, RegistrationTicket.rejected(command, ErrorCode.LECTURE_NOT_FOUND)));
+            return new ArrayList<>(results.values());
+        }
+
+        Set<Long> studentIds = commands.stream().map(RegistrationCommand::getStudentId).collect(Collectors.toSet());
+        Set<Long> enrolled = new HashSet<>(enrollmentRepository.findStudentIdsByLectureIdAndStudentIdIn(lectureId, studentIds));
+        Set<Long> waiting = new HashSet<>(waitinglistRepository.findStudentIdsByLectureIdAndStudentIdIn(lectureId, studentIds));
+
+        // 수강 등록 - 남은 좌석만큼 도착 순서대로 배정
+        List<RegistrationCommand> seated = new ArrayList<>();
+        for (RegistrationCommand command : commands) {
+            if (command.getType() != RegistrationType.ENROLLMENT) {
+                continue;
+            }
+            if (enrolled.contains(command.getStudentId())) {
+                results.put(command, RegistrationTicket.rejected(command, ErrorCode.DUPLICATED_ENROLLMENT));
+            } else if (seated.size() >= remainingSeats) {
+                results.put(command, RegistrationTicket.rejected(command, ErrorCode.OVER_REGISTRATION_NUMBER));
+            } else {
+                seated.add(command);
+                enrolled.add(command.getStudentId());
+            }
+        }
+
+        // 읽은 뒤 다른 경로에서 좌석을 가져갔다면 확보한 만큼만 등록
+        int reserved = reserveSeats(lectureId, seated.size());
+        for (RegistrationCommand command : seated.subList(reserved, seated.size())) {
+            results.put(command, RegistrationTicket.rejected(command, ErrorCode.OVER_REGISTRATION_NUMBER));
+            enrolled.remove(command.getStudentId());
+        }
+        boolean full = reserved < seated.size() || remainingSeats - reserved <= 0;
+        seated = seated.subList(0, reserved);
+
+        // 대기 등록 - 정원이 다 찼을 때만
+        List<RegistrationCommand> waited = new ArrayList<>();
+        for (RegistrationCommand command : commands) {
+            if (command.getType() != RegistrationType.WAITINGLIST) {
+                continue;
+            }
+            if (!full) {
+                results.put(command, RegistrationTicket.rejected(command, ErrorCode.CANNOT_REGISTER_WAITINGLIST));
+            } else if (enrolled.contains(command.getStudentId())) {
+                results.put(command, RegistrationTicket.rejected(command, ErrorCode.DUPLICATED_ENROLLMENT));
+            } else if (waiting.contains(command.getStudentId())) {
+                results.put(command, RegistrationTicket.rejected(command, ErrorCode.DUPLICATED_WAITINGLIST));
+            } else {
+                waited.add(command);
+                waiting.add(command.getStudentId());
+            }
+        }
+
+        // 수강 내역, 대기번호 저장 (강좌 · 학생은 id 만 필요하므로 프록시 사용)
+        Lecture lecture = lectureRepository.getReferenceById(lectureId);
+
+        List<Enrollment> enrollments = enrollmentRepository.saveAll(seated.stream()
+                .map(command -> Enrollment.createEnrollment(studentRepository.getReferenceById(command.getStudentId()), lecture,
+                        command.getEmployee(), command.getAcademyId()))
+                .collect(Collectors.toList()));
+        for (int i = 0; i < seated.size(); i++) {
+            results.put(seated.get(i), RegistrationTicket.enrolled(seated.get(i), enrollments.get(i).getId()));
+        }
+
+        List<Waitinglist> waitinglists = waitinglistRepository.saveAll(waited.stream()
+                .map(command -> Waitinglist.makeWaitinglist(lecture, studentRepository.getReferenceById(command.getStudentId())))
+                .collect(Collectors.toList()));
+        for (int i = 0; i < waited.size(); i++) {
+            results.put(waited.get(i), RegistrationTicket.waiting(waited.get(i), waitinglists.get(i).getId()));
+        }
+        waitinglistIndex.add(waitinglists);
+
+        log.info("등록 큐 강좌 [{}] 요청 [{}]건 - 수강 등록 [{}]건, 대기 등록 [{}]건", lectureId, commands.size(), seated.size(), waited.size());
+        return new ArrayList<>(results.values());
+    }
+
+    // count 개의 좌석을 한 번에 확보하고, 확보한 좌석 수를 반환
+    private int reserveSeats(Long lectureId, int count) {
+        for (int attempt = 0; count > 0 && attempt < MAX_RESERVE_ATTEMPTS; attempt++) {
+            if (lectureRepository.reserveSeats(lectureId, count) > 0) {
+                return count;
+            }
+            Integer remainingSeats = lectureRepository.findRemainingSeats(lectureId);
+            count = Math.min(count, remainingSeats == null ? 0 : Math.max(remainingSeats, 0));
+        }
+        return 0;
+    }
+}
@@ -0,0 +1,22 @@
+package com.project.myacademy.domain.registration;
+
+import com.project.myacademy.domain.employee.Employee;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 등록 큐에 넣는 수강 / 대기 등록 요청 한 건
+ * 학원, 직원 권한, 학생, 강좌 존재 여부는 접수할 때 확인하고, 좌석 · 중복 여부만 큐에서 판단한다.
+ */
+@Getter
+@AllArgsConstructor
+public class RegistrationCommand {
+
+    private String ticketId;
+    private RegistrationType type;
+    private Long academyId;
+    private Long lectureId;
+    private Long studentId;
+    // 접수한 직원 (수강 내역의 등록 직원 필드용)
+    private Employee employee;
+}
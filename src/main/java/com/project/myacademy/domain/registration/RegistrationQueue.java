@@ -0,0 +1,151 @@
+package com.project.myacademy.domain.registration;
+
+import com.project.myacademy.global.exception.AppException;
+import com.project.myacademy.global.exception.ErrorCode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * 수강 신청 러시 모드 - 서버(노드) 안에서 강좌별 단일 작성자(single-writer) 등록 큐
+ * 강좌 id 로 샤드를 정하고, 샤드마다 스레드 하나가 자기 큐의 요청만 순서대로 처리한다.
+ * 한 서버 안에서는 같은 강좌의 요청을 항상 같은 스레드가 처리하므로 강좌 행(lecture_tb)을 두고 서로 락을 기다리지 않고,
+ * 처리량은 샤드 수(동시에 처리하는 강좌 수)만큼 늘어난다.
+ *
+ * 단일 작성자는 서버마다의 보장이다. nginx 뒤의 여러 서버는 같은 강좌를 동시에 저장할 수 있으므로
+ * - 정원은 좌석 확보의 조건부 UPDATE(LectureRepository.reserveSeats)로 지킨다.
+ * - 중복 수강 등록은 수강 내역의 유니크 제약(학생, 강좌, 삭제 여부)으로 막는다. 다른 서버가 먼저 등록해 제약에 걸리면
+ *   배치를 롤백하고 한 번 다시 저장한다. (다시 읽은 수강 내역으로 해당 학생은 DUPLICATED_ENROLLMENT)
+ *
+ * - 큐에서 한 번에 최대 batch-size 건을 꺼내 강좌별로 묶어 RegistrationBatchWriter 로 저장한다.
+ * - 큐가 가득 차면 접수를 거절한다. (REGISTRATION_QUEUE_FULL)
+ * - 처리 결과는 RegistrationTicketStore 에 저장하고, 요청자는 상태 조회 API 로 확인한다.
+ * - 서버 종료 시 처리하지 못한 요청은 실패(FAILED)로 기록한다.
+ *
+ * registration.rush.enabled=true 일 때만 동작한다.
+ */
+@Component
+@ConditionalOnProperty(name = "registration.rush.enabled", havingValue = "true")
+@Slf4j
+public class RegistrationQueue {
+
+    private final RegistrationBatchWriter batchWriter;
+    private final RegistrationTicketStore ticketStore;
+    private final int batchSize;
+    private final List<BlockingQueue<RegistrationCommand>> shards = new ArrayList<>();
+    private final ExecutorService workers;
+
+    private volatile boolean running = true;
+
+    public RegistrationQueue(RegistrationBatchWriter batchWriter, RegistrationTicketStore ticketStore,
+                             @Value("${registration.rush.shards:8}") int shardCount,
+                             @Value("${registration.rush.queue-capacity:5000}") int queueCapacity,
+                             @Value("${registration.rush.batch-size:50}") int batchSize) {
+        this.batchWriter = batchWriter;
+        this.ticketStore = ticketStore;
+        this.batchSize = batchSize;
+        for (int i = 0; i < shardCount; i++) {
+            shards.add(new ArrayBlockingQueue<>(queueCapacity));
+        }
+        this.workers = Executors.newFixedThreadPool(shardCount, new CustomizableThreadFactory("registration-"));
+    }
+
+    @PostConstruct
+    public void start() {
+        shards.forEach(shard -> workers.execute(() -> drain(shard)));
+        log.info("등록 큐 시작 - 샤드 [{}]개, 배치 [{}]건", shards.size(), batchSize);
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        workers.shutdownNow();
+        workers.awaitTermination(5, TimeUnit.SECONDS);
+
+        List<RegistrationCommand> remaining = new ArrayList<>();
+        shards.forEach(shard -> shard.drainTo(remaining));
+        if (!remaining.isEmpty()) {
+            log.warn("등록 큐 종료 - 처리하지 못한 요청 [{}]건 실패 처리", remaining.size());
+            ticketStore.saveAll(remaining.stream().map(RegistrationTicket::failed).collect(Collectors.toList()));
+        }
+    }
+
+    /**
+     * 요청을 강좌의 샤드 큐에 넣는다.
+     *
+     * @throws AppException 큐가 가득 찬 경우 REGISTRATION_QUEUE_FULL
+     */
+    public void submit(RegistrationCommand command) {
+        if (!running || !shardOf(command.getLectureId()).offer(command)) {
+            throw new AppException(ErrorCode.REGISTRATION_QUEUE_FULL);
+        }
+    }
+
+    private BlockingQueue<RegistrationCommand> shardOf(Long lectureId) {
+        return shards.get(Math.floorMod(lectureId.hashCode(), shards.size()));
+    }
+
+    // 샤드 스레드 - 요청이 올 때까지 기다렸다가, 쌓여 있는 만큼(최대 batchSize) 한 번에 처리
+    private void drain(BlockingQueue<RegistrationCommand> shard) {
+        List<RegistrationCommand> batch = new ArrayList<>(batchSize);
+        while (running) {
+            try {
+                batch.add(shard.take());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            shard.drainTo(batch, batchSize - 1);
+            process(batch);
+            batch.clear();
+        }
+    }
+
+    private void process(List<RegistrationCommand> batch) {
+
+        // 강좌별로 묶어 도착 순서를 유지
+        Map<Long, List<RegistrationCommand>> byLecture = batch.stream()
+                .collect(Collectors.groupingBy(RegistrationCommand::getLectureId, LinkedHashMap::new, Collectors.toList()));
+
+        byLecture.forEach((lectureId, commands) -> {
+            List<RegistrationTicket> results;
+            try {
+                results = write(lectureId, commands);
+            } catch (RuntimeException e) {
+                log.error("등록 큐 강좌 [{}] 요청 [{}]건 저장 실패", lectureId, commands.size(), e);
+                results = commands.stream().map(RegistrationTicket::failed).collect(Collectors.toList());
+            }
+            try {
+                ticketStore.saveAll(results);
+            } catch (RuntimeException e) {
+                log.error("등록 큐 강좌 [{}] 처리 결과 저장 실패", lectureId, e);
+            }
+        });
+    }
+
+    // 다른 서버가 같은 학생을 먼저 등록해 유니크 제약에 걸리면, 롤백된 배치를 새 트랜잭션으로 한 번 더 저장
+    private List<RegistrationTicket> write(Long lectureId, List<RegistrationCommand> commands) {
+        try {
+            return batchWriter.write(lectureId, commands);
+        } catch (DataIntegrityViolationException e) {
+            log.warn("등록 큐 강좌 [{}] 다른 서버와 중복 등록 - 다시 저장", lectureId);
+            return batchWriter.write(lectureId, commands);
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.project.myacademy.domain.registration;
+
+import com.project.myacademy.domain.registration.dto.CreateRegistrationResponse;
+import com.project.myacademy.domain.registration.dto.ReadRegistrationResponse;
+import com.project.myacademy.global.Response;
+import com.project.myacademy.global.configuration.jwt.EmployeePrincipal;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@Tag(name = "08-1. 수강신청 접수", description = "수강 신청 러시 모드 - 수강 / 대기 등록 요청 접수, 처리 상태 조회")
+@RestController
+@ConditionalOnProperty(name = "registration.rush.enabled", havingValue = "true")
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/academies")
+@Slf4j
+public class RegistrationRestController {
+
+    private final RegistrationService registrationService;
+
+    // 수강 등록 요청 접수
+    @Operation(summary = "수강 등록 요청 접수", description = "ADMIN,STAFF 회원만 요청이 가능합니다. \n\n 요청을 큐에 넣고 바로 응답하며, 결과는 처리 상태 조회로 확인합니다.")
+    @PostMapping("/{academyId}/students/{studentId}/lectures/{lectureId}/enrollments/queue")
+    public ResponseEntity<Response<CreateRegistrationResponse>> enroll(@PathVariable("academyId") Long academyId,
+                                                                       @PathVariable("studentId") Long studentId,
+                                                                       @PathVariable("lectureId") Long lectureId,
+                                                                       EmployeePrincipal principal) {
+        String account = principal.getAccount();
+        CreateRegistrationResponse registration = registrationService.submit(academyId, studentId, lectureId, RegistrationType.ENROLLMENT, account);
+        log.info("수강 등록 요청 접수 [{}]", registration.getTicketId());
+        return ResponseEntity.accepted().body(Response.success(registration));
+    }
+
+    // 대기 등록 요청 접수
+    @Operation(summary = "대기 등록 요청 접수", description = "ADMIN,STAFF 회원만 요청이 가능합니다. \n\n 요청을 큐에 넣고 바로 응답하며, 결과는 처리 상태 조회로 확인합니다.")
+    @PostMapping("/{academyId}/students/{studentId}/lectures/{lectureId}/waitinglists/queue")
+    public ResponseEntity<Response<CreateRegistrationResponse>> waitlist(@PathVariable("academyId") Long academyId,
+                                                                         @PathVariable("studentId") Long studentId,
+                                                                         @PathVariable("lectureId") Long lectureId,
+                                                                         EmployeePrincipal principal) {
+        String account = principal.getAccount();
+        CreateRegistrationResponse registration = registrationService.submit(academyId, studentId, lectureId, RegistrationType.WAITINGLIST, account);
+        log.info("대기 등록 요청 접수 [{}]", registration.getTicketId());
+        return ResponseEntity.accepted().body(Response.success(registration));
+    }
+
+    // 처리 상태 조회
+    @Operation(summary = "등록 요청 처리 상태 조회", description = "PENDING 이면 아직 처리 중이므로 잠시 후 다시 조회합니다.")
+    @GetMapping("/{academyId}/registrations/{ticketId}")
+    public ResponseEntity<Response<ReadRegistrationResponse>> read(@PathVariable("academyId") Long academyId,
+                                                                   @PathVariable("ticketId") String ticketId,
+                                                                   EmployeePrincipal principal) {
+        String account = principal.getAccount();
+        ReadRegistrationResponse registration = registrationService.readRegistration(academyId, ticketId, account);
+        return ResponseEntity.ok().body(Response.success(registration));
+    }
+}
@@ -0,0 +1,117 @@
+package com.project.myacademy.domain.registration;
+
+import com.project.myacademy.domain.academy.Academy;
+import com.project.myacademy.domain.academy.AcademyRepository;
+import com.project.myacademy.domain.employee.Employee;
+import com.project.myacademy.domain.employee.EmployeeRepository;
+import com.project.myacademy.domain.lecture.LectureRepository;
+import com.project.myacademy.domain.registration.dto.CreateRegistrationResponse;
+import com.project.myacademy.domain.registration.dto.ReadRegistrationResponse;
+import com.project.myacademy.domain.student.StudentRepository;
+import com.project.myacademy.global.exception.AppException;
+import com.project.myacademy.global.exception.ErrorCode;
+import com.project.myacademy.global.util.TenantContext;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.UUID;
+
+/**
+ * 수강 신청 러시 모드 - 수강 / 대기 등록 요청 접수와 처리 상태 조회
+ * 접수 시 권한과 학생 · 강좌 존재 여부만 확인하고, 좌석 배정과 저장은 RegistrationQueue 가 비동기로 처리한다.
+ */
+@Service
+@ConditionalOnProperty(name = "registration.rush.enabled", havingValue = "true")
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class RegistrationService {
+
+    private final AcademyRepository academyRepository;
+    private final EmployeeRepository employeeRepository;
+    private final StudentRepository studentRepository;
+    private final LectureRepository lectureRepository;
+    private final RegistrationQueue registrationQueue;
+    private final RegistrationTicketStore ticketStore;
+
+    /**
+     * 수강 / 대기 등록 요청 접수
+     *
+     * @param academyId 학원 Id
+     * @param studentId 학생 Id
+     * @param lectureId 강좌 Id
+     * @param type      수강 등록 / 대기 등록
+     * @param account   요청하는 직원 계정
+     */
+    public CreateRegistrationResponse submit(Long academyId, Long studentId, Long lectureId, RegistrationType type, String account) {
+
+        // 접수하는 직원 존재 유무 확인(학원 존재 유무, 해당 학원 직원인지 확인)
+        Academy academy = validateAcademyById(academyId);
+        Employee employee = validateRequestEmployeeByAcademy(account, academy);
+
+        // 직원이 수강 / 대기 등록을 할 권한이 있는지 확인(강사만 불가능)
+        if (Employee.isTeacherAuthority(employee)) {
+            throw new AppException(ErrorCode.INVALID_PERMISSION);
+        }
+
+        // 학생, 강좌 존재 유무 확인
+        validateStudentById(studentId);
+        validateLectureById(lectureId);
+
+        RegistrationCommand command = new RegistrationCommand(UUID.randomUUID().toString(), type, academyId, lectureId, studentId, employee);
+
+        // 처리 결과가 먼저 저장되지 않도록 처리 대기 상태를 큐에 넣기 전에 저장
+        RegistrationTicket ticket = RegistrationTicket.pending(command);
+        ticketStore.save(ticket);
+        registrationQueue.submit(command);
+
+        return CreateRegistrationResponse.of(ticket);
+    }
+
+    /**
+     * 등록 요청 처리 상태 조회
+     *
+     * @param academyId 학원 Id
+     * @param ticketId  접수 시 받은 요청 Id
+     * @param account   요청하는 직원 계정
+     */
+    public ReadRegistrationResponse readRegistration(Long academyId, String ticketId, String account) {
+
+        // 조회하는 직원 존재 유무 확인(학원 존재 유무, 해당 학원 직원인지 확인)
+        Academy academy = validateAcademyById(academyId);
+        validateRequestEmployeeByAcademy(account, academy);
+
+        // 다른 학원의 요청은 조회 불가
+        RegistrationTicket ticket = ticketStore.findById(ticketId)
+                .filter(found -> academyId.equals(found.getAcademyId()))
+                .orElseThrow(() -> new AppException(ErrorCode.REGISTRATION_NOT_FOUND));
+
+        return ReadRegistrationResponse.of(ticket);
+    }
+
+    // 학원 Id로 학원을 조회 - 없을시 ACADEMY_NOT_FOUND 에러발생
+    private Academy validateAcademyById(Long academyId) {
+        return TenantContext.academy(academyId, () -> academyRepository.findById(academyId)
+                .orElseThrow(() -> new AppException(ErrorCode.ACADEMY_NOT_FOUND)));
+    }
+
+    // 요청하는 계정과 학원으로 직원을 조회 - 없을시 REQUEST_EMPLOYEE_NOT_FOUND 에러발생
+    private Employee validateRequestEmployeeByAcademy(String account, Academy academy) {
+        return TenantContext.requestEmployee(account, academy, () -> employeeRepository.findByAccountAndAcademy(account, academy)
+                .orElseThrow(() -> new AppException(ErrorCode.REQUEST_EMPLOYEE_NOT_FOUND)));
+    }
+
+    // 학생 Id로 학생을 조회 - 없을시 STUDENT_NOT_FOUND 에러발생
+    private void validateStudentById(Long studentId) {
+        if (!studentRepository.existsById(studentId)) {
+            throw new AppException(ErrorCode.STUDENT_NOT_FOUND);
+        }
+    }
+
+    // 강좌 Id로 강좌를 조회 - 없을시 LECTURE_NOT_FOUND 에러발생
+    private void validateLectureById(Long lectureId) {
+        lectureRepository.findById(lectureId)
+                .orElseThrow(() -> new AppException(ErrorCode.LECTURE_NOT_FOUND));
+    }
+}
@@ -0,0 +1,16 @@
+package com.project.myacademy.domain.registration;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public enum RegistrationStatus {
+    PENDING("처리 대기"),
+    ENROLLED("수강 등록 완료"),
+    WAITING("대기번호 등록 완료"),
+    REJECTED("등록 거절"),
+    FAILED("처리 실패");
+
+    private String name;
+}
@@ -0,0 +1,61 @@
+package com.project.myacademy.domain.registration;
+
+import com.project.myacademy.global.exception.ErrorCode;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 등록 요청의 처리 상태 (RegistrationTicketStore 에 저장해 폴링으로 조회)
+ */
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+@Builder
+public class RegistrationTicket {
+
+    private String ticketId;
+    private Long academyId;
+    private Long lectureId;
+    private Long studentId;
+    private RegistrationType type;
+    private RegistrationStatus status;
+    // 생성된 수강 내역 / 대기번호 id
+    private Long resultId;
+    // 거절 · 실패 사유
+    private ErrorCode errorCode;
+
+    public static RegistrationTicket pending(RegistrationCommand command) {
+        return of(command, RegistrationStatus.PENDING, null, null);
+    }
+
+    public static RegistrationTicket enrolled(RegistrationCommand command, Long enrollmentId) {
+        return of(command, RegistrationStatus.ENROLLED, enrollmentId, null);
+    }
+
+    public static RegistrationTicket waiting(RegistrationCommand command, Long waitinglistId) {
+        return of(command, RegistrationStatus.WAITING, waitinglistId, null);
+    }
+
+    public static RegistrationTicket rejected(RegistrationCommand command, ErrorCode errorCode) {
+        return of(command, RegistrationStatus.REJECTED, null, errorCode);
+    }
+
+    public static RegistrationTicket failed(RegistrationCommand command) {
+        return of(command, RegistrationStatus.FAILED, null, ErrorCode.REGISTRATION_FAILED);
+    }
+
+    private static RegistrationTicket of(RegistrationCommand command, RegistrationStatus status, Long resultId, ErrorCode errorCode) {
+        return RegistrationTicket.builder()
+                .ticketId(command.getTicketId())
+                .academyId(command.getAcademyId())
+                .lectureId(command.getLectureId())
+                .studentId(command.getStudentId())
+                .type(command.getType())
+                .status(status)
+                .resultId(resultId)
+                .errorCode(errorCode)
+                .build();
+    }
+}
@@ -0,0 +1,93 @@
+package com.project.myacademy.domain.registration;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 등록 요청 처리 상태 저장소 (Redis)
+ * 요청을 접수한 서버와 상태를 조회하는 서버가 달라도 같은 결과를 볼 수 있도록 Redis 에 JSON 으로 저장한다.
+ * 결과는 registration.rush.ticket-ttl-seconds (기본 10분) 뒤에 만료된다.
+ */
+@Component
+@ConditionalOnProperty(name = "registration.rush.enabled", havingValue = "true")
+public class RegistrationTicketStore {
+
+    private static final String KEY_PREFIX = "registration:";
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final long ttlSeconds;
+
+    public RegistrationTicketStore(StringRedisTemplate redisTemplate, ObjectMapper objectMapper,
+                                   @Value("${registration.rush.ticket-ttl-seconds:600}") long ttlSeconds) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.ttlSeconds = ttlSeconds;
+    }
+
+    /**
+     * 처리 상태 저장 - SET key value EX (1 round trip)
+     */
+    public void save(RegistrationTicket ticket) {
+        redisTemplate.opsForValue().set(key(ticket.getTicketId()), toJson(ticket), ttlSeconds, TimeUnit.SECONDS);
+    }
+
+    /**
+     * 한 배치의 처리 결과를 파이프라인으로 저장 (1 round trip)
+     */
+    public void saveAll(Collection<RegistrationTicket> tickets) {
+        if (tickets.isEmpty()) {
+            return;
+        }
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (RegistrationTicket ticket : tickets) {
+                connection.stringCommands().set(bytes(key(ticket.getTicketId())), bytes(toJson(ticket)),
+                        Expiration.seconds(ttlSeconds), RedisStringCommands.SetOption.upsert());
+            }
+            return null;
+        });
+    }
+
+    /**
+     * 처리 상태 조회 - GET key (1 round trip)
+     */
+    public Optional<RegistrationTicket> findById(String ticketId) {
+        String value = redisTemplate.opsForValue().get(key(ticketId));
+        if (value == null) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(objectMapper.readValue(value, RegistrationTicket.class));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("등록 요청 상태를 읽을 수 없습니다. ticketId [" + ticketId + "]", e);
+        }
+    }
+
+    private String toJson(RegistrationTicket ticket) {
+        try {
+            return objectMapper.writeValueAsString(ticket);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("등록 요청 상태를 저장할 수 없습니다. ticketId [" + ticket.getTicketId() + "]", e);
+        }
+    }
+
+    private String key(String ticketId) {
+        return KEY_PREFIX + ticketId;
+    }
+
+    private byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,13 @@
+package com.project.myacademy.domain.registration;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public enum RegistrationType {
+    ENROLLMENT("수강 등록"),
+    WAITINGLIST("대기 등록");
+
+    private String name;
+}
@@ -0,0 +1,21 @@
+package com.project.myacademy.domain.registration.dto;
+
+import com.project.myacademy.domain.registration.RegistrationStatus;
+import com.project.myacademy.domain.registration.RegistrationTicket;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+@AllArgsConstructor
+@Getter
+@Builder
+public class CreateRegistrationResponse {
+
+    private String ticketId;
+    private RegistrationStatus status;
+    private String message;
+
+    public static CreateRegistrationResponse of(RegistrationTicket ticket) {
+        return new CreateRegistrationResponse(ticket.getTicketId(), ticket.getStatus(), "등록 요청 접수 완료");
+    }
+}
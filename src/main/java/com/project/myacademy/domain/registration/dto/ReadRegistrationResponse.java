@@ -0,0 +1,37 @@
+package com.project.myacademy.domain.registration.dto;
+
+import com.project.myacademy.domain.registration.RegistrationStatus;
+import com.project.myacademy.domain.registration.RegistrationTicket;
+import com.project.myacademy.domain.registration.RegistrationType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+@Builder
+public class ReadRegistrationResponse {
+
+    private String ticketId;
+    private RegistrationType type;
+    private Long lectureId;
+    private Long studentId;
+    private RegistrationStatus status;
+    // 수강 등록이면 수강 내역 id, 대기 등록이면 대기번호 id
+    private Long resultId;
+    private String message;
+
+    public static ReadRegistrationResponse of(RegistrationTicket ticket) {
+        return ReadRegistrationResponse.builder()
+                .ticketId(ticket.getTicketId())
+                .type(ticket.getType())
+                .lectureId(ticket.getLectureId())
+                .studentId(ticket.getStudentId())
+                .status(ticket.getStatus())
+                .resultId(ticket.getResultId())
+                .message(ticket.getErrorCode() != null ? ticket.getErrorCode().getMessage() : ticket.getStatus().getName())
+                .build();
+    }
+}
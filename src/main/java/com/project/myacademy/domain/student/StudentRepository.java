@@ -3,7 +3,11 @@ package com.project.myacademy.domain.student;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 public interface StudentRepository extends JpaRepository<Student, Long> {
@@ -17,4 +21,10 @@ public interface StudentRepository extends JpaRepository<Student, Long> {
     Page<Student> findByAcademyIdAndName(Long academyId, String studentName,Pageable pageable);
 
     Long countStudentByAcademyId(Long academyId);
+
+    // 커서 페이징 - 학원의 학생을 커서 (생성 시각, id) 이전부터 최신순으로 조회 (COUNT 없음)
+    @Query("select s from Student s where s.academyId = :academyId " +
+            "and (s.createdAt < :createdAt or (s.createdAt = :createdAt and s.id < :id)) " +
+            "order by s.createdAt desc, s.id desc")
+    List<Student> findByAcademyIdBeforeCursor(@Param("academyId") Long academyId, @Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Pageable pageable);
 }
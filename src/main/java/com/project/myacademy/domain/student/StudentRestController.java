@@ -1,10 +1,11 @@
 package com.project.myacademy.domain.student;
 
 import com.project.myacademy.domain.student.dto.*;
+import com.project.myacademy.global.CursorPage;
 import com.project.myacademy.global.Response;
+import com.project.myacademy.global.configuration.jwt.EmployeePrincipal;
 import com.project.myacademy.global.exception.BindingException;
 import com.project.myacademy.global.exception.ErrorCode;
-import com.project.myacademy.global.util.AuthenticationUtil;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
@@ -13,7 +14,6 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.Authentication;
 import org.springframework.validation.BindingResult;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
@@ -32,12 +32,12 @@ public class StudentRestController {
      */
     @Operation(summary = "학생 등록", description = "ADMIN,STAFF 회원만 등록이 가능합니다.")
     @PostMapping("/{academyId}/students")
-    public ResponseEntity<Response<CreateStudentResponse>> create(@PathVariable Long academyId, @Validated @RequestBody CreateStudentRequest request, BindingResult bindingResult, Authentication authentication) {
+    public ResponseEntity<Response<CreateStudentResponse>> create(@PathVariable Long academyId, @Validated @RequestBody CreateStudentRequest request, BindingResult bindingResult, EmployeePrincipal principal) {
 
         if (bindingResult.hasFieldErrors()) {
             throw new BindingException(ErrorCode.BINDING_ERROR, bindingResult.getFieldError().getDefaultMessage());
         }
-        String requestAccount = AuthenticationUtil.getAccountFromAuth(authentication);
+        String requestAccount = principal.getAccount();
         CreateStudentResponse response = studentService.createStudent(academyId, request, requestAccount);
         return ResponseEntity.ok().body(Response.success(response));
     }
@@ -47,8 +47,8 @@ public class StudentRestController {
      */
     @Operation(summary = "학생 단건 조회", description = "ADMIN,STAFF 회원만 조회가 가능합니다.")
     @GetMapping("/{academyId}/students/{studentId}")
-    public ResponseEntity<Response<ReadStudentResponse>> read(@PathVariable Long academyId, @PathVariable Long studentId, Authentication authentication) {
-        String requestAccount = AuthenticationUtil.getAccountFromAuth(authentication);
+    public ResponseEntity<Response<ReadStudentResponse>> read(@PathVariable Long academyId, @PathVariable Long studentId, EmployeePrincipal principal) {
+        String requestAccount = principal.getAccount();
         ReadStudentResponse response = studentService.readStudent(academyId, studentId, requestAccount);
         return ResponseEntity.ok().body(Response.success(response));
     }
@@ -58,20 +58,32 @@ public class StudentRestController {
      */
     @Operation(summary = "학생 전체 조회", description = "ADMIN,STAFF 회원만 조회가 가능합니다.")
     @GetMapping("/{academyId}/students")
-    public ResponseEntity<Response<Page<ReadAllStudentResponse>>> readAll(@PathVariable Long academyId, Authentication authentication) {
-        String requestAccount = AuthenticationUtil.getAccountFromAuth(authentication);
+    public ResponseEntity<Response<Page<ReadAllStudentResponse>>> readAll(@PathVariable Long academyId, EmployeePrincipal principal) {
+        String requestAccount = principal.getAccount();
         PageRequest pageable = PageRequest.of(0, 20, Sort.by("id").descending());
         Page<ReadAllStudentResponse> responses = studentService.readAllStudent(academyId, pageable, requestAccount);
         return ResponseEntity.ok().body(Response.success(responses));
     }
 
+    /**
+     * 학생 정보 전체 조회 - 커서 페이징
+     */
+    @Operation(summary = "학생 전체 조회 (커서)", description = "ADMIN,STAFF 회원만 조회가 가능합니다. \n\n 첫 페이지는 cursor 를 비워서 요청하고, 다음 페이지는 응답의 nextCursor 로 요청합니다.")
+    @GetMapping(value = "/{academyId}/students", params = "cursor")
+    public ResponseEntity<Response<CursorPage<ReadAllStudentResponse>>> readAllByCursor(@PathVariable Long academyId, @RequestParam String cursor,
+                                                                                      @RequestParam(defaultValue = "20") int size, EmployeePrincipal principal) {
+        String requestAccount = principal.getAccount();
+        CursorPage<ReadAllStudentResponse> responses = studentService.readAllStudentByCursor(academyId, cursor, size, requestAccount);
+        return ResponseEntity.ok().body(Response.success(responses));
+    }
+
     /**
      * 학생 정보 수정
      */
     @Operation(summary = "학생 수정", description = "ADMIN,STAFF 회원만 수정이 가능합니다.")
     @PutMapping("/{academyId}/students/{studentId}")
-    public ResponseEntity<Response<UpdateStudentResponse>> update(@PathVariable Long academyId, @PathVariable Long studentId, @RequestBody UpdateStudentRequest request, Authentication authentication) {
-        String requestAccount = AuthenticationUtil.getAccountFromAuth(authentication);
+    public ResponseEntity<Response<UpdateStudentResponse>> update(@PathVariable Long academyId, @PathVariable Long studentId, @RequestBody UpdateStudentRequest request, EmployeePrincipal principal) {
+        String requestAccount = principal.getAccount();
         UpdateStudentResponse response = studentService.updateStudent(academyId, studentId, request, requestAccount);
         return ResponseEntity.ok().body(Response.success(response));
     }
@@ -81,8 +93,8 @@ public class StudentRestController {
      */
     @Operation(summary = "학생 삭제", description = "ADMIN,STAFF 회원만 삭제가 가능합니다. \n\n soft-delete 됩니다.")
     @DeleteMapping("/{academyId}/students/{studentId}")
-    public ResponseEntity<Response<DeleteStudentResponse>> delete(@PathVariable Long academyId, @PathVariable Long studentId, Authentication authentication) {
-        String requestAccount = AuthenticationUtil.getAccountFromAuth(authentication);
+    public ResponseEntity<Response<DeleteStudentResponse>> delete(@PathVariable Long academyId, @PathVariable Long studentId, EmployeePrincipal principal) {
+        String requestAccount = principal.getAccount();
         DeleteStudentResponse response = studentService.deleteStudent(academyId, studentId, requestAccount);
         return ResponseEntity.ok().body(Response.success(response));
     }
@@ -8,8 +8,10 @@ import com.project.myacademy.domain.employee.EmployeeRole;
 import com.project.myacademy.domain.parent.Parent;
 import com.project.myacademy.domain.parent.ParentRepository;
 import com.project.myacademy.domain.student.dto.*;
+import com.project.myacademy.global.CursorPage;
 import com.project.myacademy.global.exception.AppException;
 import com.project.myacademy.global.exception.ErrorCode;
+import com.project.myacademy.global.util.TenantContext;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
@@ -17,6 +19,7 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
 import java.util.Optional;
 
 @Service
@@ -101,6 +104,28 @@ public class StudentService {
         return studentRepository.findAllByAcademyId(pageable, academyId).map(ReadAllStudentResponse::of);
     }
 
+    /**
+     * 학생 전체 조회 - 커서 페이징 (최신 등록순, COUNT 없음)
+     *
+     * @param academyId 학원 Id
+     * @param cursor    이전 페이지 응답의 nextCursor (첫 페이지는 빈 값)
+     * @param size      페이지 크기
+     * @param account   jwt로 받아온 사용자(Employee) 계정
+     */
+    public CursorPage<ReadAllStudentResponse> readAllStudentByCursor(Long academyId, String cursor, int size, String account) {
+
+        // 학원 Id로 학원을 조회 - 없을시 ACADEMY_NOT_FOUND 에러발생
+        Academy academy = validateAcademyById(academyId);
+        // 요청하는 계정과 학원으로 직원을 조회 - 없을시 REQUEST_EMPLOYEE_NOT_FOUND 에러발생
+        validateRequestEmployeeByAcademy(account, academy);
+
+        CursorPage.Key key = CursorPage.decode(cursor);
+        int pageSize = CursorPage.clamp(size);
+        List<Student> students = studentRepository.findByAcademyIdBeforeCursor(academyId, key.getCreatedAt(), key.getId(), CursorPage.limit(pageSize));
+
+        return CursorPage.of(students, pageSize, Student::getCreatedAt, Student::getId, ReadAllStudentResponse::of);
+    }
+
     /**
      * 학생 수정
      *
@@ -176,8 +201,13 @@ public class StudentService {
     }
 
     public Long countStudentByAcademy(Long academyId) {
-        validateAcademyById(academyId);
-        return studentRepository.countStudentByAcademyId(academyId);
+        Academy academy = validateAcademyById(academyId);
+        return countStudentByAcademy(academy);
+    }
+
+    // 학원 확인을 마친 경우 (DashboardService)
+    public Long countStudentByAcademy(Academy academy) {
+        return studentRepository.countStudentByAcademyId(academy.getId());
     }
 
     // 학생이 등록되어 있는지 확인 - 없으면 STUDENT_NOT_FOUND 에러발생
@@ -189,8 +219,8 @@ public class StudentService {
     // 학원 Id로 학원을 조회 - 없을시 ACADEMY_NOT_FOUND 에러발생
     public Academy validateAcademyById(Long academyId) {
 
-        return academyRepository.findById(academyId)
-                .orElseThrow(() -> new AppException(ErrorCode.ACADEMY_NOT_FOUND));
+        return TenantContext.academy(academyId, () -> academyRepository.findById(academyId)
+                .orElseThrow(() -> new AppException(ErrorCode.ACADEMY_NOT_FOUND)));
     }
 
     // 학원 Id와 부모 전화번호로 부모 조회 - 없을시 PARENT_NOT_FOUND 에러발생
@@ -201,8 +231,8 @@ public class StudentService {
 
     // 요청하는 계정과 학원으로 직원을 조회 - 없을시 REQUEST_EMPLOYEE_NOT_FOUND 에러발생
     public Employee validateRequestEmployeeByAcademy(String account, Academy academy) {
-        return employeeRepository.findByAccountAndAcademy(account, academy)
-                .orElseThrow(() -> new AppException(ErrorCode.REQUEST_EMPLOYEE_NOT_FOUND));
+        return TenantContext.requestEmployee(account, academy, () -> employeeRepository.findByAccountAndAcademy(account, academy)
+                .orElseThrow(() -> new AppException(ErrorCode.REQUEST_EMPLOYEE_NOT_FOUND)));
     }
 
     // 해당 직원의 권한 체크 - USER 이면 INVALID_PERMISSION 에러발생
@@ -4,7 +4,18 @@ import com.project.myacademy.domain.student.Student;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
 
 public interface UniquenessRepository extends JpaRepository<Uniqueness, Long> {
     Page<Uniqueness> findAllByStudent(Student student, Pageable pageable);
+
+    // 커서 페이징 - 학생의 특이사항을 커서 (생성 시각, id) 이전부터 최신순으로 조회 (COUNT 없음)
+    @Query("select u from Uniqueness u where u.student = :student " +
+            "and (u.createdAt < :createdAt or (u.createdAt = :createdAt and u.id < :id)) " +
+            "order by u.createdAt desc, u.id desc")
+    List<Uniqueness> findByStudentBeforeCursor(@Param("student") Student student, @Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Pageable pageable);
 }
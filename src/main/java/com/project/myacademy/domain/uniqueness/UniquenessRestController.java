@@ -1,19 +1,19 @@
 package com.project.myacademy.domain.uniqueness;
 
 import com.project.myacademy.domain.uniqueness.dto.*;
+import com.project.myacademy.global.CursorPage;
 import com.project.myacademy.global.Response;
+import com.project.myacademy.global.configuration.jwt.EmployeePrincipal;
 import com.project.myacademy.global.exception.BindingException;
 import com.project.myacademy.global.exception.ErrorCode;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
-import com.project.myacademy.global.util.AuthenticationUtil;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.Authentication;
 import org.springframework.validation.BindingResult;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
@@ -33,11 +33,11 @@ public class UniquenessRestController {
     @Operation(summary = "학생 특이사항 등록", description = "학생 특이사항을 등록합니다.")
     @PostMapping("/{academyId}/students/{studentId}/uniqueness")
     public ResponseEntity<Response<CreateUniquenessResponse>> create(@PathVariable Long academyId,
-                                                                     @PathVariable Long studentId, @Validated @RequestBody CreateUniquenessRequest request, BindingResult bindingResult, Authentication authentication) {
+                                                                     @PathVariable Long studentId, @Validated @RequestBody CreateUniquenessRequest request, BindingResult bindingResult, EmployeePrincipal principal) {
         if (bindingResult.hasFieldErrors()) {
             throw new BindingException(ErrorCode.BINDING_ERROR, bindingResult.getFieldError().getDefaultMessage());
         }
-        String requestAccount = AuthenticationUtil.getAccountFromAuth(authentication);
+        String requestAccount = principal.getAccount();
         CreateUniquenessResponse response = uniquenessService.createUniqueness(academyId, studentId, request, requestAccount);
         return ResponseEntity.ok().body(Response.success(response));
     }
@@ -48,13 +48,26 @@ public class UniquenessRestController {
     @Operation(summary = "학생 특이사항 전체 조회", description = "학생 특이사항을 모두 조회합니다.")
     @GetMapping("/{academyId}/students/{studentId}/uniqueness")
     public ResponseEntity<Response<Page<ReadAllUniquenessResponse>>> readAll(@PathVariable Long academyId,
-                                                                             @PathVariable Long studentId, Authentication authentication) {
-        String requestAccount = AuthenticationUtil.getAccountFromAuth(authentication);
+                                                                             @PathVariable Long studentId, EmployeePrincipal principal) {
+        String requestAccount = principal.getAccount();
         PageRequest pageable = PageRequest.of(0, 20, Sort.by("id").descending());
         Page<ReadAllUniquenessResponse> responses = uniquenessService.readAllUniqueness(academyId, studentId, pageable, requestAccount);
         return ResponseEntity.ok().body(Response.success(responses));
     }
 
+    /**
+     * 특정 학생의 특이사항 전체 조회 - 커서 페이징
+     */
+    @Operation(summary = "학생 특이사항 전체 조회 (커서)", description = "학생 특이사항을 최신순으로 조회합니다. \n\n 첫 페이지는 cursor 를 비워서 요청하고, 다음 페이지는 응답의 nextCursor 로 요청합니다.")
+    @GetMapping(value = "/{academyId}/students/{studentId}/uniqueness", params = "cursor")
+    public ResponseEntity<Response<CursorPage<ReadAllUniquenessResponse>>> readAllByCursor(@PathVariable Long academyId, @PathVariable Long studentId,
+                                                                                          @RequestParam String cursor, @RequestParam(defaultValue = "20") int size,
+                                                                                          EmployeePrincipal principal) {
+        String requestAccount = principal.getAccount();
+        CursorPage<ReadAllUniquenessResponse> responses = uniquenessService.readAllUniquenessByCursor(academyId, studentId, cursor, size, requestAccount);
+        return ResponseEntity.ok().body(Response.success(responses));
+    }
+
     /**
      * 특정 특이사항 수정
      */
@@ -62,8 +75,8 @@ public class UniquenessRestController {
     @PutMapping("/{academyId}/students/{studentId}/uniqueness/{uniquenessId}")
     public ResponseEntity<Response<UpdateUniquenessResponse>> update(@PathVariable Long academyId,
                                                                      @PathVariable Long studentId,
-                                                                     @PathVariable Long uniquenessId, @RequestBody UpdateUniquenessRequest request, Authentication authentication) {
-        String requestAccount = AuthenticationUtil.getAccountFromAuth(authentication);
+                                                                     @PathVariable Long uniquenessId, @RequestBody UpdateUniquenessRequest request, EmployeePrincipal principal) {
+        String requestAccount = principal.getAccount();
         UpdateUniquenessResponse response = uniquenessService.updateUniqueness(academyId, studentId, uniquenessId, request, requestAccount);
         return ResponseEntity.ok().body(Response.success(response));
     }
@@ -75,8 +88,8 @@ public class UniquenessRestController {
     @DeleteMapping("/{academyId}/students/{studentId}/uniqueness/{uniquenessId}")
     public ResponseEntity<Response<DeleteUniquenessResponse>> delete(@PathVariable Long academyId,
                                                                      @PathVariable Long studentId,
-                                                                     @PathVariable Long uniquenessId, Authentication authentication) {
-        String requestAccount = AuthenticationUtil.getAccountFromAuth(authentication);
+                                                                     @PathVariable Long uniquenessId, EmployeePrincipal principal) {
+        String requestAccount = principal.getAccount();
         DeleteUniquenessResponse response = uniquenessService.deleteUniqueness(academyId, studentId, uniquenessId, requestAccount);
         return ResponseEntity.ok().body(Response.success(response));
     }
@@ -7,8 +7,10 @@ import com.project.myacademy.domain.employee.EmployeeRepository;
 import com.project.myacademy.domain.student.Student;
 import com.project.myacademy.domain.student.StudentRepository;
 import com.project.myacademy.domain.uniqueness.dto.*;
+import com.project.myacademy.global.CursorPage;
 import com.project.myacademy.global.exception.AppException;
 import com.project.myacademy.global.exception.ErrorCode;
+import com.project.myacademy.global.util.TenantContext;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
@@ -16,6 +18,8 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+
 @Service
 @RequiredArgsConstructor
 @Slf4j
@@ -64,6 +68,30 @@ public class UniquenessService {
         return uniquenessRepository.findAllByStudent(student, pageable).map(ReadAllUniquenessResponse::of);
     }
 
+    /**
+     * 특이사항 전체 조회 - 커서 페이징 (최신순, COUNT 없음)
+     *
+     * @param studentId 특이사항의 대상이 되는 학생 Id
+     * @param cursor    이전 페이지 응답의 nextCursor (첫 페이지는 빈 값)
+     * @param size      페이지 크기
+     * @param account   jwt로 받아온 사용자(Employee) 계정
+     */
+    public CursorPage<ReadAllUniquenessResponse> readAllUniquenessByCursor(Long academyId, Long studentId, String cursor, int size, String account) {
+
+        // 학원 Id로 학원을 조회 - 없을시 ACADEMY_NOT_FOUND 에러발생
+        Academy academy = validateAcademyById(academyId);
+        // 요청하는 계정과 학원으로 직원을 조회 - 없을시 REQUEST_EMPLOYEE_NOT_FOUND 에러발생
+        validateRequestEmployeeByAcademy(account, academy);
+        // 학생 Id로 학생이 존재하는지 확인 - 있으면 STUDENT_NOT_FOUND 에러발생
+        Student student = validateStudentById(studentId);
+
+        CursorPage.Key key = CursorPage.decode(cursor);
+        int pageSize = CursorPage.clamp(size);
+        List<Uniqueness> uniquenesses = uniquenessRepository.findByStudentBeforeCursor(student, key.getCreatedAt(), key.getId(), CursorPage.limit(pageSize));
+
+        return CursorPage.of(uniquenesses, pageSize, Uniqueness::getCreatedAt, Uniqueness::getId, ReadAllUniquenessResponse::of);
+    }
+
     /**
      * @param studentId    특이사항의 대상이 되는 학생 Id
      * @param uniquenessId 수정하려고하는 특이사항 Id
@@ -116,14 +144,14 @@ public class UniquenessService {
 
     // 학원 Id로 학원을 조회 - 없을시 ACADEMY_NOT_FOUND 에러발생
     private Academy validateAcademyById(Long academyId) {
-        return academyRepository.findById(academyId)
-                .orElseThrow(() -> new AppException(ErrorCode.ACADEMY_NOT_FOUND));
+        return TenantContext.academy(academyId, () -> academyRepository.findById(academyId)
+                .orElseThrow(() -> new AppException(ErrorCode.ACADEMY_NOT_FOUND)));
     }
 
     // 요청하는 계정과 학원으로 직원을 조회 - 없을시 REQUEST_EMPLOYEE_NOT_FOUND 에러발생
     public Employee validateRequestEmployeeByAcademy(String account, Academy academy) {
-        return employeeRepository.findByAccountAndAcademy(account, academy)
-                .orElseThrow(() -> new AppException(ErrorCode.REQUEST_EMPLOYEE_NOT_FOUND));
+        return TenantContext.requestEmployee(account, academy, () -> employeeRepository.findByAccountAndAcademy(account, academy)
+                .orElseThrow(() -> new AppException(ErrorCode.REQUEST_EMPLOYEE_NOT_FOUND)));
     }
 
     // 학생 Id로 학생이 존재하는지 확인 - 있으면 STUDENT_NOT_FOUND 에러발생
@@ -0,0 +1,356 @@
+package com.project.myacademy.domain.waitinglist;
+
+import com.project.myacademy.domain.waitinglist.dto.WaitinglistIndexEntry;
+import com.project.myacademy.domain.waitinglist.dto.WaitinglistPositionResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 강좌별 대기자 색인 (Redis sorted set)
+ * 키 waitinglist:lecture:{강좌 id} 에 대기 중인 학생 id 를 대기 등록 시각(epoch millis) 점수로 담는다.
+ * 대기 순번(ZRANK) · 대기 인원(ZCARD) · 다음 대기자 N명(ZRANGE)을 DB 조회 없이 O(log n) 으로 답한다.
+ *
+ * - 맨 앞(점수 0)에 HEAD 표시를 두어 "색인 없음" 과 "대기자 0명" 을 구분한다. HEAD 가 rank 0 이므로 학생의 rank 가 곧 1부터 시작하는 순번이다.
+ * - 색인이 없는 강좌는 처음 조회할 때 DB 에서 재구성하고, waitinglist.index.ttl-seconds 가 지나면 만료되어 다시 DB 에서 재구성한다.
+ * - 대기 등록 · 삭제 · 수강 승급은 트랜잭션 커밋 후 반영하고, 색인이 없는 강좌에는 반영하지 않는다. (다음 조회 때 DB 에서 재구성)
+ * - 반영할 때마다 강좌의 변경 번호(waitinglist:lecture:{강좌 id}:version)를 올린다. 재구성은 DB 조회 전에 읽은 변경 번호가 그대로일 때만
+ *   색인을 교체하므로(Lua 스크립트 한 번), DB 조회 이후에 반영된 등록 · 삭제를 이전 데이터로 덮어쓰지 않는다. 교체하지 못하면 DB 로 조회한다.
+ * - waitinglist.index.clear-on-startup 을 켜면 서버가 시작될 때 이전 색인을 모두 지운다. 기본값은 false 이다.
+ *   색인은 서버가 커밋 후에만 바꾸므로 서버가 내려가 있는 동안 어긋나지 않고, 반영하지 못한 변경은 TTL 이 지나면 재구성된다.
+ *   켜 두면 서버가 한 대씩 재시작할 때마다 모든 강좌의 색인이 지워져 DB 재구성이 몰린다.
+ * - Redis 조회에 실패하면 Optional.empty() 를 반환하고, 호출한 쪽은 DB 로 조회한다.
+ */
+@Component
+@Slf4j
+public class WaitinglistIndex {
+
+    private static final String KEY_PREFIX = "waitinglist:lecture:";
+    private static final String HEAD = "#";
+
+    private static final String VERSION_SUFFIX = ":version";
+
+    // 변경 번호를 올리고 색인이 있는 강좌에만 대기자 추가 - KEYS = 색인, 변경 번호 / ARGV = TTL, 점수1, 학생 id1, 점수2, 학생 id2, ...
+    private static final RedisScript<Long> ADD_IF_INDEXED = new DefaultRedisScript<>(
+            "redis.call('incr', KEYS[2]) redis.call('expire', KEYS[2], ARGV[1]) "
+                    + "if redis.call('exists', KEYS[1]) == 1 then return redis.call('zadd', KEYS[1], unpack(ARGV, 2)) end return 0", Long.class);
+
+    // 변경 번호를 올리고 색인이 있는 강좌에서만 대기자 삭제 - KEYS = 색인, 변경 번호 / ARGV = TTL, 학생 id1, 학생 id2, ...
+    private static final RedisScript<Long> REMOVE_IF_INDEXED = new DefaultRedisScript<>(
+            "redis.call('incr', KEYS[2]) redis.call('expire', KEYS[2], ARGV[1]) "
+                    + "if redis.call('exists', KEYS[1]) == 1 then return redis.call('zrem', KEYS[1], unpack(ARGV, 2)) end return 0", Long.class);
+
+    // 변경 번호가 DB 조회 전에 읽은 값과 같을 때만 색인 교체 - KEYS = 색인, 변경 번호 / ARGV = 읽은 변경 번호(없으면 ""), TTL, 점수1, 학생 id1, ...
+    private static final RedisScript<Long> REPLACE_IF_UNCHANGED = new DefaultRedisScript<>(
+            "if (redis.call('get', KEYS[2]) or '') ~= ARGV[1] then return 0 end "
+                    + "redis.call('del', KEYS[1]) redis.call('zadd', KEYS[1], 0, '" + HEAD + "') "
+                    + "for i = 3, #ARGV, 2 do redis.call('zadd', KEYS[1], ARGV[i], ARGV[i + 1]) end "
+                    + "redis.call('expire', KEYS[1], ARGV[2]) return 1", Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final WaitinglistRepository waitinglistRepository;
+    private final boolean enabled;
+    private final boolean clearOnStartup;
+    private final long ttlSeconds;
+
+    public WaitinglistIndex(StringRedisTemplate redisTemplate, WaitinglistRepository waitinglistRepository,
+                            @Value("${waitinglist.index.enabled:true}") boolean enabled,
+                            @Value("${waitinglist.index.clear-on-startup:false}") boolean clearOnStartup,
+                            @Value("${waitinglist.index.ttl-seconds:3600}") long ttlSeconds) {
+        this.redisTemplate = redisTemplate;
+        this.waitinglistRepository = waitinglistRepository;
+        this.enabled = enabled;
+        this.clearOnStartup = clearOnStartup;
+        this.ttlSeconds = ttlSeconds;
+    }
+
+    /**
+     * 대기자 수 - ZCARD (1 round trip, 색인이 없으면 DB 재구성 후 한 번 더)
+     */
+    public Optional<Long> count(Long lectureId) {
+        return counts(List.of(lectureId)).map(counts -> counts.get(lectureId));
+    }
+
+    /**
+     * 여러 강좌의 대기자 수 - ZCARD 파이프라인 (1 round trip, 색인이 없는 강좌는 DB 조회 한 번으로 재구성)
+     *
+     * @return 강좌 id 별 대기자 수 (대기자가 없는 강좌는 0)
+     */
+    public Optional<Map<Long, Long>> counts(Collection<Long> lectureIds) {
+        if (!enabled || lectureIds.isEmpty()) {
+            return Optional.empty();
+        }
+        try {
+            List<Long> ids = new ArrayList<>(lectureIds);
+            List<Object> cardinalities = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                ids.forEach(lectureId -> connection.zSetCommands().zCard(bytes(key(lectureId))));
+                return null;
+            });
+
+            Map<Long, Long> counts = new LinkedHashMap<>();
+            List<Long> missing = new ArrayList<>();
+            for (int i = 0; i < ids.size(); i++) {
+                long cardinality = (Long) cardinalities.get(i);
+                if (cardinality == 0) {
+                    missing.add(ids.get(i));
+                }
+                counts.put(ids.get(i), Math.max(cardinality - 1, 0));
+            }
+            rebuild(missing).forEach(counts::put);
+            return Optional.of(counts);
+        } catch (RuntimeException e) {
+            log.warn("대기자 색인 조회 실패 - 강좌 {} : {}", lectureIds, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 학생의 대기 순번과 대기자 수 - ZRANK + ZCARD 파이프라인 (1 round trip)
+     *
+     * @return 대기 순번 (대기 중이 아니면 waitingNum 이 null)
+     */
+    public Optional<WaitinglistPositionResponse> position(Long lectureId, Long studentId) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+        try {
+            String key = key(lectureId);
+            List<Object> results = rankAndCard(key, studentId);
+            if ((Long) results.get(1) == 0) {
+                rebuild(List.of(lectureId));
+                results = rankAndCard(key, studentId);
+                if ((Long) results.get(1) == 0) {
+                    return Optional.empty();
+                }
+            }
+            Long rank = (Long) results.get(0);
+            long count = Math.max((Long) results.get(1) - 1, 0);
+            return Optional.of(WaitinglistPositionResponse.of(lectureId, studentId, rank, count));
+        } catch (RuntimeException e) {
+            log.warn("대기자 색인 조회 실패 - 강좌 [{}] 학생 [{}] : {}", lectureId, studentId, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 먼저 등록된 대기자 size 명의 학생 id - ZRANGE 0 size (HEAD 포함, 1 round trip)
+     */
+    public Optional<List<Long>> next(Long lectureId, int size) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+        try {
+            String key = key(lectureId);
+            Set<String> members = redisTemplate.opsForZSet().range(key, 0, size);
+            if (members == null || members.isEmpty()) {
+                rebuild(List.of(lectureId));
+                members = redisTemplate.opsForZSet().range(key, 0, size);
+                if (members == null || members.isEmpty()) {
+                    return Optional.empty();
+                }
+            }
+            return Optional.of(members.stream()
+                    .filter(member -> !HEAD.equals(member))
+                    .map(Long::valueOf)
+                    .collect(Collectors.toList()));
+        } catch (RuntimeException e) {
+            log.warn("대기자 색인 조회 실패 - 강좌 [{}] : {}", lectureId, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 대기번호 등록 반영 (트랜잭션 커밋 후, 강좌당 EVAL 1회)
+     */
+    public void add(Collection<Waitinglist> waitinglists) {
+        if (!enabled || waitinglists.isEmpty()) {
+            return;
+        }
+        Map<Long, List<String>> argsByLecture = new LinkedHashMap<>();
+        for (Waitinglist waitinglist : waitinglists) {
+            List<String> args = argsByLecture.computeIfAbsent(waitinglist.getLecture().getId(), lectureId -> new ArrayList<>());
+            args.add(String.valueOf(score(waitinglist.getCreatedAt())));
+            args.add(String.valueOf(waitinglist.getStudent().getId()));
+        }
+        afterCommit(() -> argsByLecture.forEach((lectureId, args) -> {
+            try {
+                args.add(0, String.valueOf(ttlSeconds));
+                redisTemplate.execute(ADD_IF_INDEXED, List.of(key(lectureId), versionKey(lectureId)), args.toArray());
+            } catch (RuntimeException e) {
+                invalidate(lectureId, e);
+            }
+        }));
+    }
+
+    /**
+     * 대기번호 삭제 · 수강 승급 반영 (트랜잭션 커밋 후 EVAL 1회)
+     */
+    public void remove(Long lectureId, Collection<Long> studentIds) {
+        if (!enabled || studentIds.isEmpty()) {
+            return;
+        }
+        List<String> args = new ArrayList<>();
+        args.add(String.valueOf(ttlSeconds));
+        studentIds.forEach(studentId -> args.add(String.valueOf(studentId)));
+        afterCommit(() -> {
+            try {
+                redisTemplate.execute(REMOVE_IF_INDEXED, List.of(key(lectureId), versionKey(lectureId)), args.toArray());
+            } catch (RuntimeException e) {
+                invalidate(lectureId, e);
+            }
+        });
+    }
+
+    /**
+     * 강좌들의 색인을 DB 기준으로 다시 만든다. (변경 번호 조회 파이프라인 1회 + DB 조회 1회 + 교체 파이프라인 1회)
+     * DB 조회 이후에 대기 등록 · 삭제가 반영된 강좌는 색인을 교체하지 않는다. (다음 조회 때 다시 재구성)
+     *
+     * @return 강좌 id 별 대기자 수 (DB 기준)
+     */
+    public Map<Long, Long> rebuild(Collection<Long> lectureIds) {
+        if (lectureIds.isEmpty()) {
+            return Map.of();
+        }
+        List<Long> ids = new ArrayList<>(lectureIds);
+        List<String> versions = redisTemplate.opsForValue().multiGet(ids.stream().map(this::versionKey).collect(Collectors.toList()));
+
+        Map<Long, List<WaitinglistIndexEntry>> entries = new LinkedHashMap<>();
+        ids.forEach(lectureId -> entries.put(lectureId, new ArrayList<>()));
+        waitinglistRepository.findIndexEntriesByLectureIdIn(ids)
+                .forEach(entry -> entries.get(entry.getLectureId()).add(entry));
+
+        List<Object> replaced = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (int i = 0; i < ids.size(); i++) {
+                Long lectureId = ids.get(i);
+                String version = versions == null || versions.get(i) == null ? "" : versions.get(i);
+                List<byte[]> keysAndArgs = new ArrayList<>();
+                keysAndArgs.add(bytes(key(lectureId)));
+                keysAndArgs.add(bytes(versionKey(lectureId)));
+                keysAndArgs.add(bytes(version));
+                keysAndArgs.add(bytes(String.valueOf(ttlSeconds)));
+                entries.get(lectureId).forEach(entry -> {
+                    keysAndArgs.add(bytes(String.valueOf(score(entry.getCreatedAt()))));
+                    keysAndArgs.add(bytes(String.valueOf(entry.getStudentId())));
+                });
+                connection.scriptingCommands().eval(bytes(REPLACE_IF_UNCHANGED.getScriptAsString()), ReturnType.INTEGER, 2,
+                        keysAndArgs.toArray(new byte[0][]));
+            }
+            return null;
+        });
+
+        Map<Long, Long> counts = new LinkedHashMap<>();
+        List<Long> skipped = new ArrayList<>();
+        for (int i = 0; i < ids.size(); i++) {
+            counts.put(ids.get(i), (long) entries.get(ids.get(i)).size());
+            if (!Long.valueOf(1).equals(replaced.get(i))) {
+                skipped.add(ids.get(i));
+            }
+        }
+        log.info("대기자 색인 재구성 - 강좌 {}{}", counts.keySet(), skipped.isEmpty() ? "" : ", 재구성 중 변경되어 교체하지 않은 강좌 " + skipped);
+        return counts;
+    }
+
+    /**
+     * 서버 시작 시 이전 색인 삭제 - 서버가 내려가 있는 동안의 변경은 반영되지 않았으므로, 강좌별로 처음 조회할 때 DB 에서 다시 만든다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void clearOnStartup() {
+        if (!enabled || !clearOnStartup) {
+            return;
+        }
+        try {
+            Long deleted = redisTemplate.execute((RedisCallback<Long>) connection -> {
+                long count = 0;
+                List<byte[]> keys = new ArrayList<>();
+                try (Cursor<byte[]> cursor = connection.keyCommands().scan(ScanOptions.scanOptions().match(KEY_PREFIX + "*").count(1000).build())) {
+                    while (cursor.hasNext()) {
+                        keys.add(cursor.next());
+                        if (keys.size() == 1000) {
+                            count += connection.keyCommands().del(keys.toArray(new byte[0][]));
+                            keys.clear();
+                        }
+                    }
+                }
+                if (!keys.isEmpty()) {
+                    count += connection.keyCommands().del(keys.toArray(new byte[0][]));
+                }
+                return count;
+            });
+            log.info("대기자 색인 초기화 - [{}]개 강좌 색인 삭제", deleted);
+        } catch (RuntimeException e) {
+            log.warn("대기자 색인 초기화 실패 : {}", e.getMessage());
+        }
+    }
+
+    private List<Object> rankAndCard(String key, Long studentId) {
+        return redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            connection.zSetCommands().zRank(bytes(key), bytes(String.valueOf(studentId)));
+            connection.zSetCommands().zCard(bytes(key));
+            return null;
+        });
+    }
+
+    // 반영에 실패한 강좌는 색인을 지워 다음 조회 때 DB 에서 재구성하게 한다. (지우지도 못하면 TTL 이 지나면 재구성)
+    private void invalidate(Long lectureId, RuntimeException cause) {
+        log.warn("대기자 색인 반영 실패 - 강좌 [{}] : {}", lectureId, cause.getMessage());
+        try {
+            redisTemplate.delete(key(lectureId));
+        } catch (RuntimeException e) {
+            log.warn("대기자 색인 삭제 실패 - 강좌 [{}] : {}", lectureId, e.getMessage());
+        }
+    }
+
+    // 트랜잭션 안이면 커밋 후 실행 (롤백되면 반영하지 않음)
+    private void afterCommit(Runnable task) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            task.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                task.run();
+            }
+        });
+    }
+
+    // 대기 등록 시각 -> 점수 (저장 전이라 시각이 없으면 현재 시각)
+    private long score(LocalDateTime createdAt) {
+        return (createdAt != null ? createdAt : LocalDateTime.now()).atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    private String key(Long lectureId) {
+        return KEY_PREFIX + lectureId;
+    }
+
+    private String versionKey(Long lectureId) {
+        return KEY_PREFIX + lectureId + VERSION_SUFFIX;
+    }
+
+    private byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -2,8 +2,18 @@ package com.project.myacademy.domain.waitinglist;
 
 import com.project.myacademy.domain.lecture.Lecture;
 import com.project.myacademy.domain.student.Student;
+import com.project.myacademy.domain.waitinglist.dto.WaitinglistCountByLecture;
+import com.project.myacademy.domain.waitinglist.dto.WaitinglistIndexEntry;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import javax.persistence.LockModeType;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -17,4 +27,39 @@ public interface WaitinglistRepository extends JpaRepository<Waitinglist, Long>
     Long countWaitinglistByLecture(Lecture lecture);
 
     List<Waitinglist> findByLectureOrderByCreatedAtAsc(Lecture lecture);
+
+    // 여러 강좌의 대기 인원을 한 번에 조회 (대기자가 없는 강좌는 결과에 없음)
+    @Query("select w.lecture.id as lectureId, count(w) as waitingCount from Waitinglist w where w.lecture.id in :lectureIds group by w.lecture.id")
+    List<WaitinglistCountByLecture> countGroupByLectureIdIn(@Param("lectureIds") Collection<Long> lectureIds);
+
+    // 여러 강좌의 대기자를 학생과 함께 강좌별 · 등록순으로 한 번에 조회
+    @Query("select w from Waitinglist w join fetch w.student where w.lecture.id in :lectureIds order by w.lecture.id, w.createdAt asc, w.id asc")
+    List<Waitinglist> findAllWithStudentByLectureIdIn(@Param("lectureIds") Collection<Long> lectureIds);
+
+    // 강좌에 이미 대기 등록된 학생 id (등록 요청 여러 건의 중복 확인을 한 번에)
+    @Query("select w.student.id from Waitinglist w where w.lecture.id = :lectureId and w.student.id in :studentIds")
+    List<Long> findStudentIdsByLectureIdAndStudentIdIn(@Param("lectureId") Long lectureId, @Param("studentIds") Collection<Long> studentIds);
+
+    // 강좌의 대기자를 등록순으로 최대 pageable 크기만큼 조회하며 행 잠금 (동시에 승급하는 요청이 같은 대기자를 가져가지 않도록)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select w from Waitinglist w where w.lecture.id = :lectureId order by w.createdAt asc, w.id asc")
+    List<Waitinglist> findFirstWaitersForUpdate(@Param("lectureId") Long lectureId, Pageable pageable);
+
+    // 대기번호 여러 건 삭제 처리를 UPDATE 한 번으로 (soft delete)
+    @Modifying
+    @Query("update Waitinglist w set w.deletedAt = :deletedAt where w.id in :ids")
+    int markDeletedByIdIn(@Param("ids") Collection<Long> ids, @Param("deletedAt") LocalDateTime deletedAt);
+
+    // 대기자 색인 재구성 - 여러 강좌의 대기자 학생 id 와 등록 시각을 강좌별 · 등록순으로 조회
+    @Query("select w.lecture.id as lectureId, w.student.id as studentId, w.createdAt as createdAt from Waitinglist w " +
+            "where w.lecture.id in :lectureIds order by w.lecture.id, w.createdAt asc, w.id asc")
+    List<WaitinglistIndexEntry> findIndexEntriesByLectureIdIn(@Param("lectureIds") Collection<Long> lectureIds);
+
+    // 강좌의 대기자 중 지정한 학생들을 학생과 함께 조회 (순서는 호출한 쪽에서 정렬)
+    @Query("select w from Waitinglist w join fetch w.student where w.lecture.id = :lectureId and w.student.id in :studentIds")
+    List<Waitinglist> findAllWithStudentByLectureIdAndStudentIdIn(@Param("lectureId") Long lectureId, @Param("studentIds") Collection<Long> studentIds);
+
+    // 강좌의 대기자를 학생과 함께 등록순으로 최대 pageable 크기만큼 조회
+    @Query("select w from Waitinglist w join fetch w.student where w.lecture.id = :lectureId order by w.createdAt asc, w.id asc")
+    List<Waitinglist> findFirstWaitersWithStudent(@Param("lectureId") Long lectureId, Pageable pageable);
 }
@@ -1,10 +1,12 @@
 package com.project.myacademy.domain.waitinglist;
 
+import com.project.myacademy.domain.enrollment.dto.FindStudentInfoFromEnrollmentByLectureResponse;
 import com.project.myacademy.domain.waitinglist.dto.CreateWaitinglistResponse;
 import com.project.myacademy.domain.waitinglist.dto.DeleteWaitinglistResponse;
 import com.project.myacademy.domain.waitinglist.dto.ReadAllWaitinglistResponse;
+import com.project.myacademy.domain.waitinglist.dto.WaitinglistPositionResponse;
 import com.project.myacademy.global.Response;
-import com.project.myacademy.global.util.AuthenticationUtil;
+import com.project.myacademy.global.configuration.jwt.EmployeePrincipal;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
@@ -14,9 +16,10 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 @Tag(name = "09. 수강대기", description = "대기번호 등록,조회")
 @RestController
 @RequestMapping("api/v1/academies")
@@ -29,9 +32,9 @@ public class WaitinglistRestController {
     // 대기번호 전체 리스트 조회
     @Operation(summary = "대기번호 전체 조회", description = "대기번호 전체를 조회합니다.")
     @GetMapping("/{academyId}/waitinglists")
-    public ResponseEntity<Response<Page<ReadAllWaitinglistResponse>>> readAll(@PathVariable("academyId") Long academyId, Authentication authentication,
+    public ResponseEntity<Response<Page<ReadAllWaitinglistResponse>>> readAll(@PathVariable("academyId") Long academyId, EmployeePrincipal principal,
                 @PageableDefault(size = 20, sort = {"createdAt"}, direction = Sort.Direction.DESC) Pageable pageable) {
-        String requestAccount = AuthenticationUtil.getAccountFromAuth(authentication);
+        String requestAccount = principal.getAccount();
 
         Page<ReadAllWaitinglistResponse> waitinglists = waitingListService.readAllWaitinglists(academyId, requestAccount, pageable);
         log.info("대기번호 리스트 조회 성공");
@@ -44,8 +47,8 @@ public class WaitinglistRestController {
     public ResponseEntity<Response<CreateWaitinglistResponse>> create(@PathVariable("academyId") Long academyId,
                                                                       @PathVariable("studentId") Long studentId,
                                                                       @PathVariable("lectureId") Long lectureId,
-                                                                      Authentication authentication) {
-        String requestAccount = AuthenticationUtil.getAccountFromAuth(authentication);
+                                                                      EmployeePrincipal principal) {
+        String requestAccount = principal.getAccount();
         CreateWaitinglistResponse createWaitinglist = waitingListService.createWaitinglist(academyId, studentId, lectureId, requestAccount);
         log.info("대기번호 생성 성공");
         return ResponseEntity.ok().body(Response.success(createWaitinglist));
@@ -58,10 +61,36 @@ public class WaitinglistRestController {
                                                                       @PathVariable("studentId") Long studentId,
                                                                       @PathVariable("lectureId") Long lectureId,
                                                                       @PathVariable("waitinglistId") Long waitinglistId,
-                                                                      Authentication authentication) {
-        String requestAccount = AuthenticationUtil.getAccountFromAuth(authentication);
+                                                                      EmployeePrincipal principal) {
+        String requestAccount = principal.getAccount();
         DeleteWaitinglistResponse deletedWaitinglist = waitingListService.deleteWaitinglist(academyId, studentId, lectureId, waitinglistId, requestAccount);
         log.info("대기번호 삭제 성공");
         return ResponseEntity.ok().body(Response.success(deletedWaitinglist));
     }
-}
\ No newline at end of file
+
+    // 학생의 대기 순번 조회
+    @Operation(summary = "대기 순번 조회", description = "학생의 대기 순번과 강좌의 대기 인원을 조회합니다.")
+    @GetMapping("/{academyId}/students/{studentId}/lectures/{lectureId}/waitinglists/position")
+    public ResponseEntity<Response<WaitinglistPositionResponse>> readPosition(@PathVariable("academyId") Long academyId,
+                                                                             @PathVariable("studentId") Long studentId,
+                                                                             @PathVariable("lectureId") Long lectureId,
+                                                                             EmployeePrincipal principal) {
+        String requestAccount = principal.getAccount();
+        WaitinglistPositionResponse position = waitingListService.findWaitingPosition(academyId, lectureId, studentId, requestAccount);
+        log.info("대기 순번 조회 성공");
+        return ResponseEntity.ok().body(Response.success(position));
+    }
+
+    // 먼저 등록된 대기자 조회
+    @Operation(summary = "다음 대기자 조회", description = "강좌의 대기자를 등록순으로 size 명까지 조회합니다.")
+    @GetMapping("/{academyId}/lectures/{lectureId}/waitinglists/next")
+    public ResponseEntity<Response<List<FindStudentInfoFromEnrollmentByLectureResponse>>> readNext(@PathVariable("academyId") Long academyId,
+                                                                                                 @PathVariable("lectureId") Long lectureId,
+                                                                                                 @RequestParam(defaultValue = "10") int size,
+                                                                                                 EmployeePrincipal principal) {
+        String requestAccount = principal.getAccount();
+        List<FindStudentInfoFromEnrollmentByLectureResponse> waitingStudents = waitingListService.findNextWaitingStudents(academyId, lectureId, Math.min(Math.max(size, 1), 100), requestAccount);
+        log.info("다음 대기자 조회 성공");
+        return ResponseEntity.ok().body(Response.success(waitingStudents));
+    }
+}
@@ -8,24 +8,34 @@ import com.project.myacademy.domain.enrollment.EnrollmentRepository;
 import com.project.myacademy.domain.enrollment.dto.FindStudentInfoFromEnrollmentByLectureResponse;
 import com.project.myacademy.domain.lecture.Lecture;
 import com.project.myacademy.domain.lecture.LectureRepository;
+import com.project.myacademy.domain.notification.NotificationService;
+import com.project.myacademy.domain.notification.NotificationType;
 import com.project.myacademy.domain.student.Student;
 import com.project.myacademy.domain.student.StudentRepository;
 import com.project.myacademy.domain.waitinglist.dto.CreateWaitinglistResponse;
 import com.project.myacademy.domain.waitinglist.dto.DeleteWaitinglistResponse;
 import com.project.myacademy.domain.waitinglist.dto.ReadAllWaitinglistResponse;
+import com.project.myacademy.domain.waitinglist.dto.WaitinglistCountByLecture;
+import com.project.myacademy.domain.waitinglist.dto.WaitinglistPositionResponse;
 import com.project.myacademy.global.exception.AppException;
 import com.project.myacademy.global.exception.ErrorCode;
-import com.project.myacademy.domain.email.EmailService;
+import com.project.myacademy.global.util.InClauseUtil;
+import com.project.myacademy.global.util.TenantContext;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-import org.springframework.mail.MailException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import javax.mail.MessagingException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 @Service
@@ -40,7 +50,8 @@ public class WaitinglistService {
     private final LectureRepository lectureRepository;
     private final EnrollmentRepository enrollmentRepository;
     private final WaitinglistRepository waitinglistRepository;
-    private final EmailService emailService;
+    private final NotificationService notificationService;
+    private final WaitinglistIndex waitinglistIndex;
 
     /**
      * 수강 대기 전체 조회
@@ -102,16 +113,13 @@ public class WaitinglistService {
 
         // 대기번호 저장
         Waitinglist savedWaitinglist = waitinglistRepository.saveAndFlush(Waitinglist.makeWaitinglist(lecture, student));
+        waitinglistIndex.add(List.of(savedWaitinglist));
 
-        // 학생의 이메일로 메시지 전송
-//        String email = student.getEmail();
-//        String subject = "MyAcademy 대기 신청 완료 안내 메일";
-//        String body = String.format("%s님의 %s 대기 신청이 정상적으로 완료되었습니다.%n%n감사합니다.", student.getName(), lecture.getName());
-//        try {
-//            emailService.sendEmail(email, subject, body);
-//        } catch (MailException | MessagingException e){
-//            log.info("이메일 전송 에러 발생 [{}]", e.getMessage());
-//        }
+        // 학생의 이메일로 메시지 전송 (발송함에 저장, NotificationDispatcher 가 트랜잭션 커밋 후 발송)
+        String email = student.getEmail();
+        String subject = "MyAcademy 대기 신청 완료 안내 메일";
+        String body = String.format("%s님의 %s 대기 신청이 정상적으로 완료되었습니다.%n%n감사합니다.", student.getName(), lecture.getName());
+        notificationService.enqueue(NotificationType.WAITINGLIST_CREATED, academyId, email, subject, body);
 
         return CreateWaitinglistResponse.of(savedWaitinglist.getId());
     }
@@ -143,18 +151,13 @@ public class WaitinglistService {
 
         // 대기번호 삭제
         waitinglistRepository.delete(waitinglist);
+        waitinglistIndex.remove(lecture.getId(), List.of(student.getId()));
 
-        // 학생의 이메일로 메시지 전송
-//        String email = student.getEmail();
-//        String subject = "MyAcademy 대기 신청 취소 안내 메일";
-//        String body = String.format("%s님의 %s 대기 신청 취소가 정상적으로 처리되었습니다.%n%n감사합니다.", student.getName(), lecture.getName());
-//        try {
-//            emailService.sendEmail(email, subject, body);
-//        } catch (MailException e2){
-//            log.info("이메일 전송 에러 발생 [{}]", e2.getMessage());
-//        } catch (MessagingException e) {
-//            log.info("이메일 전송 에러 발생 [{}]", e.getMessage());
-//        }
+        // 학생의 이메일로 메시지 전송 (발송함에 저장, NotificationDispatcher 가 트랜잭션 커밋 후 발송)
+        String email = student.getEmail();
+        String subject = "MyAcademy 대기 신청 취소 안내 메일";
+        String body = String.format("%s님의 %s 대기 신청 취소가 정상적으로 처리되었습니다.%n%n감사합니다.", student.getName(), lecture.getName());
+        notificationService.enqueue(NotificationType.WAITINGLIST_CANCELED, academyId, email, subject, body);
 
         return DeleteWaitinglistResponse.of(waitinglistId);
     }
@@ -203,19 +206,161 @@ public class WaitinglistService {
         // 강좌 존재 유무 확인
         Lecture lecture = validateLectureById(lectureId);
 
-        return waitinglistRepository.countWaitinglistByLecture(lecture);
+        // 대기자 색인(Redis)으로 조회 - 사용할 수 없으면 DB COUNT
+        return waitinglistIndex.count(lecture.getId())
+                .orElseGet(() -> waitinglistRepository.countWaitinglistByLecture(lecture));
+    }
+
+    /**
+     * 학생의 대기 순번 조회
+     *
+     * @param academyId      학원 Id
+     * @param lectureId      강좌 Id
+     * @param studentId      학생 Id
+     * @param requestAccount 요청하는 직원 계정
+     */
+    @Transactional(readOnly = true)
+    public WaitinglistPositionResponse findWaitingPosition(Long academyId, Long lectureId, Long studentId, String requestAccount) {
+
+        // 조회하는 직원 존재 유무 확인(학원 존재 유무, 해당 학원 직원인지 확인)
+        Academy academy = validateAcademyById(academyId);
+        validateRequestEmployeeByAcademy(requestAccount, academy);
+
+        // 강좌 존재 유무 확인
+        Lecture lecture = validateLectureById(lectureId);
+
+        // 대기자 색인(Redis)으로 조회 - 사용할 수 없으면 DB 에서 대기자 명단을 읽어 순번 계산
+        WaitinglistPositionResponse position = waitinglistIndex.position(lecture.getId(), studentId)
+                .orElseGet(() -> {
+                    List<Waitinglist> waitinglists = waitinglistRepository.findByLectureOrderByCreatedAtAsc(lecture);
+                    Long waitingNum = null;
+                    for (int i = 0; i < waitinglists.size(); i++) {
+                        if (waitinglists.get(i).getStudent().getId().equals(studentId)) {
+                            waitingNum = (long) i + 1;
+                            break;
+                        }
+                    }
+                    return WaitinglistPositionResponse.of(lecture.getId(), studentId, waitingNum, (long) waitinglists.size());
+                });
+
+        // 대기 중인 학생이 아니면 WAITINGLIST_NOT_FOUND 에러처리
+        if (position.getWaitingNum() == null) {
+            throw new AppException(ErrorCode.WAITINGLIST_NOT_FOUND);
+        }
+        return position;
+    }
+
+    /**
+     * 먼저 등록된 대기자 size 명 조회 (대기번호는 1번부터)
+     *
+     * @param academyId      학원 Id
+     * @param lectureId      강좌 Id
+     * @param size           조회할 인원
+     * @param requestAccount 요청하는 직원 계정
+     */
+    @Transactional(readOnly = true)
+    public List<FindStudentInfoFromEnrollmentByLectureResponse> findNextWaitingStudents(Long academyId, Long lectureId, int size, String requestAccount) {
+
+        // 조회하는 직원 존재 유무 확인(학원 존재 유무, 해당 학원 직원인지 확인)
+        Academy academy = validateAcademyById(academyId);
+        validateRequestEmployeeByAcademy(requestAccount, academy);
+
+        // 강좌 존재 유무 확인
+        Lecture lecture = validateLectureById(lectureId);
+
+        // 대기자 색인(Redis)에서 순서대로 학생 id 를 꺼내 해당 대기자만 조회 - 색인을 사용할 수 없으면 DB 에서 등록순으로 조회
+        List<Waitinglist> waitinglists = waitinglistIndex.next(lecture.getId(), size)
+                .map(studentIds -> {
+                    Map<Long, Waitinglist> byStudentId = waitinglistRepository.findAllWithStudentByLectureIdAndStudentIdIn(lecture.getId(), studentIds)
+                            .stream().collect(Collectors.toMap(waitinglist -> waitinglist.getStudent().getId(), waitinglist -> waitinglist));
+                    return studentIds.stream().map(byStudentId::get).filter(Objects::nonNull).collect(Collectors.toList());
+                })
+                .orElseGet(() -> waitinglistRepository.findFirstWaitersWithStudent(lecture.getId(), PageRequest.of(0, size)));
+
+        List<FindStudentInfoFromEnrollmentByLectureResponse> waitingStudents = new ArrayList<>();
+        for (Waitinglist waitinglist : waitinglists) {
+            FindStudentInfoFromEnrollmentByLectureResponse waitingStudent = new FindStudentInfoFromEnrollmentByLectureResponse(waitinglist.getStudent(), waitinglist.getId(), lecture.getId());
+            waitingStudent.setWaitingNum((long) waitingStudents.size() + 1);
+            waitingStudents.add(waitingStudent);
+        }
+        return waitingStudents;
+    }
+
+    /**
+     * UI용 메서드
+     * 여러 강좌의 대기자 명단을 한 번에 조회 (대기번호는 강좌별 등록순으로 1번부터 부여)
+     * 강좌 id 는 직전에 조회한 강좌 목록에서 꺼낸 값이므로, 강좌 존재 유무는 따로 확인하지 않는다.
+     *
+     * @param academyId      학원 Id
+     * @param lectureIds     강좌 Id 목록
+     * @param requestAccount 요청하는 직원 계정
+     * @return 강좌 id 별 대기자 명단 (대기자가 없는 강좌는 빈 목록)
+     */
+    public Map<Long, List<FindStudentInfoFromEnrollmentByLectureResponse>> findWaitingStudentByLectures(Long academyId, Collection<Long> lectureIds, String requestAccount) {
+
+        // 조회하는 직원 존재 유무 확인(학원 존재 유무, 해당 학원 직원인지 확인)
+        Academy academy = validateAcademyById(academyId);
+        validateRequestEmployeeByAcademy(requestAccount, academy);
+
+        Map<Long, List<FindStudentInfoFromEnrollmentByLectureResponse>> waitingStudents = new LinkedHashMap<>();
+        lectureIds.forEach(lectureId -> waitingStudents.put(lectureId, new ArrayList<>()));
+
+        // 강좌별 · 등록순으로 정렬되어 있으므로, 나누어 담으면서 대기번호를 부여한다.
+        for (List<Long> chunk : InClauseUtil.chunks(waitingStudents.keySet())) {
+            for (Waitinglist waitinglist : waitinglistRepository.findAllWithStudentByLectureIdIn(chunk)) {
+                Long lectureId = waitinglist.getLecture().getId();
+                List<FindStudentInfoFromEnrollmentByLectureResponse> lectureWaitingStudents = waitingStudents.get(lectureId);
+
+                FindStudentInfoFromEnrollmentByLectureResponse waitingStudent = new FindStudentInfoFromEnrollmentByLectureResponse(waitinglist.getStudent(), waitinglist.getId(), lectureId);
+                waitingStudent.setWaitingNum((long) lectureWaitingStudents.size() + 1);
+                lectureWaitingStudents.add(waitingStudent);
+            }
+        }
+        return waitingStudents;
+    }
+
+    /**
+     * UI용 메서드
+     * 여러 강좌의 수강대기 수를 GROUP BY 한 번으로 조회
+     *
+     * @param academyId      학원 Id
+     * @param lectureIds     강좌 Id 목록
+     * @param requestAccount 요청하는 직원 계정
+     * @return 강좌 id 별 수강대기 수 (대기자가 없는 강좌는 0)
+     */
+    public Map<Long, Long> countWaitingListByLectures(Long academyId, Collection<Long> lectureIds, String requestAccount) {
+
+        // 조회하는 직원 존재 유무 확인(학원 존재 유무, 해당 학원 직원인지 확인)
+        Academy academy = validateAcademyById(academyId);
+        validateRequestEmployeeByAcademy(requestAccount, academy);
+
+        // 대기자 색인(Redis)으로 조회 - 사용할 수 없으면 GROUP BY
+        Optional<Map<Long, Long>> indexedCounts = waitinglistIndex.counts(lectureIds);
+        if (indexedCounts.isPresent()) {
+            return indexedCounts.get();
+        }
+
+        Map<Long, Long> waitingCounts = new LinkedHashMap<>();
+        lectureIds.forEach(lectureId -> waitingCounts.put(lectureId, 0L));
+
+        for (List<Long> chunk : InClauseUtil.chunks(waitingCounts.keySet())) {
+            for (WaitinglistCountByLecture count : waitinglistRepository.countGroupByLectureIdIn(chunk)) {
+                waitingCounts.put(count.getLectureId(), count.getWaitingCount());
+            }
+        }
+        return waitingCounts;
     }
 
     // 학원 Id로 학원을 조회 - 없을시 ACADEMY_NOT_FOUND 에러발생
     private Academy validateAcademyById(Long academyId) {
-        return academyRepository.findById(academyId)
-                .orElseThrow(() -> new AppException(ErrorCode.ACADEMY_NOT_FOUND));
+        return TenantContext.academy(academyId, () -> academyRepository.findById(academyId)
+                .orElseThrow(() -> new AppException(ErrorCode.ACADEMY_NOT_FOUND)));
     }
 
     // 요청하는 계정과 학원으로 직원을 조회 - 없을시 REQUEST_EMPLOYEE_NOT_FOUND 에러발생
     public Employee validateRequestEmployeeByAcademy(String account, Academy academy) {
-        return employeeRepository.findByAccountAndAcademy(account, academy)
-                .orElseThrow(() -> new AppException(ErrorCode.REQUEST_EMPLOYEE_NOT_FOUND));
+        return TenantContext.requestEmployee(account, academy, () -> employeeRepository.findByAccountAndAcademy(account, academy)
+                .orElseThrow(() -> new AppException(ErrorCode.REQUEST_EMPLOYEE_NOT_FOUND)));
     }
 
     // 학생 Id로 학생을 조회 - 없을시 STUDENT_NOT_FOUND 에러발생
@@ -0,0 +1,11 @@
+package com.project.myacademy.domain.waitinglist.dto;
+
+/**
+ * 강좌별 대기 인원 (GROUP BY 조회 결과)
+ */
+public interface WaitinglistCountByLecture {
+
+    Long getLectureId();
+
+    Long getWaitingCount();
+}
@@ -0,0 +1,15 @@
+package com.project.myacademy.domain.waitinglist.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 대기자 색인 재구성용 조회 결과 (강좌 id, 학생 id, 대기 등록 시각)
+ */
+public interface WaitinglistIndexEntry {
+
+    Long getLectureId();
+
+    Long getStudentId();
+
+    LocalDateTime getCreatedAt();
+}
@@ -0,0 +1,24 @@
+package com.project.myacademy.domain.waitinglist.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+@Builder
+public class WaitinglistPositionResponse {
+
+    private Long lectureId;
+    private Long studentId;
+    // 대기 순번 (1번부터)
+    private Long waitingNum;
+    // 강좌 전체 대기 인원
+    private Long waitingCount;
+
+    public static WaitinglistPositionResponse of(Long lectureId, Long studentId, Long waitingNum, Long waitingCount) {
+        return new WaitinglistPositionResponse(lectureId, studentId, waitingNum, waitingCount);
+    }
+}
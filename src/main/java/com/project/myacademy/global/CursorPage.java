@@ -0,0 +1,110 @@
+package com.project.myacademy.global;
+
+import com.project.myacademy.global.exception.AppException;
+import com.project.myacademy.global.exception.ErrorCode;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 커서(keyset) 페이징 응답
+ * 목록을 (생성 시각, id) 내림차순(최신순)으로 조회하고, 다음 페이지는 마지막 항목의 (생성 시각, id) 보다 앞선 행부터 조회한다.
+ * OFFSET 으로 앞 페이지 행을 건너뛰지 않으므로 페이지가 깊어져도 조회 비용이 같고, COUNT 쿼리도 실행하지 않는다.
+ * 대신 전체 개수 · 페이지 번호는 제공하지 않고, 다음 페이지 커서(nextCursor)만 돌려준다.
+ *
+ * - 커서는 (생성 시각, id) 를 Base64(URL-safe) 로 인코딩한 문자열이며, 클라이언트는 값을 해석하지 않고 그대로 보낸다.
+ * - 커서가 없으면(빈 값) 첫 페이지를 조회한다.
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class CursorPage<T> {
+
+    // 한 페이지 최대 크기
+    public static final int MAX_SIZE = 100;
+
+    // 첫 페이지 조회용 커서 - 모든 행보다 뒤의 (생성 시각, id)
+    private static final Key FIRST = new Key(LocalDateTime.of(9999, 12, 31, 23, 59, 59), Long.MAX_VALUE);
+
+    private static final String SEPARATOR = "_";
+
+    private List<T> content;
+    private int size;
+    private boolean hasNext;
+    // 다음 페이지가 없으면 null
+    private String nextCursor;
+
+    /**
+     * size + 1 건을 조회한 결과로 페이지를 만든다. (한 건이 더 조회되면 다음 페이지가 있다.)
+     *
+     * @param rows      커서 이후 (생성 시각, id) 내림차순으로 최대 size + 1 건 조회한 엔티티
+     * @param size      페이지 크기
+     * @param createdAt 엔티티의 생성 시각
+     * @param id        엔티티의 id
+     * @param mapper    응답 DTO 변환
+     */
+    public static <E, T> CursorPage<T> of(List<E> rows, int size, Function<E, LocalDateTime> createdAt, Function<E, Long> id, Function<E, T> mapper) {
+
+        boolean hasNext = rows.size() > size;
+        List<E> page = hasNext ? rows.subList(0, size) : rows;
+
+        String nextCursor = null;
+        if (hasNext) {
+            E last = page.get(page.size() - 1);
+            nextCursor = encode(createdAt.apply(last), id.apply(last));
+        }
+        return new CursorPage<>(page.stream().map(mapper).collect(Collectors.toList()), size, hasNext, nextCursor);
+    }
+
+    /**
+     * 요청한 커서를 해석한다. 비어 있으면 첫 페이지
+     *
+     * @throws AppException 해석할 수 없는 커서인 경우 INVALID_CURSOR
+     */
+    public static Key decode(String cursor) {
+
+        if (cursor == null || cursor.isBlank()) {
+            return FIRST;
+        }
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = decoded.lastIndexOf(SEPARATOR);
+            return new Key(LocalDateTime.parse(decoded.substring(0, separator)), Long.parseLong(decoded.substring(separator + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new AppException(ErrorCode.INVALID_CURSOR);
+        }
+    }
+
+    /**
+     * size + 1 건을 조회하는 Pageable (1 ~ MAX_SIZE 로 보정)
+     */
+    public static Pageable limit(int size) {
+        return PageRequest.of(0, clamp(size) + 1);
+    }
+
+    public static int clamp(int size) {
+        return Math.max(1, Math.min(size, MAX_SIZE));
+    }
+
+    static String encode(LocalDateTime createdAt, Long id) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((createdAt + SEPARATOR + id).getBytes(StandardCharsets.UTF_8));
+    }
+
+    // 커서가 가리키는 (생성 시각, id)
+    @Getter
+    @AllArgsConstructor
+    public static class Key {
+        private final LocalDateTime createdAt;
+        private final Long id;
+    }
+}
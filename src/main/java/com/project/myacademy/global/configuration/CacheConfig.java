@@ -0,0 +1,64 @@
+package com.project.myacademy.global.configuration;
+
+import com.project.myacademy.global.configuration.cache.CacheMetrics;
+import com.project.myacademy.global.configuration.cache.TwoTierCacheRegionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.serializer.JdkSerializationRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+/**
+ * Hibernate 2차 캐시 설정
+ * @Cache 가 붙은 엔티티(Academy, Employee, Lecture, Discount)를 서버별 메모리와 Redis 에 캐시한다.
+ */
+@Configuration
+public class CacheConfig {
+
+    @Value("${cache.local.ttl-seconds:60}")
+    private long localTtlSeconds;
+    @Value("${cache.local.max-entries:10000}")
+    private int localMaxEntries;
+    @Value("${cache.redis.ttl-seconds:600}")
+    private long redisTtlSeconds;
+
+    @Bean
+    public TwoTierCacheRegionFactory twoTierCacheRegionFactory(RedisConnectionFactory redisConnectionFactory,
+                                                               StringRedisTemplate stringRedisTemplate,
+                                                               CacheMetrics cacheMetrics) {
+        RedisTemplate<String, Object> redisTemplate = new RedisTemplate<>();
+        redisTemplate.setConnectionFactory(redisConnectionFactory);
+        redisTemplate.setKeySerializer(RedisSerializer.string());
+        // devtools 재시작 클래스로더에서도 엔티티 캐시 항목을 역직렬화할 수 있도록 현재 클래스로더를 사용
+        redisTemplate.setValueSerializer(new JdkSerializationRedisSerializer(getClass().getClassLoader()));
+        redisTemplate.afterPropertiesSet();
+
+        return new TwoTierCacheRegionFactory(redisTemplate, stringRedisTemplate, cacheMetrics,
+                localTtlSeconds * 1000, localMaxEntries, redisTtlSeconds);
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer(TwoTierCacheRegionFactory twoTierCacheRegionFactory) {
+        return hibernateProperties -> {
+            hibernateProperties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, true);
+            hibernateProperties.put(AvailableSettings.USE_QUERY_CACHE, true);
+            hibernateProperties.put(AvailableSettings.CACHE_REGION_FACTORY, twoTierCacheRegionFactory);
+        };
+    }
+
+    @Bean
+    public RedisMessageListenerContainer cacheInvalidationListenerContainer(RedisConnectionFactory redisConnectionFactory,
+                                                                            TwoTierCacheRegionFactory twoTierCacheRegionFactory) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory);
+        container.addMessageListener(twoTierCacheRegionFactory, new ChannelTopic(TwoTierCacheRegionFactory.INVALIDATION_CHANNEL));
+        return container;
+    }
+}
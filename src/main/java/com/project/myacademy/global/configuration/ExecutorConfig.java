@@ -0,0 +1,30 @@
+package com.project.myacademy.global.configuration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+@Configuration
+public class ExecutorConfig {
+
+    /**
+     * 메인 화면(/academy/main) 구성 요소를 동시에 조회하는 스레드 풀
+     * 풀과 큐가 가득 차면 요청 스레드에서 직접 실행한다. (순차 조회와 같은 속도로 떨어질 뿐 요청을 거절하지 않음)
+     */
+    @Bean
+    public ThreadPoolTaskExecutor dashboardExecutor(@Value("${dashboard.executor.pool-size:8}") int poolSize,
+                                                    @Value("${dashboard.executor.queue-capacity:100}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("dashboard-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(5);
+        return executor;
+    }
+}
@@ -1,10 +1,13 @@
 package com.project.myacademy.global.configuration;
 
+import com.project.myacademy.global.configuration.jwt.EmployeePrincipalCache;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 
 @Configuration
 public class RedisConfig {
@@ -19,5 +22,14 @@ public class RedisConfig {
         return new LettuceConnectionFactory(host, port);
     }
 
+    // 다른 서버에서 권한 변경 · 삭제된 직원의 인증 정보 캐시 무효화 메시지 수신
+    @Bean
+    public RedisMessageListenerContainer principalInvalidationListenerContainer(RedisConnectionFactory redisConnectionFactory,
+                                                                                EmployeePrincipalCache employeePrincipalCache) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory);
+        container.addMessageListener(employeePrincipalCache, new ChannelTopic(EmployeePrincipalCache.INVALIDATION_CHANNEL));
+        return container;
+    }
 
 }
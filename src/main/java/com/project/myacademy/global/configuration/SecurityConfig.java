@@ -3,37 +3,45 @@ package com.project.myacademy.global.configuration;
 import com.project.myacademy.domain.employee.EmployeeRepository;
 import com.project.myacademy.global.configuration.filter.ExceptionHandlerFilter;
 import com.project.myacademy.global.configuration.filter.JwtTokenFilter;
+import com.project.myacademy.global.configuration.jwt.EmployeePrincipalCache;
+import com.project.myacademy.global.configuration.jwt.JwtTokenVerifier;
 import com.project.myacademy.global.configuration.oauth.CustomOAuth2UserService;
 import com.project.myacademy.global.configuration.oauth.Oauth2FailureHandler;
 import com.project.myacademy.global.configuration.oauth.Oauth2SuccessHandler;
-import com.project.myacademy.global.configuration.refreshToken.RefreshTokenRepository;
+import com.project.myacademy.global.configuration.refreshToken.AccessTokenRefresher;
 import com.project.myacademy.global.configuration.security.CustomAccessDeniedHandler;
+import com.project.myacademy.global.configuration.security.RouteAuthorizationMetadataSource;
+import com.project.myacademy.global.configuration.security.RouteAuthorizationTable;
 import lombok.RequiredArgsConstructor;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
+import org.springframework.core.annotation.Order;
 import org.springframework.http.HttpMethod;
+import org.springframework.security.config.annotation.ObjectPostProcessor;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.access.intercept.FilterSecurityInterceptor;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
 @EnableWebSecurity
 @RequiredArgsConstructor
 public class SecurityConfig {
 
-    @Value("${jwt.token.secret}")
-    private String secretKey;
-
     private final CustomAccessDeniedHandler customAccessDeniedHandler;
     private final EmployeeRepository employeeRepository;
-    private final RefreshTokenRepository refreshTokenRepository;
+    private final JwtTokenVerifier jwtTokenVerifier;
+    private final EmployeePrincipalCache employeePrincipalCache;
+    private final AccessTokenRefresher accessTokenRefresher;
 
     private final Oauth2SuccessHandler oauth2SuccessHandler;
     private final Oauth2FailureHandler oauth2FailureHandler;
 
     private final CustomOAuth2UserService customOAuth2UserService;
 
+    // 토큰 검증 · DB 조회가 필요 없는 정적 리소스와 공개 페이지 (publicResourceFilterChain 에서 처리)
+    protected static final String[] PUBLIC_RESOURCE_URL = {"/assets/**", "/favicon.ico", "/about"};
+
     protected static final String[] PERMIT_ALL_CONTROLLER_URL = {"/", "/join", "/login", "/find/account", "/find/password", "/academies", "/swagger-ui/**"};
     protected static final String[] REFUSED_USER_CONTROLLER_URL
             = {"/academy/announcements/write",
@@ -73,6 +81,7 @@ public class SecurityConfig {
             , "/api/v1/academies/**/waitinglists"
             , "/api/v1/academies/**/discounts"
             , "/api/v1/academies/**/enrollments/**/discounts"
+            , "/api/v1/academies/**/registrations/**"
             , "/api/v1/payments/success"
             , "/api/v1/payments/fail"};
     protected static final String[] AUTH_API_URL_POST = {
@@ -91,7 +100,10 @@ public class SecurityConfig {
             , "/api/v1/academies/**/employees/**/lectures"
             , "/api/v1/academies/**/students/**/lectures/**/enrollments/**"
             , "/api/v1/academies/**/students/**/lectures/**/enrollments"
+            , "/api/v1/academies/**/lectures/**/enrollments"
+            , "/api/v1/academies/**/lectures/**/enrollments/delete"
             , "/api/v1/academies/**/students/**/lectures/**/waitinglists"
+            , "/api/v1/academies/**/students/**/lectures/**/waitinglists/queue"
             , "/api/v1/academies/**/discounts"
             , "/api/v1/academies/**/discounts/check"
             , "/api/v1/payments/students/**"
@@ -129,7 +141,70 @@ public class SecurityConfig {
             "/api/v1/academies/**/files/upload"
             , "/api/v1/academies/**/employees"};
 
+    protected static final String PERMIT_ALL = "permitAll";
+    protected static final String AUTHENTICATED = "authenticated";
+    protected static final String ADMIN_OR_STAFF = "hasAnyRole('ROLE_ADMIN','ROLE_STAFF')";
+    protected static final String ONLY_ADMIN = "hasRole('ROLE_ADMIN')";
+
+    protected static final RouteAuthorizationTable ROUTE_AUTHORIZATION_TABLE = routeAuthorizationTable();
+
+    /**
+     * URL 권한 규칙 (기존 antMatchers 와 같은 순서, 먼저 등록한 규칙이 우선)
+     */
+    protected static RouteAuthorizationTable routeAuthorizationTable() {
+        return RouteAuthorizationTable.builder()
+                .add(null, PERMIT_ALL, PERMIT_ALL_CONTROLLER_URL)
+                .add(null, ONLY_ADMIN, ONLY_ADMIN_CONTROLLER_URL)
+                .add(null, ADMIN_OR_STAFF, REFUSED_USER_CONTROLLER_URL)
+                .add(null, AUTHENTICATED, "/academy/**")
+
+                .add(HttpMethod.GET, PERMIT_ALL, PERMIT_ALL_API_URL_GET)
+                .add(HttpMethod.POST, PERMIT_ALL, PERMIT_ALL_API_URL_POST)
+                .add(HttpMethod.PUT, PERMIT_ALL, PERMIT_ALL_API_URL_PUT)
+
+                .add(HttpMethod.GET, AUTHENTICATED, AUTH_API_URL_GET)
+                .add(HttpMethod.POST, AUTHENTICATED, AUTH_API_URL_POST)
+                .add(HttpMethod.PUT, AUTHENTICATED, AUTH_API_URL_PUT)
+                .add(HttpMethod.DELETE, AUTHENTICATED, AUTH_API_URL_DELETE)
+
+                .add(HttpMethod.POST, ADMIN_OR_STAFF, REFUSED_USER_API_URL_POST)
+                .add(HttpMethod.PUT, ADMIN_OR_STAFF, REFUSED_USER_API_URL_PUT)
+                .add(HttpMethod.DELETE, ADMIN_OR_STAFF, REFUSED_USER_API_URL_DELETE)
+
+                .add(HttpMethod.GET, ONLY_ADMIN, ONLY_ADMIN_API_URL_GET)
+                .add(HttpMethod.POST, ONLY_ADMIN, ONLY_ADMIN_API_URL_POST)
+                .add(HttpMethod.DELETE, ONLY_ADMIN, ONLY_ADMIN_API_URL_DELETE)
+                .build();
+    }
+
+    /**
+     * 정적 리소스 · 공개 페이지 전용 필터 체인
+     * JwtTokenFilter 를 거치지 않아 쿠키 확인, 토큰 파싱, 직원 조회 없이 바로 응답한다.
+     * 시큐리티 기본 no-cache 헤더를 끄고, WebMvcConfig 의 Cache-Control 을 그대로 내려준다.
+     */
+    @Bean
+    @Order(0)
+    public SecurityFilterChain publicResourceFilterChain(HttpSecurity httpSecurity) throws Exception {
+        return httpSecurity
+                .requestMatchers().antMatchers(PUBLIC_RESOURCE_URL)
+                .and()
+                .httpBasic().disable()
+                .csrf().disable()
+                .requestCache().disable()
+                .securityContext().disable()
+                .sessionManagement()
+                .sessionCreationPolicy(SessionCreationPolicy.STATELESS)
+                .and()
+                .headers().cacheControl().disable()
+                .and()
+                .authorizeRequests()
+                .anyRequest().permitAll()
+                .and()
+                .build();
+    }
+
     @Bean
+    @Order(1)
     public SecurityFilterChain securityFilterChain(HttpSecurity httpSecurity) throws Exception {
         return httpSecurity
                 .httpBasic().disable()
@@ -140,29 +215,16 @@ public class SecurityConfig {
                 .and()
 
 
+                // URL 권한 규칙은 routeAuthorizationTable() 에서 트라이로 컴파일해 한 번에 조회한다.
                 .authorizeRequests()
-                .antMatchers(PERMIT_ALL_CONTROLLER_URL).permitAll()
-                .antMatchers(ONLY_ADMIN_CONTROLLER_URL).hasRole("ADMIN")
-                .antMatchers(REFUSED_USER_CONTROLLER_URL).hasAnyRole("ADMIN", "STAFF")
-                .antMatchers("/academy/**").authenticated()
-
-                .antMatchers(HttpMethod.GET, PERMIT_ALL_API_URL_GET).permitAll()
-                .antMatchers(HttpMethod.POST, PERMIT_ALL_API_URL_POST).permitAll()
-                .antMatchers(HttpMethod.PUT, PERMIT_ALL_API_URL_PUT).permitAll()
-
-                .antMatchers(HttpMethod.GET, AUTH_API_URL_GET).authenticated()
-                .antMatchers(HttpMethod.POST, AUTH_API_URL_POST).authenticated()
-                .antMatchers(HttpMethod.PUT, AUTH_API_URL_PUT).authenticated()
-                .antMatchers(HttpMethod.DELETE, AUTH_API_URL_DELETE).authenticated()
-
-                .antMatchers(HttpMethod.POST, REFUSED_USER_API_URL_POST).hasAnyRole("ADMIN", "STAFF")
-                .antMatchers(HttpMethod.PUT, REFUSED_USER_API_URL_PUT).hasAnyRole("ADMIN", "STAFF")
-                .antMatchers(HttpMethod.DELETE, REFUSED_USER_API_URL_DELETE).hasAnyRole("ADMIN", "STAFF")
-
-                .antMatchers(HttpMethod.GET, ONLY_ADMIN_API_URL_GET).hasRole("ADMIN")
-                .antMatchers(HttpMethod.POST, ONLY_ADMIN_API_URL_POST).hasRole("ADMIN")
-                .antMatchers(HttpMethod.DELETE, ONLY_ADMIN_API_URL_DELETE).hasRole("ADMIN")
-
+                .anyRequest().permitAll()
+                .withObjectPostProcessor(new ObjectPostProcessor<FilterSecurityInterceptor>() {
+                    @Override
+                    public <O extends FilterSecurityInterceptor> O postProcess(O interceptor) {
+                        interceptor.setSecurityMetadataSource(new RouteAuthorizationMetadataSource(ROUTE_AUTHORIZATION_TABLE));
+                        return interceptor;
+                    }
+                })
                 .and()
 
                 .oauth2Login().loginPage("/login")
@@ -179,7 +241,7 @@ public class SecurityConfig {
                 .accessDeniedHandler(customAccessDeniedHandler)
 
                 .and()
-                .addFilterBefore(new JwtTokenFilter(employeeRepository, refreshTokenRepository, secretKey), UsernamePasswordAuthenticationFilter.class)
+                .addFilterBefore(new JwtTokenFilter(employeeRepository, jwtTokenVerifier, employeePrincipalCache, accessTokenRefresher), UsernamePasswordAuthenticationFilter.class)
                 .addFilterBefore(new ExceptionHandlerFilter(), JwtTokenFilter.class)
                 .build();
 
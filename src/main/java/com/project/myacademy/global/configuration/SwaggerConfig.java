@@ -1,9 +1,11 @@
 package com.project.myacademy.global.configuration;
 
 
+import com.project.myacademy.global.configuration.jwt.EmployeePrincipal;
 import io.swagger.v3.oas.annotations.OpenAPIDefinition;
 import io.swagger.v3.oas.annotations.info.Info;
 import org.springdoc.core.GroupedOpenApi;
+import org.springdoc.core.SpringDocUtils;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -24,6 +26,11 @@ import org.springframework.context.annotation.Configuration;
 @Configuration
 public class SwaggerConfig {
 
+    // 컨트롤러의 EmployeePrincipal 파라미터는 요청 파라미터가 아니므로 문서에서 제외
+    static {
+        SpringDocUtils.getConfig().addRequestWrapperToIgnore(EmployeePrincipal.class);
+    }
+
     @Bean
     public GroupedOpenApi firstOpenApi() {
         String[] paths = {
@@ -0,0 +1,38 @@
+package com.project.myacademy.global.configuration;
+
+import com.project.myacademy.global.configuration.jwt.EmployeePrincipalArgumentResolver;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.CacheControl;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 컨트롤러 인자(EmployeePrincipal) · 정적 리소스(css, js, 이미지) 캐시 설정
+ * 정적 리소스는 SecurityConfig 의 publicResourceFilterChain 을 타기 때문에 토큰 검증 · DB 조회 없이 바로 응답된다.
+ * 브라우저가 max-age 동안은 재요청하지 않고, 이후에는 Last-Modified 로 재검증(304)한다.
+ */
+@Configuration
+public class WebMvcConfig implements WebMvcConfigurer {
+
+    // 리소스 URL 에 해시가 붙어있지 않아 배포 후 변경이 늦게 반영될 수 있으므로 1년이 아닌 기본 7일로 둔다.
+    @Value("${web.static.cache-max-age-days:7}")
+    private long cacheMaxAgeDays;
+
+    @Override
+    public void addResourceHandlers(ResourceHandlerRegistry registry) {
+        registry.addResourceHandler("/assets/**")
+                .addResourceLocations("classpath:/static/assets/")
+                .setCacheControl(CacheControl.maxAge(Duration.ofDays(cacheMaxAgeDays)).cachePublic())
+                .resourceChain(true);
+    }
+
+    @Override
+    public void addArgumentResolvers(List<HandlerMethodArgumentResolver> resolvers) {
+        resolvers.add(new EmployeePrincipalArgumentResolver());
+    }
+}
@@ -0,0 +1,65 @@
+package com.project.myacademy.global.configuration.cache;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 2차 캐시 리전별 적중 / 미스 카운터
+ * 누적 값을 주기적으로 로그로 남긴다. (cache.metrics.log-interval-ms, 기본 5분)
+ */
+@Component
+@Slf4j
+public class CacheMetrics {
+
+    private final Map<String, RegionStats> regions = new ConcurrentHashMap<>();
+
+    public RegionStats region(String regionName) {
+        return regions.computeIfAbsent(regionName, name -> new RegionStats());
+    }
+
+    public Map<String, RegionStats> getRegions() {
+        return regions;
+    }
+
+    @Scheduled(fixedDelayString = "${cache.metrics.log-interval-ms:300000}")
+    public void log() {
+        regions.forEach((regionName, stats) -> {
+            if (stats.requests() == 0) {
+                return;
+            }
+            log.info("📦 2차 캐시 [{}] 로컬 적중 [{}] Redis 적중 [{}] 미스 [{}] 적중률 [{}%] 저장 [{}] 무효화 [{}] 다른 서버 무효화 [{}]",
+                    simpleName(regionName), stats.getLocalHits().sum(), stats.getRedisHits().sum(), stats.getMisses().sum(),
+                    stats.hitRatio(), stats.getPuts().sum(), stats.getEvictions().sum(), stats.getRemoteInvalidations().sum());
+        });
+    }
+
+    private String simpleName(String regionName) {
+        return regionName.substring(regionName.lastIndexOf('.') + 1);
+    }
+
+    @Getter
+    public static class RegionStats {
+
+        private final LongAdder localHits = new LongAdder();
+        private final LongAdder redisHits = new LongAdder();
+        private final LongAdder misses = new LongAdder();
+        private final LongAdder puts = new LongAdder();
+        private final LongAdder evictions = new LongAdder();
+        private final LongAdder remoteInvalidations = new LongAdder();
+
+        public long requests() {
+            return localHits.sum() + redisHits.sum() + misses.sum();
+        }
+
+        public long hitRatio() {
+            long requests = requests();
+            return requests == 0 ? 0 : (localHits.sum() + redisHits.sum()) * 100 / requests;
+        }
+    }
+}
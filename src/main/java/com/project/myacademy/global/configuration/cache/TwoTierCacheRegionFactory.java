@@ -0,0 +1,133 @@
+package com.project.myacademy.global.configuration.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.boot.spi.SessionFactoryOptions;
+import org.hibernate.cache.cfg.spi.DomainDataRegionBuildingContext;
+import org.hibernate.cache.cfg.spi.DomainDataRegionConfig;
+import org.hibernate.cache.internal.SimpleCacheKeysFactory;
+import org.hibernate.cache.spi.CacheKeysFactory;
+import org.hibernate.cache.spi.support.DomainDataStorageAccess;
+import org.hibernate.cache.spi.support.RegionFactoryTemplate;
+import org.hibernate.cache.spi.support.StorageAccess;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Hibernate 2차 캐시 구현 (서버별 메모리 + Redis)
+ * 엔티티를 수정 · 삭제하면 Hibernate 가 해당 캐시 키를 지우고(evictData), 이 팩토리가 Redis pub/sub 으로 다른 서버에 알린다.
+ * 다른 서버는 메시지를 받아 자신의 로컬 캐시에서 같은 키를 지운다. 자신이 보낸 메시지는 무시한다.
+ *
+ * 메시지 형식 : "서버 id \n 리전 \n 캐시 키" (캐시 키가 "*" 이면 리전 전체)
+ */
+@Slf4j
+public class TwoTierCacheRegionFactory extends RegionFactoryTemplate implements MessageListener {
+
+    public static final String KEY_PREFIX = "l2:";
+    public static final String INVALIDATION_CHANNEL = "l2:invalidation";
+
+    private static final String SEPARATOR = "\n";
+    private static final String ALL_KEYS = "*";
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final Map<String, TwoTierStorageAccess> storages = new ConcurrentHashMap<>();
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final CacheMetrics cacheMetrics;
+
+    private final long localTtlMillis;
+    private final int localMaxSize;
+    private final long redisTtlSeconds;
+
+    public TwoTierCacheRegionFactory(RedisTemplate<String, Object> redisTemplate, StringRedisTemplate stringRedisTemplate, CacheMetrics cacheMetrics,
+                                     long localTtlMillis, int localMaxSize, long redisTtlSeconds) {
+        this.redisTemplate = redisTemplate;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.cacheMetrics = cacheMetrics;
+        this.localTtlMillis = localTtlMillis;
+        this.localMaxSize = localMaxSize;
+        this.redisTtlSeconds = redisTtlSeconds;
+    }
+
+    @Override
+    protected void prepareForUse(SessionFactoryOptions settings, Map configValues) {
+        log.info("📦 2차 캐시 시작 - 서버 id [{}], 로컬 TTL [{}ms], Redis TTL [{}s]", nodeId, localTtlMillis, redisTtlSeconds);
+    }
+
+    @Override
+    protected void releaseFromUse() {
+        storages.values().forEach(TwoTierStorageAccess::release);
+        storages.clear();
+    }
+
+    // 엔티티 리전의 캐시 키를 엔티티 id 그대로 사용 ("l2:엔티티명:세대:id")
+    @Override
+    protected CacheKeysFactory getImplicitCacheKeysFactory() {
+        return SimpleCacheKeysFactory.INSTANCE;
+    }
+
+    // 엔티티 리전 : 로컬 + Redis
+    @Override
+    protected DomainDataStorageAccess createDomainDataStorageAccess(DomainDataRegionConfig regionConfig, DomainDataRegionBuildingContext buildingContext) {
+        return register(regionConfig.getRegionName(), localTtlMillis, redisTemplate, redisTtlSeconds);
+    }
+
+    // 쿼리 결과 리전 : 로컬만 (최신 여부는 timestamps 리전으로 확인)
+    @Override
+    protected StorageAccess createQueryResultsRegionStorageAccess(String regionName, SessionFactoryImplementor sessionFactory) {
+        return register(regionName, localTtlMillis, null, 0);
+    }
+
+    // timestamps 리전 : Redis 만, 만료 없음 (timestamps 가 사라지면 오래된 쿼리 결과를 최신으로 판단하게 된다.)
+    @Override
+    protected StorageAccess createTimestampsRegionStorageAccess(String regionName, SessionFactoryImplementor sessionFactory) {
+        return register(regionName, 0, redisTemplate, 0);
+    }
+
+    private TwoTierStorageAccess register(String regionName, long localTtlMillis, RedisTemplate<String, Object> redisTemplate, long redisTtlSeconds) {
+        TwoTierStorageAccess storage = new TwoTierStorageAccess(regionName, this, cacheMetrics.region(regionName),
+                localTtlMillis, localMaxSize, redisTemplate, redisTtlSeconds);
+        storages.put(regionName, storage);
+        return storage;
+    }
+
+    /**
+     * 다른 서버에 로컬 캐시 무효화를 알린다.
+     *
+     * @param cacheKey 지울 키 (null 이면 리전 전체)
+     */
+    public void publishInvalidation(String regionName, String cacheKey) {
+        String message = nodeId + SEPARATOR + regionName + SEPARATOR + (cacheKey == null ? ALL_KEYS : cacheKey);
+        try {
+            stringRedisTemplate.convertAndSend(INVALIDATION_CHANNEL, message);
+        } catch (RuntimeException e) {
+            log.error("📦 2차 캐시 무효화 메시지 발행 실패 [{}] - 다른 서버는 로컬 TTL 이 지날 때까지 이전 값을 볼 수 있습니다.", cacheKey, e);
+        }
+    }
+
+    /**
+     * 다른 서버가 보낸 무효화 메시지 수신
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+
+        String[] parts = new String(message.getBody(), StandardCharsets.UTF_8).split(SEPARATOR, 3);
+        if (parts.length != 3 || nodeId.equals(parts[0])) {
+            return;
+        }
+
+        TwoTierStorageAccess storage = storages.get(parts[1]);
+        if (storage == null) {
+            return;
+        }
+        storage.evictLocal(ALL_KEYS.equals(parts[2]) ? null : parts[2]);
+    }
+}
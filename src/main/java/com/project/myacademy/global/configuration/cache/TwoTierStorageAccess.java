@@ -0,0 +1,236 @@
+package com.project.myacademy.global.configuration.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.cache.spi.support.DomainDataStorageAccess;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 2차 캐시 리전 하나의 저장소
+ * 서버별 메모리(로컬) → Redis 순서로 조회하고, Redis 에서 찾은 값은 로컬에도 저장한다.
+ *
+ * - 엔티티 리전 : 로컬 + Redis. 삭제 시 Redis 에서 지우고 다른 서버에 무효화 메시지를 보낸다.
+ * - 쿼리 결과 리전 : 로컬만 사용. 결과가 최신인지는 Hibernate 가 Redis 의 timestamps 리전으로 확인한다.
+ * - timestamps 리전 : Redis 만 사용. 모든 서버가 같은 테이블 변경 시각을 본다.
+ * - Redis 장애 시 조회는 미스, 저장은 생략으로 처리하고 DB 조회로 넘어간다.
+ *
+ * Redis 키는 "l2:리전:세대:id" 형태이다. 리전 전체 삭제(벌크 수정 쿼리 등)는 키를 찾아 지우는 대신 세대 번호를 올리고,
+ * 이전 세대의 키는 Redis TTL 로 만료된다. (만료 없는 timestamps 리전은 전체 삭제 시 이전 키가 남는다.)
+ */
+@Slf4j
+public class TwoTierStorageAccess implements DomainDataStorageAccess {
+
+    private final String regionName;
+    private final String keyPrefix;
+    private final String generationKey;
+    private final TwoTierCacheRegionFactory regionFactory;
+    private final CacheMetrics.RegionStats stats;
+
+    // 로컬 캐시 (localTtlMillis 가 0 이면 사용하지 않음)
+    private final Map<Object, LocalEntry> local = new ConcurrentHashMap<>();
+    private final long localTtlMillis;
+    private final int localMaxSize;
+
+    // Redis 캐시 (null 이면 사용하지 않음, redisTtlSeconds 가 0 이면 만료 없음)
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final long redisTtlSeconds;
+
+    // 현재 세대 번호 (null 이면 다음 사용 시 Redis 에서 다시 읽는다.)
+    private volatile Long generation;
+
+    public TwoTierStorageAccess(String regionName, TwoTierCacheRegionFactory regionFactory, CacheMetrics.RegionStats stats,
+                                long localTtlMillis, int localMaxSize,
+                                RedisTemplate<String, Object> redisTemplate, long redisTtlSeconds) {
+        this.regionName = regionName;
+        this.keyPrefix = TwoTierCacheRegionFactory.KEY_PREFIX + regionName + ":";
+        this.generationKey = TwoTierCacheRegionFactory.KEY_PREFIX + "generation:" + regionName;
+        this.regionFactory = regionFactory;
+        this.stats = stats;
+        this.localTtlMillis = localTtlMillis;
+        this.localMaxSize = localMaxSize;
+        this.redisTemplate = redisTemplate;
+        this.redisTtlSeconds = redisTtlSeconds;
+    }
+
+    @Override
+    public Object getFromCache(Object key, SharedSessionContractImplementor session) {
+
+        Object cacheKey = cacheKey(key);
+        long now = System.currentTimeMillis();
+
+        LocalEntry entry = local.get(cacheKey);
+        if (entry != null) {
+            if (entry.expiresAt > now) {
+                stats.getLocalHits().increment();
+                return entry.value;
+            }
+            local.remove(cacheKey, entry);
+        }
+
+        if (redisTemplate != null) {
+            Object value = redisGet((String) cacheKey);
+            if (value != null) {
+                stats.getRedisHits().increment();
+                putLocal(cacheKey, value, now);
+                return value;
+            }
+        }
+
+        stats.getMisses().increment();
+        return null;
+    }
+
+    @Override
+    public void putIntoCache(Object key, Object value, SharedSessionContractImplementor session) {
+
+        Object cacheKey = cacheKey(key);
+        stats.getPuts().increment();
+
+        if (redisTemplate != null) {
+            redisSet((String) cacheKey, value);
+        }
+        putLocal(cacheKey, value, System.currentTimeMillis());
+    }
+
+    @Override
+    public boolean contains(Object key) {
+        Object cacheKey = cacheKey(key);
+        if (local.containsKey(cacheKey)) {
+            return true;
+        }
+        return redisTemplate != null && redisGet((String) cacheKey) != null;
+    }
+
+    /**
+     * 엔티티 수정 · 삭제 시 Hibernate 가 호출한다.
+     * 로컬, Redis 에서 지우고 다른 서버의 로컬 캐시도 지우도록 알린다.
+     */
+    @Override
+    public void evictData(Object key) {
+
+        Object cacheKey = cacheKey(key);
+        stats.getEvictions().increment();
+        local.remove(cacheKey);
+
+        if (redisTemplate != null) {
+            try {
+                redisTemplate.delete(redisKey((String) cacheKey));
+            } catch (RuntimeException e) {
+                log.error("📦 2차 캐시 Redis 삭제 실패 [{}] - 다른 서버는 Redis TTL 이 지날 때까지 이전 값을 볼 수 있습니다.", cacheKey, e);
+            }
+            regionFactory.publishInvalidation(regionName, (String) cacheKey);
+        }
+    }
+
+    /**
+     * 리전 전체 삭제 (벌크 수정 쿼리 실행 시 등)
+     * Redis 의 세대 번호를 올려 이전 세대의 키를 모두 무시하게 한다. (INCR 한 번)
+     */
+    @Override
+    public void evictData() {
+
+        stats.getEvictions().increment();
+        local.clear();
+
+        if (redisTemplate != null) {
+            try {
+                generation = redisTemplate.opsForValue().increment(generationKey);
+            } catch (RuntimeException e) {
+                generation = null;
+                log.error("📦 2차 캐시 Redis 리전 삭제 실패 [{}]", regionName, e);
+            }
+            regionFactory.publishInvalidation(regionName, null);
+        }
+    }
+
+    @Override
+    public void release() {
+        local.clear();
+    }
+
+    /**
+     * 다른 서버에서 받은 무효화 메시지 처리 - 로컬 캐시만 지운다.
+     *
+     * @param cacheKey 지울 키 (null 이면 리전 전체)
+     */
+    public void evictLocal(String cacheKey) {
+        stats.getRemoteInvalidations().increment();
+        if (cacheKey == null) {
+            local.clear();
+            generation = null;
+            return;
+        }
+        local.remove(cacheKey);
+    }
+
+    // Redis 를 함께 쓰는 리전은 id 문자열을, 로컬 전용 리전(쿼리 결과)은 Hibernate 키를 그대로 로컬 캐시 키로 사용한다.
+    // 로컬 캐시 키에는 세대 번호가 없으므로, 다른 서버의 무효화 메시지는 세대와 관계없이 같은 키를 지운다.
+    private Object cacheKey(Object key) {
+        return redisTemplate != null ? String.valueOf(key) : key;
+    }
+
+    private String redisKey(String cacheKey) {
+        return keyPrefix + generation() + ":" + cacheKey;
+    }
+
+    // INCRBY 0 으로 세대 번호를 읽는다. (없으면 0 으로 생성)
+    private long generation() {
+        Long current = generation;
+        if (current == null) {
+            current = redisTemplate.opsForValue().increment(generationKey, 0);
+            generation = current;
+        }
+        return current;
+    }
+
+    // 로컬 캐시 크기를 넘으면 만료된 항목부터 정리하고, 그래도 가득 차 있다면 로컬에는 캐시하지 않는다.
+    private void putLocal(Object cacheKey, Object value, long now) {
+        if (localTtlMillis <= 0) {
+            return;
+        }
+        if (local.size() >= localMaxSize) {
+            local.values().removeIf(entry -> entry.expiresAt <= now);
+        }
+        if (local.size() >= localMaxSize) {
+            log.debug("📦 2차 캐시 [{}] 로컬 캐시가 가득 차 캐시하지 않습니다. size [{}]", regionName, local.size());
+            return;
+        }
+        local.put(cacheKey, new LocalEntry(value, now + localTtlMillis));
+    }
+
+    private Object redisGet(String cacheKey) {
+        try {
+            return redisTemplate.opsForValue().get(redisKey(cacheKey));
+        } catch (RuntimeException e) {
+            log.warn("📦 2차 캐시 Redis 조회 실패 [{}] : {}", cacheKey, e.getMessage());
+            return null;
+        }
+    }
+
+    private void redisSet(String cacheKey, Object value) {
+        try {
+            if (redisTtlSeconds > 0) {
+                redisTemplate.opsForValue().set(redisKey(cacheKey), value, redisTtlSeconds, TimeUnit.SECONDS);
+            } else {
+                redisTemplate.opsForValue().set(redisKey(cacheKey), value);
+            }
+        } catch (RuntimeException e) {
+            log.warn("📦 2차 캐시 Redis 저장 실패 [{}] : {}", cacheKey, e.getMessage());
+        }
+    }
+
+    private static class LocalEntry {
+
+        private final Object value;
+        private final long expiresAt;
+
+        private LocalEntry(Object value, long expiresAt) {
+            this.value = value;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -3,12 +3,14 @@ package com.project.myacademy.global.configuration.filter;
 
 import com.project.myacademy.domain.employee.Employee;
 import com.project.myacademy.domain.employee.EmployeeRepository;
-import com.project.myacademy.domain.employee.EmployeeService;
-import com.project.myacademy.global.configuration.refreshToken.RefreshToken;
-import com.project.myacademy.global.configuration.refreshToken.RefreshTokenRepository;
+import com.project.myacademy.global.configuration.jwt.EmployeePrincipal;
+import com.project.myacademy.global.configuration.jwt.EmployeePrincipalCache;
+import com.project.myacademy.global.configuration.jwt.JwtTokenVerifier;
+import com.project.myacademy.global.configuration.refreshToken.AccessTokenRefresher;
+import com.project.myacademy.global.configuration.refreshToken.RefreshedAccessToken;
 import com.project.myacademy.global.exception.AppException;
 import com.project.myacademy.global.exception.ErrorCode;
-import com.project.myacademy.global.util.JwtTokenUtil;
+import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -26,6 +28,7 @@ import javax.servlet.http.Cookie;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 import java.io.IOException;
+import java.util.Date;
 import java.util.List;
 
 @RequiredArgsConstructor
@@ -34,8 +37,9 @@ public class JwtTokenFilter extends OncePerRequestFilter {
 
     private final EmployeeRepository employeeRepository;
 
-    private final RefreshTokenRepository refreshTokenRepository;
-    private final String secretKey;
+    private final JwtTokenVerifier jwtTokenVerifier;
+    private final EmployeePrincipalCache employeePrincipalCache;
+    private final AccessTokenRefresher accessTokenRefresher;
 
 
     @Override
@@ -62,52 +66,38 @@ public class JwtTokenFilter extends OncePerRequestFilter {
             return;
         }
 
-        Employee found;
+        EmployeePrincipal principal;
 
         // Access Token 유효성 검증
         try {
-            JwtTokenUtil.isExpired(token, secretKey);
+            // 토큰은 한 번만 파싱 & 서명 검증 (만료 시 ExpiredJwtException 발생)
+            Claims claims = jwtTokenVerifier.verify(token);
 
-            found = employeeRepository.findByEmail(JwtTokenUtil.getEmail(token, secretKey))
-                    .orElseThrow(() -> new AppException(ErrorCode.EMPLOYEE_NOT_FOUND));
+            principal = resolvePrincipal(claims);
 
             //Access Token이 유효하지 않는다면 아래 로직을 지나갈 것
         } catch (ExpiredJwtException e) {
             log.error("💡 Access Token 이 만료되었습니다.");
 
-            // redis에 저장되어있는 토큰 정보를 만료된 access token으로 찾아온다.
-            RefreshToken foundTokenInfo = refreshTokenRepository.findByAccessToken(token)
-                    .orElseThrow(() -> new AppException(ErrorCode.TOKEN_NOT_FOUND));
-
-            String refreshToken = foundTokenInfo.getRefreshToken();
-
+            // 같은 토큰으로 동시에 들어온 요청들은 한 번만 재발급하고 결과를 함께 사용한다.
             // 만약 refresh 토큰도 만료되었다면, ExceptionHandlerFilter에서 처리된다.
-            JwtTokenUtil.isExpired(refreshToken, secretKey);
-
-            // refresh 토큰이 아직 유효하다면, redis에 함께 저장해둔, employeeId를 가져온다.
-            Long employeeId = Long.valueOf(foundTokenInfo.getId());
-
-             found = employeeRepository.findById(employeeId)
-                    .orElseThrow(() -> new AppException(ErrorCode.EMPLOYEE_NOT_FOUND));
+            RefreshedAccessToken refreshed = accessTokenRefresher.refresh(token);
+            token = refreshed.getAccessToken();
 
-             //위 사용자 정보로 다시 Access Token을 만들어 발급한다.
-            token = JwtTokenUtil.createToken(found.getAccount(), found.getEmail(), secretKey);
-
-            //새로 발급한 Access Token으로 Redis도 업데이트를 해준다.
-            refreshTokenRepository.save(new RefreshToken(String.valueOf(employeeId), refreshToken, token));
             //클라이언트 측 쿠키의 Access Token도 업데이트를 해준다.
             CookieGenerator cookieGenerator = new CookieGenerator();
             cookieGenerator.setCookieName("token");
             cookieGenerator.setCookieHttpOnly(true);
             cookieGenerator.addCookie(response, token);
             cookieGenerator.setCookieMaxAge(60 * 60);//1시간
-        }
 
-        String employeeRole = found.getEmployeeRole().name();
+            principal = refreshed.getPrincipal();
+        }
 
-        String employeeInfo = found.getAccount() + "@" + found.getAcademy().getId();
+        String employeeRole = principal.getEmployeeRole().name();
 
-        UsernamePasswordAuthenticationToken authenticationToken = new UsernamePasswordAuthenticationToken(employeeInfo, null, List.of(new SimpleGrantedAuthority(employeeRole)));
+        // principal 로 EmployeePrincipal 을 그대로 저장한다. (authentication.getName() 은 기존과 같은 "계정@학원id")
+        UsernamePasswordAuthenticationToken authenticationToken = new UsernamePasswordAuthenticationToken(principal, null, List.of(new SimpleGrantedAuthority(employeeRole)));
 
         authenticationToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
 
@@ -115,4 +105,42 @@ public class JwtTokenFilter extends OncePerRequestFilter {
 
         filterChain.doFilter(request, response);
     }
+
+    /**
+     * 토큰의 claims 로 인증 정보를 만든다.
+     * 캐시에 있거나, 토큰 발급 이후 권한 변경 · 삭제가 없었다면 DB 를 조회하지 않는다.
+     */
+    private EmployeePrincipal resolvePrincipal(Claims claims) {
+
+        EmployeePrincipal fromToken = EmployeePrincipal.of(claims);
+
+        // 직원 id, 학원 id, 권한이 담기지 않은 이전 버전 토큰은 기존처럼 이메일로 조회한다.
+        if (fromToken == null) {
+            Employee found = employeeRepository.findByEmail(claims.get("email", String.class))
+                    .orElseThrow(() -> new AppException(ErrorCode.EMPLOYEE_NOT_FOUND));
+            return EmployeePrincipal.of(found);
+        }
+
+        Long employeeId = fromToken.getEmployeeId();
+
+        EmployeePrincipal cached = employeePrincipalCache.get(employeeId);
+        if (cached != null) {
+            return cached;
+        }
+
+        // 확인 도중 권한 변경 · 삭제가 일어나면 put 이 캐시하지 않도록 확인 시작 시각을 넘긴다.
+        long checkedAt = System.currentTimeMillis();
+        Date issuedAt = claims.getIssuedAt();
+        if (employeePrincipalCache.isTrusted(employeeId, issuedAt == null ? 0L : issuedAt.getTime())) {
+            employeePrincipalCache.put(fromToken, checkedAt);
+            return fromToken;
+        }
+
+        // 토큰 발급 이후 권한이 변경되었거나 삭제된 직원은 DB 에서 다시 확인한다.
+        Employee found = employeeRepository.findById(employeeId)
+                .orElseThrow(() -> new AppException(ErrorCode.EMPLOYEE_NOT_FOUND));
+        EmployeePrincipal principal = EmployeePrincipal.of(found);
+        employeePrincipalCache.put(principal, checkedAt);
+        return principal;
+    }
 }
@@ -0,0 +1,45 @@
+package com.project.myacademy.global.configuration.jwt;
+
+import com.project.myacademy.domain.employee.Employee;
+import com.project.myacademy.domain.employee.EmployeeRole;
+import io.jsonwebtoken.Claims;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.security.core.AuthenticatedPrincipal;
+
+/**
+ * 인증된 직원 정보 (불변 객체)
+ * Access Token 의 claims 혹은 DB 에서 조회한 Employee 로 만든다.
+ * JwtTokenFilter 에서 Authentication 의 principal 로 저장되고, 컨트롤러에서는 EmployeePrincipalArgumentResolver 로 주입받는다.
+ */
+@Getter
+@AllArgsConstructor
+public class EmployeePrincipal implements AuthenticatedPrincipal {
+
+    private final Long employeeId;
+    private final String account;
+    private final Long academyId;
+    private final EmployeeRole employeeRole;
+
+    public static EmployeePrincipal of(Employee employee) {
+        return new EmployeePrincipal(employee.getId(), employee.getAccount(), employee.getAcademy().getId(), employee.getEmployeeRole());
+    }
+
+    // 직원 id, 학원 id, 권한이 담기지 않은 (이전 버전) 토큰이라면 null 반환
+    public static EmployeePrincipal of(Claims claims) {
+        Long employeeId = claims.get("employeeId", Long.class);
+        Long academyId = claims.get("academyId", Long.class);
+        String role = claims.get("role", String.class);
+
+        if (employeeId == null || academyId == null || role == null) {
+            return null;
+        }
+        return new EmployeePrincipal(employeeId, claims.get("account", String.class), academyId, EmployeeRole.valueOf(role));
+    }
+
+    // Authentication 의 name 으로 사용되는 "계정@학원id" 형태
+    @Override
+    public String getName() {
+        return account + "@" + academyId;
+    }
+}
@@ -0,0 +1,38 @@
+package com.project.myacademy.global.configuration.jwt;
+
+import com.project.myacademy.global.exception.AppException;
+import com.project.myacademy.global.exception.ErrorCode;
+import org.springframework.core.MethodParameter;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.bind.support.WebDataBinderFactory;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.method.support.ModelAndViewContainer;
+
+/**
+ * 컨트롤러 메서드의 EmployeePrincipal 파라미터에 JwtTokenFilter 가 만든 인증 정보를 그대로 넣어준다.
+ * authentication.getName() 을 "@" 로 나누어 계정명, 학원 id 를 꺼내던 방식을 대신한다.
+ */
+public class EmployeePrincipalArgumentResolver implements HandlerMethodArgumentResolver {
+
+    @Override
+    public boolean supportsParameter(MethodParameter parameter) {
+        return EmployeePrincipal.class.equals(parameter.getParameterType());
+    }
+
+    /**
+     * 토큰으로 인증되지 않은 요청이라면 TOKEN_NOT_FOUND 예외를 던진다.
+     */
+    @Override
+    public Object resolveArgument(MethodParameter parameter, ModelAndViewContainer mavContainer,
+                                  NativeWebRequest webRequest, WebDataBinderFactory binderFactory) {
+
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+
+        if (authentication == null || !(authentication.getPrincipal() instanceof EmployeePrincipal)) {
+            throw new AppException(ErrorCode.TOKEN_NOT_FOUND);
+        }
+        return authentication.getPrincipal();
+    }
+}
@@ -0,0 +1,187 @@
+package com.project.myacademy.global.configuration.jwt;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 직원 인증 정보(EmployeePrincipal) 캐시
+ * JwtTokenFilter 가 매 요청마다 DB 를 조회하지 않도록 직원 id 별로 인증 정보를 보관한다.
+ * 권한 변경, 직원 삭제 시 invalidate 를 호출하면, 그 이전에 발급된 토큰은 다음 요청에서 DB 로 다시 확인된다.
+ *
+ * 여러 서버에서 실행되므로 무효화 시각은 Redis 에도 저장하고(토큰 유효시간 동안), Redis pub/sub 으로 다른 서버에 알린다.
+ * - 메시지를 받은 서버는 자신의 캐시에서 해당 직원을 지우고 무효화 시각을 기록한다.
+ * - 로컬에 무효화 기록이 없는 직원은 Redis 의 무효화 시각으로 토큰을 믿을 수 있는지 확인한다. (메시지를 놓쳤거나 나중에 시작한 서버)
+ * - Redis 를 사용할 수 없으면 토큰을 믿지 않고 DB 로 확인한다.
+ *
+ * 메시지 형식 : "서버 id \n 직원 id \n 무효화 시각"
+ */
+@Component
+@Slf4j
+public class EmployeePrincipalCache implements MessageListener {
+
+    public static final String INVALIDATION_CHANNEL = "principal:invalidation";
+    private static final String INVALIDATED_KEY_PREFIX = "principal:invalidated:";
+    private static final String SEPARATOR = "\n";
+
+    // Access Token 유효시간 (30분) 동안만 보관한다.
+    private static final long TIME_TO_LIVE_MILLIS = 1000 * 60 * 30;
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final StringRedisTemplate redisTemplate;
+    private final int maxSize;
+
+    // key : 직원 id, value : 인증 정보와 만료 시각
+    private final Map<Long, CachedPrincipal> principals = new ConcurrentHashMap<>();
+
+    // key : 직원 id, value : 마지막으로 권한 변경 혹은 삭제된 시각
+    // principals 와 같은 키의 compute 안에서만 기록해서, put 과 무효화가 서로 끼어들지 않게 한다.
+    private final Map<Long, Long> invalidatedAt = new ConcurrentHashMap<>();
+
+    public EmployeePrincipalCache(StringRedisTemplate redisTemplate,
+                                  @Value("${jwt.principal.cache-size:10000}") int maxSize) {
+        this.redisTemplate = redisTemplate;
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * 캐시된 인증 정보 조회 - 없거나 만료되었다면 null 반환
+     */
+    public EmployeePrincipal get(Long employeeId) {
+        CachedPrincipal cached = principals.get(employeeId);
+        if (cached == null) {
+            return null;
+        }
+        if (cached.expiresAt <= System.currentTimeMillis()) {
+            principals.remove(employeeId, cached);
+            return null;
+        }
+        return cached.principal;
+    }
+
+    /**
+     * 토큰 발급 시각(issuedAt) 이후에 권한 변경 혹은 삭제가 없었다면 토큰의 claims 를 그대로 믿을 수 있다.
+     * 로컬에 무효화 기록이 없다면 Redis 에 저장된 무효화 시각으로 확인한다. (캐시 미스일 때만 호출되므로 직원당 토큰 유효시간에 한 번 정도)
+     *
+     * @param employeeId     직원 id
+     * @param issuedAtMillis 토큰 발급 시각
+     */
+    public boolean isTrusted(Long employeeId, long issuedAtMillis) {
+        Long invalidated = invalidatedAt.get(employeeId);
+        if (invalidated == null) {
+            try {
+                String stored = redisTemplate.opsForValue().get(INVALIDATED_KEY_PREFIX + employeeId);
+                invalidated = stored == null ? null : Long.valueOf(stored);
+            } catch (RuntimeException e) {
+                log.warn("🔑 직원 인증 정보 무효화 시각 조회 실패 employeeId [{}] : {}", employeeId, e.getMessage());
+                return false;
+            }
+        }
+        return invalidated == null || issuedAtMillis > invalidated;
+    }
+
+    /**
+     * 인증 정보를 캐시한다.
+     * 확인(isTrusted 혹은 DB 조회)을 시작한 이후에 무효화되었다면, 이전 정보일 수 있으므로 캐시하지 않는다.
+     *
+     * @param principal       캐시할 인증 정보
+     * @param checkedAtMillis 인증 정보를 확인하기 시작한 시각
+     */
+    public void put(EmployeePrincipal principal, long checkedAtMillis) {
+        long now = System.currentTimeMillis();
+
+        // 캐시 크기를 넘으면 만료된 항목부터 정리하고, 그래도 가득 차 있다면 캐시하지 않는다.
+        if (principals.size() >= maxSize) {
+            principals.values().removeIf(value -> value.expiresAt <= now);
+            invalidatedAt.values().removeIf(time -> time + TIME_TO_LIVE_MILLIS <= now);
+        }
+        if (principals.size() >= maxSize) {
+            return;
+        }
+        principals.compute(principal.getEmployeeId(), (employeeId, cached) -> {
+            Long invalidated = invalidatedAt.get(employeeId);
+            if (invalidated != null && invalidated >= checkedAtMillis) {
+                return cached;
+            }
+            return new CachedPrincipal(principal, now + TIME_TO_LIVE_MILLIS);
+        });
+    }
+
+    /**
+     * 권한 변경, 직원 삭제 시 호출
+     * 트랜잭션 안에서 호출되면 커밋 이후에 한 번 더 제거해서, 커밋 전에 다시 캐시된 이전 정보가 남지 않게 한다.
+     * 다른 서버에도 무효화 시각을 알린다.
+     *
+     * @param employeeId 변경된 직원 id
+     */
+    public void invalidate(Long employeeId) {
+        invalidateAndPublish(employeeId);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    invalidateAndPublish(employeeId);
+                }
+            });
+        }
+    }
+
+    /**
+     * 다른 서버가 보낸 무효화 메시지 수신 - 로컬 캐시만 지운다.
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+
+        String[] parts = new String(message.getBody(), StandardCharsets.UTF_8).split(SEPARATOR, 3);
+        if (parts.length != 3 || nodeId.equals(parts[0])) {
+            return;
+        }
+
+        // 서버 간 시계 차이로 이 서버에서 방금 시작한 확인이 무효화 이전으로 보이지 않도록, 받은 시각과 보낸 시각 중 늦은 쪽으로 기록한다.
+        long invalidated = Math.max(Long.parseLong(parts[2]), System.currentTimeMillis());
+        evict(Long.valueOf(parts[1]), invalidated);
+    }
+
+    private void invalidateAndPublish(Long employeeId) {
+        long now = System.currentTimeMillis();
+        evict(employeeId, now);
+
+        try {
+            redisTemplate.opsForValue().set(INVALIDATED_KEY_PREFIX + employeeId, String.valueOf(now), TIME_TO_LIVE_MILLIS, TimeUnit.MILLISECONDS);
+            redisTemplate.convertAndSend(INVALIDATION_CHANNEL, nodeId + SEPARATOR + employeeId + SEPARATOR + now);
+        } catch (RuntimeException e) {
+            log.error("🔑 직원 인증 정보 무효화 전파 실패 employeeId [{}] - 다른 서버는 캐시 TTL 이 지날 때까지 이전 권한을 볼 수 있습니다.", employeeId, e);
+        }
+    }
+
+    private void evict(Long employeeId, long invalidated) {
+        principals.compute(employeeId, (id, cached) -> {
+            invalidatedAt.merge(id, invalidated, Math::max);
+            return null;
+        });
+        log.info("🔑 직원 인증 정보 캐시 삭제 employeeId [{}]", employeeId);
+    }
+
+    private static class CachedPrincipal {
+
+        private final EmployeePrincipal principal;
+        private final long expiresAt;
+
+        private CachedPrincipal(EmployeePrincipal principal, long expiresAt) {
+            this.principal = principal;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.project.myacademy.global.configuration.jwt;
+
+import com.project.myacademy.global.util.JwtTokenUtil;
+import io.jsonwebtoken.Claims;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Access Token 검증 전용 컴포넌트
+ * 토큰을 요청당 한 번만 파싱(서명 검증)하고, 검증된 Claims 를 토큰 만료 시각까지 캐시한다.
+ * 같은 브라우저에서 반복되는 요청은 서명 검증 없이 캐시된 Claims 를 사용한다.
+ */
+@Component
+public class JwtTokenVerifier {
+
+    private final String secretKey;
+    private final int maxSize;
+
+    // key : 토큰 digest(SHA-256), value : 검증된 Claims 와 만료 시각
+    // 접근 순서 LinkedHashMap 으로 가득 차면 가장 오래 사용하지 않은 토큰 하나만 제거 (LRU, 항목 수와 무관하게 O(1))
+    // LinkedHashMap 은 조회(get)도 순서를 바꾸므로 모든 접근은 cache 를 잠그고 수행한다.
+    private final Map<String, VerifiedClaims> cache;
+
+    public JwtTokenVerifier(@Value("${jwt.token.secret}") String secretKey,
+                            @Value("${jwt.token.cache-size:10000}") int maxSize) {
+        this.secretKey = secretKey;
+        this.maxSize = maxSize;
+        this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, VerifiedClaims> eldest) {
+                return size() > JwtTokenVerifier.this.maxSize;
+            }
+        };
+    }
+
+    /**
+     * 토큰을 검증하고 Claims 를 반환한다.
+     * 만료되었거나 유효하지 않은 토큰은 JwtTokenUtil.openToken 과 동일한 예외(ExpiredJwtException, JwtException)를 던진다.
+     *
+     * @param token 검증할 Access Token
+     */
+    public Claims verify(String token) {
+
+        String digest = JwtTokenUtil.digest(token);
+        long now = System.currentTimeMillis();
+
+        // 캐시에 있고 아직 만료되지 않았다면 서명 검증 없이 바로 반환
+        synchronized (cache) {
+            VerifiedClaims cached = cache.get(digest);
+            if (cached != null) {
+                if (cached.expiresAt > now) {
+                    return cached.claims;
+                }
+                cache.remove(digest);
+            }
+        }
+
+        // 캐시에 없다면 한 번만 파싱 & 서명 검증 (만료 시 ExpiredJwtException 발생)
+        Claims claims = JwtTokenUtil.openToken(token, secretKey);
+
+        Date expiration = claims.getExpiration();
+        if (expiration != null) {
+            synchronized (cache) {
+                cache.put(digest, new VerifiedClaims(claims, expiration.getTime()));
+            }
+        }
+
+        return claims;
+    }
+
+    /**
+     * 로그아웃 등으로 더 이상 사용하지 않는 토큰을 캐시에서 제거한다.
+     */
+    public void invalidate(String token) {
+        String digest = JwtTokenUtil.digest(token);
+        synchronized (cache) {
+            cache.remove(digest);
+        }
+    }
+
+    int size() {
+        synchronized (cache) {
+            return cache.size();
+        }
+    }
+
+    private static class VerifiedClaims {
+
+        private final Claims claims;
+        private final long expiresAt;
+
+        private VerifiedClaims(Claims claims, long expiresAt) {
+            this.claims = claims;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -59,7 +59,7 @@ public class Oauth2SuccessHandler extends SimpleUrlAuthenticationSuccessHandler
             String foundAccount = foundEmployee.get().getAccount();
             log.info("🌈 소셜 로그인 인증한 계정명 [{}]", foundAccount);
             // 회원 계정으로 토큰 생성 후 쿼리 파라미터로 보냄
-            String token = JwtTokenUtil.createToken(foundAccount, email, key);
+            String token = JwtTokenUtil.createToken(foundEmployee.get(), key);
             String refreshToken = JwtTokenUtil.createRefreshToken(key);
 
             response.sendRedirect("/oauth2/redirect" + "?token=" + token + "&refreshToken=" + refreshToken+"&employeeId="+foundEmployee.get().getId());
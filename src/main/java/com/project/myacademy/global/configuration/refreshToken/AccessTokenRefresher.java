@@ -0,0 +1,162 @@
+package com.project.myacademy.global.configuration.refreshToken;
+
+import com.project.myacademy.domain.employee.Employee;
+import com.project.myacademy.domain.employee.EmployeeRepository;
+import com.project.myacademy.global.configuration.jwt.EmployeePrincipal;
+import com.project.myacademy.global.configuration.jwt.EmployeePrincipalCache;
+import com.project.myacademy.global.exception.AppException;
+import com.project.myacademy.global.exception.ErrorCode;
+import com.project.myacademy.global.util.JwtTokenUtil;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 만료된 Access Token 재발급
+ * 페이지 하나가 여러 요청(정적 파일, XHR)을 동시에 보내면, 만료된 같은 토큰으로 재발급 요청이 몰린다.
+ * 토큰 별로 한 요청만 재발급(Redis 조회, 토큰 생성, 저장)을 진행하고, 나머지 요청은 그 결과를 함께 사용한다.
+ * 재발급 직후 잠시 동안(grace)은 이전 토큰으로 들어온 요청도 새 토큰 결과를 그대로 받는다.
+ */
+@Component
+@Slf4j
+public class AccessTokenRefresher {
+
+    // 먼저 들어온 요청의 재발급을 기다리는 최대 시간
+    private static final long WAIT_SECONDS = 5;
+
+    private final EmployeeRepository employeeRepository;
+    private final RefreshTokenStore refreshTokenStore;
+    private final EmployeePrincipalCache employeePrincipalCache;
+    private final String secretKey;
+    private final long graceMillis;
+
+    // key : 만료된 Access Token digest, value : 진행 중인 재발급
+    private final Map<String, CompletableFuture<RefreshedAccessToken>> inFlight = new ConcurrentHashMap<>();
+
+    // key : 만료된 Access Token digest, value : 최근 재발급 결과 (grace 기간 동안 보관)
+    private final Map<String, RefreshedAccessToken> recentlyRefreshed = new ConcurrentHashMap<>();
+
+    public AccessTokenRefresher(EmployeeRepository employeeRepository,
+                                RefreshTokenStore refreshTokenStore,
+                                EmployeePrincipalCache employeePrincipalCache,
+                                @Value("${jwt.token.secret}") String secretKey,
+                                @Value("${jwt.token.refresh-grace-seconds:30}") long graceSeconds) {
+        this.employeeRepository = employeeRepository;
+        this.refreshTokenStore = refreshTokenStore;
+        this.employeePrincipalCache = employeePrincipalCache;
+        this.secretKey = secretKey;
+        this.graceMillis = TimeUnit.SECONDS.toMillis(graceSeconds);
+    }
+
+    /**
+     * 만료된 Access Token 으로 새 Access Token 을 발급한다.
+     * refresh 토큰이 없거나 만료되었다면 기존과 같이 AppException, ExpiredJwtException 이 발생한다.
+     *
+     * @param expiredToken 만료된 Access Token
+     */
+    public RefreshedAccessToken refresh(String expiredToken) {
+
+        String key = JwtTokenUtil.digest(expiredToken);
+
+        // 방금 재발급된 토큰이라면 그 결과를 그대로 사용
+        RefreshedAccessToken recent = findRecent(key);
+        if (recent != null) {
+            return recent;
+        }
+
+        CompletableFuture<RefreshedAccessToken> mine = new CompletableFuture<>();
+        CompletableFuture<RefreshedAccessToken> running = inFlight.putIfAbsent(key, mine);
+
+        // 이미 다른 요청이 재발급 중이라면 그 결과를 기다린다.
+        if (running != null) {
+            return await(running);
+        }
+
+        try {
+            // 먼저 들어온 요청이 방금 끝났을 수 있으니 한 번 더 확인
+            RefreshedAccessToken refreshed = findRecent(key);
+            if (refreshed == null) {
+                refreshed = reissue(expiredToken);
+                purgeExpired();
+                recentlyRefreshed.put(key, refreshed);
+            }
+            mine.complete(refreshed);
+            return refreshed;
+        } catch (RuntimeException e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, mine);
+        }
+    }
+
+    // 실제 재발급 - redis 조회, refresh 토큰 검증, 새 토큰 생성 및 저장
+    private RefreshedAccessToken reissue(String expiredToken) {
+
+        // redis에 저장되어있는 토큰 정보를 만료된 access token으로 찾아온다.
+        RefreshToken foundTokenInfo = refreshTokenStore.findByAccessToken(expiredToken)
+                .orElseThrow(() -> new AppException(ErrorCode.TOKEN_NOT_FOUND));
+
+        String refreshToken = foundTokenInfo.getRefreshToken();
+
+        // 만약 refresh 토큰도 만료되었다면, ExceptionHandlerFilter에서 처리된다.
+        JwtTokenUtil.isExpired(refreshToken, secretKey);
+
+        // refresh 토큰이 아직 유효하다면, redis에 함께 저장해둔, employeeId를 가져온다.
+        Long employeeId = Long.valueOf(foundTokenInfo.getId());
+
+        long checkedAt = System.currentTimeMillis();
+        Employee found = employeeRepository.findById(employeeId)
+                .orElseThrow(() -> new AppException(ErrorCode.EMPLOYEE_NOT_FOUND));
+
+        //위 사용자 정보로 다시 Access Token을 만들어 발급한다.
+        String token = JwtTokenUtil.createToken(found, secretKey);
+
+        //새로 발급한 Access Token으로 Redis도 업데이트를 해준다. (이전 토큰 정보는 grace 기간 뒤 만료)
+        refreshTokenStore.replace(expiredToken, new RefreshToken(String.valueOf(employeeId), refreshToken, token), TimeUnit.MILLISECONDS.toSeconds(graceMillis));
+
+        // DB 에서 방금 조회한 최신 정보로 캐시도 갱신한다.
+        EmployeePrincipal principal = EmployeePrincipal.of(found);
+        employeePrincipalCache.put(principal, checkedAt);
+
+        log.info("🔑 Access Token 재발급 employeeId [{}]", employeeId);
+        return new RefreshedAccessToken(token, principal, System.currentTimeMillis() + graceMillis);
+    }
+
+    private RefreshedAccessToken findRecent(String key) {
+        RefreshedAccessToken recent = recentlyRefreshed.get(key);
+        if (recent != null && recent.getGraceUntil() > System.currentTimeMillis()) {
+            return recent;
+        }
+        return null;
+    }
+
+    private void purgeExpired() {
+        long now = System.currentTimeMillis();
+        recentlyRefreshed.values().removeIf(refreshed -> refreshed.getGraceUntil() <= now);
+    }
+
+    // 먼저 들어온 요청의 재발급 결과를 기다린다. 실패했다면 같은 예외를 던진다.
+    private RefreshedAccessToken await(CompletableFuture<RefreshedAccessToken> running) {
+        try {
+            return running.get(WAIT_SECONDS, TimeUnit.SECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new AppException(ErrorCode.TOKEN_NOT_FOUND);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new AppException(ErrorCode.TOKEN_NOT_FOUND);
+        } catch (TimeoutException e) {
+            throw new AppException(ErrorCode.TOKEN_NOT_FOUND);
+        }
+    }
+}
@@ -2,22 +2,16 @@ package com.project.myacademy.global.configuration.refreshToken;
 
 import lombok.AllArgsConstructor;
 import lombok.Getter;
-import org.springframework.data.redis.core.RedisHash;
-import org.springframework.data.redis.core.index.Indexed;
-
-import javax.persistence.Id;
 
 @AllArgsConstructor
 @Getter
-@RedisHash(value = "jwtToken", timeToLive = 60*60*24*3)
 public class RefreshToken {
 
-    @Id
+    // 직원 기본키 id
     private String id;
 
     private String refreshToken;
 
-    @Indexed
     private String accessToken;
 
-}
\ No newline at end of file
+}
@@ -1,11 +0,0 @@
-package com.project.myacademy.global.configuration.refreshToken;
-
-import org.springframework.data.repository.CrudRepository;
-import org.springframework.stereotype.Repository;
-
-import java.util.Optional;
-
-@Repository
-public interface RefreshTokenRepository extends CrudRepository<RefreshToken,String> {
-    Optional<RefreshToken> findByAccessToken(String accessToken);
-}
@@ -2,22 +2,17 @@ package com.project.myacademy.global.configuration.refreshToken;
 
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 @Service
 @RequiredArgsConstructor
 public class RefreshTokenService {
-    private final RefreshTokenRepository refreshTokenRepository;
+    private final RefreshTokenStore refreshTokenStore;
 
-    @Transactional
     public void saveTokenInfo(Long employeeId, String refreshToken, String accessToken) {
-        refreshTokenRepository.save(new RefreshToken(String.valueOf(employeeId), refreshToken, accessToken));
+        refreshTokenStore.save(new RefreshToken(String.valueOf(employeeId), refreshToken, accessToken));
     }
 
-    @Transactional
     public void removeRefreshToken(String accessToken) {
-        refreshTokenRepository.findByAccessToken(accessToken)
-                .ifPresent(refreshTokenRepository::delete);
-
+        refreshTokenStore.delete(accessToken);
     }
 }
@@ -0,0 +1,177 @@
+package com.project.myacademy.global.configuration.refreshToken;
+
+import com.project.myacademy.global.util.JwtTokenUtil;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Refresh Token 저장소 (Redis)
+ * Access Token 의 digest 를 키로, "직원 id:refresh 토큰" 을 값으로 하는 String 하나만 저장한다.
+ * 조회는 digest 키 하나로 끝나고, 저장 · 재발급은 스크립트(EVALSHA) 한 번, 삭제는 DEL 한 번으로 끝난다.
+ *
+ * 이전 @RedisHash 가 직원 id 를 키로 사용했던 것처럼 직원 한 명당 refresh 가능한 세션은 하나만 둔다.
+ * "jwtToken:employee:직원 id" 키에 마지막으로 저장한 digest 를 두고, 다시 로그인하면 그 digest 의 토큰 정보를 같은 스크립트에서 지운다.
+ * 재발급이 동시에 일어나면(다른 서버, 재발급 중 로그인) 마지막으로 저장한 세션이 남고, 나머지는 grace 뒤 만료된다.
+ * 로그아웃은 토큰 정보만 지우고, 직원 키는 다음 로그인에서 덮어쓰거나 함께 만료된다.
+ *
+ * 이전 형식(@RedisHash "jwtToken:직원 id" 해시 + "jwtToken:accessToken:토큰" 인덱스)으로 저장된 토큰 정보는
+ * 배포 후 refresh 토큰 유효시간(3일) 동안 남아 있으므로, 새 형식에 없을 때만 이전 형식으로 한 번 더 찾는다. (jwt.refresh.legacy-fallback)
+ * 이전 형식에서 찾은 토큰 정보는 새 형식으로 옮기고 이전 형식은 지운다. 배포 3일 뒤에는 false 로 끄고 제거해도 된다.
+ */
+@Component
+@Slf4j
+public class RefreshTokenStore {
+
+    private static final String KEY_PREFIX = "jwtToken:";
+    private static final String EMPLOYEE_KEY_PREFIX = "jwtToken:employee:";
+    private static final String SEPARATOR = ":";
+
+    // 이전 형식 (Spring Data Redis @RedisHash(value = "jwtToken"), @Indexed accessToken)
+    private static final String LEGACY_KEYSPACE = "jwtToken";
+    private static final String LEGACY_INDEX_PREFIX = "jwtToken:accessToken:";
+
+    // refresh 토큰 유효시간 (3일)
+    private static final long TIME_TO_LIVE_SECONDS = 60 * 60 * 24 * 3;
+
+    // 로그인 - 직원 키가 가리키던 토큰 정보(와 이전 형식 해시)를 지우고 새 토큰 정보 저장, 직원 키를 새 digest 로 교체
+    // KEYS = 새 토큰 정보, 직원 키, (이전 형식 해시) / ARGV = 값, TTL, 새 digest
+    static final RedisScript<Long> SAVE = new DefaultRedisScript<>(
+            "local previous = redis.call('get', KEYS[2]) "
+                    + "if previous and previous ~= ARGV[3] then redis.call('del', '" + KEY_PREFIX + "' .. previous) end "
+                    + "redis.call('set', KEYS[1], ARGV[1], 'EX', ARGV[2]) redis.call('set', KEYS[2], ARGV[3], 'EX', ARGV[2]) "
+                    + "if KEYS[3] then redis.call('del', KEYS[3]) end return 1", Long.class);
+
+    // 재발급 - 새 토큰 정보 저장, 이전 토큰 정보와 직원 키가 가리키던 토큰 정보는 grace 뒤 만료, 직원 키를 새 digest 로 교체
+    // KEYS = 새 토큰 정보, 이전 토큰 정보, 직원 키 / ARGV = 값, TTL, grace, 새 digest
+    static final RedisScript<Long> REPLACE = new DefaultRedisScript<>(
+            "local current = redis.call('get', KEYS[3]) "
+                    + "if current and current ~= ARGV[4] then redis.call('expire', '" + KEY_PREFIX + "' .. current, ARGV[3]) end "
+                    + "redis.call('set', KEYS[1], ARGV[1], 'EX', ARGV[2]) redis.call('expire', KEYS[2], ARGV[3]) "
+                    + "redis.call('set', KEYS[3], ARGV[4], 'EX', ARGV[2]) return 1", Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final boolean legacyFallback;
+
+    public RefreshTokenStore(StringRedisTemplate redisTemplate,
+                             @Value("${jwt.refresh.legacy-fallback:true}") boolean legacyFallback) {
+        this.redisTemplate = redisTemplate;
+        this.legacyFallback = legacyFallback;
+    }
+
+    /**
+     * 로그인 시 토큰 정보 저장 - EVALSHA (1 round trip)
+     * 같은 직원의 이전 세션 토큰 정보는 삭제되어 더 이상 재발급받을 수 없다.
+     */
+    public void save(RefreshToken refreshToken) {
+        String digest = JwtTokenUtil.digest(refreshToken.getAccessToken());
+        List<String> keys = new ArrayList<>(List.of(KEY_PREFIX + digest, employeeKey(refreshToken)));
+        if (legacyFallback) {
+            // 배포 이전 세션이 이후 재발급 시 새 형식으로 옮겨지지 않도록 이전 형식 해시도 지운다.
+            keys.add(KEY_PREFIX + refreshToken.getId());
+        }
+        redisTemplate.execute(SAVE, keys, value(refreshToken), String.valueOf(TIME_TO_LIVE_SECONDS), digest);
+    }
+
+    /**
+     * Access Token 으로 토큰 정보 조회 - GET key (1 round trip)
+     * 없다면 이전 형식으로 저장된 토큰 정보를 찾아 새 형식으로 옮긴다. (배포 이전에 로그인한 세션, 한 번만)
+     */
+    public Optional<RefreshToken> findByAccessToken(String accessToken) {
+        String value = redisTemplate.opsForValue().get(key(accessToken));
+        if (value == null) {
+            return legacyFallback ? migrateLegacy(accessToken) : Optional.empty();
+        }
+        int separatorIndex = value.indexOf(SEPARATOR);
+        return Optional.of(new RefreshToken(value.substring(0, separatorIndex), value.substring(separatorIndex + 1), accessToken));
+    }
+
+    /**
+     * Access Token 재발급 시 새 토큰 정보를 저장하고, 이전 토큰 정보는 graceSeconds 뒤에 만료시킨다.
+     * 직원 키도 새 토큰 정보로 옮긴다. - EVALSHA (1 round trip)
+     *
+     * @param oldAccessToken 만료된 Access Token
+     * @param refreshToken   새 Access Token 이 담긴 토큰 정보
+     * @param graceSeconds   이전 토큰 정보를 남겨둘 시간 (다른 서버에서 동시에 들어온 요청용)
+     */
+    public void replace(String oldAccessToken, RefreshToken refreshToken, long graceSeconds) {
+        String digest = JwtTokenUtil.digest(refreshToken.getAccessToken());
+        redisTemplate.execute(REPLACE, List.of(KEY_PREFIX + digest, key(oldAccessToken), employeeKey(refreshToken)),
+                value(refreshToken), String.valueOf(TIME_TO_LIVE_SECONDS), String.valueOf(Math.max(graceSeconds, 1)), digest);
+    }
+
+    /**
+     * 로그아웃 시 토큰 정보 삭제 - DEL key (1 round trip)
+     * 새 형식에 없다면 이전 형식으로 저장된 토큰 정보도 지운다. (로그아웃한 세션이 이전 형식으로 재발급받지 못하도록)
+     */
+    public void delete(String accessToken) {
+        Boolean deleted = redisTemplate.delete(key(accessToken));
+        if (!Boolean.TRUE.equals(deleted) && legacyFallback) {
+            deleteLegacy(accessToken, legacyIds(accessToken));
+        }
+    }
+
+    // 이전 형식 : 인덱스(SMEMBERS)로 직원 id 를 찾고, 해시(HMGET)에서 토큰 정보를 읽는다.
+    // 같은 직원이 이후 다시 로그인했다면 해시의 accessToken 이 바뀌어 있으므로, 요청한 토큰과 같은 경우만 인정한다.
+    private Optional<RefreshToken> migrateLegacy(String accessToken) {
+        Set<String> ids = legacyIds(accessToken);
+        if (ids == null || ids.isEmpty()) {
+            return Optional.empty();
+        }
+
+        HashOperations<String, String, String> hashOperations = redisTemplate.opsForHash();
+        for (String id : ids) {
+            List<String> fields = hashOperations.multiGet(KEY_PREFIX + id, List.of("refreshToken", "accessToken"));
+            if (fields.get(0) != null && accessToken.equals(fields.get(1))) {
+                // refresh 토큰 자체의 만료 시각은 재발급 시 다시 확인하므로, 새 형식은 전체 유효시간으로 저장한다.
+                RefreshToken refreshToken = new RefreshToken(id, fields.get(0), accessToken);
+                save(refreshToken);
+                deleteLegacy(accessToken, ids);
+                log.info("🔑 이전 형식의 토큰 정보를 새 형식으로 옮겼습니다. employeeId [{}]", id);
+                return Optional.of(refreshToken);
+            }
+        }
+        return Optional.empty();
+    }
+
+    private Set<String> legacyIds(String accessToken) {
+        return redisTemplate.opsForSet().members(LEGACY_INDEX_PREFIX + accessToken);
+    }
+
+    // 해시, 인덱스, 해시가 속한 인덱스 목록(:idx), 만료 이벤트용 phantom 키를 지우고 keyspace 목록에서 뺀다.
+    private void deleteLegacy(String accessToken, Set<String> ids) {
+        if (ids == null || ids.isEmpty()) {
+            return;
+        }
+        List<String> keys = new ArrayList<>();
+        keys.add(LEGACY_INDEX_PREFIX + accessToken);
+        for (String id : ids) {
+            keys.add(KEY_PREFIX + id);
+            keys.add(KEY_PREFIX + id + ":idx");
+            keys.add(KEY_PREFIX + id + ":phantom");
+        }
+        redisTemplate.delete(keys);
+        redisTemplate.opsForSet().remove(LEGACY_KEYSPACE, ids.toArray());
+    }
+
+    private String key(String accessToken) {
+        return KEY_PREFIX + JwtTokenUtil.digest(accessToken);
+    }
+
+    private String employeeKey(RefreshToken refreshToken) {
+        return EMPLOYEE_KEY_PREFIX + refreshToken.getId();
+    }
+
+    private String value(RefreshToken refreshToken) {
+        return refreshToken.getId() + SEPARATOR + refreshToken.getRefreshToken();
+    }
+}
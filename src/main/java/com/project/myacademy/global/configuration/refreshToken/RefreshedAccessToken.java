@@ -0,0 +1,23 @@
+package com.project.myacademy.global.configuration.refreshToken;
+
+import com.project.myacademy.global.configuration.jwt.EmployeePrincipal;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 만료된 Access Token 을 재발급한 결과
+ * 같은 토큰으로 동시에 들어온 요청들이 함께 사용한다.
+ */
+@Getter
+@AllArgsConstructor
+public class RefreshedAccessToken {
+
+    // 새로 발급한 Access Token
+    private final String accessToken;
+
+    // 새 토큰의 인증 정보
+    private final EmployeePrincipal principal;
+
+    // 이 시각까지는 이전 Access Token 으로 들어온 요청에도 재발급 결과를 그대로 돌려준다.
+    private final long graceUntil;
+}
@@ -0,0 +1,77 @@
+package com.project.myacademy.global.configuration.security;
+
+import org.springframework.security.access.ConfigAttribute;
+import org.springframework.security.access.SecurityConfig;
+import org.springframework.security.web.FilterInvocation;
+import org.springframework.security.web.access.expression.DefaultWebSecurityExpressionHandler;
+import org.springframework.security.web.access.expression.ExpressionBasedFilterInvocationSecurityMetadataSource;
+import org.springframework.security.web.access.intercept.FilterInvocationSecurityMetadataSource;
+import org.springframework.security.web.util.matcher.AnyRequestMatcher;
+import org.springframework.security.web.util.matcher.RequestMatcher;
+
+import javax.servlet.http.HttpServletRequest;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * RouteAuthorizationTable 로 요청에 필요한 권한(ConfigAttribute)을 찾는 FilterSecurityInterceptor 용 메타데이터 소스
+ * 권한 표현식은 antMatchers 와 동일한 WebExpressionConfigAttribute 로 미리 만들어두므로 판정(WebExpressionVoter)은 기존과 같다.
+ */
+public class RouteAuthorizationMetadataSource implements FilterInvocationSecurityMetadataSource {
+
+    private final RouteAuthorizationTable table;
+
+    // key : 권한 표현식, value : 표현식을 파싱한 ConfigAttribute
+    private final Map<String, Collection<ConfigAttribute>> attributesByAccess = new HashMap<>();
+
+    public RouteAuthorizationMetadataSource(RouteAuthorizationTable table) {
+        this.table = table;
+
+        DefaultWebSecurityExpressionHandler expressionHandler = new DefaultWebSecurityExpressionHandler();
+        for (RouteAuthorizationTable.Rule rule : table.getRules()) {
+            attributesByAccess.computeIfAbsent(rule.getAccess(), access -> {
+                LinkedHashMap<RequestMatcher, Collection<ConfigAttribute>> requestMap = new LinkedHashMap<>();
+                requestMap.put(AnyRequestMatcher.INSTANCE, SecurityConfig.createList(access));
+                return new ExpressionBasedFilterInvocationSecurityMetadataSource(requestMap, expressionHandler).getAllConfigAttributes();
+            });
+        }
+    }
+
+    /**
+     * 일치하는 규칙이 없다면 null 을 반환한다. (antMatchers 와 동일하게 권한 검사 없이 통과)
+     */
+    @Override
+    public Collection<ConfigAttribute> getAttributes(Object object) {
+
+        HttpServletRequest request = ((FilterInvocation) object).getRequest();
+
+        RouteAuthorizationTable.Rule rule = table.match(request.getMethod(), getRequestPath(request));
+        return rule == null ? null : attributesByAccess.get(rule.getAccess());
+    }
+
+    @Override
+    public Collection<ConfigAttribute> getAllConfigAttributes() {
+        Set<ConfigAttribute> all = new HashSet<>();
+        attributesByAccess.values().forEach(all::addAll);
+        return all;
+    }
+
+    @Override
+    public boolean supports(Class<?> clazz) {
+        return FilterInvocation.class.isAssignableFrom(clazz);
+    }
+
+    // AntPathRequestMatcher 와 동일하게 servletPath + pathInfo 로 비교한다.
+    private String getRequestPath(HttpServletRequest request) {
+        String url = request.getServletPath();
+        String pathInfo = request.getPathInfo();
+        if (pathInfo != null) {
+            url = (url == null || url.isEmpty()) ? pathInfo : url + pathInfo;
+        }
+        return url;
+    }
+}
@@ -0,0 +1,229 @@
+package com.project.myacademy.global.configuration.security;
+
+import lombok.Getter;
+import org.springframework.http.HttpMethod;
+import org.springframework.util.StringUtils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * URL 권한 규칙을 애플리케이션 시작 시 HTTP 메서드별 경로 트라이로 컴파일한 테이블
+ * 기존 antMatchers 처럼 규칙을 등록 순서대로 하나씩 비교하지 않고, 트라이를 한 번 탐색해 가장 먼저 등록된 규칙을 찾는다.
+ *
+ * 판정은 antMatchers(AntPathRequestMatcher) 와 동일하다.
+ * - 경로는 "/" 로 나눈 세그먼트 단위로 대소문자를 구분해 비교한다.
+ * - "**" 는 0개 이상의 세그먼트와 일치한다.
+ * - "**" 가 없는 패턴은 끝의 "/" 여부까지 같아야 일치한다.
+ * - 메서드를 지정하지 않은 규칙은 모든 메서드에 적용되고, 요청 메서드가 비어있으면 모든 규칙이 적용된다.
+ * 단, "*", "?", "{변수}" 패턴은 지원하지 않는다. (현재 규칙에서 사용하지 않음)
+ * "//" 가 포함된 요청은 StrictHttpFirewall 이 먼저 거부하므로 고려하지 않는다.
+ */
+public class RouteAuthorizationTable {
+
+    private static final String DOUBLE_WILDCARD = "**";
+    private static final int NO_MATCH = Integer.MAX_VALUE;
+    private static final HttpMethod[] METHODS = HttpMethod.values();
+
+    @Getter
+    private final List<Rule> rules;
+    private final Node root = new Node();
+
+    private RouteAuthorizationTable(List<Rule> rules) {
+        this.rules = Collections.unmodifiableList(rules);
+        for (int i = 0; i < rules.size(); i++) {
+            compile(rules.get(i), i);
+        }
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * 요청에 적용되는 (가장 먼저 등록된) 규칙을 찾는다.
+     *
+     * @param method 요청 HTTP 메서드
+     * @param path   서블릿 경로 (servletPath + pathInfo)
+     * @return 일치하는 규칙, 없다면 null
+     */
+    public Rule match(String method, String path) {
+
+        if (path == null || !path.startsWith("/")) {
+            return null;
+        }
+
+        String[] tokens = tokenize(path);
+        boolean trailingSlash = path.endsWith("/");
+        int slot = slotOf(method);
+
+        int found = search(root, tokens, 0, trailingSlash, slot, NO_MATCH);
+        return found == NO_MATCH ? null : rules.get(found);
+    }
+
+    // 현재까지 찾은 규칙(best)보다 앞선 규칙만 찾는다.
+    private int search(Node node, String[] tokens, int index, boolean trailingSlash, int slot, int best) {
+
+        if (node.doubleWildcard != null) {
+            Node wildcard = node.doubleWildcard;
+            // "**" 로 끝나는 규칙은 남은 세그먼트와 상관없이 일치
+            best = Math.min(best, wildcard.terminal.get(slot, true));
+            // "**" 가 0개 이상의 세그먼트를 건너뛴 뒤 나머지 패턴을 이어서 비교
+            if (wildcard.minRule < best) {
+                for (int skip = index; skip <= tokens.length; skip++) {
+                    best = search(wildcard, tokens, skip, trailingSlash, slot, best);
+                }
+            }
+        }
+
+        if (index == tokens.length) {
+            return Math.min(best, node.terminal.get(slot, trailingSlash));
+        }
+
+        Node child = node.children.get(tokens[index]);
+        if (child != null && child.minRule < best) {
+            best = search(child, tokens, index + 1, trailingSlash, slot, best);
+        }
+        return best;
+    }
+
+    private void compile(Rule rule, int ruleIndex) {
+
+        String[] tokens = tokenize(rule.getPattern());
+        boolean hasDoubleWildcard = Arrays.asList(tokens).contains(DOUBLE_WILDCARD);
+
+        Node node = root;
+        node.minRule = Math.min(node.minRule, ruleIndex);
+        for (String token : tokens) {
+            if (DOUBLE_WILDCARD.equals(token)) {
+                // 연속된 "**" 는 하나와 같다.
+                if (node.isDoubleWildcard) {
+                    continue;
+                }
+                if (node.doubleWildcard == null) {
+                    node.doubleWildcard = new Node();
+                    node.doubleWildcard.isDoubleWildcard = true;
+                }
+                node = node.doubleWildcard;
+            } else {
+                node = node.children.computeIfAbsent(token, key -> new Node());
+            }
+            node.minRule = Math.min(node.minRule, ruleIndex);
+        }
+
+        // "**" 가 없는 패턴은 끝의 "/" 여부까지 같아야 일치한다.
+        Boolean trailingSlash = hasDoubleWildcard ? null : rule.getPattern().endsWith("/");
+        node.terminal.add(rule.getMethod(), trailingSlash, ruleIndex);
+    }
+
+    // AntPathMatcher 와 동일하게 "/" 로 나누고 빈 세그먼트는 무시한다.
+    private static String[] tokenize(String path) {
+        return StringUtils.tokenizeToStringArray(path, "/", false, true);
+    }
+
+    // 메서드별 슬롯 : 0 ~ n-1 은 HttpMethod, n 은 알 수 없는 메서드, n+1 은 메서드 없음
+    private static int slotOf(String method) {
+        if (!StringUtils.hasText(method)) {
+            return METHODS.length + 1;
+        }
+        HttpMethod httpMethod = HttpMethod.resolve(method);
+        return httpMethod == null ? METHODS.length : httpMethod.ordinal();
+    }
+
+    private static class Node {
+
+        private final Map<String, Node> children = new HashMap<>();
+        private Node doubleWildcard;
+        private boolean isDoubleWildcard;
+        // 이 노드 아래에서 끝나는 규칙 중 가장 앞선 규칙 (탐색 가지치기용)
+        private int minRule = NO_MATCH;
+        private final Terminal terminal = new Terminal();
+    }
+
+    /**
+     * 한 노드에서 끝나는 규칙들을 메서드 슬롯, 끝 "/" 여부별로 가장 앞선 규칙 번호만 저장한다.
+     */
+    private static class Terminal {
+
+        // [슬롯][끝 "/" 없음, 끝 "/" 있음]
+        private final int[][] minRule = new int[METHODS.length + 2][2];
+
+        private Terminal() {
+            for (int[] row : minRule) {
+                Arrays.fill(row, NO_MATCH);
+            }
+        }
+
+        private void add(HttpMethod method, Boolean trailingSlash, int ruleIndex) {
+            for (int slot = 0; slot < minRule.length; slot++) {
+                // 메서드가 지정된 규칙은 해당 메서드와, 메서드가 비어있는 요청에만 적용
+                boolean applies = method == null || slot == method.ordinal() || slot == METHODS.length + 1;
+                if (!applies) {
+                    continue;
+                }
+                for (int slash = 0; slash < 2; slash++) {
+                    if (trailingSlash == null || trailingSlash == (slash == 1)) {
+                        minRule[slot][slash] = Math.min(minRule[slot][slash], ruleIndex);
+                    }
+                }
+            }
+        }
+
+        private int get(int slot, boolean trailingSlash) {
+            return minRule[slot][trailingSlash ? 1 : 0];
+        }
+    }
+
+    /**
+     * 하나의 URL 권한 규칙 (method 가 null 이면 모든 메서드에 적용)
+     */
+    @Getter
+    public static class Rule {
+
+        private final HttpMethod method;
+        private final String pattern;
+        private final String access;
+
+        private Rule(HttpMethod method, String pattern, String access) {
+            this.method = method;
+            this.pattern = pattern;
+            this.access = access;
+        }
+
+        @Override
+        public String toString() {
+            return (method == null ? "ANY" : method.name()) + " " + pattern + " -> " + access;
+        }
+    }
+
+    public static class Builder {
+
+        private final List<Rule> rules = new ArrayList<>();
+
+        /**
+         * 규칙은 antMatchers 와 마찬가지로 먼저 등록한 규칙이 우선한다.
+         *
+         * @param method   HTTP 메서드 (null 이면 모든 메서드)
+         * @param access   권한 표현식 (ex. "permitAll", "hasRole('ROLE_ADMIN')")
+         * @param patterns Ant 경로 패턴
+         */
+        public Builder add(HttpMethod method, String access, String... patterns) {
+            for (String pattern : patterns) {
+                if (!pattern.startsWith("/") || pattern.contains("?") || pattern.contains("{")
+                        || pattern.replace(DOUBLE_WILDCARD, "").contains("*")) {
+                    throw new IllegalArgumentException("지원하지 않는 URL 패턴입니다. " + pattern);
+                }
+                rules.add(new Rule(method, pattern, access));
+            }
+            return this;
+        }
+
+        public RouteAuthorizationTable build() {
+            return new RouteAuthorizationTable(new ArrayList<>(rules));
+        }
+    }
+}
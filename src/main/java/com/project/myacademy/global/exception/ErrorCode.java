@@ -41,6 +41,7 @@ public enum ErrorCode {
     ANNOUNCEMENT_FILE_NOT_FOUND(HttpStatus.NOT_FOUND, "해당 공지사항 파일을 찾을 수 없습니다."),
     DISCOUNT_NOT_FOUND(HttpStatus.NOT_FOUND, "해당 할인정책을 찾을 수 없습니다."),
     CANCLE_PAYMENT_NOT_FOUND(HttpStatus.NOT_FOUND, "해당 결제 취소 내역을 찾을 수 없습니다."),
+    REGISTRATION_NOT_FOUND(HttpStatus.NOT_FOUND, "해당 등록 요청을 찾을 수 없습니다."),
 
     INVALID_PASSWORD(HttpStatus.UNAUTHORIZED, "패스워드가 일치하지 않습니다."),
     TOKEN_NOT_FOUND(HttpStatus.UNAUTHORIZED, "토큰이 존재하지 않습니다."),
@@ -48,12 +49,16 @@ public enum ErrorCode {
     NOT_ALLOWED_CHANGE(HttpStatus.UNAUTHORIZED, "ADMIN 계정을 변경하거나 삭제할 수 없습니다."),
 
     FILE_UPLOAD_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "파일 업로드에 실패했습니다."),
+    REGISTRATION_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "등록 처리 중 오류가 발생했습니다. 다시 시도해주세요."),
+    DASHBOARD_TIMEOUT(HttpStatus.SERVICE_UNAVAILABLE, "메인 화면 정보를 불러오는 시간이 초과되었습니다. 잠시 후 다시 시도해주세요."),
+    REGISTRATION_QUEUE_FULL(HttpStatus.SERVICE_UNAVAILABLE, "등록 요청이 많아 접수할 수 없습니다. 잠시 후 다시 시도해주세요."),
 
     NOT_MATCH_OWNER(HttpStatus.BAD_REQUEST, "admin 계정 생성 시, 사용자의 실명과 학원 대표자 명이 일치해야 합니다."),
     BAD_DELETE_REQUEST(HttpStatus.BAD_REQUEST, "자신의 계정을 삭제할 수 없습니다."),
     BAD_CHANGE_REQUEST(HttpStatus.BAD_REQUEST, "자신의 계정 등급을 변경할 수 없습니다."),
     FILE_NOT_EXISTS(HttpStatus.BAD_REQUEST, "첨부된 파일이 존재하지 않습니다."),
     FILE_SIZE_EXCEED(HttpStatus.BAD_REQUEST, "파일 업로드 용량을 초과했습니다."),
+    INVALID_CURSOR(HttpStatus.BAD_REQUEST, "잘못된 페이지 커서입니다."),
     WRONG_FILE_FORMAT(HttpStatus.BAD_REQUEST, "잘못된 형식의 파일입니다"),
     SAME_PASSWORD(HttpStatus.BAD_REQUEST, "기존 비밀번호와 동일한 비밀번호로는 변경 할 수 없습니다."),
     CANNOT_REGISTER_WAITINGLIST(HttpStatus.BAD_REQUEST, "아직 수강 정원이 다 차지 않아 수강 등록으로 진행해야 합니다."),
@@ -0,0 +1,30 @@
+package com.project.myacademy.global.util;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * IN 절 조회 · 수정용 id 나누기
+ * id 가 많으면 IN 절이 길어져 쿼리 파싱 · 실행 계획 비용이 커지므로, CHUNK_SIZE 개씩 나누어 여러 번 보낸다.
+ */
+public class InClauseUtil {
+
+    // IN 절에 넣을 id 최대 개수
+    public static final int CHUNK_SIZE = 500;
+
+    /**
+     * id 를 순서대로 CHUNK_SIZE 개씩 나눈다. (중복 제거는 호출하는 쪽에서)
+     *
+     * @param ids 나눌 id 목록
+     * @return 나눈 id 목록 (ids 가 비어있으면 빈 목록)
+     */
+    public static <T> List<List<T>> chunks(Collection<T> ids) {
+        List<T> list = new ArrayList<>(ids);
+        List<List<T>> chunks = new ArrayList<>();
+        for (int from = 0; from < list.size(); from += CHUNK_SIZE) {
+            chunks.add(list.subList(from, Math.min(from + CHUNK_SIZE, list.size())));
+        }
+        return chunks;
+    }
+}
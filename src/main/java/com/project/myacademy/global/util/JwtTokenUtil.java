@@ -1,10 +1,15 @@
 package com.project.myacademy.global.util;
 
+import com.project.myacademy.domain.employee.Employee;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import lombok.extern.slf4j.Slf4j;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
 import java.util.Date;
 
 @Slf4j
@@ -43,14 +48,22 @@ public class JwtTokenUtil {
                 .get("email", String.class);
     }
 
-    public static String createToken(String account, String email, String key) {
+    public static String createToken(Employee employee, String key) {
         Claims claims = Jwts
                 .claims(); //key-value형태
 
         claims
-                .put("account", account); //claims에 담을 정보를 여기에서 추가해주면 된다.
+                .put("account", employee.getAccount()); //claims에 담을 정보를 여기에서 추가해주면 된다.
         claims
-                .put("email", email); //claims에 담을 정보를 여기에서 추가해주면 된다.
+                .put("email", employee.getEmail()); //claims에 담을 정보를 여기에서 추가해주면 된다.
+
+        // JwtTokenFilter 가 DB 조회 없이 인증 정보를 만들 수 있도록 직원 id, 학원 id, 권한을 함께 담는다.
+        claims
+                .put("employeeId", employee.getId());
+        claims
+                .put("academyId", employee.getAcademy().getId());
+        claims
+                .put("role", employee.getEmployeeRole().name());
 
 
         return Jwts
@@ -74,4 +87,15 @@ public class JwtTokenUtil {
                 .signWith(SignatureAlgorithm.HS256, key) //HS256알고리즘으로 key를 암호화 해줄것이다.
                 .compact(); //토큰에 필요한 모든 정보
     }
+
+    // 토큰 원문 대신 캐시 · 저장소 키로 사용할 SHA-256 digest
+    public static String digest(String token) {
+        try {
+            MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+            byte[] hashed = messageDigest.digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(hashed);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
 }
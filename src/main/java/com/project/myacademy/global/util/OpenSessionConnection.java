@@ -0,0 +1,39 @@
+package com.project.myacademy.global.util;
+
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Session;
+import org.springframework.orm.jpa.EntityManagerHolder;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.persistence.EntityManager;
+
+/**
+ * 요청 스레드에 바인딩된 영속성 컨텍스트(OSIV)의 DB 커넥션 반납
+ *
+ * OSIV 가 켜져 있으면 트랜잭션이 끝나도 요청이 끝날 때까지 영속성 컨텍스트가 커넥션을 잡고 있다. (Hibernate 커넥션 해제 모드 : 요청 종료 시)
+ * 외부 API 응답을 기다리기 전에 호출하면 그동안 커넥션을 풀에 돌려준다.
+ * 영속성 컨텍스트는 그대로 유지되고, 다음 조회 · 트랜잭션에서 커넥션을 다시 가져온다.
+ *
+ * - 트랜잭션 안에서 호출되면 반납하지 않는다.
+ * - OSIV 가 아닌 경우(스케줄러, 비동기, 단위 테스트)에는 반납할 커넥션이 없으므로 아무것도 하지 않는다.
+ */
+@Slf4j
+public class OpenSessionConnection {
+
+    public static void release() {
+
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return;
+        }
+
+        for (Object resource : TransactionSynchronizationManager.getResourceMap().values()) {
+            if (resource instanceof EntityManagerHolder) {
+                EntityManager entityManager = ((EntityManagerHolder) resource).getEntityManager();
+                if (entityManager.isOpen()) {
+                    entityManager.unwrap(Session.class).disconnect();
+                    log.debug("OSIV 영속성 컨텍스트의 DB 커넥션 반납");
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.project.myacademy.global.util;
+
+import com.project.myacademy.domain.academy.Academy;
+import com.project.myacademy.domain.employee.Employee;
+import org.springframework.orm.jpa.EntityManagerHolder;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.util.function.Supplier;
+
+/**
+ * 요청 단위로 학원, 요청 직원 조회 결과를 공유하는 컨텍스트
+ * 한 페이지를 그리면서 여러 서비스가 같은 학원 · 직원을 검증할 때, 첫 조회 결과를 요청이 끝날 때까지 재사용한다.
+ *
+ * - 요청 스레드가 아닌 경우(스케줄러, 비동기, 단위 테스트)에는 매번 조회한다.
+ * - 현재 영속성 컨텍스트가 관리 중인 엔티티만 재사용하므로, 변경 감지(dirty checking)는 기존과 동일하게 동작한다.
+ * - 조회에 실패한 경우(예외)는 저장하지 않는다.
+ */
+public class TenantContext {
+
+    private static final String ACADEMY_KEY = TenantContext.class.getName() + ".academy.";
+    private static final String EMPLOYEE_KEY = TenantContext.class.getName() + ".employee.";
+
+    /**
+     * 학원 Id 로 학원 조회
+     *
+     * @param loader 요청 내 첫 조회 시 사용할 조회 로직 (ex. academyRepository.findById)
+     */
+    public static Academy academy(Long academyId, Supplier<Academy> loader) {
+        return memoize(ACADEMY_KEY + academyId, loader);
+    }
+
+    /**
+     * 요청하는 계정과 학원으로 직원 조회
+     *
+     * @param loader 요청 내 첫 조회 시 사용할 조회 로직 (ex. employeeRepository.findByAccountAndAcademy)
+     */
+    public static Employee requestEmployee(String account, Academy academy, Supplier<Employee> loader) {
+        return memoize(EMPLOYEE_KEY + academy.getId() + "@" + account, loader);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T memoize(String key, Supplier<T> loader) {
+
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return loader.get();
+        }
+
+        Object cached = attributes.getAttribute(key, RequestAttributes.SCOPE_REQUEST);
+        if (cached != null && isManaged(cached)) {
+            return (T) cached;
+        }
+
+        T loaded = loader.get();
+        attributes.setAttribute(key, loaded, RequestAttributes.SCOPE_REQUEST);
+        return loaded;
+    }
+
+    // 현재 스레드에 바인딩된 영속성 컨텍스트(OSIV 혹은 트랜잭션)가 관리 중인 엔티티인지 확인
+    // 이전 트랜잭션에서 조회해 준영속 상태가 된 엔티티는 다시 조회한다.
+    private static boolean isManaged(Object entity) {
+        for (Object resource : TransactionSynchronizationManager.getResourceMap().values()) {
+            if (resource instanceof EntityManagerHolder) {
+                return ((EntityManagerHolder) resource).getEntityManager().contains(entity);
+            }
+        }
+        return false;
+    }
+}
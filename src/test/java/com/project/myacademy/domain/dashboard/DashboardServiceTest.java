@@ -0,0 +1,302 @@
+package com.project.myacademy.domain.dashboard;
+
+import com.project.myacademy.domain.academy.Academy;
+import com.project.myacademy.domain.academy.AcademyRepository;
+import com.project.myacademy.domain.announcement.AnnouncementService;
+import com.project.myacademy.domain.announcement.dto.ReadAnnouncementResponse;
+import com.project.myacademy.domain.dashboard.dto.ReadDashboardResponse;
+import com.project.myacademy.domain.employee.Employee;
+import com.project.myacademy.domain.employee.EmployeeRepository;
+import com.project.myacademy.domain.employee.EmployeeService;
+import com.project.myacademy.domain.enrollment.EnrollmentService;
+import com.project.myacademy.domain.enrollment.dto.FindStudentInfoFromEnrollmentByLectureResponse;
+import com.project.myacademy.domain.file.academyprofile.AcademyProfileS3UploadService;
+import com.project.myacademy.domain.lecture.LectureService;
+import com.project.myacademy.domain.lecture.dto.ReadAllLectureResponse;
+import com.project.myacademy.domain.student.StudentService;
+import com.project.myacademy.global.exception.AppException;
+import com.project.myacademy.global.exception.ErrorCode;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class DashboardServiceTest {
+
+    @Mock
+    private AcademyRepository academyRepository;
+    @Mock
+    private EmployeeRepository employeeRepository;
+    @Mock
+    private AnnouncementService announcementService;
+    @Mock
+    private EmployeeService employeeService;
+    @Mock
+    private StudentService studentService;
+    @Mock
+    private LectureService lectureService;
+    @Mock
+    private EnrollmentService enrollmentService;
+    @Mock
+    private AcademyProfileS3UploadService academyProfileS3UploadService;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private ExecutorService executor;
+    private DashboardService dashboardService;
+
+    private final PageRequest pageable = PageRequest.of(0, 10);
+    private final ReadAnnouncementResponse announcement = ReadAnnouncementResponse.builder().id(1L).title("공지사항").build();
+    private final Academy academy = Academy.builder().id(1L).name("academy").build();
+    private final Employee employee = Employee.builder().id(1L).account("admin").academy(academy).build();
+    private ReadAllLectureResponse lecture;
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newFixedThreadPool(6);
+        dashboardService = dashboardService(2);
+
+        lecture = ReadAllLectureResponse.builder().lectureId(1L).lectureName("lecture").build();
+
+        given(academyRepository.findById(1L)).willReturn(Optional.of(academy));
+        given(employeeRepository.findByAccountAndAcademy("admin", academy)).willReturn(Optional.of(employee));
+
+        given(announcementService.readAnnouncementForMain(academy)).willReturn(List.of(announcement));
+        given(announcementService.readAdmissionForMain(academy)).willReturn(List.of());
+        given(employeeService.countEmployeesByAcademy(academy)).willReturn(3L);
+        given(studentService.countStudentByAcademy(academy)).willReturn(10L);
+        given(lectureService.readAllTodayLectures(academy, pageable)).willReturn(List.of(lecture));
+        given(enrollmentService.findAllStudentInfoFromEnrollmentByLectures(List.of(1L))).willReturn(Map.of(1L, List.of(new FindStudentInfoFromEnrollmentByLectureResponse())));
+        given(academyProfileS3UploadService.getStoredUrl(1L)).willReturn("https://image.url");
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("메인 화면 정보 조회 성공")
+    void readDashboard_success() {
+
+        ReadDashboardResponse response = dashboardService.readDashboard(1L, "admin", pageable);
+
+        assertThat(response.getAnnouncements()).containsExactly(announcement);
+        assertThat(response.getAdmissions()).isEmpty();
+        assertThat(response.getNumberOfEmployees()).isEqualTo(3L);
+        assertThat(response.getNumberOfStudents()).isEqualTo(10L);
+        assertThat(response.getLectures()).containsExactly(lecture);
+        assertThat(response.getLectures().get(0).getRegisteredStudent()).hasSize(1);
+        assertThat(response.getImageUrl()).isEqualTo("https://image.url");
+        then(enrollmentService).should(times(1)).findAllStudentInfoFromEnrollmentByLectures(List.of(1L));
+    }
+
+    @Test
+    @DisplayName("구성 요소를 동시에 조회 - 직원 수, 학생 수 조회가 서로를 기다려도 완료")
+    void readDashboard_concurrently() {
+
+        // 순차 조회라면 먼저 실행된 쪽이 상대를 기다리다 실패한다.
+        CountDownLatch bothStarted = new CountDownLatch(2);
+        given(employeeService.countEmployeesByAcademy(academy)).willAnswer(invocation -> awaitOther(bothStarted, 3L));
+        given(studentService.countStudentByAcademy(academy)).willAnswer(invocation -> awaitOther(bothStarted, 10L));
+
+        ReadDashboardResponse response = dashboardService.readDashboard(1L, "admin", pageable);
+
+        assertThat(response.getNumberOfEmployees()).isEqualTo(3L);
+        assertThat(response.getNumberOfStudents()).isEqualTo(10L);
+    }
+
+    @Test
+    @DisplayName("학원 프로필 조회가 느리면 기본 이미지로 대신하고 기다리지 않음")
+    void readDashboard_slow_optional_part() {
+
+        given(academyProfileS3UploadService.getStoredUrl(1L)).willAnswer(invocation -> {
+            Thread.sleep(3000);
+            return "https://image.url";
+        });
+
+        long startedAt = System.currentTimeMillis();
+        ReadDashboardResponse response = dashboardService.readDashboard(1L, "admin", pageable);
+
+        assertThat(System.currentTimeMillis() - startedAt).isLessThan(1000);
+        assertThat(response.getImageUrl()).isEqualTo("null");
+        assertThat(response.getNumberOfStudents()).isEqualTo(10L);
+    }
+
+    @Test
+    @DisplayName("학원 프로필 조회에 실패하면 기본 이미지로 대신")
+    void readDashboard_failed_optional_part() {
+
+        given(academyProfileS3UploadService.getStoredUrl(1L)).willThrow(new AppException(ErrorCode.ACADEMY_PROFILE_NOT_FOUND));
+
+        ReadDashboardResponse response = dashboardService.readDashboard(1L, "admin", pageable);
+
+        assertThat(response.getImageUrl()).isEqualTo("null");
+        assertThat(response.getLectures()).containsExactly(lecture);
+    }
+
+    @Test
+    @DisplayName("필수 요소 조회가 부가 요소 시간(200ms)보다 오래 걸려도 공지사항 · 입시정보는 그대로 보여줌")
+    void readDashboard_slow_essential_parts() {
+
+        ReadAnnouncementResponse admission = ReadAnnouncementResponse.builder().id(2L).title("입시정보").build();
+        given(announcementService.readAdmissionForMain(academy)).willReturn(List.of(admission));
+        given(employeeService.countEmployeesByAcademy(academy)).willAnswer(invocation -> {
+            Thread.sleep(300);
+            return 3L;
+        });
+        given(studentService.countStudentByAcademy(academy)).willAnswer(invocation -> {
+            Thread.sleep(300);
+            return 10L;
+        });
+
+        ReadDashboardResponse response = dashboardService.readDashboard(1L, "admin", pageable);
+
+        assertThat(response.getAnnouncements()).containsExactly(announcement);
+        assertThat(response.getAdmissions()).containsExactly(admission);
+        assertThat(response.getNumberOfEmployees()).isEqualTo(3L);
+    }
+
+    @Test
+    @DisplayName("학원 · 요청 직원 확인은 요청 스레드에서 한 번만 하고, 각 요소는 확인한 학원으로 조회")
+    void readDashboard_validates_once() {
+
+        dashboardService.readDashboard(1L, "admin", pageable);
+
+        then(academyRepository).should(times(1)).findById(1L);
+        then(employeeRepository).should(times(1)).findByAccountAndAcademy("admin", academy);
+        then(announcementService).should(never()).readAnnouncementForMain(any(), any());
+        then(lectureService).should(never()).readAllTodayLectures(any(), any(), any());
+        then(employeeService).should(never()).countEmployeesByAcademy(any(Long.class));
+    }
+
+    @Test
+    @DisplayName("요청 직원이 학원 소속이 아니면 구성 요소를 조회하지 않고 REQUEST_EMPLOYEE_NOT_FOUND")
+    void readDashboard_employee_not_found() {
+
+        given(employeeRepository.findByAccountAndAcademy("admin", academy)).willReturn(Optional.empty());
+
+        AppException appException = assertThrows(AppException.class, () -> dashboardService.readDashboard(1L, "admin", pageable));
+
+        assertThat(appException.getErrorCode()).isEqualTo(ErrorCode.REQUEST_EMPLOYEE_NOT_FOUND);
+        then(employeeService).shouldHaveNoInteractions();
+        then(lectureService).shouldHaveNoInteractions();
+    }
+
+    @Test
+    @DisplayName("필수 요소 조회 실패 시 예외를 그대로 던짐")
+    void readDashboard_fail_essential_part() {
+
+        given(announcementService.readAdmissionForMain(academy)).willThrow(new AppException(ErrorCode.ANNOUNCEMENT_NOT_FOUND));
+
+        AppException appException = assertThrows(AppException.class, () -> dashboardService.readDashboard(1L, "admin", pageable));
+
+        assertThat(appException.getErrorCode()).isEqualTo(ErrorCode.ANNOUNCEMENT_NOT_FOUND);
+    }
+
+    @Test
+    @DisplayName("필수 요소 조회 시간 초과 시 DASHBOARD_TIMEOUT")
+    void readDashboard_timeout_essential_part() {
+
+        given(studentService.countStudentByAcademy(any(Academy.class))).willAnswer(invocation -> {
+            Thread.sleep(3000);
+            return 10L;
+        });
+
+        AppException appException = assertThrows(AppException.class, () -> dashboardService.readDashboard(1L, "admin", pageable));
+
+        assertThat(appException.getErrorCode()).isEqualTo(ErrorCode.DASHBOARD_TIMEOUT);
+    }
+
+    @Test
+    @DisplayName("요청 하나가 동시에 조회하는 요소 수는 max-concurrency 이하")
+    void readDashboard_max_concurrency() {
+
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        given(employeeService.countEmployeesByAcademy(academy)).willAnswer(invocation -> track(running, maxRunning, 3L));
+        given(studentService.countStudentByAcademy(academy)).willAnswer(invocation -> track(running, maxRunning, 10L));
+        given(academyProfileS3UploadService.getStoredUrl(1L)).willAnswer(invocation -> track(running, maxRunning, "https://image.url"));
+        given(announcementService.readAnnouncementForMain(academy)).willAnswer(invocation -> track(running, maxRunning, List.of(announcement)));
+
+        ReadDashboardResponse response = dashboardService.readDashboard(1L, "admin", pageable);
+
+        assertThat(maxRunning.get()).isLessThanOrEqualTo(2);
+        assertThat(response.getNumberOfStudents()).isEqualTo(10L);
+        assertThat(response.getAnnouncements()).containsExactly(announcement);
+    }
+
+    @Test
+    @DisplayName("필수 요소 시간 초과 시 아직 시작하지 않은 요소는 조회하지 않고, 각 요소는 남은 시간을 트랜잭션 timeout 으로 실행")
+    void readDashboard_timeout_skip_pending_parts() throws InterruptedException {
+
+        CountDownLatch release = new CountDownLatch(1);
+        given(employeeService.countEmployeesByAcademy(academy)).willAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return 3L;
+        });
+        DashboardService oneAtATime = dashboardService(1);
+
+        AppException appException = assertThrows(AppException.class, () -> oneAtATime.readDashboard(1L, "admin", pageable));
+        release.countDown();
+        executor.shutdown();
+        executor.awaitTermination(1, TimeUnit.SECONDS);
+
+        ArgumentCaptor<TransactionDefinition> definition = ArgumentCaptor.forClass(TransactionDefinition.class);
+        assertThat(appException.getErrorCode()).isEqualTo(ErrorCode.DASHBOARD_TIMEOUT);
+        then(studentService).should(never()).countStudentByAcademy(any(Academy.class));
+        then(announcementService).should(never()).readAnnouncementForMain(any(Academy.class));
+        then(transactionManager).should(atLeastOnce()).getTransaction(definition.capture());
+        assertThat(definition.getValue().getTimeout()).isEqualTo(1);
+        assertThat(definition.getValue().isReadOnly()).isTrue();
+    }
+
+    private DashboardService dashboardService(int maxConcurrency) {
+        return new DashboardService(academyRepository, employeeRepository, announcementService, employeeService, studentService, lectureService, enrollmentService,
+                academyProfileS3UploadService, executor, transactionManager, 1000, 200, maxConcurrency);
+    }
+
+    private <T> T track(AtomicInteger running, AtomicInteger maxRunning, T result) throws InterruptedException {
+        maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+        Thread.sleep(30);
+        running.decrementAndGet();
+        return result;
+    }
+
+    private Long awaitOther(CountDownLatch bothStarted, Long result) throws InterruptedException {
+        bothStarted.countDown();
+        if (!bothStarted.await(500, TimeUnit.MILLISECONDS)) {
+            throw new IllegalStateException("다른 조회가 동시에 실행되지 않음");
+        }
+        return result;
+    }
+}
@@ -3,7 +3,8 @@ package com.project.myacademy.domain.employee;
 import com.project.myacademy.domain.academy.Academy;
 import com.project.myacademy.domain.academy.AcademyRepository;
 import com.project.myacademy.domain.employee.dto.*;
-import com.project.myacademy.global.configuration.refreshToken.RefreshTokenRepository;
+import com.project.myacademy.global.configuration.jwt.EmployeePrincipalCache;
+import com.project.myacademy.global.configuration.refreshToken.RefreshTokenStore;
 import com.project.myacademy.global.exception.AppException;
 import com.project.myacademy.global.exception.ErrorCode;
 import com.project.myacademy.domain.email.EmailService;
@@ -44,9 +45,11 @@ class EmployeeServiceTest {
     @Mock
     private BCryptPasswordEncoder bCryptPasswordEncoder;
     @Mock
-    private RefreshTokenRepository refreshTokenRepository;
+    private RefreshTokenStore refreshTokenStore;
     @Mock
     private EmailService emailService;
+    @Mock
+    private EmployeePrincipalCache employeePrincipalCache;
     @InjectMocks
     private EmployeeService employeeService;
     private Academy academy;
@@ -242,7 +245,7 @@ class EmployeeServiceTest {
             given(academyRepository.findById(any())).willReturn(Optional.of(academy));
             given(employeeRepository.findByAccountAndAcademy(any(), any())).willReturn(Optional.of(employeeADMIN));
             given(bCryptPasswordEncoder.matches(any(), any())).willReturn(true);
-            given(JwtTokenUtil.createToken(employeeADMIN.getAccount(), employeeADMIN.getEmail(), secretKey)).willReturn("AccessToken");
+            given(JwtTokenUtil.createToken(employeeADMIN, secretKey)).willReturn("AccessToken");
             given(JwtTokenUtil.createRefreshToken(secretKey)).willReturn("refreshToken");
 
             LoginEmployeeResponse response = employeeService.loginEmployee(request, academy.getId());
@@ -424,6 +427,7 @@ class EmployeeServiceTest {
             DeleteEmployeeResponse response = employeeService.deleteEmployee(employeeADMIN.getAccount(), academy.getId(), employeeSTAFF.getId());
 
             assertThat(response.getEmployeeId()).isEqualTo(employeeSTAFF.getId());
+            then(employeePrincipalCache).should(times(1)).invalidate(employeeSTAFF.getId());
         }
 
         @Test
@@ -517,6 +521,7 @@ class EmployeeServiceTest {
             DeleteEmployeeResponse response = employeeService.selfDeleteEmployee(employeeSTAFF.getAccount(), academy.getId());
 
             assertThat(response.getEmployeeId()).isEqualTo(2L);
+            then(employeePrincipalCache).should(times(1)).invalidate(employeeSTAFF.getId());
         }
 
         @Test
@@ -719,6 +724,7 @@ class EmployeeServiceTest {
 
             assertThat(response.getEmployeeId()).isEqualTo(employeeUSER.getId());
             assertThat(response.getMessage()).isEqualTo(employeeUSER.getAccount() + " 계정의 권한을 " + ROLE_STAFF + "로 변경했습니다");
+            then(employeePrincipalCache).should(times(1)).invalidate(employeeUSER.getId());
         }
 
         @Test
@@ -0,0 +1,214 @@
+package com.project.myacademy.domain.enrollment;
+
+import com.project.myacademy.domain.academy.Academy;
+import com.project.myacademy.domain.academy.AcademyRepository;
+import com.project.myacademy.domain.employee.Employee;
+import com.project.myacademy.domain.employee.EmployeeRepository;
+import com.project.myacademy.domain.employee.EmployeeRole;
+import com.project.myacademy.domain.lecture.Lecture;
+import com.project.myacademy.domain.lecture.LectureRepository;
+import com.project.myacademy.domain.lecture.LectureSeatRepositoryImpl;
+import com.project.myacademy.domain.notification.NotificationService;
+import com.project.myacademy.domain.student.Student;
+import com.project.myacademy.domain.student.StudentRepository;
+import com.project.myacademy.global.exception.AppException;
+import com.project.myacademy.global.exception.ErrorCode;
+import org.hibernate.boot.model.naming.CamelCaseToUnderscoresNamingStrategy;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.orm.jpa.hibernate.SpringImplicitNamingStrategy;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.jpa.repository.support.JpaRepositoryFactory;
+import org.springframework.data.repository.core.support.RepositoryComposition.RepositoryFragments;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * 수강 등록이 한꺼번에 몰릴 때 최대 수강정원을 넘지 않는지 확인 (H2 인메모리 + Hibernate)
+ * 좌석 확보(LectureRepository.reserveSeat)의 조건부 UPDATE 를 실제 DB 에서 실행하고, 요청마다 트랜잭션을 따로 연다.
+ * 중복 수강 내역을 막는 유니크 제약도 같은 DB 에서 확인한다.
+ */
+@ExtendWith(MockitoExtension.class)
+class EnrollmentSeatReservationStressTest {
+
+    private static final int CAPACITY = 30;
+    private static final int REQUESTS = 300;
+
+    @Mock
+    private WaitinglistPromotionService waitinglistPromotionService;
+    @Mock
+    private NotificationService notificationService;
+
+    private LocalContainerEntityManagerFactoryBean factoryBean;
+    private EntityManager entityManager;
+    private LectureRepository lectureRepository;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate transactionTemplate;
+    private EnrollmentService enrollmentService;
+    private ExecutorService executor;
+
+    private Long academyId;
+    private Long lectureId;
+    private final List<Long> studentIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource("jdbc:h2:mem:seat;MODE=MySQL;DB_CLOSE_DELAY=-1;LOCK_TIMEOUT=10000", "sa", "");
+
+        factoryBean = new LocalContainerEntityManagerFactoryBean();
+        factoryBean.setDataSource(dataSource);
+        factoryBean.setPackagesToScan("com.project.myacademy.domain");
+        factoryBean.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+        factoryBean.setJpaPropertyMap(Map.of(
+                "hibernate.hbm2ddl.auto", "create-drop",
+                "hibernate.physical_naming_strategy", CamelCaseToUnderscoresNamingStrategy.class.getName(),
+                "hibernate.implicit_naming_strategy", SpringImplicitNamingStrategy.class.getName()));
+        factoryBean.afterPropertiesSet();
+
+        EntityManagerFactory entityManagerFactory = factoryBean.getObject();
+        entityManager = SharedEntityManagerCreator.createSharedEntityManager(entityManagerFactory);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+
+        JpaRepositoryFactory repositoryFactory = new JpaRepositoryFactory(entityManager);
+        lectureRepository = repositoryFactory.getRepository(LectureRepository.class,
+                RepositoryFragments.just(new LectureSeatRepositoryImpl(entityManager, jdbcTemplate)));
+        enrollmentService = new EnrollmentService(
+                repositoryFactory.getRepository(AcademyRepository.class),
+                repositoryFactory.getRepository(EnrollmentRepository.class),
+                new EnrollmentJdbcRepository(jdbcTemplate),
+                repositoryFactory.getRepository(EmployeeRepository.class),
+                repositoryFactory.getRepository(StudentRepository.class),
+                lectureRepository,
+                waitinglistPromotionService,
+                notificationService);
+
+        JpaTransactionManager transactionManager = new JpaTransactionManager(entityManagerFactory);
+        transactionManager.setDataSource(dataSource);
+        transactionTemplate = new TransactionTemplate(transactionManager);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            Academy academy = Academy.builder().name("academy").build();
+            entityManager.persist(academy);
+            Employee staff = Employee.builder().name("staff").email("staff@gmail.com").account("staff").academy(academy).employeeRole(EmployeeRole.ROLE_STAFF).build();
+            entityManager.persist(staff);
+            Lecture lecture = Lecture.builder().name("lecture").price(10000).employee(staff).academyId(academy.getId())
+                    .maximumCapacity(CAPACITY).currentEnrollmentNumber(0).build();
+            entityManager.persist(lecture);
+            for (int i = 1; i <= REQUESTS; i++) {
+                Student student = Student.builder().name("student" + i).phoneNum("010-0000-" + i).email("student" + i + "@gmail.com").academyId(academy.getId()).build();
+                entityManager.persist(student);
+                studentIds.add(student.getId());
+            }
+            academyId = academy.getId();
+            lectureId = lecture.getId();
+        });
+
+        executor = Executors.newFixedThreadPool(REQUESTS);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+        factoryBean.destroy();
+    }
+
+    @Test
+    @DisplayName("동시 요청 300건 중 최대 수강정원(30명)만큼만 등록되고 나머지는 정원 초과")
+    void createEnrollment_concurrent() throws Exception {
+
+        CountDownLatch ready = new CountDownLatch(REQUESTS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<ErrorCode>> results = new ArrayList<>();
+
+        for (Long studentId : studentIds) {
+            results.add(executor.submit(() -> {
+                ready.countDown();
+                start.await();
+                try {
+                    transactionTemplate.executeWithoutResult(status -> enrollmentService.createEnrollment(academyId, studentId, lectureId, "staff"));
+                    return null;
+                } catch (AppException e) {
+                    return e.getErrorCode();
+                }
+            }));
+        }
+
+        assertThat(ready.await(10, TimeUnit.SECONDS)).isTrue();
+        start.countDown();
+
+        int succeeded = 0;
+        int rejected = 0;
+        for (Future<ErrorCode> result : results) {
+            ErrorCode errorCode = result.get(30, TimeUnit.SECONDS);
+            if (errorCode == null) {
+                succeeded++;
+            } else {
+                assertThat(errorCode).isEqualTo(ErrorCode.OVER_REGISTRATION_NUMBER);
+                rejected++;
+            }
+        }
+
+        assertThat(succeeded).isEqualTo(CAPACITY);
+        assertThat(rejected).isEqualTo(REQUESTS - CAPACITY);
+        assertThat(jdbcTemplate.queryForObject("select current_enrollment_number from lecture_tb where lecture_id = ?", Integer.class, lectureId))
+                .isEqualTo(CAPACITY);
+        assertThat(jdbcTemplate.queryForObject("select count(*) from enrollment_tb where lecture_id = ?", Integer.class, lectureId))
+                .isEqualTo(CAPACITY);
+    }
+
+    @Test
+    @DisplayName("좌석 확보 후 같은 트랜잭션에서 다시 조회한 강좌는 변경된 등록인원을 가진다")
+    void reserveSeat_clearsPersistenceContext() {
+
+        Integer currentEnrollmentNumber = transactionTemplate.execute(status -> {
+            lectureRepository.findById(lectureId).orElseThrow();
+            lectureRepository.reserveSeat(lectureId);
+            return lectureRepository.findById(lectureId).orElseThrow().getCurrentEnrollmentNumber();
+        });
+
+        assertThat(currentEnrollmentNumber).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("삭제되지 않은 수강 내역은 학생 · 강좌마다 하나만 저장되고, 삭제한 뒤에는 다시 저장 가능")
+    void enrollment_unique_active() {
+
+        Long studentId = studentIds.get(0);
+        String insert = "insert into enrollment_tb (student_id, lecture_id, academy_id) values (?, ?, ?)";
+        jdbcTemplate.update(insert, studentId, lectureId, academyId);
+
+        assertThrows(DataIntegrityViolationException.class, () -> jdbcTemplate.update(insert, studentId, lectureId, academyId));
+
+        jdbcTemplate.update("update enrollment_tb set deleted_at = current_timestamp where student_id = ?", studentId);
+        jdbcTemplate.update(insert, studentId, lectureId, academyId);
+        jdbcTemplate.update("update enrollment_tb set deleted_at = current_timestamp where student_id = ? and deleted_at is null", studentId);
+        jdbcTemplate.update(insert, studentId, lectureId, academyId);
+
+        assertThat(jdbcTemplate.queryForObject("select count(*) from enrollment_tb where student_id = ?", Integer.class, studentId)).isEqualTo(3);
+        assertThat(jdbcTemplate.queryForObject("select count(*) from enrollment_tb where student_id = ? and active = 1", Integer.class, studentId)).isEqualTo(1);
+    }
+}
@@ -9,20 +9,18 @@ import com.project.myacademy.domain.employee.EmployeeRole;
 import com.project.myacademy.domain.enrollment.dto.*;
 import com.project.myacademy.domain.lecture.Lecture;
 import com.project.myacademy.domain.lecture.LectureRepository;
+import com.project.myacademy.domain.notification.NotificationService;
+import com.project.myacademy.domain.notification.NotificationType;
 import com.project.myacademy.domain.student.Student;
 import com.project.myacademy.domain.student.StudentRepository;
-import com.project.myacademy.domain.waitinglist.Waitinglist;
-import com.project.myacademy.domain.waitinglist.WaitinglistRepository;
 import com.project.myacademy.global.exception.AppException;
 import com.project.myacademy.global.exception.ErrorCode;
-import com.project.myacademy.domain.email.EmailService;
 import groovy.util.logging.Slf4j;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.AdditionalAnswers;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -36,6 +34,7 @@ import javax.mail.MessagingException;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -59,9 +58,11 @@ class EnrollmentServiceTest {
     @Mock
     private StudentRepository studentRepository;
     @Mock
-    private WaitinglistRepository waitinglistRepository;
+    private WaitinglistPromotionService waitinglistPromotionService;
     @Mock
-    private EmailService emailService;
+    private NotificationService notificationService;
+    @Mock
+    private EnrollmentJdbcRepository enrollmentJdbcRepository;
     @InjectMocks
     private EnrollmentService enrollmentService;
 
@@ -73,7 +74,6 @@ class EnrollmentServiceTest {
     private Student student2;
     private Enrollment enrollment;
     private Enrollment enrollment2;
-    private Waitinglist waitinglist;
     private Employee mockEmployee;
     private Lecture mockLecture;
 
@@ -87,7 +87,6 @@ class EnrollmentServiceTest {
         student2 = Student.builder().id(2L).name("student2").academyId(academy.getId()).email("email2").build();
         enrollment = Enrollment.builder().id(1L).student(student).lecture(lecture).paymentYN(true).build();
         enrollment2 = Enrollment.builder().id(2L).student(student2).lecture(lecture).paymentYN(true).build();
-        waitinglist = Waitinglist.builder().student(student2).lecture(lecture).build();
         mockEmployee = mock(Employee.class);
         mockLecture = mock(Lecture.class);
     }
@@ -102,11 +101,11 @@ class EnrollmentServiceTest {
         @DisplayName("수강 리스트 조회 성공")
         void readAllEnrollments_success() {
 
-            PageImpl<Enrollment> enrollmentList = new PageImpl<>(List.of(enrollment, enrollment2));
+            PageImpl<ReadAllEnrollmentResponse> enrollmentList = new PageImpl<>(List.of(ReadAllEnrollmentResponse.of(enrollment), ReadAllEnrollmentResponse.of(enrollment2)));
 
             given(academyRepository.findById(anyLong())).willReturn(Optional.of(academy));
             given(employeeRepository.findByAccountAndAcademy(anyString(), any(Academy.class))).willReturn(Optional.of(employee));
-            given(enrollmentRepository.findAll(pageable)).willReturn(enrollmentList);
+            given(enrollmentRepository.findReadAllByAcademyId(academy.getId(), pageable)).willReturn(enrollmentList);
 
             Page<ReadAllEnrollmentResponse> responseEnrollments = enrollmentService.readAllEnrollments(academy.getId(), employee.getAccount(), pageable);
 
@@ -115,7 +114,7 @@ class EnrollmentServiceTest {
 
             then(academyRepository).should(times(1)).findById(anyLong());
             then(employeeRepository).should(times(1)).findByAccountAndAcademy(anyString(), any(Academy.class));
-            then(enrollmentRepository).should(times(1)).findAll(pageable);
+            then(enrollmentRepository).should(times(1)).findReadAllByAcademyId(academy.getId(), pageable);
         }
 
         @Test
@@ -163,9 +162,8 @@ class EnrollmentServiceTest {
             given(lectureRepository.findById(anyLong())).willReturn(Optional.of(lecture));
             given(mockEmployee.getEmployeeRole()).willReturn(EmployeeRole.ROLE_STAFF);
             given(enrollmentRepository.findByStudentAndLecture(any(Student.class), any(Lecture.class))).willReturn(Optional.empty());
-            when(enrollmentRepository.countByLecture_Id(anyLong())).then(AdditionalAnswers.returnsFirstArg());
+            given(lectureRepository.reserveSeat(anyLong())).willReturn(1);
             given(enrollmentRepository.save(any(Enrollment.class))).willReturn(enrollment);
-//            willDoNothing().given(emailService).sendEmail(anyString(), anyString(), anyString());
 
             CreateEnrollmentResponse savedEnrollment = enrollmentService.createEnrollment(academy.getId(), student.getId(), lecture.getId(), employee.getAccount());
             assertThat(savedEnrollment.getEnrollmentId()).isEqualTo(1L);
@@ -177,9 +175,9 @@ class EnrollmentServiceTest {
             then(lectureRepository).should(times(1)).findById(anyLong());
             then(mockEmployee).should(times(1)).getEmployeeRole();
             then(enrollmentRepository).should(times(1)).findByStudentAndLecture(any(Student.class), any(Lecture.class));
-            then(enrollmentRepository).should(times(1)).countByLecture_Id(anyLong());
+            then(lectureRepository).should(times(1)).reserveSeat(anyLong());
             then(enrollmentRepository).should(times(1)).save(any(Enrollment.class));
-//            then(emailService).should(times(1)).sendEmail(anyString(),anyString(),anyString());
+            then(notificationService).should(times(1)).enqueue(eq(NotificationType.ENROLLMENT_CREATED), anyLong(), any(), anyString(), anyString());
         }
 
         @Test
@@ -314,6 +312,7 @@ class EnrollmentServiceTest {
             given(mockEmployee.getEmployeeRole()).willReturn(EmployeeRole.ROLE_STAFF);
             given(enrollmentRepository.findByStudentAndLecture(any(Student.class), any(Lecture.class))).willReturn(Optional.empty());
             lenient().when(mockLecture.getCurrentEnrollmentNumber()).thenReturn(lecture.getMaximumCapacity());
+            given(lectureRepository.reserveSeat(any())).willReturn(0);
 
             AppException appException = assertThrows(AppException.class,
                     () -> enrollmentService.createEnrollment(academy.getId(), student.getId(), lecture.getId(), employee.getAccount()));
@@ -327,6 +326,106 @@ class EnrollmentServiceTest {
             then(lectureRepository).should(times(1)).findById(anyLong());
             then(mockEmployee).should(times(1)).getEmployeeRole();
             then(enrollmentRepository).should(times(1)).findByStudentAndLecture(any(Student.class), any(Lecture.class));
+            then(lectureRepository).should(times(1)).reserveSeat(any());
+            then(enrollmentRepository).should(never()).save(any(Enrollment.class));
+        }
+    }
+
+    @Nested
+    @DisplayName("일괄 등록")
+    class EnrollmentCreateAll{
+
+        @Test
+        @DisplayName("일괄 등록 성공 - 중복된 학생 Id는 한 번만 등록")
+        void createEnrollments_success() {
+
+            given(academyRepository.findById(anyLong())).willReturn(Optional.of(academy));
+            given(employeeRepository.findByAccountAndAcademy(anyString(), any(Academy.class))).willReturn(Optional.of(employee));
+            given(lectureRepository.findById(anyLong())).willReturn(Optional.of(lecture));
+            given(studentRepository.findAllById(anyList())).willReturn(List.of(student, student2));
+            given(enrollmentRepository.findStudentIdsByLectureIdAndStudentIdIn(anyLong(), anyList())).willReturn(List.of());
+            given(lectureRepository.reserveSeats(lecture.getId(), 2)).willReturn(1);
+
+            CreateEnrollmentsResponse response = enrollmentService.createEnrollments(academy.getId(), lecture.getId(), List.of(1L, 2L, 1L), employee.getAccount());
+            assertThat(response.getEnrolledCount()).isEqualTo(2);
+            assertThat(response.getStudentIds()).containsExactly(1L, 2L);
+            assertThat(response.getMessage()).isEqualTo("수강 일괄 등록 완료");
+
+            then(studentRepository).should(times(1)).findAllById(anyList());
+            then(enrollmentRepository).should(times(1)).findStudentIdsByLectureIdAndStudentIdIn(anyLong(), anyList());
+            then(lectureRepository).should(times(1)).reserveSeats(lecture.getId(), 2);
+            then(enrollmentJdbcRepository).should(times(1)).batchInsert(argThat(enrollments -> enrollments.size() == 2));
+            then(enrollmentRepository).should(never()).save(any(Enrollment.class));
+        }
+
+        @Test
+        @DisplayName("일괄 등록 실패(1) - 직원이 수강을 개설할 권한이 아닐 때")
+        void createEnrollments_fail1() {
+
+            given(academyRepository.findById(anyLong())).willReturn(Optional.of(academy));
+            given(employeeRepository.findByAccountAndAcademy(anyString(), any(Academy.class))).willReturn(Optional.of(teacher));
+            given(lectureRepository.findById(anyLong())).willReturn(Optional.of(lecture));
+
+            AppException appException = assertThrows(AppException.class,
+                    () -> enrollmentService.createEnrollments(academy.getId(), lecture.getId(), List.of(1L, 2L), teacher.getAccount()));
+
+            assertThat(appException.getErrorCode()).isEqualTo(ErrorCode.INVALID_PERMISSION);
+            then(studentRepository).should(never()).findAllById(anyList());
+            then(enrollmentJdbcRepository).should(never()).batchInsert(anyList());
+        }
+
+        @Test
+        @DisplayName("일괄 등록 실패(2) - 존재하지 않는 학생이 포함된 경우")
+        void createEnrollments_fail2() {
+
+            given(academyRepository.findById(anyLong())).willReturn(Optional.of(academy));
+            given(employeeRepository.findByAccountAndAcademy(anyString(), any(Academy.class))).willReturn(Optional.of(employee));
+            given(lectureRepository.findById(anyLong())).willReturn(Optional.of(lecture));
+            given(studentRepository.findAllById(anyList())).willReturn(List.of(student));
+            given(enrollmentRepository.findStudentIdsByLectureIdAndStudentIdIn(anyLong(), anyList())).willReturn(List.of());
+
+            AppException appException = assertThrows(AppException.class,
+                    () -> enrollmentService.createEnrollments(academy.getId(), lecture.getId(), List.of(1L, 2L), employee.getAccount()));
+
+            assertThat(appException.getErrorCode()).isEqualTo(ErrorCode.STUDENT_NOT_FOUND);
+            then(lectureRepository).should(never()).reserveSeats(anyLong(), anyInt());
+            then(enrollmentJdbcRepository).should(never()).batchInsert(anyList());
+        }
+
+        @Test
+        @DisplayName("일괄 등록 실패(3) - 이미 수강 등록된 학생이 포함된 경우")
+        void createEnrollments_fail3() {
+
+            given(academyRepository.findById(anyLong())).willReturn(Optional.of(academy));
+            given(employeeRepository.findByAccountAndAcademy(anyString(), any(Academy.class))).willReturn(Optional.of(employee));
+            given(lectureRepository.findById(anyLong())).willReturn(Optional.of(lecture));
+            given(studentRepository.findAllById(anyList())).willReturn(List.of(student, student2));
+            given(enrollmentRepository.findStudentIdsByLectureIdAndStudentIdIn(anyLong(), anyList())).willReturn(List.of(2L));
+
+            AppException appException = assertThrows(AppException.class,
+                    () -> enrollmentService.createEnrollments(academy.getId(), lecture.getId(), List.of(1L, 2L), employee.getAccount()));
+
+            assertThat(appException.getErrorCode()).isEqualTo(ErrorCode.DUPLICATED_ENROLLMENT);
+            then(lectureRepository).should(never()).reserveSeats(anyLong(), anyInt());
+            then(enrollmentJdbcRepository).should(never()).batchInsert(anyList());
+        }
+
+        @Test
+        @DisplayName("일괄 등록 실패(4) - 남은 좌석이 학생 수보다 적을 때")
+        void createEnrollments_fail4() {
+
+            given(academyRepository.findById(anyLong())).willReturn(Optional.of(academy));
+            given(employeeRepository.findByAccountAndAcademy(anyString(), any(Academy.class))).willReturn(Optional.of(employee));
+            given(lectureRepository.findById(anyLong())).willReturn(Optional.of(lecture));
+            given(studentRepository.findAllById(anyList())).willReturn(List.of(student, student2));
+            given(enrollmentRepository.findStudentIdsByLectureIdAndStudentIdIn(anyLong(), anyList())).willReturn(List.of());
+            given(lectureRepository.reserveSeats(lecture.getId(), 2)).willReturn(0);
+
+            AppException appException = assertThrows(AppException.class,
+                    () -> enrollmentService.createEnrollments(academy.getId(), lecture.getId(), List.of(1L, 2L), employee.getAccount()));
+
+            assertThat(appException.getErrorCode()).isEqualTo(ErrorCode.OVER_REGISTRATION_NUMBER);
+            then(enrollmentJdbcRepository).should(never()).batchInsert(anyList());
         }
     }
 
@@ -495,27 +594,22 @@ class EnrollmentServiceTest {
             given(lectureRepository.findById(anyLong())).willReturn(Optional.of(lecture));
             given(enrollmentRepository.findById(anyLong())).willReturn(Optional.of(enrollment));
             given(mockEmployee.getEmployeeRole()).willReturn(EmployeeRole.ROLE_STAFF);
-//            willDoNothing().given(emailService).sendEmail(anyString(), anyString(), anyString());
-
-            given(waitinglistRepository.findTopByLectureOrderByCreatedAtAsc(any(Lecture.class))).willReturn(Optional.of(waitinglist));
-            given(studentRepository.findById(anyLong())).willReturn(Optional.of(student2));
-            given(enrollmentRepository.findByStudentAndLecture(any(Student.class),any(Lecture.class))).willReturn(Optional.empty());
-            given(enrollmentRepository.save(any(Enrollment.class))).willReturn(enrollment2);
+            given(waitinglistPromotionService.promote(anyLong(), any(Lecture.class), any(Employee.class))).willReturn(1);
 
             DeleteEnrollmentResponse deletedEnrollment = enrollmentService.deleteEnrollment(academy.getId(), student.getId(), lecture.getId(), enrollment.getId(), employee.getAccount());
             assertThat(deletedEnrollment.getDeletedEnrollmentId()).isEqualTo(1L);
             assertThat(deletedEnrollment.getMessage()).isEqualTo("수강 등록 삭제 완료");
 
-            then(academyRepository).should(times(2)).findById(anyLong());
-            then(employeeRepository).should(times(2)).findByAccountAndAcademy(anyString(), any(Academy.class));
-            then(studentRepository).should(times(2)).findById(anyLong());
-            then(lectureRepository).should(times(2)).findById(anyLong());
+            then(academyRepository).should(times(1)).findById(anyLong());
+            then(employeeRepository).should(times(1)).findByAccountAndAcademy(anyString(), any(Academy.class));
+            then(studentRepository).should(times(1)).findById(anyLong());
+            then(lectureRepository).should(times(1)).findById(anyLong());
             then(enrollmentRepository).should(times(1)).findById(anyLong());
-            then(enrollmentRepository).should(times(1)).findByStudentAndLecture(any(Student.class), any(Lecture.class));
-            then(enrollmentRepository).should(times(1)).save(any(Enrollment.class));
+            then(enrollmentRepository).should(times(1)).delete(any(Enrollment.class));
             then(mockEmployee).should(times(1)).getEmployeeRole();
-//            then(emailService).should(times(1)).sendEmail(anyString(),anyString(),anyString());
-            then(waitinglistRepository).should(times(1)).findTopByLectureOrderByCreatedAtAsc(any(Lecture.class));
+            then(notificationService).should(times(1)).enqueue(eq(NotificationType.ENROLLMENT_CANCELED), anyLong(), any(), anyString(), anyString());
+            then(lectureRepository).should(times(1)).releaseSeat(anyLong());
+            then(waitinglistPromotionService).should(times(1)).promote(anyLong(), any(Lecture.class), any(Employee.class));
         }
 
         @Test
@@ -636,38 +730,82 @@ class EnrollmentServiceTest {
             then(enrollmentRepository).should(times(1)).findById(anyLong());
             then(mockEmployee).should(times(1)).getEmployeeRole();
         }
+    }
+
+    @Nested
+    @DisplayName("일괄 취소")
+    class EnrollmentDeleteAll{
 
         @Test
-        @DisplayName("삭제 실패(7) - 대기번호를 수강등록으로 변경하려고 할 때 이미 해당 수강이력이 있는 경우")
-        void deleteEnrollment_fail8() throws MessagingException {
+        @DisplayName("일괄 취소 성공 - 반납된 좌석만큼 대기번호 수강등록")
+        void deleteEnrollments_success() {
 
             given(academyRepository.findById(anyLong())).willReturn(Optional.of(academy));
-            given(employeeRepository.findByAccountAndAcademy(anyString(), any(Academy.class))).willReturn(Optional.of(mockEmployee));
-            given(studentRepository.findById(anyLong())).willReturn(Optional.of(student));
+            given(employeeRepository.findByAccountAndAcademy(anyString(), any(Academy.class))).willReturn(Optional.of(employee));
             given(lectureRepository.findById(anyLong())).willReturn(Optional.of(lecture));
-            given(enrollmentRepository.findById(anyLong())).willReturn(Optional.of(enrollment));
-            given(mockEmployee.getEmployeeRole()).willReturn(EmployeeRole.ROLE_STAFF);
-//            willDoNothing().given(emailService).sendEmail(anyString(), anyString(), anyString());
+            given(enrollmentRepository.findAllById(List.of(1L, 2L))).willReturn(List.of(enrollment, enrollment2));
+            given(waitinglistPromotionService.promote(academy.getId(), lecture, employee)).willReturn(2);
 
-            given(waitinglistRepository.findTopByLectureOrderByCreatedAtAsc(any(Lecture.class))).willReturn(Optional.of(waitinglist));
-            given(studentRepository.findById(anyLong())).willReturn(Optional.of(student2));
-            given(enrollmentRepository.findByStudentAndLecture(any(Student.class),any(Lecture.class))).willReturn(Optional.of(enrollment2));
+            DeleteEnrollmentsResponse response = enrollmentService.deleteEnrollments(academy.getId(), lecture.getId(), List.of(1L, 2L, 1L), employee.getAccount());
+            assertThat(response.getDeletedCount()).isEqualTo(2);
+            assertThat(response.getPromotedCount()).isEqualTo(2);
+            assertThat(response.getMessage()).isEqualTo("수강 일괄 취소 완료");
+
+            then(enrollmentRepository).should(times(1)).markDeletedByIdIn(eq(List.of(1L, 2L)), eq("1 (staff)"), any(LocalDateTime.class));
+            then(lectureRepository).should(times(1)).releaseSeats(lecture.getId(), 2);
+            then(waitinglistPromotionService).should(times(1)).promote(academy.getId(), lecture, employee);
+        }
+
+        @Test
+        @DisplayName("일괄 취소 실패(1) - 존재하지 않는 수강 이력이 포함된 경우")
+        void deleteEnrollments_fail1() {
+
+            given(academyRepository.findById(anyLong())).willReturn(Optional.of(academy));
+            given(employeeRepository.findByAccountAndAcademy(anyString(), any(Academy.class))).willReturn(Optional.of(employee));
+            given(lectureRepository.findById(anyLong())).willReturn(Optional.of(lecture));
+            given(enrollmentRepository.findAllById(anyList())).willReturn(List.of(enrollment));
 
             AppException appException = assertThrows(AppException.class,
-                    () -> enrollmentService.deleteEnrollment(academy.getId(), student.getId(), lecture.getId(), enrollment.getId(), employee.getAccount()));
+                    () -> enrollmentService.deleteEnrollments(academy.getId(), lecture.getId(), List.of(1L, 2L), employee.getAccount()));
 
-            assertThat(appException.getErrorCode()).isEqualTo(ErrorCode.DUPLICATED_ENROLLMENT);
-            assertThat(appException.getErrorCode().getMessage()).isEqualTo("이미 중복된 수강신청 입니다.");
+            assertThat(appException.getErrorCode()).isEqualTo(ErrorCode.ENROLLMENT_NOT_FOUND);
+            then(enrollmentRepository).should(never()).markDeletedByIdIn(anyList(), anyString(), any(LocalDateTime.class));
+            then(lectureRepository).should(never()).releaseSeats(anyLong(), anyInt());
+            then(waitinglistPromotionService).should(never()).promote(anyLong(), any(Lecture.class), any(Employee.class));
+        }
 
-            then(academyRepository).should(times(2)).findById(anyLong());
-            then(employeeRepository).should(times(2)).findByAccountAndAcademy(anyString(), any(Academy.class));
-            then(studentRepository).should(times(2)).findById(anyLong());
-            then(lectureRepository).should(times(2)).findById(anyLong());
-            then(enrollmentRepository).should(times(1)).findById(anyLong());
-            then(enrollmentRepository).should(times(1)).findByStudentAndLecture(any(Student.class), any(Lecture.class));
-            then(mockEmployee).should(times(1)).getEmployeeRole();
-//            then(emailService).should(times(1)).sendEmail(anyString(),anyString(),anyString());
-            then(waitinglistRepository).should(times(1)).findTopByLectureOrderByCreatedAtAsc(any(Lecture.class));
+        @Test
+        @DisplayName("일괄 취소 실패(2) - 다른 강좌의 수강 이력이 포함된 경우")
+        void deleteEnrollments_fail2() {
+
+            Lecture otherLecture = Lecture.builder().id(2L).name("lecture2").build();
+            Enrollment otherEnrollment = Enrollment.builder().id(3L).student(student2).lecture(otherLecture).build();
+
+            given(academyRepository.findById(anyLong())).willReturn(Optional.of(academy));
+            given(employeeRepository.findByAccountAndAcademy(anyString(), any(Academy.class))).willReturn(Optional.of(employee));
+            given(lectureRepository.findById(anyLong())).willReturn(Optional.of(lecture));
+            given(enrollmentRepository.findAllById(anyList())).willReturn(List.of(enrollment, otherEnrollment));
+
+            AppException appException = assertThrows(AppException.class,
+                    () -> enrollmentService.deleteEnrollments(academy.getId(), lecture.getId(), List.of(1L, 3L), employee.getAccount()));
+
+            assertThat(appException.getErrorCode()).isEqualTo(ErrorCode.ENROLLMENT_NOT_FOUND);
+            then(lectureRepository).should(never()).releaseSeats(anyLong(), anyInt());
+        }
+
+        @Test
+        @DisplayName("일괄 취소 실패(3) - 직원이 수강을 취소할 권한이 아닐 때")
+        void deleteEnrollments_fail3() {
+
+            given(academyRepository.findById(anyLong())).willReturn(Optional.of(academy));
+            given(employeeRepository.findByAccountAndAcademy(anyString(), any(Academy.class))).willReturn(Optional.of(teacher));
+            given(lectureRepository.findById(anyLong())).willReturn(Optional.of(lecture));
+
+            AppException appException = assertThrows(AppException.class,
+                    () -> enrollmentService.deleteEnrollments(academy.getId(), lecture.getId(), List.of(1L), teacher.getAccount()));
+
+            assertThat(appException.getErrorCode()).isEqualTo(ErrorCode.INVALID_PERMISSION);
+            then(enrollmentRepository).should(never()).findAllById(anyList());
         }
     }
 
@@ -681,38 +819,25 @@ class EnrollmentServiceTest {
         @DisplayName("결제를 위한 수강 조회 성공")
         void findEnrollment_ForPay() {
 
-            Student student3 = Student.builder().id(3L).name("student").academyId(academy.getId()).build();
-            Lecture lecture2 = Lecture.builder().id(2L).name("lecture2").price(10000).employee(teacher).maximumCapacity(10).currentEnrollmentNumber(0).build();
-            Enrollment enrollment3 = Enrollment.builder().id(3L).student(student).lecture(lecture2).paymentYN(false).build();
-            Enrollment enrollment4 = Enrollment.builder().id(4L).student(student3).lecture(lecture).paymentYN(false).build();
-            Enrollment enrollment5 = Enrollment.builder().id(4L).student(student3).lecture(lecture2).paymentYN(false).build();
-            ReflectionTestUtils.setField(enrollment, BaseEntity.class, "createdAt", LocalDateTime.of(2021, 12, 6, 12, 0), LocalDateTime.class);
-            ReflectionTestUtils.setField(enrollment3, BaseEntity.class, "createdAt", LocalDateTime.of(2021, 12, 6, 12, 0), LocalDateTime.class);
-            ReflectionTestUtils.setField(enrollment4, BaseEntity.class, "createdAt", LocalDateTime.of(2021, 12, 6, 13, 0), LocalDateTime.class);
-            ReflectionTestUtils.setField(enrollment5, BaseEntity.class, "createdAt", LocalDateTime.of(2021, 12, 6, 13, 0), LocalDateTime.class);
+            FindEnrollmentResponse response1 = new FindEnrollmentResponse(4L, 3L, 1L, "student", "email3", "010", "lecture", "teacher", 10000, false,
+                    LocalDateTime.of(2021, 12, 6, 13, 0), "월", "10:00", null, null);
+            FindEnrollmentResponse response2 = new FindEnrollmentResponse(1L, 1L, 1L, "student", "email", "010", "lecture", "teacher", 10000, false,
+                    LocalDateTime.of(2021, 12, 6, 12, 0), "월", "10:00", null, null);
 
-            List<Student> students = new ArrayList<>();
-            students.add(student);
-            students.add(student3);
+            PageRequest pageable = PageRequest.of(1, 2, Sort.Direction.DESC,"createdAt");
 
-            List<Enrollment> studentEnrollments = new ArrayList<>();
-            studentEnrollments.add(enrollment);
-            studentEnrollments.add(enrollment3);
-
-            List<Enrollment> student3Enrollments = new ArrayList<>();
-            student3Enrollments.add(enrollment4);
-            student3Enrollments.add(enrollment5);
-
-            PageRequest pageable = PageRequest.of(0, 20, Sort.Direction.DESC,"createdAt");
-
-            given(studentRepository.findByAcademyIdAndName(academy.getId(), student.getName(), pageable)).willReturn(new PageImpl<>(students));
-            given(enrollmentRepository.findByStudentOrderByCreatedAtDesc(student)).willReturn(studentEnrollments);
-            given(enrollmentRepository.findByStudentOrderByCreatedAtDesc(student3)).willReturn(student3Enrollments);
+            given(enrollmentRepository.findForPayByAcademyIdAndStudentName(academy.getId(), student.getName(), PageRequest.of(1, 2)))
+                    .willReturn(new PageImpl<>(List.of(response1, response2), PageRequest.of(1, 2), 5));
 
             Page<FindEnrollmentResponse> enrollmentForPay = enrollmentService.findEnrollmentForPay(academy.getId(), student.getName(), pageable);
 
-            assertThat(enrollmentForPay.getTotalPages()).isEqualTo(1);
-            assertThat(enrollmentForPay.getTotalElements()).isEqualTo(4);
+            assertThat(enrollmentForPay.getTotalPages()).isEqualTo(3);
+            assertThat(enrollmentForPay.getTotalElements()).isEqualTo(5);
+            assertThat(enrollmentForPay.getContent()).extracting(FindEnrollmentResponse::getCreatedAt).containsExactly("2021/12/06 13:00:00", "2021/12/06 12:00:00");
+            assertThat(enrollmentForPay.getContent().get(0).getLectureTime()).isEqualTo("월 // 10:00");
+
+            then(enrollmentRepository).should(times(1)).findForPayByAcademyIdAndStudentName(academy.getId(), student.getName(), PageRequest.of(1, 2));
+            then(studentRepository).should(never()).findByAcademyIdAndName(anyLong(), anyString(), any());
         }
 
         @Test
@@ -722,11 +847,11 @@ class EnrollmentServiceTest {
             Enrollment enrollment3 = Enrollment.builder().id(3L).student(student).lecture(lecture).paymentYN(true).build();
             ReflectionTestUtils.setField(enrollment, BaseEntity.class, "createdAt", LocalDateTime.of(2021, 12, 6, 12, 0), LocalDateTime.class);
             ReflectionTestUtils.setField(enrollment3, BaseEntity.class, "createdAt", LocalDateTime.of(2021, 12, 6, 13, 0), LocalDateTime.class);
-            PageImpl<Enrollment> enrollmentList = new PageImpl<>(List.of(enrollment, enrollment3));
+            PageImpl<FindEnrollmentResponse> enrollmentList = new PageImpl<>(List.of(new FindEnrollmentResponse(enrollment), new FindEnrollmentResponse(enrollment3)));
 
             given(academyRepository.findById(anyLong())).willReturn(Optional.of(academy));
             given(studentRepository.findById(anyLong())).willReturn(Optional.of(student));
-            given(enrollmentRepository.findByStudentAndPaymentYNIsTrue(student, pageable)).willReturn(enrollmentList);
+            given(enrollmentRepository.findPaidByStudentId(student.getId(), pageable)).willReturn(enrollmentList);
 
             Page<FindEnrollmentResponse> response = enrollmentService.findEnrollmentByStudentId(academy.getId(), student.getId(), pageable);
             assertThat(response.getTotalPages()).isEqualTo(1L);
@@ -734,7 +859,7 @@ class EnrollmentServiceTest {
 
             then(academyRepository).should(times(1)).findById(anyLong());
             then(studentRepository).should(times(1)).findById(anyLong());
-            then(enrollmentRepository).should(times(1)).findByStudentAndPaymentYNIsTrue(student, pageable);
+            then(enrollmentRepository).should(times(1)).findPaidByStudentId(student.getId(), pageable);
         }
 
         @Test
@@ -778,15 +903,15 @@ class EnrollmentServiceTest {
             Enrollment enrollment4 = Enrollment.builder().id(4L).student(student2).lecture(lecture2).paymentYN(false).build();
             ReflectionTestUtils.setField(enrollment3, BaseEntity.class, "createdAt", LocalDateTime.of(2021, 12, 6, 12, 0), LocalDateTime.class);
             ReflectionTestUtils.setField(enrollment4, BaseEntity.class, "createdAt", LocalDateTime.of(2021, 12, 6, 13, 0), LocalDateTime.class);
-            PageImpl<Enrollment> enrollmentList = new PageImpl<>(List.of(enrollment3, enrollment4));
+            PageImpl<FindEnrollmentResponse> enrollmentList = new PageImpl<>(List.of(new FindEnrollmentResponse(enrollment4), new FindEnrollmentResponse(enrollment3)));
 
-            given(enrollmentRepository.findAllByAcademyIdAndPaymentYNIsFalseOrderByCreatedAtDesc(academy.getId(), pageable)).willReturn(enrollmentList);
+            given(enrollmentRepository.findForPayByAcademyId(academy.getId(), PageRequest.of(pageable.getPageNumber(), pageable.getPageSize()))).willReturn(enrollmentList);
 
             Page<FindEnrollmentResponse> response = enrollmentService.findAllEnrollmentForPay(academy.getId(), pageable);
             assertThat(response.getTotalPages()).isEqualTo(1L);
             assertThat(response.getTotalElements()).isEqualTo(2);
 
-            then(enrollmentRepository).should(times(1)).findAllByAcademyIdAndPaymentYNIsFalseOrderByCreatedAtDesc(academy.getId(), pageable);
+            then(enrollmentRepository).should(times(1)).findForPayByAcademyId(academy.getId(), PageRequest.of(pageable.getPageNumber(), pageable.getPageSize()));
         }
 
         @Test
@@ -795,7 +920,7 @@ class EnrollmentServiceTest {
 
             ReflectionTestUtils.setField(enrollment, BaseEntity.class, "createdAt", LocalDateTime.of(2021, 12, 6, 12, 0), LocalDateTime.class);
 
-            given(enrollmentRepository.findByLecture_IdAndStudent_Id(anyLong(), anyLong())).willReturn(Optional.of(enrollment));
+            given(enrollmentRepository.findForPayByLectureIdAndStudentId(anyLong(), anyLong())).willReturn(Optional.of(new FindEnrollmentResponse(enrollment)));
 
             FindEnrollmentResponse response = enrollmentService.findEnrollmentForPaySuccess(student.getId(), lecture.getId());
             assertThat(response.getEnrollmentId()).isEqualTo(1L);
@@ -804,14 +929,14 @@ class EnrollmentServiceTest {
             assertThat(response.getLectureId()).isEqualTo(1L);
             assertThat(response.getLectureName()).isEqualTo("lecture");
 
-            then(enrollmentRepository).should(times(1)).findByLecture_IdAndStudent_Id(anyLong(), anyLong());
+            then(enrollmentRepository).should(times(1)).findForPayByLectureIdAndStudentId(anyLong(), anyLong());
         }
 
         @Test
         @DisplayName("해당 학원의 특정 학생의 수강 내역 조회 실패 - 수강 내역 없음")
         void findEnrollment_ForPaySuccess_fai11() {
 
-            given(enrollmentRepository.findByLecture_IdAndStudent_Id(anyLong(), anyLong())).willReturn(Optional.empty());
+            given(enrollmentRepository.findForPayByLectureIdAndStudentId(anyLong(), anyLong())).willReturn(Optional.empty());
 
             AppException appException = assertThrows(AppException.class,
                     () -> enrollmentService.findEnrollmentForPaySuccess(student.getId(), lecture.getId()));
@@ -819,19 +944,19 @@ class EnrollmentServiceTest {
             assertThat(appException.getErrorCode()).isEqualTo(ErrorCode.ENROLLMENT_NOT_FOUND);
             assertThat(appException.getErrorCode().getMessage()).isEqualTo("해당 수강신청 내역을 찾을 수 없습니다.");
 
-            then(enrollmentRepository).should(times(1)).findByLecture_IdAndStudent_Id(anyLong(), anyLong());
+            then(enrollmentRepository).should(times(1)).findForPayByLectureIdAndStudentId(anyLong(), anyLong());
         }
 
         @Test
         @DisplayName("결제 완료된 수강신청내역을 활용해서 출석부에 표시하기 위한 메서드 - 성공")
         void findStudentInfo_FromEnrollment_ByLecture_success() {
 
-            PageImpl<Enrollment> enrollmentList = new PageImpl<>(List.of(enrollment, enrollment2));
+            PageImpl<FindStudentInfoFromEnrollmentByLectureResponse> enrollmentList = new PageImpl<>(List.of(roster(enrollment), roster(enrollment2)));
 
             given(academyRepository.findById(anyLong())).willReturn(Optional.of(academy));
             given(employeeRepository.findByAccountAndAcademy(anyString(), any(Academy.class))).willReturn(Optional.of(employee));
             given(lectureRepository.findById(anyLong())).willReturn(Optional.of(lecture));
-            given(enrollmentRepository.findByLectureAndPaymentYNIsTrue(lecture, pageable)).willReturn(enrollmentList);
+            given(enrollmentRepository.findPaidRosterByLectureId(lecture.getId(), pageable)).willReturn(enrollmentList);
 
             Page<FindStudentInfoFromEnrollmentByLectureResponse> responses = enrollmentService.findStudentInfoFromEnrollmentByLecture(academy.getId(), employee.getAccount(), lecture.getId(), pageable);
             assertThat(responses.getTotalPages()).isEqualTo(1);
@@ -840,7 +965,7 @@ class EnrollmentServiceTest {
             then(academyRepository).should(times(1)).findById(anyLong());
             then(employeeRepository).should(times(1)).findByAccountAndAcademy(anyString(), any(Academy.class));
             then(lectureRepository).should(times(1)).findById(anyLong());
-            then(enrollmentRepository).should(times(1)).findByLectureAndPaymentYNIsTrue(lecture, pageable);
+            then(enrollmentRepository).should(times(1)).findPaidRosterByLectureId(lecture.getId(), pageable);
         }
 
         @Test
@@ -903,12 +1028,12 @@ class EnrollmentServiceTest {
             Enrollment enrollment3 = Enrollment.builder().id(3L).student(student3).lecture(lecture).paymentYN(false).build();
             Enrollment enrollment4 = Enrollment.builder().id(4L).student(student4).lecture(lecture).paymentYN(false).build();
 
-            List<Enrollment> enrollmentList = List.of(enrollment, enrollment2,enrollment3,enrollment4);
+            List<FindStudentInfoFromEnrollmentByLectureResponse> enrollmentList = List.of(roster(enrollment), roster(enrollment2), roster(enrollment3), roster(enrollment4));
 
             given(academyRepository.findById(anyLong())).willReturn(Optional.of(academy));
             given(employeeRepository.findByAccountAndAcademy(anyString(), any(Academy.class))).willReturn(Optional.of(employee));
             given(lectureRepository.findById(anyLong())).willReturn(Optional.of(lecture));
-            given(enrollmentRepository.findByLecture(any(Lecture.class))).willReturn(enrollmentList);
+            given(enrollmentRepository.findRosterByLectureIdIn(List.of(lecture.getId()))).willReturn(enrollmentList);
 
             List<FindStudentInfoFromEnrollmentByLectureResponse> responses = enrollmentService.findAllStudentInfoFromEnrollmentByLecture(academy.getId(), employee.getAccount(), lecture.getId());
             assertThat(responses).hasSize(4);
@@ -916,7 +1041,7 @@ class EnrollmentServiceTest {
             then(academyRepository).should(times(1)).findById(anyLong());
             then(employeeRepository).should(times(1)).findByAccountAndAcademy(anyString(), any(Academy.class));
             then(lectureRepository).should(times(1)).findById(anyLong());
-            then(enrollmentRepository).should(times(1)).findByLecture(any(Lecture.class));
+            then(enrollmentRepository).should(times(1)).findRosterByLectureIdIn(List.of(lecture.getId()));
         }
 
         @Test
@@ -969,5 +1094,51 @@ class EnrollmentServiceTest {
             then(employeeRepository).should(times(1)).findByAccountAndAcademy(anyString(), any(Academy.class));
             then(lectureRepository).should(times(1)).findById(anyLong());
         }
+
+        @Test
+        @DisplayName("여러 강좌의 수강 신청자 명단 한 번에 조회 - 성공")
+        void findAllStudentInfo_FromEnrollment_ByLectures_success() {
+
+            Lecture lecture2 = Lecture.builder().id(2L).name("lecture2").price(10000).employee(teacher).build();
+            Enrollment enrollment3 = Enrollment.builder().id(3L).student(student).lecture(lecture2).paymentYN(false).build();
+
+            given(academyRepository.findById(anyLong())).willReturn(Optional.of(academy));
+            given(employeeRepository.findByAccountAndAcademy(anyString(), any(Academy.class))).willReturn(Optional.of(employee));
+            given(enrollmentRepository.findRosterByLectureIdIn(List.of(1L, 2L, 3L))).willReturn(List.of(roster(enrollment), roster(enrollment2), roster(enrollment3)));
+
+            Map<Long, List<FindStudentInfoFromEnrollmentByLectureResponse>> rosters =
+                    enrollmentService.findAllStudentInfoFromEnrollmentByLectures(academy.getId(), employee.getAccount(), List.of(1L, 2L, 3L));
+
+            assertThat(rosters.keySet()).containsExactly(1L, 2L, 3L);
+            assertThat(rosters.get(1L)).extracting(FindStudentInfoFromEnrollmentByLectureResponse::getStudentName).containsExactly("student", "student2");
+            assertThat(rosters.get(2L)).extracting(FindStudentInfoFromEnrollmentByLectureResponse::getEnrollmentId).containsExactly(3L);
+            assertThat(rosters.get(3L)).isEmpty();
+
+            then(academyRepository).should(times(1)).findById(anyLong());
+            then(employeeRepository).should(times(1)).findByAccountAndAcademy(anyString(), any(Academy.class));
+            then(enrollmentRepository).should(times(1)).findRosterByLectureIdIn(anyCollection());
+            then(lectureRepository).should(never()).findById(anyLong());
+        }
+
+        @Test
+        @DisplayName("여러 강좌의 수강 신청자 명단 한 번에 조회 - 실패(1) - 학원이 존재하지 않을 때")
+        void findAllStudentInfo_FromEnrollment_ByLectures_fail1() {
+
+            given(academyRepository.findById(anyLong())).willReturn(Optional.empty());
+
+            AppException appException = assertThrows(AppException.class,
+                    () -> enrollmentService.findAllStudentInfoFromEnrollmentByLectures(academy.getId(), employee.getAccount(), List.of(1L)));
+
+            assertThat(appException.getErrorCode()).isEqualTo(ErrorCode.ACADEMY_NOT_FOUND);
+
+            then(enrollmentRepository).should(never()).findRosterByLectureIdIn(anyCollection());
+        }
+    }
+
+    // 수강 신청자 명단 조회 쿼리가 만드는 응답
+    private FindStudentInfoFromEnrollmentByLectureResponse roster(Enrollment enrollment) {
+        Student enrolled = enrollment.getStudent();
+        return new FindStudentInfoFromEnrollmentByLectureResponse(enrollment.getId(), enrollment.getLecture().getId(), enrolled.getId(),
+                enrolled.getName(), enrolled.getPhoneNum(), enrolled.getEmail(), enrollment.getPaymentYN());
     }
-}
\ No newline at end of file
+}
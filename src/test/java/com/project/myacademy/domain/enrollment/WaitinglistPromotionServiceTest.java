@@ -0,0 +1,149 @@
+package com.project.myacademy.domain.enrollment;
+
+import com.project.myacademy.domain.academy.Academy;
+import com.project.myacademy.domain.employee.Employee;
+import com.project.myacademy.domain.employee.EmployeeRole;
+import com.project.myacademy.domain.lecture.Lecture;
+import com.project.myacademy.domain.lecture.LectureRepository;
+import com.project.myacademy.domain.student.Student;
+import com.project.myacademy.domain.waitinglist.Waitinglist;
+import com.project.myacademy.domain.waitinglist.WaitinglistIndex;
+import com.project.myacademy.domain.waitinglist.WaitinglistRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+@ExtendWith(MockitoExtension.class)
+class WaitinglistPromotionServiceTest {
+
+    @Mock
+    private LectureRepository lectureRepository;
+    @Mock
+    private EnrollmentRepository enrollmentRepository;
+    @Mock
+    private EnrollmentJdbcRepository enrollmentJdbcRepository;
+    @Mock
+    private WaitinglistRepository waitinglistRepository;
+    @Mock
+    private WaitinglistIndex waitinglistIndex;
+
+    @InjectMocks
+    private WaitinglistPromotionService waitinglistPromotionService;
+
+    private Employee employee;
+    private Lecture lecture;
+
+    @BeforeEach
+    void setUp() {
+        Academy academy = Academy.builder().id(1L).name("academy").build();
+        employee = Employee.builder().id(1L).name("staff").account("staff").academy(academy).employeeRole(EmployeeRole.ROLE_STAFF).build();
+        lecture = Lecture.builder().id(1L).name("lecture").maximumCapacity(5).currentEnrollmentNumber(2).build();
+    }
+
+    @Test
+    @DisplayName("남은 좌석 수만큼 먼저 등록된 대기자부터 한 번에 수강 등록")
+    void promote_fifo() {
+
+        given(lectureRepository.findRemainingSeats(1L)).willReturn(3, 0);
+        given(waitinglistRepository.findFirstWaitersForUpdate(1L, PageRequest.of(0, 3))).willReturn(List.of(waiter(1L, 11L), waiter(2L, 12L), waiter(3L, 13L)));
+        given(lectureRepository.reserveSeats(1L, 3)).willReturn(1);
+
+        int promoted = waitinglistPromotionService.promote(1L, lecture, employee);
+
+        assertThat(promoted).isEqualTo(3);
+        assertThat(insertedStudentIds()).containsExactly(11L, 12L, 13L);
+        then(waitinglistRepository).should(times(1)).markDeletedByIdIn(eq(List.of(1L, 2L, 3L)), any(LocalDateTime.class));
+        then(lectureRepository).should(times(1)).reserveSeats(1L, 3);
+        then(waitinglistIndex).should(times(1)).remove(1L, List.of(11L, 12L, 13L));
+    }
+
+    @Test
+    @DisplayName("대기자가 남은 좌석보다 적으면 대기자 전원 수강 등록 후 종료")
+    void promote_all_waiters() {
+
+        given(lectureRepository.findRemainingSeats(1L)).willReturn(3);
+        given(waitinglistRepository.findFirstWaitersForUpdate(1L, PageRequest.of(0, 3))).willReturn(List.of(waiter(1L, 11L)));
+        given(lectureRepository.reserveSeats(1L, 1)).willReturn(1);
+
+        assertThat(waitinglistPromotionService.promote(1L, lecture, employee)).isEqualTo(1);
+        then(lectureRepository).should(times(1)).findRemainingSeats(1L);
+    }
+
+    @Test
+    @DisplayName("이미 수강 등록된 대기자는 대기번호만 삭제하고 다음 대기자로 좌석을 채움")
+    void promote_skip_enrolled() {
+
+        given(lectureRepository.findRemainingSeats(1L)).willReturn(2, 1, 0);
+        given(waitinglistRepository.findFirstWaitersForUpdate(1L, PageRequest.of(0, 2))).willReturn(List.of(waiter(1L, 11L), waiter(2L, 12L)));
+        given(waitinglistRepository.findFirstWaitersForUpdate(1L, PageRequest.of(0, 1))).willReturn(List.of(waiter(3L, 13L)));
+        given(enrollmentRepository.findStudentIdsByLectureIdAndStudentIdIn(eq(1L), anyList())).willReturn(List.of(11L)).willReturn(List.of());
+        given(lectureRepository.reserveSeats(1L, 1)).willReturn(1);
+
+        int promoted = waitinglistPromotionService.promote(1L, lecture, employee);
+
+        assertThat(promoted).isEqualTo(2);
+        then(enrollmentJdbcRepository).should(times(2)).batchInsert(anyList());
+        then(waitinglistRepository).should(times(1)).markDeletedByIdIn(eq(List.of(1L, 2L)), any(LocalDateTime.class));
+        then(waitinglistRepository).should(times(1)).markDeletedByIdIn(eq(List.of(3L)), any(LocalDateTime.class));
+    }
+
+    @Test
+    @DisplayName("읽은 뒤 다른 요청이 좌석을 가져갔다면 남은 좌석을 다시 읽고 확보한 만큼만 수강 등록")
+    void promote_seats_taken() {
+
+        given(lectureRepository.findRemainingSeats(1L)).willReturn(2, 1, 0);
+        given(waitinglistRepository.findFirstWaitersForUpdate(1L, PageRequest.of(0, 2))).willReturn(List.of(waiter(1L, 11L), waiter(2L, 12L)));
+        given(waitinglistRepository.findFirstWaitersForUpdate(1L, PageRequest.of(0, 1))).willReturn(List.of(waiter(1L, 11L)));
+        given(lectureRepository.reserveSeats(1L, 2)).willReturn(0);
+        given(lectureRepository.reserveSeats(1L, 1)).willReturn(1);
+
+        int promoted = waitinglistPromotionService.promote(1L, lecture, employee);
+
+        assertThat(promoted).isEqualTo(1);
+        assertThat(insertedStudentIds()).containsExactly(11L);
+        then(waitinglistRepository).should(times(1)).markDeletedByIdIn(eq(List.of(1L)), any(LocalDateTime.class));
+    }
+
+    @Test
+    @DisplayName("남은 좌석이 없으면 대기자를 조회하지 않음")
+    void promote_no_seat() {
+
+        given(lectureRepository.findRemainingSeats(1L)).willReturn(0);
+
+        assertThat(waitinglistPromotionService.promote(1L, lecture, employee)).isZero();
+        then(waitinglistRepository).should(never()).findFirstWaitersForUpdate(anyLong(), any());
+        then(lectureRepository).should(never()).reserveSeats(anyLong(), anyInt());
+    }
+
+    private Waitinglist waiter(Long waitinglistId, Long studentId) {
+        return Waitinglist.builder().id(waitinglistId).lecture(lecture).student(Student.builder().id(studentId).build()).build();
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Long> insertedStudentIds() {
+        ArgumentCaptor<List<Enrollment>> captor = ArgumentCaptor.forClass(List.class);
+        then(enrollmentJdbcRepository).should(times(1)).batchInsert(captor.capture());
+        return captor.getValue().stream().map(enrollment -> enrollment.getStudent().getId()).collect(Collectors.toList());
+    }
+}
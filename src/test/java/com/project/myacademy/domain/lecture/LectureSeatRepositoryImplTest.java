@@ -0,0 +1,86 @@
+package com.project.myacademy.domain.lecture;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.persistence.Cache;
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+@ExtendWith(MockitoExtension.class)
+class LectureSeatRepositoryImplTest {
+
+    @Mock
+    private EntityManager entityManager;
+    @Mock
+    private EntityManagerFactory entityManagerFactory;
+    @Mock
+    private Cache cache;
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private LectureSeatRepositoryImpl lectureSeatRepository;
+
+    @BeforeEach
+    void setUp() {
+        lectureSeatRepository = new LectureSeatRepositoryImpl(entityManager, jdbcTemplate);
+        given(entityManager.getEntityManagerFactory()).willReturn(entityManagerFactory);
+        given(entityManagerFactory.getCache()).willReturn(cache);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("좌석 확보 - flush 후 UPDATE, 영속성 컨텍스트를 비우고 2차 캐시에서 해당 강좌만 삭제")
+    void reserveSeats() {
+
+        given(jdbcTemplate.update(anyString(), eq(3), eq(1L), eq(3))).willReturn(1);
+
+        assertThat(lectureSeatRepository.reserveSeats(1L, 3)).isEqualTo(1);
+
+        InOrder inOrder = inOrder(entityManager, jdbcTemplate, cache);
+        inOrder.verify(entityManager).flush();
+        inOrder.verify(jdbcTemplate).update(anyString(), eq(3), eq(1L), eq(3));
+        inOrder.verify(entityManager).clear();
+        inOrder.verify(cache).evict(Lecture.class, 1L);
+        then(cache).should(never()).evict(Lecture.class);
+        then(cache).should(never()).evictAll();
+    }
+
+    @Test
+    @DisplayName("좌석 반납 - 트랜잭션 안이면 커밋 이후에 해당 강좌를 2차 캐시에서 한 번 더 삭제")
+    void releaseSeat_afterCommit() {
+
+        TransactionSynchronizationManager.initSynchronization();
+        given(jdbcTemplate.update(anyString(), eq(1L))).willReturn(1);
+
+        lectureSeatRepository.releaseSeat(1L);
+        then(cache).should(times(1)).evict(Lecture.class, 1L);
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        then(cache).should(times(2)).evict(Lecture.class, 1L);
+    }
+}
@@ -5,6 +5,7 @@ import com.project.myacademy.domain.academy.AcademyRepository;
 import com.project.myacademy.domain.employee.Employee;
 import com.project.myacademy.domain.employee.EmployeeRepository;
 import com.project.myacademy.domain.employee.EmployeeRole;
+import com.project.myacademy.domain.enrollment.WaitinglistPromotionService;
 import com.project.myacademy.domain.lecture.dto.*;
 import com.project.myacademy.global.exception.AppException;
 import com.project.myacademy.global.exception.ErrorCode;
@@ -41,6 +42,8 @@ class LectureServiceTest {
     private EmployeeRepository employeeRepository;
     @Mock
     private AcademyRepository academyRepository;
+    @Mock
+    private WaitinglistPromotionService waitinglistPromotionService;
     @InjectMocks
     private LectureService lectureService;
 
@@ -478,7 +481,25 @@ class LectureServiceTest {
             then(employeeRepository).should(times(1)).findByAccountAndAcademy(anyString(), any(Academy.class));
             then(lectureRepository).should(times(1)).findById(anyLong());
             then(mockEmployee).should(times(1)).getEmployeeRole();
+            then(waitinglistPromotionService).should(never()).promote(any(), any(), any());
+        }
+
+        @Test
+        @DisplayName("수정 성공 - 최대 수강정원이 늘면 대기번호 수강등록")
+        void updateLecture_success_capacity_increased() {
+
+            Lecture fullLecture = Lecture.builder().id(1L).name("lecture").maximumCapacity(10).currentEnrollmentNumber(10).employee(teacher).build();
+            UpdateLectureRequest increaseRequest = UpdateLectureRequest.builder().lectureName("lecture").lecturePrice(10000).maximumCapacity(15).build();
+
+            given(academyRepository.findById(anyLong())).willReturn(Optional.of(academy));
+            given(employeeRepository.findByAccountAndAcademy(anyString(), any(Academy.class))).willReturn(Optional.of(mockEmployee));
+            given(lectureRepository.findById(anyLong())).willReturn(Optional.of(fullLecture));
+            given(mockEmployee.getEmployeeRole()).willReturn(EmployeeRole.ROLE_STAFF);
+
+            lectureService.updateLecture(academy.getId(), fullLecture.getId(), increaseRequest, employee.getAccount());
 
+            assertThat(fullLecture.getMaximumCapacity()).isEqualTo(15);
+            then(waitinglistPromotionService).should(times(1)).promote(academy.getId(), fullLecture, mockEmployee);
         }
 
         @Test
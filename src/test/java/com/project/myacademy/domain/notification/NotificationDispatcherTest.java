@@ -0,0 +1,128 @@
+package com.project.myacademy.domain.notification;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+
+import javax.mail.Session;
+import javax.mail.internet.MimeMessage;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationDispatcherTest {
+
+    @Mock
+    private NotificationService notificationService;
+    @Mock
+    private JavaMailSender sender;
+
+    private NotificationDispatcher notificationDispatcher;
+
+    @BeforeEach
+    void setUp() {
+        notificationDispatcher = new NotificationDispatcher(notificationService, sender, 2, 300000);
+    }
+
+    @Test
+    @DisplayName("선점한 알림을 메일 한 번에 발송하고, 배치가 가득 찼으면 이어서 다음 배치 발송")
+    void dispatch_batches() {
+
+        given(sender.createMimeMessage()).willAnswer(invocation -> message());
+        given(notificationService.claimDue(2, Duration.ofMillis(300000)))
+                .willReturn(List.of(notification(1L), notification(2L)))
+                .willReturn(List.of(notification(3L)));
+
+        notificationDispatcher.dispatch();
+
+        then(sender).should(times(2)).send((MimeMessage[]) any());
+        then(notificationService).should(times(2)).claimDue(anyInt(), any(Duration.class));
+        assertThat(sentIds(2)).containsExactly(List.of(1L, 2L), List.of(3L));
+    }
+
+    @Test
+    @DisplayName("발송할 알림이 없으면 메일을 보내지 않음")
+    void dispatch_empty() {
+
+        given(notificationService.claimDue(anyInt(), any(Duration.class))).willReturn(List.of());
+
+        notificationDispatcher.dispatch();
+
+        then(sender).should(never()).send((MimeMessage[]) any());
+        then(notificationService).should(never()).recordResults(anyCollection(), anyMap());
+    }
+
+    @Test
+    @DisplayName("일부 메일만 실패하면 실패한 알림만 실패로 기록")
+    void send_partial_failure() {
+
+        MimeMessage first = message();
+        MimeMessage second = message();
+        given(sender.createMimeMessage()).willReturn(first, second);
+        willThrow(new MailSendException(Map.of(second, new IllegalStateException("550 mailbox unavailable"))))
+                .given(sender).send((MimeMessage[]) any());
+
+        notificationDispatcher.send(List.of(notification(1L), notification(2L)));
+
+        assertThat(sentIds(1)).containsExactly(List.of(1L));
+        assertThat(failures()).containsOnlyKeys(2L).containsValue("550 mailbox unavailable");
+    }
+
+    @Test
+    @DisplayName("SMTP 연결에 실패하면 배치 전체를 실패로 기록")
+    void send_connection_failure() {
+
+        given(sender.createMimeMessage()).willAnswer(invocation -> message());
+        willThrow(new MailSendException("connection refused")).given(sender).send((MimeMessage[]) any());
+
+        notificationDispatcher.send(List.of(notification(1L), notification(2L)));
+
+        assertThat(sentIds(1)).containsExactly(List.of());
+        assertThat(failures()).containsOnlyKeys(1L, 2L);
+    }
+
+    private Notification notification(Long id) {
+        return Notification.builder().id(id).type(NotificationType.ENROLLMENT_CREATED).toAddress("student" + id + "@gmail.com")
+                .subject("subject").body("body").status(NotificationStatus.PENDING).nextAttemptAt(LocalDateTime.now()).build();
+    }
+
+    private MimeMessage message() {
+        return new MimeMessage(Session.getInstance(new Properties()));
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<List<Long>> sentIds(int batches) {
+        ArgumentCaptor<Collection<Long>> captor = ArgumentCaptor.forClass(Collection.class);
+        then(notificationService).should(times(batches)).recordResults(captor.capture(), anyMap());
+        return captor.getAllValues().stream().map(List::copyOf).collect(Collectors.toList());
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<Long, String> failures() {
+        ArgumentCaptor<Map<Long, String>> captor = ArgumentCaptor.forClass(Map.class);
+        then(notificationService).should(times(1)).recordResults(anyCollection(), captor.capture());
+        return captor.getValue();
+    }
+}
@@ -0,0 +1,92 @@
+package com.project.myacademy.domain.notification;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationServiceTest {
+
+    @Mock
+    private NotificationRepository notificationRepository;
+
+    private NotificationService notificationService;
+
+    @BeforeEach
+    void setUp() {
+        notificationService = new NotificationService(notificationRepository, 3, 10000, 25000);
+    }
+
+    @Test
+    @DisplayName("받는 사람 이메일이 없으면 발송함에 저장하지 않음")
+    void enqueue_no_address() {
+
+        notificationService.enqueue(NotificationType.PAYMENT_CANCELED, 1L, " ", "subject", "body");
+
+        then(notificationRepository).should(never()).save(any(Notification.class));
+    }
+
+    @Test
+    @DisplayName("성공한 알림은 SENT, 실패한 알림은 시도 횟수에 따라 늦춰서 재시도")
+    void recordResults() {
+
+        Notification sent = notification(1L, 0);
+        Notification failed = notification(2L, 1);
+        given(notificationRepository.findAllById(Set.of(1L))).willReturn(List.of(sent));
+        given(notificationRepository.findAllById(Set.of(2L))).willReturn(List.of(failed));
+
+        LocalDateTime before = LocalDateTime.now();
+        notificationService.recordResults(Set.of(1L), Map.of(2L, "timeout"));
+
+        assertThat(sent.getStatus()).isEqualTo(NotificationStatus.SENT);
+        assertThat(sent.getSentAt()).isNotNull();
+        assertThat(failed.getStatus()).isEqualTo(NotificationStatus.PENDING);
+        assertThat(failed.getAttempts()).isEqualTo(2);
+        assertThat(failed.getLastError()).isEqualTo("timeout");
+        assertThat(failed.getNextAttemptAt()).isAfterOrEqualTo(before.plusSeconds(20));
+    }
+
+    @Test
+    @DisplayName("최대 시도 횟수만큼 실패하면 DEAD")
+    void recordResults_dead() {
+
+        Notification failed = notification(1L, 2);
+        given(notificationRepository.findAllById(Set.of())).willReturn(List.of());
+        given(notificationRepository.findAllById(Set.of(1L))).willReturn(List.of(failed));
+
+        notificationService.recordResults(Set.of(), Map.of(1L, "550 mailbox unavailable"));
+
+        assertThat(failed.getStatus()).isEqualTo(NotificationStatus.DEAD);
+        assertThat(failed.getAttempts()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("재시도 간격은 두 배씩 늘어나고 최대 간격을 넘지 않음")
+    void backoff() {
+
+        assertThat(notificationService.backoff(1)).isEqualTo(Duration.ofSeconds(10));
+        assertThat(notificationService.backoff(2)).isEqualTo(Duration.ofSeconds(20));
+        assertThat(notificationService.backoff(3)).isEqualTo(Duration.ofSeconds(25));
+        assertThat(notificationService.backoff(100)).isEqualTo(Duration.ofSeconds(25));
+    }
+
+    private Notification notification(Long id, int attempts) {
+        return Notification.builder().id(id).type(NotificationType.ENROLLMENT_CREATED).toAddress("student@gmail.com")
+                .subject("subject").body("body").status(NotificationStatus.PENDING).attempts(attempts).nextAttemptAt(LocalDateTime.now()).build();
+    }
+}
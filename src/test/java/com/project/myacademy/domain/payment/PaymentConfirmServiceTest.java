@@ -0,0 +1,120 @@
+package com.project.myacademy.domain.payment;
+
+import com.project.myacademy.domain.enrollment.Enrollment;
+import com.project.myacademy.domain.enrollment.EnrollmentRepository;
+import com.project.myacademy.domain.lecture.Lecture;
+import com.project.myacademy.domain.notification.NotificationService;
+import com.project.myacademy.domain.notification.NotificationType;
+import com.project.myacademy.domain.payment.entity.Payment;
+import com.project.myacademy.domain.payment.repository.PaymentRepository;
+import com.project.myacademy.domain.student.Student;
+import com.project.myacademy.global.exception.AppException;
+import com.project.myacademy.global.exception.ErrorCode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+@ExtendWith(MockitoExtension.class)
+class PaymentConfirmServiceTest {
+
+    @Mock
+    private PaymentRepository paymentRepository;
+    @Mock
+    private EnrollmentRepository enrollmentRepository;
+    @Mock
+    private NotificationService notificationService;
+
+    private PaymentConfirmService paymentConfirmService;
+    private Payment payment;
+    private Enrollment enrollment;
+
+    @BeforeEach
+    void setUp() {
+        paymentConfirmService = new PaymentConfirmService(paymentRepository, enrollmentRepository, notificationService, 60);
+        Student student = Student.builder().id(1L).name("student").email("student@gmail.com").build();
+        Lecture lecture = Lecture.builder().id(1L).name("lecture").build();
+        payment = Payment.builder().id(1L).orderId("orderId").student(student).lecture(lecture).amount(10000).status(PaymentStatus.PENDING).build();
+        enrollment = Enrollment.builder().id(1L).student(student).lecture(lecture).paymentYN(false).academyId(1L).build();
+    }
+
+    @Test
+    @DisplayName("승인 시작 - 승인 요청 시작 시각과 stale 기준 시각으로 CONFIRMING 변경")
+    void start() {
+
+        given(paymentRepository.findByOrderId("orderId")).willReturn(Optional.of(payment));
+        given(enrollmentRepository.findByLecture_IdAndStudent_Id(1L, 1L)).willReturn(Optional.of(enrollment));
+        given(paymentRepository.startConfirm(eq("orderId"), any(LocalDateTime.class), any(LocalDateTime.class))).willReturn(1);
+
+        paymentConfirmService.start("orderId");
+
+        then(paymentRepository).should(times(1)).startConfirm(eq("orderId"), any(LocalDateTime.class), any(LocalDateTime.class));
+    }
+
+    @Test
+    @DisplayName("승인 시작 실패 - 다른 요청이 승인 중이면 DUPLICATED_PAYMENT")
+    void start_confirming() {
+
+        given(paymentRepository.findByOrderId("orderId")).willReturn(Optional.of(payment));
+        given(enrollmentRepository.findByLecture_IdAndStudent_Id(1L, 1L)).willReturn(Optional.of(enrollment));
+        given(paymentRepository.startConfirm(eq("orderId"), any(LocalDateTime.class), any(LocalDateTime.class))).willReturn(0);
+
+        AppException appException = assertThrows(AppException.class, () -> paymentConfirmService.start("orderId"));
+
+        assertThat(appException.getErrorCode()).isEqualTo(ErrorCode.DUPLICATED_PAYMENT);
+    }
+
+    @Test
+    @DisplayName("승인 완료 - 결제 여부 true, 결제 완료 메일을 발송함에 저장")
+    void complete() {
+
+        given(paymentRepository.completeConfirm("orderId")).willReturn(1);
+        given(paymentRepository.findByOrderId("orderId")).willReturn(Optional.of(payment));
+        given(enrollmentRepository.findByLecture_IdAndStudent_Id(1L, 1L)).willReturn(Optional.of(enrollment));
+
+        paymentConfirmService.complete("orderId", 10000);
+
+        assertThat(enrollment.getPaymentYN()).isTrue();
+        then(notificationService).should(times(1)).enqueue(eq(NotificationType.PAYMENT_COMPLETED), eq(1L), eq("student@gmail.com"), anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("이미 승인 완료를 반영한 주문이면 메일을 다시 저장하지 않음")
+    void complete_already_confirmed() {
+
+        given(paymentRepository.completeConfirm("orderId")).willReturn(0);
+
+        paymentConfirmService.complete("orderId", 10000);
+
+        then(enrollmentRepository).shouldHaveNoInteractions();
+        then(notificationService).should(never()).enqueue(any(), any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("오래된 승인 요청 실패 - stale 기준 시각 이전에 시작된 CONFIRMING 만 FAILED")
+    void failStale() {
+
+        LocalDateTime before = LocalDateTime.now().minusSeconds(60);
+        given(paymentRepository.failStaleConfirm(eq("orderId"), any(LocalDateTime.class))).willReturn(1);
+
+        assertThat(paymentConfirmService.failStale("orderId")).isTrue();
+
+        then(paymentRepository).should(times(1)).failStaleConfirm(eq("orderId"), argThat(staleBefore -> !staleBefore.isBefore(before)));
+    }
+}
@@ -0,0 +1,89 @@
+package com.project.myacademy.domain.payment;
+
+import com.project.myacademy.domain.payment.dto.ApprovePaymentResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+@ExtendWith(MockitoExtension.class)
+class PaymentConfirmSweeperTest {
+
+    @Mock
+    private PaymentConfirmService paymentConfirmService;
+    @Mock
+    private TossPaymentsClient tossPaymentsClient;
+
+    private PaymentConfirmSweeper sweeper;
+
+    @BeforeEach
+    void setUp() {
+        sweeper = new PaymentConfirmSweeper(paymentConfirmService, tossPaymentsClient, 100);
+    }
+
+    @Test
+    @DisplayName("토스에서 승인된 결제는 CONFIRMED, 토스에 없는 주문은 FAILED")
+    void sweep() {
+
+        given(paymentConfirmService.findStale(100)).willReturn(List.of("order1", "order2"));
+        given(tossPaymentsClient.findByOrderId("order1")).willReturn(payment("DONE", "10000"));
+        given(tossPaymentsClient.findByOrderId("order2")).willThrow(HttpClientErrorException.create(HttpStatus.NOT_FOUND, "Not Found", HttpHeaders.EMPTY, new byte[0], null));
+
+        sweeper.sweep();
+
+        then(paymentConfirmService).should(times(1)).complete("order1", 10000);
+        then(paymentConfirmService).should(times(1)).failStale("order2");
+        then(paymentConfirmService).should(never()).failStale("order1");
+    }
+
+    @Test
+    @DisplayName("승인 진행 중이거나 토스 응답이 없으면 CONFIRMING 유지")
+    void sweep_unknown() {
+
+        given(paymentConfirmService.findStale(100)).willReturn(List.of("order1", "order2"));
+        given(tossPaymentsClient.findByOrderId("order1")).willReturn(payment("IN_PROGRESS", "10000"));
+        given(tossPaymentsClient.findByOrderId("order2")).willThrow(new ResourceAccessException("Read timed out"));
+
+        sweeper.sweep();
+
+        then(paymentConfirmService).should(never()).complete(anyString(), any());
+        then(paymentConfirmService).should(never()).failStale(anyString());
+    }
+
+    @Test
+    @DisplayName("승인되지 않은 상태(ABORTED 등)면 FAILED, 한 주문의 정리 실패가 다음 주문을 막지 않음")
+    void sweep_aborted() {
+
+        given(paymentConfirmService.findStale(100)).willReturn(List.of("order1", "order2"));
+        given(tossPaymentsClient.findByOrderId("order1")).willReturn(payment("DONE", "10000"));
+        willThrow(new IllegalStateException("DB 오류")).given(paymentConfirmService).complete("order1", 10000);
+        given(tossPaymentsClient.findByOrderId("order2")).willReturn(payment("ABORTED", "10000"));
+
+        sweeper.sweep();
+
+        then(paymentConfirmService).should(times(1)).failStale("order2");
+    }
+
+    private ApprovePaymentResponse payment(String status, String totalAmount) {
+        ApprovePaymentResponse payment = new ApprovePaymentResponse();
+        payment.setStatus(status);
+        payment.setTotalAmount(totalAmount);
+        return payment;
+    }
+}
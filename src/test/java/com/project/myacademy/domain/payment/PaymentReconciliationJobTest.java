@@ -0,0 +1,143 @@
+package com.project.myacademy.domain.payment;
+
+import com.project.myacademy.domain.payment.dto.PaymentIdRange;
+import com.project.myacademy.domain.payment.dto.PaymentReconciliationRow;
+import com.project.myacademy.domain.payment.dto.TossTransactionResponse;
+import com.project.myacademy.domain.payment.repository.PaymentRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+@ExtendWith(MockitoExtension.class)
+class PaymentReconciliationJobTest {
+
+    private static final LocalDateTime FROM = LocalDateTime.of(2023, 3, 1, 0, 0);
+    private static final LocalDateTime TO = FROM.plusDays(1);
+
+    @Mock
+    private TossPaymentsClient tossPaymentsClient;
+    @Mock
+    private PaymentRepository paymentRepository;
+    @TempDir
+    Path reportDir;
+
+    private PaymentReconciliationJob job;
+
+    @BeforeEach
+    void setUp() {
+        job = new PaymentReconciliationJob(tossPaymentsClient, paymentRepository, 2, 2, 60, reportDir.toString());
+    }
+
+    @Test
+    @DisplayName("토스 거래 · 결제 내역을 페이지 · 청크 단위로 비교해 불일치 유형별로 기록")
+    void reconcile() throws IOException {
+
+        // 토스 거래 (페이지 크기 2)
+        given(tossPaymentsClient.transactions(eq(FROM.minusHours(1)), eq(TO.plusHours(1)), isNull(), eq(2)))
+                .willReturn(List.of(transaction("tx1", "order1", "DONE", 10000L), transaction("tx2", "order2", "DONE", 9000L)));
+        given(tossPaymentsClient.transactions(eq(FROM.minusHours(1)), eq(TO.plusHours(1)), eq("tx2"), eq(2)))
+                .willReturn(List.of(transaction("tx3", "order3", "DONE", 10000L), transaction("tx4", "order4", "CANCELED", 10000L)));
+        given(tossPaymentsClient.transactions(eq(FROM.minusHours(1)), eq(TO.plusHours(1)), eq("tx4"), eq(2)))
+                .willReturn(List.of(transaction("tx5", "order5", "DONE", 10000L)));
+        given(paymentRepository.findReconciliationRowsByOrderIdIn(List.of("order1", "order2")))
+                .willReturn(List.of(row(1L, "order1", PaymentStatus.CONFIRMED, null), row(2L, "order2", PaymentStatus.CONFIRMED, null)));
+        given(paymentRepository.findReconciliationRowsByOrderIdIn(List.of("order3", "order4")))
+                .willReturn(List.of(row(4L, "order4", PaymentStatus.CONFIRMED, null)));
+        // 마지막 페이지도 IN 절 파라미터 수를 페이지 크기로 맞춤
+        given(paymentRepository.findReconciliationRowsByOrderIdIn(List.of("order5", "order5")))
+                .willReturn(List.of(row(5L, "order5", PaymentStatus.CONFIRMING, null)));
+
+        // 기간 안의 결제 내역 (청크 크기 2) - 승인 요청 시각 · 생성 시각(상태 추가 전 결제)으로 구한 id 범위 [1, 8] 안에서만 조회
+        given(paymentRepository.findConfirmRequestedIdRange(FROM, TO)).willReturn(new PaymentIdRange(2L, 8L));
+        given(paymentRepository.findLegacyCreatedIdRange(FROM, TO)).willReturn(new PaymentIdRange(1L, 6L));
+        given(paymentRepository.findReconciliationRowsAfterId(FROM, TO, 0L, 8L, PageRequest.of(0, 2)))
+                .willReturn(List.of(row(1L, "order1", PaymentStatus.CONFIRMED, null), row(2L, "order2", PaymentStatus.CONFIRMED, null)));
+        given(paymentRepository.findReconciliationRowsAfterId(FROM, TO, 2L, 8L, PageRequest.of(0, 2)))
+                .willReturn(List.of(row(6L, "order6", null, null), row(7L, "order7", PaymentStatus.CONFIRMED, 1L)));
+        given(paymentRepository.findReconciliationRowsAfterId(FROM, TO, 7L, 8L, PageRequest.of(0, 2)))
+                .willReturn(List.of(row(8L, "order8", PaymentStatus.FAILED, null)));
+
+        PaymentReconciliationReport report = job.reconcile(FROM, TO);
+
+        assertThat(report.getTransactions()).isEqualTo(5);
+        assertThat(report.getPayments()).isEqualTo(5);
+        assertThat(report.count(PaymentDiscrepancyType.AMOUNT_MISMATCH)).isEqualTo(1);
+        assertThat(report.count(PaymentDiscrepancyType.MISSING_PAYMENT)).isEqualTo(1);
+        assertThat(report.count(PaymentDiscrepancyType.MISSING_CANCEL)).isEqualTo(1);
+        assertThat(report.count(PaymentDiscrepancyType.STATUS_MISMATCH)).isEqualTo(1);
+        // 상태 추가 전 결제(order6)와 취소 거래가 없는 order7 은 토스에 없음, FAILED 인 order8 은 비교하지 않음
+        assertThat(report.count(PaymentDiscrepancyType.MISSING_AT_GATEWAY)).isEqualTo(2);
+        assertThat(report.count(PaymentDiscrepancyType.CANCEL_MISSING_AT_GATEWAY)).isEqualTo(1);
+
+        List<String> lines = Files.readAllLines(report.getPath());
+        assertThat(lines).hasSize(1 + 7);
+        assertThat(lines).contains("AMOUNT_MISMATCH,2,order2,paymentKey2,10000,CONFIRMED,tx2,9000,DONE");
+    }
+
+    @Test
+    @DisplayName("결제 id 가 int 범위를 넘어도 기간의 첫 결제 id 부터 비교")
+    void reconcile_largeIds() {
+
+        long firstId = Integer.MAX_VALUE + 10L;
+        given(tossPaymentsClient.transactions(eq(FROM.minusHours(1)), eq(TO.plusHours(1)), isNull(), eq(2)))
+                .willReturn(List.of(transaction("tx1", "order1", "DONE", 10000L)));
+        given(paymentRepository.findReconciliationRowsByOrderIdIn(List.of("order1", "order1")))
+                .willReturn(List.of(row(firstId, "order1", PaymentStatus.CONFIRMED, null)));
+        given(paymentRepository.findConfirmRequestedIdRange(FROM, TO)).willReturn(new PaymentIdRange(firstId, firstId + 1));
+        given(paymentRepository.findLegacyCreatedIdRange(FROM, TO)).willReturn(new PaymentIdRange(null, null));
+        given(paymentRepository.findReconciliationRowsAfterId(FROM, TO, firstId - 1, firstId + 1, PageRequest.of(0, 2)))
+                .willReturn(List.of(row(firstId, "order1", PaymentStatus.CONFIRMED, null), row(firstId + 1, "order2", PaymentStatus.CONFIRMED, null)));
+        given(paymentRepository.findReconciliationRowsAfterId(FROM, TO, firstId + 1, firstId + 1, PageRequest.of(0, 2)))
+                .willReturn(List.of());
+
+        PaymentReconciliationReport report = job.reconcile(FROM, TO);
+
+        assertThat(report.getPayments()).isEqualTo(2);
+        assertThat(report.count(PaymentDiscrepancyType.MISSING_AT_GATEWAY)).isEqualTo(1);
+        assertThat(report.total()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("토스 거래가 없으면 한 번만 조회하고, 기간에 결제가 없으면 결제 내역은 조회하지 않음")
+    void reconcile_empty() {
+
+        given(tossPaymentsClient.transactions(any(), any(), isNull(), anyInt())).willReturn(List.of());
+        given(paymentRepository.findConfirmRequestedIdRange(FROM, TO)).willReturn(new PaymentIdRange(null, null));
+        given(paymentRepository.findLegacyCreatedIdRange(FROM, TO)).willReturn(new PaymentIdRange(null, null));
+
+        PaymentReconciliationReport report = job.reconcile(FROM, TO);
+
+        assertThat(report.total()).isZero();
+        then(tossPaymentsClient).should(times(1)).transactions(any(), any(), any(), anyInt());
+        then(paymentRepository).should(never()).findReconciliationRowsAfterId(any(), any(), any(), any(), any());
+    }
+
+    private TossTransactionResponse transaction(String transactionKey, String orderId, String status, Long amount) {
+        return new TossTransactionResponse(transactionKey, "paymentKey" + orderId.substring(5), orderId, "카드", status, "2023-03-01T10:00:00+09:00", "KRW", amount);
+    }
+
+    private PaymentReconciliationRow row(Long paymentId, String orderId, PaymentStatus status, Long cancelPaymentId) {
+        return new PaymentReconciliationRow(paymentId, orderId, "paymentKey" + orderId.substring(5), 10000, status, cancelPaymentId);
+    }
+}
@@ -0,0 +1,116 @@
+package com.project.myacademy.domain.payment;
+
+import com.project.myacademy.domain.payment.dto.ApprovePaymentResponse;
+import com.zaxxer.hikari.HikariDataSource;
+import org.hibernate.boot.model.naming.CamelCaseToUnderscoresNamingStrategy;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.orm.jpa.hibernate.SpringImplicitNamingStrategy;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.orm.jpa.support.OpenEntityManagerInViewInterceptor;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+/**
+ * OSIV 요청에서 토스 승인 응답을 기다리는 동안 DB 커넥션을 풀에 반납하는지 확인 (H2 인메모리 + Hibernate + HikariCP)
+ * 요청 처리는 OpenEntityManagerInViewInterceptor 를 직접 호출해 흉내낸다.
+ */
+@ExtendWith(MockitoExtension.class)
+class PaymentServiceConnectionTest {
+
+    @Mock
+    private TossPaymentsClient tossPaymentsClient;
+    @Mock
+    private PaymentConfirmService paymentConfirmService;
+    @InjectMocks
+    private PaymentService paymentService;
+
+    private HikariDataSource dataSource;
+    private LocalContainerEntityManagerFactoryBean factoryBean;
+    private EntityManager entityManager;
+    private TransactionTemplate transactionTemplate;
+    private OpenEntityManagerInViewInterceptor openEntityManagerInViewInterceptor;
+    private ServletWebRequest request;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl("jdbc:h2:mem:osiv;MODE=MySQL;DB_CLOSE_DELAY=-1");
+        dataSource.setUsername("sa");
+        dataSource.setMaximumPoolSize(2);
+
+        factoryBean = new LocalContainerEntityManagerFactoryBean();
+        factoryBean.setDataSource(dataSource);
+        factoryBean.setPackagesToScan("com.project.myacademy.domain");
+        factoryBean.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+        factoryBean.setJpaPropertyMap(Map.of(
+                "hibernate.hbm2ddl.auto", "create-drop",
+                "hibernate.physical_naming_strategy", CamelCaseToUnderscoresNamingStrategy.class.getName(),
+                "hibernate.implicit_naming_strategy", SpringImplicitNamingStrategy.class.getName()));
+        factoryBean.afterPropertiesSet();
+
+        EntityManagerFactory entityManagerFactory = factoryBean.getObject();
+        entityManager = SharedEntityManagerCreator.createSharedEntityManager(entityManagerFactory);
+        JpaTransactionManager transactionManager = new JpaTransactionManager(entityManagerFactory);
+        transactionManager.setDataSource(dataSource);
+        transactionTemplate = new TransactionTemplate(transactionManager);
+
+        openEntityManagerInViewInterceptor = new OpenEntityManagerInViewInterceptor();
+        openEntityManagerInViewInterceptor.setEntityManagerFactory(entityManagerFactory);
+        request = new ServletWebRequest(new MockHttpServletRequest());
+    }
+
+    @AfterEach
+    void tearDown() {
+        factoryBean.destroy();
+        dataSource.close();
+    }
+
+    @Test
+    @DisplayName("결제 승인 - 앞선 트랜잭션(verifyRequest)에서 가져온 커넥션을 토스 응답 대기 전에 반납하고, 이후 트랜잭션에서 다시 사용")
+    void successApprovePayment_releasesConnection() throws Exception {
+
+        ApprovePaymentResponse response = new ApprovePaymentResponse();
+        AtomicInteger activeDuringConfirm = new AtomicInteger(-1);
+        given(tossPaymentsClient.confirm("paymentKey", "orderId", 10000)).willAnswer(invocation -> {
+            activeDuringConfirm.set(dataSource.getHikariPoolMXBean().getActiveConnections());
+            return response;
+        });
+
+        openEntityManagerInViewInterceptor.preHandle(request);
+        try {
+            // verifyRequest 처럼 트랜잭션에서 조회 - 트랜잭션이 끝나도 OSIV 영속성 컨텍스트가 커넥션을 잡고 있음
+            transactionTemplate.executeWithoutResult(status -> entityManager.createNativeQuery("select 1").getSingleResult());
+            assertThat(dataSource.getHikariPoolMXBean().getActiveConnections()).isEqualTo(1);
+
+            assertThat(paymentService.successApprovePayment("paymentKey", "orderId", 10000)).isSameAs(response);
+            assertThat(activeDuringConfirm.get()).isZero();
+
+            // 같은 영속성 컨텍스트로 이후 조회 가능 (findPayment 등)
+            Object result = transactionTemplate.execute(status -> entityManager.createNativeQuery("select 1").getSingleResult());
+            assertThat(((Number) result).intValue()).isEqualTo(1);
+        } finally {
+            openEntityManagerInViewInterceptor.afterCompletion(request, null);
+        }
+
+        assertThat(dataSource.getHikariPoolMXBean().getActiveConnections()).isZero();
+    }
+}
@@ -0,0 +1,199 @@
+package com.project.myacademy.domain.payment;
+
+import com.project.myacademy.domain.academy.Academy;
+import com.project.myacademy.domain.academy.AcademyRepository;
+import com.project.myacademy.domain.discount.DiscountRepository;
+import com.project.myacademy.domain.employee.Employee;
+import com.project.myacademy.domain.employee.EmployeeRepository;
+import com.project.myacademy.domain.payment.dto.ApprovePaymentResponse;
+import com.project.myacademy.domain.payment.dto.CompletePaymentResponse;
+import com.project.myacademy.domain.payment.repository.CancelPaymentRepository;
+import com.project.myacademy.domain.payment.repository.PaymentRepository;
+import com.project.myacademy.domain.student.Student;
+import com.project.myacademy.domain.student.StudentRepository;
+import com.project.myacademy.global.exception.AppException;
+import com.project.myacademy.global.exception.ErrorCode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+@ExtendWith(MockitoExtension.class)
+class PaymentServiceTest {
+
+    @Mock
+    private AcademyRepository academyRepository;
+    @Mock
+    private EmployeeRepository employeeRepository;
+    @Mock
+    private StudentRepository studentRepository;
+    @Mock
+    private PaymentRepository paymentRepository;
+    @Mock
+    private DiscountRepository discountRepository;
+    @Mock
+    private CancelPaymentRepository cancelPaymentRepository;
+    @Mock
+    private TossPaymentsClient tossPaymentsClient;
+    @Mock
+    private PaymentConfirmService paymentConfirmService;
+    @InjectMocks
+    private PaymentService paymentService;
+
+    @Nested
+    @DisplayName("결제 승인")
+    class SuccessApprovePayment {
+
+        @Test
+        @DisplayName("승인 성공 - CONFIRMING 후 토스 승인, CONFIRMED")
+        void success() {
+
+            ApprovePaymentResponse response = new ApprovePaymentResponse();
+            given(tossPaymentsClient.confirm("paymentKey", "orderId", 10000)).willReturn(response);
+
+            assertThat(paymentService.successApprovePayment("paymentKey", "orderId", 10000)).isSameAs(response);
+
+            then(paymentConfirmService).should(times(1)).start("orderId");
+            then(paymentConfirmService).should(times(1)).complete("orderId", 10000);
+            then(paymentConfirmService).should(never()).fail(anyString());
+        }
+
+        @Test
+        @DisplayName("승인 실패 - 이미 결제됐거나 승인 중이면 토스에 요청하지 않음")
+        void duplicated() {
+
+            willThrow(new AppException(ErrorCode.DUPLICATED_PAYMENT)).given(paymentConfirmService).start("orderId");
+
+            AppException appException = assertThrows(AppException.class, () -> paymentService.successApprovePayment("paymentKey", "orderId", 10000));
+
+            assertThat(appException.getErrorCode()).isEqualTo(ErrorCode.DUPLICATED_PAYMENT);
+            then(tossPaymentsClient).should(never()).confirm(anyString(), anyString(), anyInt());
+        }
+
+        @Test
+        @DisplayName("승인 실패 - 토스가 거절하면 FAILED")
+        void rejected() {
+
+            given(tossPaymentsClient.confirm("paymentKey", "orderId", 10000)).willThrow(new HttpClientErrorException(HttpStatus.BAD_REQUEST));
+
+            assertThrows(HttpClientErrorException.class, () -> paymentService.successApprovePayment("paymentKey", "orderId", 10000));
+
+            then(paymentConfirmService).should(times(1)).fail("orderId");
+            then(paymentConfirmService).should(never()).complete(anyString(), any());
+        }
+
+        @Test
+        @DisplayName("승인 실패 - 토스 응답이 없으면 승인 여부를 모르므로 CONFIRMING 유지")
+        void timeout() {
+
+            given(tossPaymentsClient.confirm("paymentKey", "orderId", 10000)).willThrow(new ResourceAccessException("Read timed out"));
+
+            assertThrows(ResourceAccessException.class, () -> paymentService.successApprovePayment("paymentKey", "orderId", 10000));
+
+            then(paymentConfirmService).should(never()).fail(anyString());
+            then(paymentConfirmService).should(never()).complete(anyString(), any());
+        }
+
+        @Test
+        @DisplayName("승인 성공 - 이전 요청으로 이미 승인된 결제면 토스에서 조회해 CONFIRMED")
+        void already_processed() {
+
+            ApprovePaymentResponse found = new ApprovePaymentResponse();
+            found.setPaymentKey("paymentKey");
+            found.setStatus("DONE");
+            given(tossPaymentsClient.confirm("paymentKey", "orderId", 10000)).willThrow(alreadyProcessed());
+            given(tossPaymentsClient.findByOrderId("orderId")).willReturn(found);
+
+            assertThat(paymentService.successApprovePayment("paymentKey", "orderId", 10000)).isSameAs(found);
+
+            then(paymentConfirmService).should(times(1)).complete("orderId", 10000);
+            then(paymentConfirmService).should(never()).fail(anyString());
+        }
+
+        @Test
+        @DisplayName("승인 실패 - 이미 처리됐다는 응답이지만 토스에 승인된 결제가 없으면 FAILED")
+        void already_processed_not_done() {
+
+            ApprovePaymentResponse found = new ApprovePaymentResponse();
+            found.setPaymentKey("paymentKey");
+            found.setStatus("ABORTED");
+            given(tossPaymentsClient.confirm("paymentKey", "orderId", 10000)).willThrow(alreadyProcessed());
+            given(tossPaymentsClient.findByOrderId("orderId")).willReturn(found);
+
+            assertThrows(HttpClientErrorException.class, () -> paymentService.successApprovePayment("paymentKey", "orderId", 10000));
+
+            then(paymentConfirmService).should(times(1)).fail("orderId");
+            then(paymentConfirmService).should(never()).complete(anyString(), any());
+        }
+
+        @Test
+        @DisplayName("승인 실패 - 이미 처리됐다는 응답 후 토스 조회 응답이 없으면 CONFIRMING 유지")
+        void already_processed_timeout() {
+
+            given(tossPaymentsClient.confirm("paymentKey", "orderId", 10000)).willThrow(alreadyProcessed());
+            given(tossPaymentsClient.findByOrderId("orderId")).willThrow(new ResourceAccessException("Read timed out"));
+
+            assertThrows(ResourceAccessException.class, () -> paymentService.successApprovePayment("paymentKey", "orderId", 10000));
+
+            then(paymentConfirmService).should(never()).fail(anyString());
+            then(paymentConfirmService).should(never()).complete(anyString(), any());
+        }
+
+        private HttpClientErrorException alreadyProcessed() {
+            return HttpClientErrorException.create(HttpStatus.BAD_REQUEST, "Bad Request", HttpHeaders.EMPTY,
+                    "{\"code\":\"ALREADY_PROCESSED_PAYMENT\",\"message\":\"이미 처리된 결제 입니다.\"}".getBytes(StandardCharsets.UTF_8), StandardCharsets.UTF_8);
+        }
+    }
+
+    @Nested
+    @DisplayName("결제 완료 내역 조회")
+    class FindAllCompletePayment {
+
+        private final Academy academy = Academy.builder().id(1L).name("academy").build();
+        private final Employee employee = Employee.builder().id(1L).account("employee").academy(academy).build();
+        private final Pageable pageable = PageRequest.of(0, 20);
+
+        @Test
+        @DisplayName("학생의 결제 완료 내역 - 할인 정책 · 결제 취소를 결제마다 따로 조회하지 않음")
+        void byStudentId() {
+
+            Student student = Student.builder().id(1L).academyId(1L).build();
+            Page<CompletePaymentResponse> payments = new PageImpl<>(List.of(new CompletePaymentResponse()), pageable, 1);
+            given(academyRepository.findById(1L)).willReturn(Optional.of(academy));
+            given(employeeRepository.findByAccountAndAcademy("employee", academy)).willReturn(Optional.of(employee));
+            given(studentRepository.findByAcademyIdAndId(1L, 1L)).willReturn(Optional.of(student));
+            given(paymentRepository.findCompleteByAcademyIdAndStudentId(1L, 1L, pageable)).willReturn(payments);
+
+            assertThat(paymentService.findAllCompletePaymentByStudent(1L, "employee", 1L, pageable)).isSameAs(payments);
+
+            then(discountRepository).shouldHaveNoInteractions();
+            then(cancelPaymentRepository).shouldHaveNoInteractions();
+        }
+    }
+}
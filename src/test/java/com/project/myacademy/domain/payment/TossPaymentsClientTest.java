@@ -0,0 +1,121 @@
+package com.project.myacademy.domain.payment;
+
+import com.project.myacademy.domain.payment.dto.ApprovePaymentResponse;
+import com.project.myacademy.domain.payment.dto.TossTransactionResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class TossPaymentsClientTest {
+
+    private final List<TossStubServer> servers = new ArrayList<>();
+    private final List<TossPaymentsClient> clients = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        clients.forEach(TossPaymentsClient::close);
+        servers.forEach(TossStubServer::stop);
+    }
+
+    @Test
+    @DisplayName("결제 승인 후 취소 - 대역 서버가 승인 금액으로 취소 응답")
+    void confirm_cancel() {
+
+        TossPaymentsClient client = client(stub(0), 1000);
+
+        ApprovePaymentResponse approved = client.confirm("paymentKey", "orderId", 10000);
+        assertThat(approved.getStatus()).isEqualTo("DONE");
+        assertThat(approved.getTotalAmount()).isEqualTo("10000");
+
+        ApprovePaymentResponse canceled = client.cancel("paymentKey", "단순 변심");
+        assertThat(canceled.getStatus()).isEqualTo("CANCELED");
+        assertThat(canceled.toCancelPayment().getAmount()).isEqualTo(10000);
+        assertThat(canceled.toCancelPayment().getCancelReason()).isEqualTo("단순 변심");
+    }
+
+    @Test
+    @DisplayName("같은 결제 키로 다시 승인 요청하면 ALREADY_PROCESSED_PAYMENT - 주문 Id 로 승인된 결제 조회")
+    void confirm_already_processed() {
+
+        TossPaymentsClient client = client(stub(0), 1000);
+        client.confirm("paymentKey", "orderId", 10000);
+
+        HttpClientErrorException exception = assertThrows(HttpClientErrorException.class, () -> client.confirm("paymentKey", "orderId", 10000));
+        assertThat(TossPaymentsClient.errorCode(exception)).isEqualTo(TossPaymentsClient.ALREADY_PROCESSED_PAYMENT);
+
+        ApprovePaymentResponse found = client.findByOrderId("orderId");
+        assertThat(found.getStatus()).isEqualTo("DONE");
+        assertThat(found.getPaymentKey()).isEqualTo("paymentKey");
+        assertThrows(HttpClientErrorException.NotFound.class, () -> client.findByOrderId("unknown"));
+    }
+
+    @Test
+    @DisplayName("같은 클라이언트로 여러 번 호출 - 풀의 연결을 재사용")
+    void repeated_calls() {
+
+        TossPaymentsClient client = client(stub(0), 1000);
+
+        for (int i = 0; i < 3; i++) {
+            assertThat(client.confirm("paymentKey" + i, "orderId" + i, 1000).getStatus()).isEqualTo("DONE");
+        }
+    }
+
+    @Test
+    @DisplayName("응답 대기 시간을 넘기면 ResourceAccessException")
+    void read_timeout() {
+
+        TossPaymentsClient client = client(stub(500), 100);
+
+        assertThrows(ResourceAccessException.class, () -> client.confirm("paymentKey", "orderId", 10000));
+    }
+
+    @Test
+    @DisplayName("거래 조회 - 기간 안의 거래를 startingAfter 로 이어서 페이징 조회")
+    void transactions() {
+
+        TossStubServer server = stub(0);
+        TossPaymentsClient client = client(server, 1000);
+        LocalDateTime day = LocalDateTime.of(2023, 3, 1, 0, 0);
+        for (int i = 1; i <= 5; i++) {
+            server.addTransaction("paymentKey" + i, "orderId" + i, "DONE", 1000L * i, day.plusHours(i));
+        }
+        server.addTransaction("paymentKey9", "orderId9", "DONE", 1000L, day.minusDays(1));
+
+        List<TossTransactionResponse> first = client.transactions(day, day.plusDays(1), null, 2);
+        List<TossTransactionResponse> second = client.transactions(day, day.plusDays(1), first.get(1).getTransactionKey(), 2);
+        List<TossTransactionResponse> last = client.transactions(day, day.plusDays(1), second.get(1).getTransactionKey(), 2);
+
+        assertThat(first).extracting(TossTransactionResponse::getOrderId).containsExactly("orderId1", "orderId2");
+        assertThat(second).extracting(TossTransactionResponse::getOrderId).containsExactly("orderId3", "orderId4");
+        assertThat(last).extracting(TossTransactionResponse::getOrderId).containsExactly("orderId5");
+        assertThat(last.get(0).getAmount()).isEqualTo(5000L);
+        assertThat(last.get(0).getStatus()).isEqualTo("DONE");
+    }
+
+    private TossStubServer stub(long latencyMillis) {
+        TossStubServer server = new TossStubServer(0, latencyMillis, 4);
+        try {
+            server.start();
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+        servers.add(server);
+        return server;
+    }
+
+    private TossPaymentsClient client(TossStubServer server, int readTimeoutMillis) {
+        TossPaymentsClient client = new TossPaymentsClient("test_sk", server.getBaseUrl(), 4, 1000, readTimeoutMillis, 1000);
+        clients.add(client);
+        return client;
+    }
+}
@@ -0,0 +1,308 @@
+package com.project.myacademy.domain.payment;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 토스페이먼츠 결제 승인 · 취소 · 거래 조회 API 로컬 대역 (TossPaymentsClient 테스트 · 벤치마크용)
+ * start() 하면 port 에서 아래 요청에 토스와 같은 형식으로 응답한다. (port 가 0 이면 빈 포트, 주소는 getBaseUrl)
+ *
+ * - POST /v1/payments/confirm              : 결제 승인 (status DONE), 승인 금액을 기억해 취소 응답에 사용
+ *                                            이미 승인된 결제 키로 다시 요청하면 400 ALREADY_PROCESSED_PAYMENT
+ * - GET  /v1/payments/orders/{orderId}     : 주문 Id 로 승인된 결제 조회 (없으면 404 NOT_FOUND_PAYMENT)
+ * - POST /v1/payments/{paymentKey}/cancel  : 결제 취소 (status CANCELED)
+ * - GET  /v1/transactions                  : 거래 조회 - 위 승인 · 취소와 addTransaction 으로 넣은 거래를 기록 순서대로 페이징 조회
+ *
+ * Basic 인증 헤더가 없으면 401, 모르는 경로는 404 로 응답하고,
+ * latencyMillis 만큼 늦게 응답해 토스 서버의 응답 시간을 흉내 낼 수 있다.
+ */
+@Slf4j
+public class TossStubServer {
+
+    private static final String PREFIX = "/v1/payments/";
+    private static final String TRANSACTIONS = "/v1/transactions";
+    private static final int MAX_TRANSACTION_LIMIT = 10000;
+    private static final ZoneOffset KST = ZoneOffset.ofHours(9);
+    private static final Pattern CANCEL_PATH = Pattern.compile("^" + PREFIX + "([^/]+)/cancel$");
+    private static final Pattern ORDER_PATH = Pattern.compile("^" + PREFIX + "orders/([^/]+)$");
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Map<String, Map<String, Object>> payments = new ConcurrentHashMap<>();
+    // 거래 내역 - 기록 순번으로 만든 transactionKey 순 (= 기록 순서)
+    private final ConcurrentSkipListMap<String, Transaction> transactions = new ConcurrentSkipListMap<>();
+    private final AtomicLong transactionSequence = new AtomicLong();
+    private final int port;
+    private final long latencyMillis;
+    private final int threads;
+
+    private HttpServer server;
+    private ExecutorService executor;
+
+    public TossStubServer(int port, long latencyMillis, int threads) {
+        this.port = port;
+        this.latencyMillis = latencyMillis;
+        this.threads = threads;
+    }
+
+    // 응답 헤더와 본문이 따로 전송되므로, 응답 시간을 재는 벤치마크는 -Dsun.net.httpserver.nodelay=true 로 실행한다. (없으면 응답마다 delayed ACK 약 40ms)
+    public void start() throws IOException {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+        executor = Executors.newFixedThreadPool(threads);
+        server.setExecutor(executor);
+        server.createContext(PREFIX, this::handle);
+        server.createContext(TRANSACTIONS, this::handleTransactions);
+        server.start();
+        log.info("토스 대역 서버 시작 - {}", getBaseUrl());
+    }
+
+    public void stop() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    // payment.toss.originUrl 로 지정할 주소
+    public String getBaseUrl() {
+        return "http://localhost:" + server.getAddress().getPort() + PREFIX;
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try {
+            Map<String, Object> request = readBody(exchange.getRequestBody());
+            String authorization = exchange.getRequestHeaders().getFirst("Authorization");
+            if (authorization == null || !authorization.startsWith("Basic ")) {
+                write(exchange, 401, error("UNAUTHORIZED_KEY", "인증되지 않은 시크릿 키 혹은 클라이언트 키 입니다."));
+                return;
+            }
+
+            String path = exchange.getRequestURI().getPath();
+            Matcher cancel = CANCEL_PATH.matcher(path);
+            Matcher order = ORDER_PATH.matcher(path);
+            if ("POST".equals(exchange.getRequestMethod()) && path.equals(PREFIX + "confirm")) {
+                delay();
+                if (payments.containsKey(String.valueOf(request.get("paymentKey")))) {
+                    write(exchange, 400, error(TossPaymentsClient.ALREADY_PROCESSED_PAYMENT, "이미 처리된 결제 입니다."));
+                } else {
+                    write(exchange, 200, confirm(request));
+                }
+            } else if ("GET".equals(exchange.getRequestMethod()) && order.matches()) {
+                Optional<Map<String, Object>> payment = payments.values().stream()
+                        .filter(value -> order.group(1).equals(value.get("orderId")))
+                        .findFirst();
+                if (payment.isPresent()) {
+                    write(exchange, 200, payment.get());
+                } else {
+                    write(exchange, 404, error("NOT_FOUND_PAYMENT", "존재하지 않는 결제 정보 입니다."));
+                }
+            } else if ("POST".equals(exchange.getRequestMethod()) && cancel.matches()) {
+                delay();
+                write(exchange, 200, cancel(cancel.group(1), request));
+            } else {
+                write(exchange, 404, error("NOT_FOUND", "존재하지 않는 요청입니다."));
+            }
+        } finally {
+            exchange.close();
+        }
+    }
+
+    /**
+     * 거래 내역 추가 (대사 테스트 · 부하 테스트용 데이터)
+     *
+     * @param status        DONE, CANCELED, PARTIAL_CANCELED 등
+     * @param transactionAt 거래 시각
+     */
+    public void addTransaction(String paymentKey, String orderId, String status, long amount, LocalDateTime transactionAt) {
+        String transactionKey = String.format("tx%018d", transactionSequence.incrementAndGet());
+        transactions.put(transactionKey, new Transaction(transactionKey, paymentKey, orderId, status, amount, transactionAt));
+    }
+
+    private void handleTransactions(HttpExchange exchange) throws IOException {
+        try {
+            String authorization = exchange.getRequestHeaders().getFirst("Authorization");
+            if (authorization == null || !authorization.startsWith("Basic ")) {
+                write(exchange, 401, error("UNAUTHORIZED_KEY", "인증되지 않은 시크릿 키 혹은 클라이언트 키 입니다."));
+                return;
+            }
+            if (!"GET".equals(exchange.getRequestMethod()) || !exchange.getRequestURI().getPath().equals(TRANSACTIONS)) {
+                write(exchange, 404, error("NOT_FOUND", "존재하지 않는 요청입니다."));
+                return;
+            }
+
+            Map<String, String> query = readQuery(exchange.getRequestURI().getRawQuery());
+            LocalDateTime startDate;
+            LocalDateTime endDate;
+            int limit;
+            try {
+                startDate = LocalDateTime.parse(query.get("startDate"));
+                endDate = LocalDateTime.parse(query.get("endDate"));
+                limit = Math.min(Integer.parseInt(query.getOrDefault("limit", "100")), MAX_TRANSACTION_LIMIT);
+            } catch (RuntimeException e) {
+                write(exchange, 400, error("INVALID_REQUEST", "잘못된 요청입니다."));
+                return;
+            }
+            String startingAfter = query.get("startingAfter");
+
+            delay();
+            Map<String, Transaction> after = startingAfter == null ? transactions : transactions.tailMap(startingAfter, false);
+            List<Map<String, Object>> page = new ArrayList<>(Math.min(limit, 1000));
+            for (Transaction transaction : after.values()) {
+                if (page.size() == limit) {
+                    break;
+                }
+                if (!transaction.transactionAt.isBefore(startDate) && !transaction.transactionAt.isAfter(endDate)) {
+                    page.add(transaction.toResponse());
+                }
+            }
+            write(exchange, 200, page);
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private Map<String, Object> confirm(Map<String, Object> request) {
+        String paymentKey = String.valueOf(request.get("paymentKey"));
+        long amount = ((Number) request.getOrDefault("amount", 0)).longValue();
+        String now = OffsetDateTime.now().toString();
+
+        Map<String, Object> payment = new LinkedHashMap<>();
+        payment.put("version", "2022-11-16");
+        payment.put("paymentKey", paymentKey);
+        payment.put("orderId", request.get("orderId"));
+        payment.put("orderName", "stub");
+        payment.put("currency", "KRW");
+        payment.put("method", "카드");
+        payment.put("totalAmount", amount);
+        payment.put("balanceAmount", amount);
+        payment.put("suppliedAmount", amount - amount / 11);
+        payment.put("vat", amount / 11);
+        payment.put("status", "DONE");
+        payment.put("requestedAt", now);
+        payment.put("approvedAt", now);
+        payment.put("useEscrow", false);
+        payment.put("cultureExpense", false);
+        payments.put(paymentKey, payment);
+        addTransaction(paymentKey, String.valueOf(request.get("orderId")), "DONE", amount, LocalDateTime.now());
+        return payment;
+    }
+
+    private Map<String, Object> cancel(String paymentKey, Map<String, Object> request) {
+        Map<String, Object> payment = new LinkedHashMap<>(payments.getOrDefault(paymentKey, Map.of("paymentKey", paymentKey, "totalAmount", 0L)));
+        Object amount = payment.get("totalAmount");
+
+        Map<String, Object> canceled = new LinkedHashMap<>();
+        canceled.put("cancelAmount", amount);
+        canceled.put("cancelReason", request.get("cancelReason"));
+        canceled.put("taxFreeAmount", 0);
+        canceled.put("refundableAmount", 0);
+        canceled.put("canceledAt", OffsetDateTime.now().toString());
+
+        payment.put("status", "CANCELED");
+        payment.put("balanceAmount", 0);
+        payment.put("cancels", List.of(canceled));
+        payments.remove(paymentKey);
+        addTransaction(paymentKey, String.valueOf(payment.get("orderId")), "CANCELED", ((Number) amount).longValue(), LocalDateTime.now());
+        return payment;
+    }
+
+    private Map<String, Object> error(String code, String message) {
+        return Map.of("code", code, "message", message);
+    }
+
+    private void delay() {
+        if (latencyMillis <= 0) {
+            return;
+        }
+        try {
+            TimeUnit.MILLISECONDS.sleep(latencyMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, Object> readBody(InputStream body) throws IOException {
+        byte[] bytes = body.readAllBytes();
+        return bytes.length == 0 ? Map.of() : objectMapper.readValue(bytes, Map.class);
+    }
+
+    private Map<String, String> readQuery(String rawQuery) {
+        Map<String, String> query = new HashMap<>();
+        if (rawQuery == null) {
+            return query;
+        }
+        for (String pair : rawQuery.split("&")) {
+            int separator = pair.indexOf('=');
+            if (separator > 0) {
+                query.put(URLDecoder.decode(pair.substring(0, separator), StandardCharsets.UTF_8), URLDecoder.decode(pair.substring(separator + 1), StandardCharsets.UTF_8));
+            }
+        }
+        return query;
+    }
+
+    private void write(HttpExchange exchange, int status, Object body) throws IOException {
+        byte[] bytes = objectMapper.writeValueAsString(body).getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private static final class Transaction {
+        private final String transactionKey;
+        private final String paymentKey;
+        private final String orderId;
+        private final String status;
+        private final long amount;
+        private final LocalDateTime transactionAt;
+
+        private Transaction(String transactionKey, String paymentKey, String orderId, String status, long amount, LocalDateTime transactionAt) {
+            this.transactionKey = transactionKey;
+            this.paymentKey = paymentKey;
+            this.orderId = orderId;
+            this.status = status;
+            this.amount = amount;
+            this.transactionAt = transactionAt;
+        }
+
+        private Map<String, Object> toResponse() {
+            Map<String, Object> transaction = new LinkedHashMap<>();
+            transaction.put("mId", "tosspayments");
+            transaction.put("transactionKey", transactionKey);
+            transaction.put("paymentKey", paymentKey);
+            transaction.put("orderId", orderId);
+            transaction.put("method", "카드");
+            transaction.put("status", status);
+            transaction.put("transactionAt", transactionAt.atOffset(KST).toString());
+            transaction.put("currency", "KRW");
+            transaction.put("amount", amount);
+            return transaction;
+        }
+    }
+}
@@ -0,0 +1,215 @@
+package com.project.myacademy.domain.registration;
+
+import com.project.myacademy.domain.academy.Academy;
+import com.project.myacademy.domain.employee.Employee;
+import com.project.myacademy.domain.employee.EmployeeRole;
+import com.project.myacademy.domain.enrollment.Enrollment;
+import com.project.myacademy.domain.enrollment.EnrollmentRepository;
+import com.project.myacademy.domain.lecture.Lecture;
+import com.project.myacademy.domain.lecture.LectureRepository;
+import com.project.myacademy.domain.student.Student;
+import com.project.myacademy.domain.student.StudentRepository;
+import com.project.myacademy.domain.waitinglist.Waitinglist;
+import com.project.myacademy.domain.waitinglist.WaitinglistIndex;
+import com.project.myacademy.domain.waitinglist.WaitinglistRepository;
+import com.project.myacademy.global.exception.ErrorCode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+@ExtendWith(MockitoExtension.class)
+class RegistrationBatchWriterTest {
+
+    @Mock
+    private LectureRepository lectureRepository;
+    @Mock
+    private StudentRepository studentRepository;
+    @Mock
+    private EnrollmentRepository enrollmentRepository;
+    @Mock
+    private WaitinglistRepository waitinglistRepository;
+    @Mock
+    private WaitinglistIndex waitinglistIndex;
+
+    @InjectMocks
+    private RegistrationBatchWriter batchWriter;
+
+    private Employee employee;
+    private Lecture lecture;
+    private final AtomicLong savedId = new AtomicLong();
+
+    @BeforeEach
+    void setUp() {
+        Academy academy = Academy.builder().id(1L).name("academy").build();
+        employee = Employee.builder().id(1L).name("staff").account("staff").academy(academy).employeeRole(EmployeeRole.ROLE_STAFF).build();
+        lecture = Lecture.builder().id(1L).name("lecture").maximumCapacity(3).currentEnrollmentNumber(1).build();
+    }
+
+    @Nested
+    @DisplayName("수강 등록")
+    class Enroll {
+
+        @Test
+        @DisplayName("남은 좌석만큼 도착 순서대로 등록하고 좌석은 UPDATE 한 번으로 확보")
+        void write_seats_in_order() {
+
+            givenLecture(2);
+            givenSaved();
+            given(lectureRepository.reserveSeats(1L, 2)).willReturn(1);
+
+            List<RegistrationTicket> results = batchWriter.write(1L, List.of(enroll(1L), enroll(2L), enroll(3L)));
+
+            assertThat(results).extracting(RegistrationTicket::getStatus)
+                    .containsExactly(RegistrationStatus.ENROLLED, RegistrationStatus.ENROLLED, RegistrationStatus.REJECTED);
+            assertThat(results.get(0).getResultId()).isNotNull();
+            assertThat(results.get(2).getErrorCode()).isEqualTo(ErrorCode.OVER_REGISTRATION_NUMBER);
+
+            then(lectureRepository).should(times(1)).reserveSeats(1L, 2);
+            then(lectureRepository).should(never()).reserveSeat(anyLong());
+            then(enrollmentRepository).should(times(1)).saveAll(anyList());
+        }
+
+        @Test
+        @DisplayName("이미 등록된 학생, 같은 배치 안의 중복 요청은 거절")
+        void write_duplicated() {
+
+            givenLecture(2);
+            givenSaved();
+            given(enrollmentRepository.findStudentIdsByLectureIdAndStudentIdIn(eq(1L), any())).willReturn(List.of(1L));
+            given(lectureRepository.reserveSeats(1L, 1)).willReturn(1);
+
+            List<RegistrationTicket> results = batchWriter.write(1L, List.of(enroll(1L), enroll(2L), enroll(2L)));
+
+            assertThat(results).extracting(RegistrationTicket::getStatus)
+                    .containsExactly(RegistrationStatus.REJECTED, RegistrationStatus.ENROLLED, RegistrationStatus.REJECTED);
+            assertThat(results.get(0).getErrorCode()).isEqualTo(ErrorCode.DUPLICATED_ENROLLMENT);
+            assertThat(results.get(2).getErrorCode()).isEqualTo(ErrorCode.DUPLICATED_ENROLLMENT);
+        }
+
+        @Test
+        @DisplayName("읽은 뒤 다른 요청이 좌석을 가져갔다면 남은 좌석을 다시 읽고 확보한 만큼만 등록")
+        void write_seats_taken() {
+
+            given(lectureRepository.findRemainingSeats(1L)).willReturn(2, 1);
+            given(lectureRepository.getReferenceById(1L)).willReturn(lecture);
+            givenSaved();
+            given(lectureRepository.reserveSeats(1L, 2)).willReturn(0);
+            given(lectureRepository.reserveSeats(1L, 1)).willReturn(1);
+
+            List<RegistrationTicket> results = batchWriter.write(1L, List.of(enroll(1L), enroll(2L), waitlist(3L)));
+
+            assertThat(results).extracting(RegistrationTicket::getStatus)
+                    .containsExactly(RegistrationStatus.ENROLLED, RegistrationStatus.REJECTED, RegistrationStatus.WAITING);
+            assertThat(results.get(1).getErrorCode()).isEqualTo(ErrorCode.OVER_REGISTRATION_NUMBER);
+        }
+
+        @Test
+        @DisplayName("접수 이후 강좌가 삭제되었다면 모두 거절")
+        void write_lecture_deleted() {
+
+            given(lectureRepository.findRemainingSeats(1L)).willReturn(null);
+
+            List<RegistrationTicket> results = batchWriter.write(1L, List.of(enroll(1L), waitlist(2L)));
+
+            assertThat(results).extracting(RegistrationTicket::getErrorCode).containsOnly(ErrorCode.LECTURE_NOT_FOUND);
+            then(lectureRepository).should(never()).reserveSeats(anyLong(), anyInt());
+            then(enrollmentRepository).should(never()).saveAll(anyList());
+        }
+    }
+
+    @Nested
+    @DisplayName("대기 등록")
+    class Waitlist {
+
+        @Test
+        @DisplayName("배치의 수강 등록으로 정원이 다 차면 대기번호 생성")
+        void write_waitlist_after_full() {
+
+            givenLecture(1);
+            givenSaved();
+            given(lectureRepository.reserveSeats(1L, 1)).willReturn(1);
+
+            List<RegistrationTicket> results = batchWriter.write(1L, List.of(waitlist(2L), enroll(1L), waitlist(1L)));
+
+            assertThat(results).extracting(RegistrationTicket::getStatus)
+                    .containsExactly(RegistrationStatus.WAITING, RegistrationStatus.ENROLLED, RegistrationStatus.REJECTED);
+            assertThat(results.get(2).getErrorCode()).isEqualTo(ErrorCode.DUPLICATED_ENROLLMENT);
+            then(waitinglistRepository).should(times(1)).saveAll(anyList());
+        }
+
+        @Test
+        @DisplayName("좌석이 남아있으면 대기 등록 거절")
+        void write_waitlist_seat_left() {
+
+            givenLecture(2);
+
+            List<RegistrationTicket> results = batchWriter.write(1L, List.of(waitlist(1L)));
+
+            assertThat(results.get(0).getErrorCode()).isEqualTo(ErrorCode.CANNOT_REGISTER_WAITINGLIST);
+            then(lectureRepository).should(never()).reserveSeats(anyLong(), anyInt());
+        }
+
+        @Test
+        @DisplayName("이미 대기 등록된 학생은 거절")
+        void write_waitlist_duplicated() {
+
+            givenLecture(0);
+            givenSaved();
+            given(waitinglistRepository.findStudentIdsByLectureIdAndStudentIdIn(eq(1L), any())).willReturn(List.of(1L));
+
+            List<RegistrationTicket> results = batchWriter.write(1L, List.of(waitlist(1L), waitlist(2L)));
+
+            assertThat(results).extracting(RegistrationTicket::getStatus)
+                    .containsExactly(RegistrationStatus.REJECTED, RegistrationStatus.WAITING);
+            assertThat(results.get(0).getErrorCode()).isEqualTo(ErrorCode.DUPLICATED_WAITINGLIST);
+        }
+    }
+
+    private void givenLecture(int remainingSeats) {
+        given(lectureRepository.findRemainingSeats(1L)).willReturn(remainingSeats);
+        given(lectureRepository.getReferenceById(1L)).willReturn(lecture);
+    }
+
+    // 저장 시 id 부여
+    private void givenSaved() {
+        given(studentRepository.getReferenceById(anyLong())).willAnswer(invocation -> Student.builder().id(invocation.getArgument(0)).build());
+        given(enrollmentRepository.saveAll(anyList())).willAnswer(invocation -> {
+            List<Enrollment> enrollments = invocation.getArgument(0);
+            enrollments.forEach(enrollment -> ReflectionTestUtils.setField(enrollment, "id", savedId.incrementAndGet()));
+            return enrollments;
+        });
+        given(waitinglistRepository.saveAll(anyList())).willAnswer(invocation -> {
+            List<Waitinglist> waitinglists = invocation.getArgument(0);
+            waitinglists.forEach(waitinglist -> ReflectionTestUtils.setField(waitinglist, "id", savedId.incrementAndGet()));
+            return waitinglists;
+        });
+    }
+
+    private RegistrationCommand enroll(Long studentId) {
+        return new RegistrationCommand("enroll-" + studentId, RegistrationType.ENROLLMENT, 1L, 1L, studentId, employee);
+    }
+
+    private RegistrationCommand waitlist(Long studentId) {
+        return new RegistrationCommand("waitlist-" + studentId, RegistrationType.WAITINGLIST, 1L, 1L, studentId, employee);
+    }
+}
@@ -0,0 +1,183 @@
+package com.project.myacademy.domain.registration;
+
+import com.project.myacademy.global.exception.AppException;
+import com.project.myacademy.global.exception.ErrorCode;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.times;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class RegistrationQueueTest {
+
+    @Mock
+    private RegistrationBatchWriter batchWriter;
+    @Mock
+    private RegistrationTicketStore ticketStore;
+
+    private RegistrationQueue registrationQueue;
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        registrationQueue.stop();
+    }
+
+    @Test
+    @DisplayName("서버 안에서 같은 강좌의 요청은 항상 같은 스레드가 도착 순서대로 처리")
+    void single_writer_per_lecture() throws InterruptedException {
+
+        start(4, 1000, 20);
+
+        Map<Long, Set<String>> threadsByLecture = new ConcurrentHashMap<>();
+        Map<Long, List<Long>> studentsByLecture = new ConcurrentHashMap<>();
+        List<RegistrationTicket> saved = new CopyOnWriteArrayList<>();
+        CountDownLatch done = new CountDownLatch(200);
+
+        given(batchWriter.write(anyLong(), anyList())).willAnswer(invocation -> {
+            Long lectureId = invocation.getArgument(0);
+            List<RegistrationCommand> commands = invocation.getArgument(1);
+            threadsByLecture.computeIfAbsent(lectureId, id -> ConcurrentHashMap.newKeySet()).add(Thread.currentThread().getName());
+            commands.forEach(command -> studentsByLecture.computeIfAbsent(lectureId, id -> new CopyOnWriteArrayList<>()).add(command.getStudentId()));
+            return commands.stream().map(command -> RegistrationTicket.enrolled(command, command.getStudentId())).collect(Collectors.toList());
+        });
+        willAnswer(invocation -> {
+            Collection<RegistrationTicket> tickets = invocation.getArgument(0);
+            saved.addAll(tickets);
+            tickets.forEach(ticket -> done.countDown());
+            return null;
+        }).given(ticketStore).saveAll(any());
+
+        // 강좌 10개에 학생 20명씩 번갈아 접수
+        for (long studentId = 1; studentId <= 20; studentId++) {
+            for (long lectureId = 1; lectureId <= 10; lectureId++) {
+                registrationQueue.submit(command(lectureId, studentId));
+            }
+        }
+
+        assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(saved).hasSize(200).allMatch(ticket -> ticket.getStatus() == RegistrationStatus.ENROLLED);
+        assertThat(threadsByLecture).hasSize(10).allSatisfy((lectureId, threads) -> assertThat(threads).hasSize(1));
+        assertThat(studentsByLecture).allSatisfy((lectureId, students) -> assertThat(students).isSorted().hasSize(20));
+    }
+
+    @Test
+    @DisplayName("저장에 실패하면 해당 강좌의 요청은 실패로 기록하고 다음 요청을 계속 처리")
+    void write_failure() throws InterruptedException {
+
+        start(1, 100, 10);
+
+        List<RegistrationTicket> saved = new CopyOnWriteArrayList<>();
+        CountDownLatch done = new CountDownLatch(2);
+
+        given(batchWriter.write(anyLong(), anyList())).willAnswer(invocation -> {
+            Long lectureId = invocation.getArgument(0);
+            List<RegistrationCommand> commands = invocation.getArgument(1);
+            if (lectureId == 1L) {
+                throw new IllegalStateException("DB 오류");
+            }
+            return commands.stream().map(command -> RegistrationTicket.enrolled(command, 1L)).collect(Collectors.toList());
+        });
+        willAnswer(invocation -> {
+            Collection<RegistrationTicket> tickets = invocation.getArgument(0);
+            saved.addAll(tickets);
+            tickets.forEach(ticket -> done.countDown());
+            return null;
+        }).given(ticketStore).saveAll(any());
+
+        registrationQueue.submit(command(1L, 1L));
+        registrationQueue.submit(command(2L, 1L));
+
+        assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(saved).extracting(RegistrationTicket::getStatus).containsExactlyInAnyOrder(RegistrationStatus.FAILED, RegistrationStatus.ENROLLED);
+    }
+
+    @Test
+    @DisplayName("다른 서버의 등록과 겹쳐 유니크 제약에 걸리면 배치를 한 번 더 저장")
+    void write_duplicated_on_other_node() throws InterruptedException {
+
+        start(1, 100, 10);
+
+        List<RegistrationTicket> saved = new CopyOnWriteArrayList<>();
+        CountDownLatch done = new CountDownLatch(1);
+
+        given(batchWriter.write(anyLong(), anyList()))
+                .willThrow(new DataIntegrityViolationException("uk_enrollment_student_lecture_active"))
+                .willAnswer(invocation -> {
+                    List<RegistrationCommand> commands = invocation.getArgument(1);
+                    return commands.stream().map(command -> RegistrationTicket.rejected(command, ErrorCode.DUPLICATED_ENROLLMENT)).collect(Collectors.toList());
+                });
+        willAnswer(invocation -> {
+            Collection<RegistrationTicket> tickets = invocation.getArgument(0);
+            saved.addAll(tickets);
+            tickets.forEach(ticket -> done.countDown());
+            return null;
+        }).given(ticketStore).saveAll(any());
+
+        registrationQueue.submit(command(1L, 1L));
+
+        assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(saved).extracting(RegistrationTicket::getErrorCode).containsExactly(ErrorCode.DUPLICATED_ENROLLMENT);
+        then(batchWriter).should(times(2)).write(anyLong(), anyList());
+    }
+
+    @Test
+    @DisplayName("샤드 큐가 가득 차면 접수 거절")
+    void queue_full() throws InterruptedException {
+
+        start(1, 1, 1);
+
+        CountDownLatch writing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        given(batchWriter.write(anyLong(), anyList())).willAnswer(invocation -> {
+            writing.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return new ArrayList<>();
+        });
+
+        // 첫 요청은 처리 중, 두 번째 요청은 큐에서 대기
+        registrationQueue.submit(command(1L, 1L));
+        assertThat(writing.await(5, TimeUnit.SECONDS)).isTrue();
+        registrationQueue.submit(command(1L, 2L));
+
+        AppException appException = assertThrows(AppException.class, () -> registrationQueue.submit(command(1L, 3L)));
+        assertThat(appException.getErrorCode()).isEqualTo(ErrorCode.REGISTRATION_QUEUE_FULL);
+
+        release.countDown();
+    }
+
+    private void start(int shards, int queueCapacity, int batchSize) {
+        registrationQueue = new RegistrationQueue(batchWriter, ticketStore, shards, queueCapacity, batchSize);
+        registrationQueue.start();
+    }
+
+    private RegistrationCommand command(Long lectureId, Long studentId) {
+        return new RegistrationCommand(lectureId + "-" + studentId, RegistrationType.ENROLLMENT, 1L, lectureId, studentId, null);
+    }
+}
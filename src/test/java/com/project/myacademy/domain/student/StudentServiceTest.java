@@ -8,6 +8,7 @@ import com.project.myacademy.domain.employee.EmployeeRole;
 import com.project.myacademy.domain.parent.Parent;
 import com.project.myacademy.domain.parent.ParentRepository;
 import com.project.myacademy.domain.student.dto.*;
+import com.project.myacademy.global.CursorPage;
 import com.project.myacademy.global.exception.AppException;
 import com.project.myacademy.global.exception.ErrorCode;
 import org.junit.jupiter.api.BeforeEach;
@@ -19,7 +20,9 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.*;
+import org.springframework.test.util.ReflectionTestUtils;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -27,7 +30,10 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
 
 @ExtendWith(MockitoExtension.class)
 class StudentServiceTest {
@@ -286,6 +292,43 @@ class StudentServiceTest {
             assertThat(studentListResponse.getTotalElements()).isEqualTo(2);
             assertThat(studentListResponse.getTotalPages()).isEqualTo(1);
         }
+
+        @Test
+        @DisplayName("학생 전체 조회 - 커서 페이징, size + 1 건이 조회되면 다음 페이지 커서 반환")
+        void read_students_by_cursor_success() {
+
+            given(academyRepository.findById((any()))).willReturn(Optional.of(academy));
+            given(employeeRepository.findByAccountAndAcademy(any(), any())).willReturn(Optional.of(employeeUSER));
+            LocalDateTime now = LocalDateTime.of(2023, 1, 1, 12, 0);
+            ReflectionTestUtils.setField(student3, "createdAt", now);
+            ReflectionTestUtils.setField(student2, "createdAt", now.minusMinutes(1));
+            ReflectionTestUtils.setField(student1, "createdAt", now.minusMinutes(2));
+            given(studentRepository.findByAcademyIdBeforeCursor(eq(academy.getId()), any(), eq(Long.MAX_VALUE), eq(PageRequest.of(0, 3))))
+                    .willReturn(List.of(student3, student2, student1));
+
+            CursorPage<ReadAllStudentResponse> responses = studentService.readAllStudentByCursor(academy.getId(), "", 2, employeeUSER.getAccount());
+
+            assertThat(responses.getContent()).hasSize(2);
+            assertThat(responses.isHasNext()).isTrue();
+
+            CursorPage.Key next = CursorPage.decode(responses.getNextCursor());
+            assertThat(next.getCreatedAt()).isEqualTo(now.minusMinutes(1));
+            assertThat(next.getId()).isEqualTo(2L);
+            then(studentRepository).should(never()).findAllByAcademyId(any(), any());
+        }
+
+        @Test
+        @DisplayName("학생 전체 조회 실패3 - 커서 페이징, 해석할 수 없는 커서")
+        void read_students_by_cursor_fail() {
+
+            given(academyRepository.findById((any()))).willReturn(Optional.of(academy));
+            given(employeeRepository.findByAccountAndAcademy(any(), any())).willReturn(Optional.of(employeeUSER));
+
+            AppException appException = assertThrows(AppException.class,
+                    () -> studentService.readAllStudentByCursor(academy.getId(), "not-a-cursor", 20, employeeUSER.getAccount()));
+
+            assertThat(appException.getErrorCode()).isEqualTo(ErrorCode.INVALID_CURSOR);
+        }
     }
 
     @Nested
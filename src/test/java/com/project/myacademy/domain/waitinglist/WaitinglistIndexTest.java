@@ -0,0 +1,171 @@
+package com.project.myacademy.domain.waitinglist;
+
+import com.project.myacademy.domain.lecture.Lecture;
+import com.project.myacademy.domain.student.Student;
+import com.project.myacademy.domain.waitinglist.dto.WaitinglistIndexEntry;
+import com.project.myacademy.domain.waitinglist.dto.WaitinglistPositionResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+@ExtendWith(MockitoExtension.class)
+class WaitinglistIndexTest {
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+    @Mock
+    private ZSetOperations<String, String> zSetOperations;
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+    @Mock
+    private WaitinglistRepository waitinglistRepository;
+    @Captor
+    private ArgumentCaptor<RedisScript<Long>> script;
+
+    private WaitinglistIndex waitinglistIndex;
+
+    @BeforeEach
+    void setUp() {
+        waitinglistIndex = new WaitinglistIndex(redisTemplate, waitinglistRepository, true, true, 3600);
+    }
+
+    @Test
+    @DisplayName("대기자 수는 ZCARD - 1(HEAD), 색인이 없는 강좌만 DB 에서 재구성")
+    void counts_rebuild_missing() {
+
+        given(redisTemplate.opsForValue()).willReturn(valueOperations);
+        given(valueOperations.multiGet(List.of("waitinglist:lecture:2:version"))).willReturn(Arrays.asList((String) null));
+        given(redisTemplate.executePipelined(any(RedisCallback.class))).willReturn(List.of(3L, 0L)).willReturn(List.of(1L));
+        given(waitinglistRepository.findIndexEntriesByLectureIdIn(List.of(2L))).willReturn(List.of(entry(2L, 21L)));
+
+        Optional<Map<Long, Long>> counts = waitinglistIndex.counts(List.of(1L, 2L));
+
+        assertThat(counts).contains(Map.of(1L, 2L, 2L, 1L));
+        then(waitinglistRepository).should(times(1)).findIndexEntriesByLectureIdIn(List.of(2L));
+        then(redisTemplate).should(times(2)).executePipelined(any(RedisCallback.class));
+    }
+
+    @Test
+    @DisplayName("대기 순번은 ZRANK (HEAD 가 0번이므로 1번부터)")
+    void position() {
+
+        given(redisTemplate.executePipelined(any(RedisCallback.class))).willReturn(Arrays.asList(2L, 4L));
+
+        WaitinglistPositionResponse position = waitinglistIndex.position(1L, 12L).orElseThrow();
+
+        assertThat(position.getWaitingNum()).isEqualTo(2L);
+        assertThat(position.getWaitingCount()).isEqualTo(3L);
+        then(waitinglistRepository).should(never()).findIndexEntriesByLectureIdIn(anyList());
+    }
+
+    @Test
+    @DisplayName("재구성하는 동안 대기 등록 · 삭제가 반영되어 색인을 교체하지 못하면 빈 값을 반환해 DB 로 조회하게 함")
+    void position_rebuild_skipped() {
+
+        given(redisTemplate.opsForValue()).willReturn(valueOperations);
+        given(valueOperations.multiGet(List.of("waitinglist:lecture:1:version"))).willReturn(List.of("5"));
+        given(waitinglistRepository.findIndexEntriesByLectureIdIn(List.of(1L))).willReturn(List.of(entry(1L, 11L)));
+        given(redisTemplate.executePipelined(any(RedisCallback.class)))
+                .willReturn(Arrays.asList(null, 0L))
+                .willReturn(List.of(0L))
+                .willReturn(Arrays.asList(null, 0L));
+
+        assertThat(waitinglistIndex.position(1L, 11L)).isEmpty();
+        then(waitinglistRepository).should(times(1)).findIndexEntriesByLectureIdIn(List.of(1L));
+    }
+
+    @Test
+    @DisplayName("다음 대기자는 HEAD 를 빼고 등록순으로 반환")
+    void next() {
+
+        given(redisTemplate.opsForZSet()).willReturn(zSetOperations);
+        given(zSetOperations.range("waitinglist:lecture:1", 0, 2)).willReturn(new LinkedHashSet<>(List.of("#", "11", "12")));
+
+        assertThat(waitinglistIndex.next(1L, 2)).contains(List.of(11L, 12L));
+    }
+
+    @Test
+    @DisplayName("Redis 를 사용할 수 없으면 빈 값을 반환해 DB 로 조회하게 함")
+    void redis_failure() {
+
+        given(redisTemplate.executePipelined(any(RedisCallback.class))).willThrow(new RedisConnectionFailureException("connection refused"));
+
+        assertThat(waitinglistIndex.count(1L)).isEmpty();
+        assertThat(waitinglistIndex.position(1L, 11L)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("대기번호 등록 · 삭제는 트랜잭션 커밋 후 반영")
+    void add_remove_after_commit() {
+
+        Waitinglist waitinglist = Waitinglist.builder().id(1L).lecture(Lecture.builder().id(1L).build()).student(Student.builder().id(11L).build()).build();
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            waitinglistIndex.add(List.of(waitinglist));
+            waitinglistIndex.remove(1L, List.of(12L));
+
+            then(redisTemplate).should(never()).execute(ArgumentMatchers.<RedisScript<Long>>any(), anyList(), (Object[]) any());
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        List<String> keys = List.of("waitinglist:lecture:1", "waitinglist:lecture:1:version");
+        then(redisTemplate).should(times(1)).execute(script.capture(), eq(keys), eq("3600"), anyString(), eq("11"));
+        then(redisTemplate).should(times(1)).execute(script.capture(), eq(keys), eq("3600"), eq("12"));
+        assertThat(script.getAllValues()).extracting(RedisScript::getScriptAsString)
+                .allSatisfy(source -> assertThat(source).contains("incr", "exists"));
+    }
+
+    private WaitinglistIndexEntry entry(Long lectureId, Long studentId) {
+        return new WaitinglistIndexEntry() {
+            @Override
+            public Long getLectureId() {
+                return lectureId;
+            }
+
+            @Override
+            public Long getStudentId() {
+                return studentId;
+            }
+
+            @Override
+            public LocalDateTime getCreatedAt() {
+                return LocalDateTime.of(2023, 1, 1, 0, 0);
+            }
+        };
+    }
+}
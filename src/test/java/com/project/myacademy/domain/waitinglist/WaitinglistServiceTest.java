@@ -7,16 +7,20 @@ import com.project.myacademy.domain.employee.EmployeeRepository;
 import com.project.myacademy.domain.employee.EmployeeRole;
 import com.project.myacademy.domain.enrollment.Enrollment;
 import com.project.myacademy.domain.enrollment.EnrollmentRepository;
+import com.project.myacademy.domain.enrollment.dto.FindStudentInfoFromEnrollmentByLectureResponse;
 import com.project.myacademy.domain.lecture.Lecture;
 import com.project.myacademy.domain.lecture.LectureRepository;
+import com.project.myacademy.domain.notification.NotificationService;
+import com.project.myacademy.domain.notification.NotificationType;
 import com.project.myacademy.domain.student.Student;
 import com.project.myacademy.domain.student.StudentRepository;
 import com.project.myacademy.domain.waitinglist.dto.CreateWaitinglistResponse;
 import com.project.myacademy.domain.waitinglist.dto.DeleteWaitinglistResponse;
 import com.project.myacademy.domain.waitinglist.dto.ReadAllWaitinglistResponse;
+import com.project.myacademy.domain.waitinglist.dto.WaitinglistCountByLecture;
+import com.project.myacademy.domain.waitinglist.dto.WaitinglistPositionResponse;
 import com.project.myacademy.global.exception.AppException;
 import com.project.myacademy.global.exception.ErrorCode;
-import com.project.myacademy.domain.email.EmailService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -34,9 +38,11 @@ import org.springframework.data.domain.Sort;
 import javax.mail.MessagingException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.BDDMockito.*;
@@ -57,7 +63,9 @@ class WaitinglistServiceTest {
     @Mock
     private WaitinglistRepository waitinglistRepository;
     @Mock
-    private EmailService emailService;
+    private WaitinglistIndex waitinglistIndex;
+    @Mock
+    private NotificationService notificationService;
     @InjectMocks
     private WaitinglistService waitinglistService;
 
@@ -173,6 +181,53 @@ class WaitinglistServiceTest {
             then(waitinglistRepository).should(times(1)).countWaitinglistByLecture(mockLecture);
         }
 
+        @Test
+        @DisplayName("대기 순번 조회 성공 - 대기자 색인 사용")
+        void findWaitingPosition_success_index() {
+
+            given(academyRepository.findById(anyLong())).willReturn(Optional.of(academy));
+            given(employeeRepository.findByAccountAndAcademy(anyString(), any(Academy.class))).willReturn(Optional.of(employee));
+            given(lectureRepository.findById(anyLong())).willReturn(Optional.of(lecture));
+            given(waitinglistIndex.position(lecture.getId(), student2.getId())).willReturn(Optional.of(WaitinglistPositionResponse.of(lecture.getId(), student2.getId(), 2L, 2L)));
+
+            WaitinglistPositionResponse position = waitinglistService.findWaitingPosition(academy.getId(), lecture.getId(), student2.getId(), employee.getAccount());
+
+            assertThat(position.getWaitingNum()).isEqualTo(2L);
+            assertThat(position.getWaitingCount()).isEqualTo(2L);
+            then(waitinglistRepository).should(never()).findByLectureOrderByCreatedAtAsc(any(Lecture.class));
+        }
+
+        @Test
+        @DisplayName("대기 순번 조회 성공 - 대기자 색인을 사용할 수 없으면 DB 명단으로 계산")
+        void findWaitingPosition_success_fallback() {
+
+            given(academyRepository.findById(anyLong())).willReturn(Optional.of(academy));
+            given(employeeRepository.findByAccountAndAcademy(anyString(), any(Academy.class))).willReturn(Optional.of(employee));
+            given(lectureRepository.findById(anyLong())).willReturn(Optional.of(lecture));
+            given(waitinglistIndex.position(anyLong(), anyLong())).willReturn(Optional.empty());
+            given(waitinglistRepository.findByLectureOrderByCreatedAtAsc(lecture)).willReturn(waitinglists);
+
+            WaitinglistPositionResponse position = waitinglistService.findWaitingPosition(academy.getId(), lecture.getId(), student2.getId(), employee.getAccount());
+
+            assertThat(position.getWaitingNum()).isEqualTo(2L);
+            assertThat(position.getWaitingCount()).isEqualTo(2L);
+        }
+
+        @Test
+        @DisplayName("대기 순번 조회 실패 - 대기 중인 학생이 아닐 때")
+        void findWaitingPosition_fail() {
+
+            given(academyRepository.findById(anyLong())).willReturn(Optional.of(academy));
+            given(employeeRepository.findByAccountAndAcademy(anyString(), any(Academy.class))).willReturn(Optional.of(employee));
+            given(lectureRepository.findById(anyLong())).willReturn(Optional.of(lecture));
+            given(waitinglistIndex.position(anyLong(), anyLong())).willReturn(Optional.of(WaitinglistPositionResponse.of(lecture.getId(), 3L, null, 2L)));
+
+            AppException appException = assertThrows(AppException.class,
+                    () -> waitinglistService.findWaitingPosition(academy.getId(), lecture.getId(), 3L, employee.getAccount()));
+
+            assertThat(appException.getErrorCode()).isEqualTo(ErrorCode.WAITINGLIST_NOT_FOUND);
+        }
+
         @Test
         @DisplayName("강좌의 대기번호 수 조회 실패(1) - 학원이 존재하지 않을 때")
         void countWaitingList_ByLecture_fail1() {
@@ -223,6 +278,66 @@ class WaitinglistServiceTest {
             then(employeeRepository).should(times(1)).findByAccountAndAcademy(anyString(), any(Academy.class));
             then(lectureRepository).should(times(1)).findById(anyLong());
         }
+
+        @Test
+        @DisplayName("여러 강좌의 대기번호 수 한 번에 조회 성공 - 대기자가 없는 강좌는 0")
+        void countWaitingList_ByLectures_success() {
+
+            WaitinglistCountByLecture count = mock(WaitinglistCountByLecture.class);
+            given(count.getLectureId()).willReturn(1L);
+            given(count.getWaitingCount()).willReturn(2L);
+
+            given(academyRepository.findById(anyLong())).willReturn(Optional.of(academy));
+            given(employeeRepository.findByAccountAndAcademy(anyString(), any(Academy.class))).willReturn(Optional.of(employee));
+            given(waitinglistRepository.countGroupByLectureIdIn(List.of(1L, 2L))).willReturn(List.of(count));
+
+            Map<Long, Long> counts = waitinglistService.countWaitingListByLectures(academy.getId(), List.of(1L, 2L), employee.getAccount());
+
+            assertThat(counts).containsExactly(entry(1L, 2L), entry(2L, 0L));
+
+            then(academyRepository).should(times(1)).findById(anyLong());
+            then(employeeRepository).should(times(1)).findByAccountAndAcademy(anyString(), any(Academy.class));
+            then(waitinglistRepository).should(times(1)).countGroupByLectureIdIn(anyCollection());
+            then(lectureRepository).should(never()).findById(anyLong());
+        }
+
+        @Test
+        @DisplayName("여러 강좌의 대기자 명단 한 번에 조회 성공 - 강좌별로 나누고 등록순으로 대기번호 부여")
+        void findWaitingStudent_ByLectures_success() {
+
+            Lecture lecture2 = Lecture.builder().id(2L).name("lecture2").price(10000).employee(teacher).build();
+            Waitinglist waitinglist3 = Waitinglist.builder().id(3L).student(student).lecture(lecture2).build();
+
+            given(academyRepository.findById(anyLong())).willReturn(Optional.of(academy));
+            given(employeeRepository.findByAccountAndAcademy(anyString(), any(Academy.class))).willReturn(Optional.of(employee));
+            given(waitinglistRepository.findAllWithStudentByLectureIdIn(List.of(1L, 2L, 3L))).willReturn(List.of(waitinglist, waitinglist2, waitinglist3));
+
+            Map<Long, List<FindStudentInfoFromEnrollmentByLectureResponse>> waitingStudents =
+                    waitinglistService.findWaitingStudentByLectures(academy.getId(), List.of(1L, 2L, 3L), employee.getAccount());
+
+            assertThat(waitingStudents.get(1L)).extracting(FindStudentInfoFromEnrollmentByLectureResponse::getWaitingId).containsExactly(1L, 2L);
+            assertThat(waitingStudents.get(1L)).extracting(FindStudentInfoFromEnrollmentByLectureResponse::getWaitingNum).containsExactly(1L, 2L);
+            assertThat(waitingStudents.get(2L)).extracting(FindStudentInfoFromEnrollmentByLectureResponse::getWaitingNum).containsExactly(1L);
+            assertThat(waitingStudents.get(3L)).isEmpty();
+
+            then(waitinglistRepository).should(times(1)).findAllWithStudentByLectureIdIn(anyCollection());
+            then(lectureRepository).should(never()).findById(anyLong());
+        }
+
+        @Test
+        @DisplayName("여러 강좌의 대기자 명단 한 번에 조회 실패(1) - 조회 진행하는 직원이 해당 학원 소속이 아닐 때")
+        void findWaitingStudent_ByLectures_fail1() {
+
+            given(academyRepository.findById(anyLong())).willReturn(Optional.of(academy));
+            given(employeeRepository.findByAccountAndAcademy(anyString(), any(Academy.class))).willReturn(Optional.empty());
+
+            AppException appException = assertThrows(AppException.class,
+                    () -> waitinglistService.findWaitingStudentByLectures(academy.getId(), List.of(1L), employee.getAccount()));
+
+            assertThat(appException.getErrorCode()).isEqualTo(ErrorCode.REQUEST_EMPLOYEE_NOT_FOUND);
+
+            then(waitinglistRepository).should(never()).findAllWithStudentByLectureIdIn(anyCollection());
+        }
     }
 
     @Nested
@@ -242,7 +357,6 @@ class WaitinglistServiceTest {
             given(enrollmentRepository.findByStudentAndLecture(any(Student.class), any(Lecture.class))).willReturn(Optional.empty());
             given(waitinglistRepository.findByStudentAndLecture(any(Student.class), any(Lecture.class))).willReturn(Optional.empty());
             given(waitinglistRepository.saveAndFlush(any(Waitinglist.class))).willReturn(waitinglist);
-//            willDoNothing().given(emailService).sendEmail(anyString(), anyString(), anyString());
 
             CreateWaitinglistResponse savedWaitingList = waitinglistService.createWaitinglist(academy.getId(), student.getId(), lecture.getId(), employee.getAccount());
             assertThat(savedWaitingList.getWaitinglistId()).isEqualTo(1L);
@@ -257,7 +371,7 @@ class WaitinglistServiceTest {
             then(enrollmentRepository).should(times(1)).findByStudentAndLecture(any(Student.class), any(Lecture.class));
             then(waitinglistRepository).should(times(1)).findByStudentAndLecture(any(Student.class), any(Lecture.class));
             then(waitinglistRepository).should(times(1)).saveAndFlush(any(Waitinglist.class));
-//            then(emailService).should(times(1)).sendEmail(anyString(),anyString(),anyString());
+            then(notificationService).should(times(1)).enqueue(eq(NotificationType.WAITINGLIST_CREATED), anyLong(), any(), anyString(), anyString());
         }
 
         @Test
@@ -460,7 +574,6 @@ class WaitinglistServiceTest {
             given(lectureRepository.findById(anyLong())).willReturn(Optional.of(mockLecture));
             given(waitinglistRepository.findById(anyLong())).willReturn(Optional.of(waitinglist));
             given(mockEmployee.getEmployeeRole()).willReturn(EmployeeRole.ROLE_STAFF);
-//            willDoNothing().given(emailService).sendEmail(anyString(), anyString(), anyString());
 
             DeleteWaitinglistResponse deletedWaitinglist = waitinglistService.deleteWaitinglist(academy.getId(), student.getId(), lecture.getId(), waitinglist.getId(), employee.getAccount());
             assertThat(deletedWaitinglist.getWaitinglistId()).isEqualTo(1L);
@@ -472,7 +585,7 @@ class WaitinglistServiceTest {
             then(lectureRepository).should(times(1)).findById(anyLong());
             then(waitinglistRepository).should(times(1)).findById(anyLong());
             then(mockEmployee).should(times(1)).getEmployeeRole();
-//            then(emailService).should(times(1)).sendEmail(anyString(),anyString(),anyString());
+            then(notificationService).should(times(1)).enqueue(eq(NotificationType.WAITINGLIST_CANCELED), anyLong(), any(), anyString(), anyString());
         }
 
         @Test
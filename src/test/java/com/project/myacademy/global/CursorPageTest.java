@@ -0,0 +1,83 @@
+package com.project.myacademy.global;
+
+import com.project.myacademy.global.exception.AppException;
+import com.project.myacademy.global.exception.ErrorCode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class CursorPageTest {
+
+    private final LocalDateTime now = LocalDateTime.of(2023, 1, 1, 12, 0, 0, 123_000_000);
+
+    @Test
+    @DisplayName("size + 1 건이 조회되면 size 건만 담고 마지막 항목의 커서를 반환")
+    void of_has_next() {
+
+        List<Row> rows = List.of(new Row(3L, now), new Row(2L, now), new Row(1L, now.minusSeconds(1)));
+
+        CursorPage<Long> page = CursorPage.of(rows, 2, Row::getCreatedAt, Row::getId, Row::getId);
+
+        assertThat(page.getContent()).containsExactly(3L, 2L);
+        assertThat(page.isHasNext()).isTrue();
+
+        CursorPage.Key next = CursorPage.decode(page.getNextCursor());
+        assertThat(next.getCreatedAt()).isEqualTo(now);
+        assertThat(next.getId()).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("마지막 페이지는 다음 커서가 없음")
+    void of_last_page() {
+
+        CursorPage<Long> page = CursorPage.of(List.of(new Row(1L, now)), 2, Row::getCreatedAt, Row::getId, Row::getId);
+
+        assertThat(page.getContent()).containsExactly(1L);
+        assertThat(page.isHasNext()).isFalse();
+        assertThat(page.getNextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("빈 커서는 첫 페이지, 해석할 수 없는 커서는 INVALID_CURSOR")
+    void decode() {
+
+        assertThat(CursorPage.decode(null).getId()).isEqualTo(Long.MAX_VALUE);
+        assertThat(CursorPage.decode("").getId()).isEqualTo(Long.MAX_VALUE);
+
+        AppException appException = assertThrows(AppException.class, () -> CursorPage.decode("bm90LWEtY3Vyc29y"));
+        assertThat(appException.getErrorCode()).isEqualTo(ErrorCode.INVALID_CURSOR);
+    }
+
+    @Test
+    @DisplayName("페이지 크기는 1 ~ MAX_SIZE 로 보정하고 한 건 더 조회")
+    void limit() {
+
+        assertThat(CursorPage.limit(0)).isEqualTo(PageRequest.of(0, 2));
+        assertThat(CursorPage.limit(20)).isEqualTo(PageRequest.of(0, 21));
+        assertThat(CursorPage.limit(1000)).isEqualTo(PageRequest.of(0, CursorPage.MAX_SIZE + 1));
+    }
+
+    private static class Row {
+        private final Long id;
+        private final LocalDateTime createdAt;
+
+        Row(Long id, LocalDateTime createdAt) {
+            this.id = id;
+            this.createdAt = createdAt;
+        }
+
+        Long getId() {
+            return id;
+        }
+
+        LocalDateTime getCreatedAt() {
+            return createdAt;
+        }
+    }
+}
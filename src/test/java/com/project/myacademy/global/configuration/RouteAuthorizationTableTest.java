@@ -0,0 +1,122 @@
+package com.project.myacademy.global.configuration;
+
+import com.project.myacademy.global.configuration.security.RouteAuthorizationTable;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class RouteAuthorizationTableTest {
+
+    private static final String[] METHODS = {"GET", "POST", "PUT", "DELETE", "PATCH", "HEAD", "OPTIONS", "FOO", ""};
+    private static final String[] WILDCARD_SAMPLES = {"", "1", "1/2"};
+
+    private final RouteAuthorizationTable table = SecurityConfig.routeAuthorizationTable();
+
+    @Test
+    @DisplayName("모든 URL 패턴에 대해 기존 antMatchers 순차 비교와 같은 규칙을 찾는다")
+    void same_decision_as_ant_matchers() {
+
+        // 기존 antMatchers 와 같은 순서의 AntPathRequestMatcher 목록
+        List<AntPathRequestMatcher> antMatchers = new ArrayList<>();
+        for (RouteAuthorizationTable.Rule rule : table.getRules()) {
+            antMatchers.add(new AntPathRequestMatcher(rule.getPattern(), rule.getMethod() == null ? null : rule.getMethod().name()));
+        }
+
+        Set<String> paths = samplePaths(table.getRules());
+        int checked = 0;
+
+        for (String path : paths) {
+            for (String method : METHODS) {
+                MockHttpServletRequest request = new MockHttpServletRequest(method, path);
+                request.setServletPath(path);
+
+                RouteAuthorizationTable.Rule expected = null;
+                for (int i = 0; i < antMatchers.size(); i++) {
+                    if (antMatchers.get(i).matches(request)) {
+                        expected = table.getRules().get(i);
+                        break;
+                    }
+                }
+
+                assertThat(table.match(method, path))
+                        .as("%s %s", method, path)
+                        .isSameAs(expected);
+                checked++;
+            }
+        }
+
+        assertThat(checked).isGreaterThan(table.getRules().size() * METHODS.length * 5);
+    }
+
+    @Test
+    @DisplayName("메서드 · 경로별 권한 판정")
+    void decisions() {
+
+        assertThat(table.match("GET", "/").getAccess()).isEqualTo(SecurityConfig.PERMIT_ALL);
+        assertThat(table.match("GET", "/academy/employees").getAccess()).isEqualTo(SecurityConfig.ONLY_ADMIN);
+        assertThat(table.match("GET", "/academy/enrollment/1").getAccess()).isEqualTo(SecurityConfig.ADMIN_OR_STAFF);
+        assertThat(table.match("GET", "/academy/main").getAccess()).isEqualTo(SecurityConfig.AUTHENTICATED);
+        assertThat(table.match("POST", "/api/v1/academies/1/employees/login").getAccess()).isEqualTo(SecurityConfig.PERMIT_ALL);
+        assertThat(table.match("DELETE", "/api/v1/academies/1/employees/2").getAccess()).isEqualTo(SecurityConfig.ONLY_ADMIN);
+        assertThat(table.match("DELETE", "/api/v1/academies/1/students/2").getAccess()).isEqualTo(SecurityConfig.ADMIN_OR_STAFF);
+        assertThat(table.match("PUT", "/api/v1/academies/1").getAccess()).isEqualTo(SecurityConfig.AUTHENTICATED);
+        assertThat(table.match("PATCH", "/api/v1/academies/1")).isNull();
+        assertThat(table.match("GET", "/join/")).isNull();
+    }
+
+    @Test
+    @DisplayName("지원하지 않는 패턴은 시작 시 실패")
+    void unsupported_pattern() {
+
+        assertThrows(IllegalArgumentException.class,
+                () -> RouteAuthorizationTable.builder().add(null, SecurityConfig.PERMIT_ALL, "/api/*/academies"));
+        assertThrows(IllegalArgumentException.class,
+                () -> RouteAuthorizationTable.builder().add(null, SecurityConfig.PERMIT_ALL, "/api/{id}"));
+    }
+
+    // 패턴의 "**" 를 0 ~ 2개 세그먼트로 바꾸고, 끝 "/" · 하위 경로 · 상위 경로 · 대소문자 변형을 더한다.
+    private Set<String> samplePaths(List<RouteAuthorizationTable.Rule> rules) {
+
+        Set<String> paths = new LinkedHashSet<>(List.of("/", "/academy", "/academyx", "/api", "/api/v1/academies", "/api/v1/academies/", "/unknown"));
+
+        for (RouteAuthorizationTable.Rule rule : rules) {
+            for (String expanded : expand(rule.getPattern())) {
+                String path = expanded.replaceAll("/+", "/");
+                if (path.length() > 1 && path.endsWith("/")) {
+                    path = path.substring(0, path.length() - 1);
+                }
+                paths.add(path);
+                paths.add(path + "/");
+                paths.add(path + "/x");
+                paths.add(path.toUpperCase());
+                int lastSlash = path.lastIndexOf('/');
+                paths.add(lastSlash > 0 ? path.substring(0, lastSlash) : "/");
+            }
+        }
+        return paths;
+    }
+
+    private List<String> expand(String pattern) {
+        List<String> result = new ArrayList<>();
+        int index = pattern.indexOf("**");
+        if (index < 0) {
+            result.add(pattern);
+            return result;
+        }
+        for (String sample : WILDCARD_SAMPLES) {
+            for (String rest : expand(pattern.substring(index + 2))) {
+                result.add(pattern.substring(0, index) + sample + rest);
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,132 @@
+package com.project.myacademy.global.configuration;
+
+import com.project.myacademy.domain.employee.EmployeeRepository;
+import com.project.myacademy.domain.employee.EmployeeRole;
+import com.project.myacademy.global.configuration.jwt.EmployeePrincipal;
+import com.project.myacademy.global.configuration.jwt.EmployeePrincipalCache;
+import com.project.myacademy.global.configuration.jwt.JwtTokenVerifier;
+import com.project.myacademy.global.configuration.oauth.CustomOAuth2UserService;
+import com.project.myacademy.global.configuration.oauth.Oauth2FailureHandler;
+import com.project.myacademy.global.configuration.oauth.Oauth2SuccessHandler;
+import com.project.myacademy.global.configuration.refreshToken.AccessTokenRefresher;
+import com.project.myacademy.global.configuration.security.CustomAccessDeniedHandler;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.security.oauth2.client.registration.ClientRegistrationRepository;
+import org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers;
+import org.springframework.test.context.junit.jupiter.web.SpringJUnitWebConfig;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+import org.springframework.web.servlet.config.annotation.EnableWebMvc;
+
+import javax.servlet.http.Cookie;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.times;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.redirectedUrlPattern;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringJUnitWebConfig({SecurityConfig.class, WebMvcConfig.class, SecurityConfigTest.MvcConfig.class})
+class SecurityConfigTest {
+
+    @EnableWebMvc
+    static class MvcConfig {
+    }
+
+    @Autowired
+    private WebApplicationContext wac;
+
+    @MockBean
+    private CustomAccessDeniedHandler customAccessDeniedHandler;
+    @MockBean
+    private EmployeeRepository employeeRepository;
+    @MockBean
+    private JwtTokenVerifier jwtTokenVerifier;
+    @MockBean
+    private EmployeePrincipalCache employeePrincipalCache;
+    @MockBean
+    private AccessTokenRefresher accessTokenRefresher;
+    @MockBean
+    private Oauth2SuccessHandler oauth2SuccessHandler;
+    @MockBean
+    private Oauth2FailureHandler oauth2FailureHandler;
+    @MockBean
+    private CustomOAuth2UserService customOAuth2UserService;
+    @MockBean
+    private ClientRegistrationRepository clientRegistrationRepository;
+
+    private MockMvc mockMvc;
+    private final Cookie tokenCookie = new Cookie("token", "access-token");
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders
+                .webAppContextSetup(wac)
+                .apply(SecurityMockMvcConfigurers.springSecurity())
+                .build();
+    }
+
+    @Test
+    @DisplayName("정적 리소스 요청은 토큰 검증 · 직원 조회 없이 캐시 헤더와 함께 응답")
+    void static_resource_bypasses_jwt() throws Exception {
+
+        mockMvc.perform(get("/assets/css/material-dashboard.css").cookie(tokenCookie))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Cache-Control", "max-age=604800, public"));
+
+        then(jwtTokenVerifier).shouldHaveNoInteractions();
+        then(employeePrincipalCache).shouldHaveNoInteractions();
+        then(employeeRepository).shouldHaveNoInteractions();
+    }
+
+    @Test
+    @DisplayName("공개 페이지 요청은 토큰 검증 · 직원 조회 없이 통과")
+    void public_page_bypasses_jwt() throws Exception {
+
+        int status = mockMvc.perform(get("/about").cookie(tokenCookie))
+                .andReturn().getResponse().getStatus();
+
+        assertThat(status).isNotIn(401, 403);
+        then(jwtTokenVerifier).shouldHaveNoInteractions();
+        then(employeeRepository).shouldHaveNoInteractions();
+    }
+
+    @Test
+    @DisplayName("인증이 필요한 요청은 기존처럼 토큰을 검증")
+    void protected_page_verifies_jwt() throws Exception {
+
+        Claims claims = Jwts.claims();
+        claims.put("employeeId", 1L);
+        claims.put("academyId", 1L);
+        claims.put("role", EmployeeRole.ROLE_ADMIN.name());
+        given(jwtTokenVerifier.verify("access-token")).willReturn(claims);
+        given(employeePrincipalCache.get(1L)).willReturn(new EmployeePrincipal(1L, "admin", 1L, EmployeeRole.ROLE_ADMIN));
+
+        mockMvc.perform(get("/academy/main").cookie(tokenCookie));
+
+        then(jwtTokenVerifier).should(times(1)).verify("access-token");
+    }
+
+    @Test
+    @DisplayName("URL 권한 규칙은 RouteAuthorizationTable 로 판정")
+    void route_authorization_table_applied() throws Exception {
+
+        mockMvc.perform(get("/api/v1/academies/1/employees"))
+                .andExpect(redirectedUrlPattern("**/login"));
+
+        mockMvc.perform(get("/api/v1/academies/1/employees").with(user("teacher@1").roles("USER")));
+        then(customAccessDeniedHandler).should(times(1)).handle(any(), any(), any());
+    }
+}
@@ -0,0 +1,175 @@
+package com.project.myacademy.global.configuration.cache;
+
+import org.hibernate.cache.cfg.spi.DomainDataRegionConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+@ExtendWith(MockitoExtension.class)
+class TwoTierStorageAccessTest {
+
+    private static final String REGION = "com.project.myacademy.domain.academy.Academy";
+    private static final String GENERATION_KEY = "l2:generation:" + REGION;
+    private static final String REDIS_KEY = "l2:" + REGION + ":0:1";
+
+    @Mock
+    private RedisTemplate<String, Object> redisTemplate;
+    @Mock
+    private ValueOperations<String, Object> valueOperations;
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+    @Mock
+    private DomainDataRegionConfig regionConfig;
+
+    private CacheMetrics cacheMetrics;
+    private TwoTierCacheRegionFactory thisNode;
+    private TwoTierCacheRegionFactory otherNode;
+    private TwoTierStorageAccess storage;
+    private TwoTierStorageAccess otherNodeStorage;
+
+    @BeforeEach
+    void setUp() {
+        cacheMetrics = new CacheMetrics();
+        thisNode = new TwoTierCacheRegionFactory(redisTemplate, stringRedisTemplate, cacheMetrics, 60_000, 100, 600);
+        otherNode = new TwoTierCacheRegionFactory(redisTemplate, stringRedisTemplate, new CacheMetrics(), 60_000, 100, 600);
+
+        given(regionConfig.getRegionName()).willReturn(REGION);
+        storage = (TwoTierStorageAccess) thisNode.createDomainDataStorageAccess(regionConfig, null);
+        otherNodeStorage = (TwoTierStorageAccess) otherNode.createDomainDataStorageAccess(regionConfig, null);
+    }
+
+    @Test
+    @DisplayName("Redis 에서 찾은 값은 로컬에 저장되어 다음 조회는 Redis 를 거치지 않음")
+    void get_redis_hit_then_local_hit() {
+
+        givenGeneration();
+        given(valueOperations.get(REDIS_KEY)).willReturn("academy");
+
+        assertThat(storage.getFromCache(1L, null)).isEqualTo("academy");
+        assertThat(storage.getFromCache(1L, null)).isEqualTo("academy");
+
+        then(valueOperations).should(times(1)).get(REDIS_KEY);
+        CacheMetrics.RegionStats stats = cacheMetrics.region(REGION);
+        assertThat(stats.getRedisHits().sum()).isEqualTo(1);
+        assertThat(stats.getLocalHits().sum()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("저장 시 Redis 에 TTL 과 함께 저장하고 로컬에서 바로 조회")
+    void put_success() {
+
+        givenGeneration();
+
+        storage.putIntoCache(1L, "academy", null);
+
+        assertThat(storage.getFromCache(1L, null)).isEqualTo("academy");
+        then(valueOperations).should(times(1)).set(REDIS_KEY, "academy", 600, TimeUnit.SECONDS);
+        then(valueOperations).should(never()).get(anyString());
+    }
+
+    @Test
+    @DisplayName("수정 · 삭제 시 로컬과 Redis 에서 지우고 다른 서버의 로컬 캐시를 지운다")
+    void evict_invalidates_other_node() {
+
+        givenGeneration();
+        storage.putIntoCache(1L, "academy", null);
+
+        // 다른 서버에서 엔티티 수정
+        otherNodeStorage.evictData(1L);
+
+        ArgumentCaptor<String> message = ArgumentCaptor.forClass(String.class);
+        then(redisTemplate).should(times(1)).delete(REDIS_KEY);
+        then(stringRedisTemplate).should(times(1)).convertAndSend(eq(TwoTierCacheRegionFactory.INVALIDATION_CHANNEL), message.capture());
+
+        // 메시지를 받은 서버는 로컬 캐시를 지우고 Redis 에서 다시 조회
+        thisNode.onMessage(message(message.getValue()), null);
+        given(valueOperations.get(REDIS_KEY)).willReturn(null);
+
+        assertThat(storage.getFromCache(1L, null)).isNull();
+        assertThat(cacheMetrics.region(REGION).getRemoteInvalidations().sum()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("자신이 보낸 무효화 메시지는 무시")
+    void ignore_own_message() {
+
+        givenGeneration();
+        storage.putIntoCache(1L, "academy", null);
+        storage.evictData(2L);
+
+        ArgumentCaptor<String> message = ArgumentCaptor.forClass(String.class);
+        then(stringRedisTemplate).should(times(1)).convertAndSend(eq(TwoTierCacheRegionFactory.INVALIDATION_CHANNEL), message.capture());
+
+        thisNode.onMessage(message(message.getValue()), null);
+
+        assertThat(storage.getFromCache(1L, null)).isEqualTo("academy");
+        assertThat(cacheMetrics.region(REGION).getRemoteInvalidations().sum()).isZero();
+    }
+
+    @Test
+    @DisplayName("Redis 장애 시 미스로 처리")
+    void get_redis_failure() {
+
+        givenGeneration();
+        given(valueOperations.get(REDIS_KEY)).willThrow(new RedisConnectionFailureException("connection refused"));
+
+        assertThat(storage.getFromCache(1L, null)).isNull();
+        assertThat(cacheMetrics.region(REGION).getMisses().sum()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("리전 전체 삭제 시 세대 번호만 올리고, 다른 서버는 메시지를 받아 새 세대를 다시 읽는다")
+    void evict_region_bumps_generation() {
+
+        givenGeneration();
+        storage.putIntoCache(1L, "academy", null);
+        otherNodeStorage.putIntoCache(1L, "academy", null);
+
+        // 벌크 수정 쿼리로 리전 전체 삭제
+        given(valueOperations.increment(GENERATION_KEY)).willReturn(1L);
+        storage.evictData();
+
+        ArgumentCaptor<String> message = ArgumentCaptor.forClass(String.class);
+        then(stringRedisTemplate).should(times(1)).convertAndSend(eq(TwoTierCacheRegionFactory.INVALIDATION_CHANNEL), message.capture());
+        then(redisTemplate).should(never()).delete(anyString());
+
+        // 새 세대의 키로 조회하므로 이전 세대의 값은 보이지 않는다.
+        assertThat(storage.getFromCache(1L, null)).isNull();
+        then(valueOperations).should(times(1)).get("l2:" + REGION + ":1:1");
+
+        given(valueOperations.increment(GENERATION_KEY, 0)).willReturn(1L);
+        otherNode.onMessage(message(message.getValue()), null);
+
+        assertThat(otherNodeStorage.getFromCache(1L, null)).isNull();
+        then(valueOperations).should(times(2)).get("l2:" + REGION + ":1:1");
+    }
+
+    private void givenGeneration() {
+        given(redisTemplate.opsForValue()).willReturn(valueOperations);
+        given(valueOperations.increment(GENERATION_KEY, 0)).willReturn(0L);
+    }
+
+    private DefaultMessage message(String body) {
+        return new DefaultMessage(TwoTierCacheRegionFactory.INVALIDATION_CHANNEL.getBytes(StandardCharsets.UTF_8), body.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,49 @@
+package com.project.myacademy.global.configuration.jwt;
+
+import com.project.myacademy.domain.employee.EmployeeRole;
+import com.project.myacademy.global.exception.AppException;
+import com.project.myacademy.global.exception.ErrorCode;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class EmployeePrincipalArgumentResolverTest {
+
+    private final EmployeePrincipalArgumentResolver resolver = new EmployeePrincipalArgumentResolver();
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("JwtTokenFilter 가 저장한 EmployeePrincipal 을 그대로 주입")
+    void resolve_success() {
+
+        EmployeePrincipal principal = new EmployeePrincipal(1L, "admin", 2L, EmployeeRole.ROLE_ADMIN);
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(principal, null, List.of(new SimpleGrantedAuthority(EmployeeRole.ROLE_ADMIN.name()))));
+
+        Object resolved = resolver.resolveArgument(null, null, null, null);
+
+        assertThat(resolved).isSameAs(principal);
+        assertThat(SecurityContextHolder.getContext().getAuthentication().getName()).isEqualTo("admin@2");
+    }
+
+    @Test
+    @DisplayName("토큰으로 인증되지 않은 요청은 예외")
+    void resolve_fail_without_token() {
+
+        AppException appException = assertThrows(AppException.class, () -> resolver.resolveArgument(null, null, null, null));
+
+        assertThat(appException.getErrorCode()).isEqualTo(ErrorCode.TOKEN_NOT_FOUND);
+    }
+}
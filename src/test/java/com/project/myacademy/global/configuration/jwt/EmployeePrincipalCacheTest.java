@@ -0,0 +1,107 @@
+package com.project.myacademy.global.configuration.jwt;
+
+import com.project.myacademy.domain.employee.EmployeeRole;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.times;
+
+@ExtendWith(MockitoExtension.class)
+class EmployeePrincipalCacheTest {
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    private EmployeePrincipalCache employeePrincipalCache;
+    private final EmployeePrincipal principal = new EmployeePrincipal(1L, "admin", 1L, EmployeeRole.ROLE_ADMIN);
+
+    @BeforeEach
+    void setUp() {
+        employeePrincipalCache = new EmployeePrincipalCache(redisTemplate, 100);
+    }
+
+    @Test
+    @DisplayName("무효화 시 Redis 에 무효화 시각을 저장하고 다른 서버에 알림")
+    void invalidate_publish() {
+
+        given(redisTemplate.opsForValue()).willReturn(valueOperations);
+        employeePrincipalCache.put(principal, System.currentTimeMillis());
+
+        employeePrincipalCache.invalidate(1L);
+
+        ArgumentCaptor<String> message = ArgumentCaptor.forClass(String.class);
+        assertThat(employeePrincipalCache.get(1L)).isNull();
+        then(valueOperations).should(times(1)).set(eq("principal:invalidated:1"), anyString(), anyLong(), eq(TimeUnit.MILLISECONDS));
+        then(redisTemplate).should(times(1)).convertAndSend(eq(EmployeePrincipalCache.INVALIDATION_CHANNEL), message.capture());
+        assertThat(message.getValue().split("\n")).hasSize(3).contains("1");
+    }
+
+    @Test
+    @DisplayName("다른 서버의 무효화 메시지를 받으면 캐시를 지우고 이전에 발급된 토큰을 믿지 않음")
+    void invalidate_from_other_node() {
+
+        long issuedAt = System.currentTimeMillis() - 1000;
+        employeePrincipalCache.put(principal, issuedAt);
+
+        employeePrincipalCache.onMessage(message("other-node\n1\n" + System.currentTimeMillis()), null);
+
+        assertThat(employeePrincipalCache.get(1L)).isNull();
+        assertThat(employeePrincipalCache.isTrusted(1L, issuedAt)).isFalse();
+    }
+
+    @Test
+    @DisplayName("로컬 기록이 없으면 Redis 의 무효화 시각으로 확인, Redis 장애 시 믿지 않음")
+    void isTrusted_redis() {
+
+        long now = System.currentTimeMillis();
+        given(redisTemplate.opsForValue()).willReturn(valueOperations);
+        given(valueOperations.get("principal:invalidated:1")).willReturn(String.valueOf(now));
+        given(valueOperations.get("principal:invalidated:2")).willReturn(null);
+        given(valueOperations.get("principal:invalidated:3")).willThrow(new RedisConnectionFailureException("connection refused"));
+
+        assertThat(employeePrincipalCache.isTrusted(1L, now - 1000)).isFalse();
+        assertThat(employeePrincipalCache.isTrusted(1L, now + 1000)).isTrue();
+        assertThat(employeePrincipalCache.isTrusted(2L, now - 1000)).isTrue();
+        assertThat(employeePrincipalCache.isTrusted(3L, now - 1000)).isFalse();
+    }
+
+    @Test
+    @DisplayName("확인을 시작한 뒤 무효화되었다면 이전 정보를 다시 캐시하지 않음")
+    void put_after_invalidate() {
+
+        long checkedAt = System.currentTimeMillis() - 1000;
+
+        employeePrincipalCache.onMessage(message("other-node\n1\n" + System.currentTimeMillis()), null);
+        employeePrincipalCache.put(principal, checkedAt);
+
+        assertThat(employeePrincipalCache.get(1L)).isNull();
+
+        employeePrincipalCache.put(principal, System.currentTimeMillis() + 1000);
+
+        assertThat(employeePrincipalCache.get(1L)).isSameAs(principal);
+    }
+
+    private DefaultMessage message(String body) {
+        return new DefaultMessage(EmployeePrincipalCache.INVALIDATION_CHANNEL.getBytes(StandardCharsets.UTF_8), body.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,82 @@
+package com.project.myacademy.global.configuration.jwt;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.SignatureException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class JwtTokenVerifierTest {
+
+    private static final String SECRET_KEY = "secretKey";
+
+    private final JwtTokenVerifier verifier = new JwtTokenVerifier(SECRET_KEY, 2);
+
+    @Test
+    @DisplayName("같은 토큰은 서명 검증 없이 캐시된 Claims 를 반환")
+    void verify_cache_hit() {
+
+        String token = token("admin", SECRET_KEY, 1000 * 60);
+
+        Claims first = verifier.verify(token);
+        Claims second = verifier.verify(token);
+
+        assertThat(first.get("account", String.class)).isEqualTo("admin");
+        assertThat(second).isSameAs(first);
+    }
+
+    @Test
+    @DisplayName("만료된 토큰은 ExpiredJwtException, 캐시하지 않음")
+    void verify_expired() {
+
+        String token = token("admin", SECRET_KEY, -1000);
+
+        assertThrows(ExpiredJwtException.class, () -> verifier.verify(token));
+        assertThat(verifier.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("다른 키로 서명된 토큰은 SignatureException, 캐시하지 않음")
+    void verify_bad_signature() {
+
+        String token = token("admin", "otherKey", 1000 * 60);
+
+        assertThrows(SignatureException.class, () -> verifier.verify(token));
+        assertThat(verifier.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("캐시가 가득 차면 가장 오래 사용하지 않은 토큰만 제거")
+    void verify_evict_least_recently_used() {
+
+        String token1 = token("admin1", SECRET_KEY, 1000 * 60);
+        String token2 = token("admin2", SECRET_KEY, 1000 * 60);
+        String token3 = token("admin3", SECRET_KEY, 1000 * 60);
+
+        Claims claims1 = verifier.verify(token1);
+        Claims claims2 = verifier.verify(token2);
+        verifier.verify(token1);
+        verifier.verify(token3);
+
+        assertThat(verifier.size()).isEqualTo(2);
+        assertThat(verifier.verify(token1)).isSameAs(claims1);
+        assertThat(verifier.verify(token2)).isNotSameAs(claims2);
+    }
+
+    private String token(String account, String key, long expiresInMillis) {
+        long now = System.currentTimeMillis();
+        return Jwts.builder()
+                .claim("account", account)
+                .setIssuedAt(new Date(now - 1000 * 60))
+                .setExpiration(new Date(now + expiresInMillis))
+                .signWith(SignatureAlgorithm.HS256, key)
+                .compact();
+    }
+}
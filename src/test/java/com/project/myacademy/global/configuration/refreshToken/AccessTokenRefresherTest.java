@@ -0,0 +1,99 @@
+package com.project.myacademy.global.configuration.refreshToken;
+
+import com.project.myacademy.domain.academy.Academy;
+import com.project.myacademy.domain.employee.Employee;
+import com.project.myacademy.domain.employee.EmployeeRepository;
+import com.project.myacademy.domain.employee.EmployeeRole;
+import com.project.myacademy.global.configuration.jwt.EmployeePrincipalCache;
+import com.project.myacademy.global.exception.AppException;
+import com.project.myacademy.global.exception.ErrorCode;
+import com.project.myacademy.global.util.JwtTokenUtil;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.times;
+
+@ExtendWith(MockitoExtension.class)
+class AccessTokenRefresherTest {
+
+    private static final String SECRET_KEY = "dGVzdC1zZWNyZXQta2V5LXRlc3Qtc2VjcmV0LWtleQ";
+
+    @Mock
+    private EmployeeRepository employeeRepository;
+    @Mock
+    private RefreshTokenStore refreshTokenStore;
+    @Mock
+    private EmployeePrincipalCache employeePrincipalCache;
+
+    private AccessTokenRefresher accessTokenRefresher;
+    private Employee employee;
+
+    @BeforeEach
+    void setUp() {
+        accessTokenRefresher = new AccessTokenRefresher(employeeRepository, refreshTokenStore, employeePrincipalCache, SECRET_KEY, 30);
+        Academy academy = Academy.builder().id(1L).name("학원").build();
+        employee = Employee.builder().id(1L).account("admin").email("admin@gmail.com").academy(academy).employeeRole(EmployeeRole.ROLE_ADMIN).build();
+    }
+
+    @Test
+    @DisplayName("동시에 들어온 같은 토큰 재발급 요청은 한 번만 재발급")
+    void refresh_concurrent_requests_once() throws Exception {
+
+        String refreshToken = JwtTokenUtil.createRefreshToken(SECRET_KEY);
+        CountDownLatch lookupStarted = new CountDownLatch(1);
+
+        given(refreshTokenStore.findByAccessToken(anyString())).willAnswer(invocation -> {
+            lookupStarted.countDown();
+            Thread.sleep(200);
+            return Optional.of(new RefreshToken("1", refreshToken, "expiredToken"));
+        });
+        given(employeeRepository.findById(any())).willReturn(Optional.of(employee));
+
+        ExecutorService executorService = Executors.newFixedThreadPool(8);
+        List<Future<RefreshedAccessToken>> results = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            results.add(executorService.submit(() -> accessTokenRefresher.refresh("expiredToken")));
+        }
+        lookupStarted.await();
+        executorService.shutdown();
+
+        String first = results.get(0).get().getAccessToken();
+        for (Future<RefreshedAccessToken> result : results) {
+            assertThat(result.get().getAccessToken()).isEqualTo(first);
+        }
+        then(refreshTokenStore).should(times(1)).findByAccessToken(anyString());
+        then(refreshTokenStore).should(times(1)).replace(anyString(), any(), anyLong());
+
+        // grace 기간 안에 이전 토큰으로 들어온 요청도 같은 결과를 받는다.
+        assertThat(accessTokenRefresher.refresh("expiredToken").getAccessToken()).isEqualTo(first);
+        then(refreshTokenStore).should(times(1)).replace(anyString(), any(), anyLong());
+    }
+
+    @Test
+    @DisplayName("저장된 토큰 정보가 없으면 재발급 실패")
+    void refresh_fail_token_not_found() {
+
+        given(refreshTokenStore.findByAccessToken(anyString())).willReturn(Optional.empty());
+
+        AppException appException = assertThrows(AppException.class,
+                () -> accessTokenRefresher.refresh("expiredToken"));
+
+        assertThat(appException.getErrorCode()).isEqualTo(ErrorCode.TOKEN_NOT_FOUND);
+    }
+}
@@ -0,0 +1,177 @@
+package com.project.myacademy.global.configuration.refreshToken;
+
+import com.project.myacademy.global.util.JwtTokenUtil;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.ArgumentMatchers;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.SetOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+@ExtendWith(MockitoExtension.class)
+class RefreshTokenStoreTest {
+
+    private static final String ACCESS_TOKEN = "accessToken";
+    private static final String DIGEST = JwtTokenUtil.digest(ACCESS_TOKEN);
+    private static final String KEY = "jwtToken:" + DIGEST;
+    private static final String EMPLOYEE_KEY = "jwtToken:employee:1";
+    private static final String TTL = String.valueOf(60 * 60 * 24 * 3);
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+    @Mock
+    private SetOperations<String, String> setOperations;
+    @Mock
+    private HashOperations<String, String, String> hashOperations;
+
+    @Captor
+    private ArgumentCaptor<Collection<String>> keysCaptor;
+
+    private RefreshTokenStore refreshTokenStore;
+
+    @BeforeEach
+    void setUp() {
+        refreshTokenStore = new RefreshTokenStore(redisTemplate, true);
+    }
+
+    @Test
+    @DisplayName("로그인 시 토큰 정보를 digest 키에 refresh 토큰 유효시간으로 저장하고, 직원 키를 새 digest 로 교체")
+    void save() {
+
+        refreshTokenStore.save(new RefreshToken("1", "refreshToken", ACCESS_TOKEN));
+
+        then(redisTemplate).should(times(1)).execute(RefreshTokenStore.SAVE, List.of(KEY, EMPLOYEE_KEY, "jwtToken:1"), "1:refreshToken", TTL, DIGEST);
+    }
+
+    @Test
+    @DisplayName("다시 로그인하면 직원 키가 가리키던 이전 세션의 토큰 정보를 같은 스크립트에서 삭제 (직원당 세션 하나)")
+    void save_replaces_previous_session() {
+
+        refreshTokenStore.save(new RefreshToken("1", "refreshToken", ACCESS_TOKEN));
+        refreshTokenStore.save(new RefreshToken("1", "refreshToken2", "accessToken2"));
+
+        // 두 로그인 모두 같은 직원 키를 넘기므로, 두 번째 로그인은 첫 번째 로그인이 저장한 digest 의 토큰 정보를 지운다.
+        then(redisTemplate).should(times(1)).execute(RefreshTokenStore.SAVE, List.of(KEY, EMPLOYEE_KEY, "jwtToken:1"), "1:refreshToken", TTL, DIGEST);
+        then(redisTemplate).should(times(1)).execute(RefreshTokenStore.SAVE, List.of("jwtToken:" + JwtTokenUtil.digest("accessToken2"), EMPLOYEE_KEY, "jwtToken:1"),
+                "1:refreshToken2", TTL, JwtTokenUtil.digest("accessToken2"));
+        assertThat(RefreshTokenStore.SAVE.getScriptAsString())
+                .contains("redis.call('get', KEYS[2])", "redis.call('del', 'jwtToken:' .. previous)", "redis.call('set', KEYS[2], ARGV[3]");
+    }
+
+    @Test
+    @DisplayName("Access Token 으로 조회하면 직원 id 와 refresh 토큰을 나눠서 반환")
+    void findByAccessToken() {
+
+        given(redisTemplate.opsForValue()).willReturn(valueOperations);
+        given(valueOperations.get(KEY)).willReturn("1:refresh:Token");
+
+        RefreshToken found = refreshTokenStore.findByAccessToken(ACCESS_TOKEN).orElseThrow();
+
+        assertThat(found.getId()).isEqualTo("1");
+        assertThat(found.getRefreshToken()).isEqualTo("refresh:Token");
+        assertThat(found.getAccessToken()).isEqualTo(ACCESS_TOKEN);
+        then(redisTemplate).should(never()).opsForSet();
+    }
+
+    @Test
+    @DisplayName("재발급 시 새 토큰 정보 저장, 이전 토큰 정보 만료, 직원 키 교체를 한 번의 스크립트로 전송")
+    void replace() {
+
+        refreshTokenStore.replace(ACCESS_TOKEN, new RefreshToken("1", "refreshToken", "newAccessToken"), 30);
+
+        String newDigest = JwtTokenUtil.digest("newAccessToken");
+        then(redisTemplate).should(times(1)).execute(RefreshTokenStore.REPLACE, List.of("jwtToken:" + newDigest, KEY, EMPLOYEE_KEY),
+                "1:refreshToken", TTL, "30", newDigest);
+        assertThat(RefreshTokenStore.REPLACE.getScriptAsString()).contains("redis.call('expire', KEYS[2], ARGV[3])", "redis.call('set', KEYS[3], ARGV[4]");
+    }
+
+    @Nested
+    @DisplayName("이전 형식(@RedisHash) 토큰 정보")
+    class Legacy {
+
+        private static final String INDEX_KEY = "jwtToken:accessToken:" + ACCESS_TOKEN;
+
+        @Test
+        @DisplayName("새 형식에 없으면 이전 형식에서 찾아 새 형식으로 옮기고 이전 형식은 삭제")
+        void findByAccessToken_migrate() {
+
+            given(redisTemplate.opsForValue()).willReturn(valueOperations);
+            given(redisTemplate.opsForSet()).willReturn(setOperations);
+            given(redisTemplate.<String, String>opsForHash()).willReturn(hashOperations);
+            given(setOperations.members(INDEX_KEY)).willReturn(Set.of("1"));
+            given(hashOperations.multiGet("jwtToken:1", List.of("refreshToken", "accessToken"))).willReturn(List.of("refreshToken", ACCESS_TOKEN));
+
+            RefreshToken found = refreshTokenStore.findByAccessToken(ACCESS_TOKEN).orElseThrow();
+
+            assertThat(found.getId()).isEqualTo("1");
+            assertThat(found.getRefreshToken()).isEqualTo("refreshToken");
+            then(redisTemplate).should(times(1)).execute(RefreshTokenStore.SAVE, List.of(KEY, EMPLOYEE_KEY, "jwtToken:1"), "1:refreshToken", TTL, DIGEST);
+            then(redisTemplate).should(times(1)).delete(keysCaptor.capture());
+            assertThat(keysCaptor.getValue()).containsExactly(INDEX_KEY, "jwtToken:1", "jwtToken:1:idx", "jwtToken:1:phantom");
+            then(setOperations).should(times(1)).remove("jwtToken", "1");
+        }
+
+        @Test
+        @DisplayName("같은 직원이 이후 다시 로그인해 해시의 Access Token 이 다르면 찾지 못함")
+        void findByAccessToken_other_token() {
+
+            given(redisTemplate.opsForValue()).willReturn(valueOperations);
+            given(redisTemplate.opsForSet()).willReturn(setOperations);
+            given(redisTemplate.<String, String>opsForHash()).willReturn(hashOperations);
+            given(setOperations.members(INDEX_KEY)).willReturn(Set.of("1"));
+            given(hashOperations.multiGet("jwtToken:1", List.of("refreshToken", "accessToken"))).willReturn(Arrays.asList("refreshToken", "otherAccessToken"));
+
+            assertThat(refreshTokenStore.findByAccessToken(ACCESS_TOKEN)).isEmpty();
+            then(redisTemplate).should(never()).execute(ArgumentMatchers.<RedisScript<Long>>any(), anyList(), (Object[]) any());
+        }
+
+        @Test
+        @DisplayName("로그아웃 시 새 형식에 없으면 이전 형식도 삭제, 설정으로 끄면 이전 형식을 보지 않음")
+        void delete() {
+
+            given(redisTemplate.delete(KEY)).willReturn(false);
+            given(redisTemplate.opsForSet()).willReturn(setOperations);
+            given(setOperations.members(INDEX_KEY)).willReturn(Set.of("1"));
+
+            refreshTokenStore.delete(ACCESS_TOKEN);
+
+            then(redisTemplate).should(times(1)).delete(keysCaptor.capture());
+            assertThat(keysCaptor.getValue()).contains(INDEX_KEY, "jwtToken:1");
+
+            RefreshTokenStore withoutFallback = new RefreshTokenStore(redisTemplate, false);
+            given(redisTemplate.opsForValue()).willReturn(valueOperations);
+
+            assertThat(withoutFallback.findByAccessToken(ACCESS_TOKEN)).isEmpty();
+            // 이전 형식 삭제 시 SMEMBERS, SREM 두 번만 사용
+            then(redisTemplate).should(times(2)).opsForSet();
+
+            // 설정으로 끄면 로그인 시 이전 형식 해시도 지우지 않음
+            withoutFallback.save(new RefreshToken("1", "refreshToken", ACCESS_TOKEN));
+            then(redisTemplate).should(times(1)).execute(RefreshTokenStore.SAVE, List.of(KEY, EMPLOYEE_KEY), "1:refreshToken", TTL, DIGEST);
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.project.myacademy.global.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InClauseUtilTest {
+
+    @Test
+    @DisplayName("id 를 순서대로 CHUNK_SIZE 개씩 나누고, 마지막 묶음에는 남은 id 만 담김")
+    void chunks() {
+
+        Set<Long> ids = LongStream.rangeClosed(1, InClauseUtil.CHUNK_SIZE * 2L + 1).boxed()
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+
+        List<List<Long>> chunks = InClauseUtil.chunks(ids);
+
+        assertThat(chunks).extracting(List::size).containsExactly(InClauseUtil.CHUNK_SIZE, InClauseUtil.CHUNK_SIZE, 1);
+        assertThat(chunks.get(0).get(0)).isEqualTo(1L);
+        assertThat(chunks.get(2)).containsExactly(InClauseUtil.CHUNK_SIZE * 2L + 1);
+    }
+
+    @Test
+    @DisplayName("id 가 없으면 빈 목록 (쿼리를 보내지 않음)")
+    void chunks_empty() {
+
+        assertThat(InClauseUtil.chunks(List.of())).isEmpty();
+    }
+}
@@ -0,0 +1,146 @@
+package com.project.myacademy.global.util;
+
+import com.project.myacademy.domain.academy.Academy;
+import com.project.myacademy.domain.academy.AcademyRepository;
+import com.project.myacademy.domain.announcement.AnnouncementRepository;
+import com.project.myacademy.domain.announcement.AnnouncementService;
+import com.project.myacademy.domain.employee.Employee;
+import com.project.myacademy.domain.employee.EmployeeRepository;
+import com.project.myacademy.domain.employee.EmployeeRole;
+import com.project.myacademy.domain.employee.EmployeeService;
+import com.project.myacademy.domain.lecture.LectureRepository;
+import com.project.myacademy.domain.lecture.LectureService;
+import com.project.myacademy.domain.student.StudentRepository;
+import com.project.myacademy.domain.student.StudentService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.orm.jpa.EntityManagerHolder;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.times;
+
+/**
+ * 메인 페이지(IndexController.main)에서 호출하는 서비스들의 학원 · 요청 직원 조회 횟수
+ */
+@ExtendWith(MockitoExtension.class)
+class TenantContextTest {
+
+    @Mock
+    private AcademyRepository academyRepository;
+    @Mock
+    private EmployeeRepository employeeRepository;
+    @Mock
+    private AnnouncementRepository announcementRepository;
+    @Mock
+    private LectureRepository lectureRepository;
+    @Mock
+    private StudentRepository studentRepository;
+    @Mock
+    private EntityManagerFactory entityManagerFactory;
+    @Mock
+    private EntityManager entityManager;
+
+    @InjectMocks
+    private EmployeeService employeeService;
+    @InjectMocks
+    private AnnouncementService announcementService;
+    @InjectMocks
+    private LectureService lectureService;
+    @InjectMocks
+    private StudentService studentService;
+
+    private Academy academy;
+    private Employee employee;
+
+    @BeforeEach
+    void setUp() {
+        academy = Academy.builder().id(1L).name("학원").build();
+        employee = Employee.builder().id(1L).account("admin").email("admin@gmail.com").academy(academy).employeeRole(EmployeeRole.ROLE_ADMIN).build();
+
+        given(academyRepository.findById(1L)).willReturn(Optional.of(academy));
+        given(employeeRepository.findByAccountAndAcademy("admin", academy)).willReturn(Optional.of(employee));
+        given(announcementRepository.findTop5ByTypeAndAcademyOrderByCreatedAtDesc(any(), eq(academy))).willReturn(List.of());
+        given(employeeRepository.countByAcademy(academy)).willReturn(3L);
+        given(studentRepository.countStudentByAcademyId(1L)).willReturn(10L);
+        given(lectureRepository.findByAcademyIdAndFinishDateGreaterThanOrderByCreatedAtDesc(eq(1L), any(LocalDate.class), any())).willReturn(Page.empty());
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+        if (TransactionSynchronizationManager.hasResource(entityManagerFactory)) {
+            TransactionSynchronizationManager.unbindResource(entityManagerFactory);
+        }
+    }
+
+    @Test
+    @DisplayName("요청 밖에서는 서비스마다 학원 · 직원을 조회")
+    void without_request() {
+
+        renderMainPage();
+
+        then(academyRepository).should(times(6)).findById(1L);
+        then(employeeRepository).should(times(4)).findByAccountAndAcademy("admin", academy);
+    }
+
+    @Test
+    @DisplayName("한 요청 안에서는 학원 · 직원을 한 번만 조회")
+    void within_request() {
+
+        bindRequest(true);
+
+        renderMainPage();
+
+        then(academyRepository).should(times(1)).findById(1L);
+        then(employeeRepository).should(times(1)).findByAccountAndAcademy("admin", academy);
+    }
+
+    @Test
+    @DisplayName("영속성 컨텍스트가 관리하지 않는(준영속) 엔티티는 다시 조회")
+    void within_request_detached() {
+
+        bindRequest(false);
+
+        renderMainPage();
+
+        then(academyRepository).should(times(6)).findById(1L);
+        then(employeeRepository).should(times(4)).findByAccountAndAcademy("admin", academy);
+    }
+
+    private void bindRequest(boolean managed) {
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+        TransactionSynchronizationManager.bindResource(entityManagerFactory, new EntityManagerHolder(entityManager));
+        given(entityManager.contains(any())).willReturn(managed);
+    }
+
+    // IndexController.main 과 같은 순서로 서비스 호출
+    private void renderMainPage() {
+        employeeService.readEmployee(1L, "admin");
+        announcementService.readAnnouncementForMain(1L, "admin");
+        announcementService.readAdmissionForMain(1L, "admin");
+        employeeService.countEmployeesByAcademy(1L);
+        studentService.countStudentByAcademy(1L);
+        lectureService.readAllTodayLectures(1L, "admin", PageRequest.of(0, 10));
+    }
+}